@@ -0,0 +1,144 @@
+package com.cristianino.productapi.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Objects;
+
+/**
+ * JSON:API resource for stock levels, returned in {@code included} when
+ * product requests ask for {@code include=inventory}.
+ */
+public class InventoryDto {
+    public static final String TYPE = "inventory";
+
+    @JsonProperty("id")
+    private String id;
+
+    @JsonProperty("type")
+    private String type = TYPE;
+
+    @JsonProperty("attributes")
+    private InventoryAttributes attributes;
+
+    public InventoryDto() {}
+
+    public InventoryDto(String id, Long productId, int quantity, boolean available) {
+        this.id = id;
+        this.attributes = new InventoryAttributes(productId, quantity, available);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public InventoryAttributes getAttributes() {
+        return attributes;
+    }
+
+    public void setAttributes(InventoryAttributes attributes) {
+        this.attributes = attributes;
+    }
+
+    public static class InventoryAttributes {
+        @JsonProperty("productId")
+        private Long productId;
+
+        @JsonProperty("quantity")
+        private int quantity;
+
+        @JsonProperty("available")
+        private boolean available;
+
+        public InventoryAttributes() {}
+
+        public InventoryAttributes(Long productId, int quantity, boolean available) {
+            this.productId = productId;
+            this.quantity = quantity;
+            this.available = available;
+        }
+
+        public Long getProductId() {
+            return productId;
+        }
+
+        public void setProductId(Long productId) {
+            this.productId = productId;
+        }
+
+        public int getQuantity() {
+            return quantity;
+        }
+
+        public void setQuantity(int quantity) {
+            this.quantity = quantity;
+        }
+
+        public boolean isAvailable() {
+            return available;
+        }
+
+        public void setAvailable(boolean available) {
+            this.available = available;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            InventoryAttributes that = (InventoryAttributes) o;
+            return quantity == that.quantity &&
+                   available == that.available &&
+                   Objects.equals(productId, that.productId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(productId, quantity, available);
+        }
+
+        @Override
+        public String toString() {
+            return "InventoryAttributes{" +
+                   "productId=" + productId +
+                   ", quantity=" + quantity +
+                   ", available=" + available +
+                   '}';
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        InventoryDto that = (InventoryDto) o;
+        return Objects.equals(id, that.id) &&
+               Objects.equals(type, that.type) &&
+               Objects.equals(attributes, that.attributes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, type, attributes);
+    }
+
+    @Override
+    public String toString() {
+        return "InventoryDto{" +
+               "id='" + id + '\'' +
+               ", type='" + type + '\'' +
+               ", attributes=" + attributes +
+               '}';
+    }
+}
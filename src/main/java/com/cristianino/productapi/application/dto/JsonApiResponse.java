@@ -21,6 +21,9 @@ public class JsonApiResponse<T> {
     @JsonProperty("errors")
     private List<JsonApiError> errors;
     
+    @JsonProperty("included")
+    private List<Object> included;
+    
     public JsonApiResponse() {}
     
     public JsonApiResponse(T data) {
@@ -69,6 +72,14 @@ public class JsonApiResponse<T> {
         this.errors = errors;
     }
     
+    public List<Object> getIncluded() {
+        return included;
+    }
+    
+    public void setIncluded(List<Object> included) {
+        this.included = included;
+    }
+    
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -77,12 +88,13 @@ public class JsonApiResponse<T> {
         return Objects.equals(data, that.data) &&
                Objects.equals(links, that.links) &&
                Objects.equals(meta, that.meta) &&
-               Objects.equals(errors, that.errors);
+               Objects.equals(errors, that.errors) &&
+               Objects.equals(included, that.included);
     }
     
     @Override
     public int hashCode() {
-        return Objects.hash(data, links, meta, errors);
+        return Objects.hash(data, links, meta, errors, included);
     }
     
     @Override
@@ -92,6 +104,7 @@ public class JsonApiResponse<T> {
                ", links=" + links +
                ", meta=" + meta +
                ", errors=" + errors +
+               ", included=" + included +
                '}';
     }
 }
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.cristianino.productapi.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * A bulk price adjustment as a JSON:API resource. Clients send {@code rule} and {@code amount};
+ * the response adds the outcome, and for a dry run a sample of the price changes.
+ */
+public record PriceAdjustmentDto(String id, String type, @Valid @NotNull Attributes attributes) {
+
+    public static final String TYPE = "price-adjustments";
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Attributes(@NotBlank(message = "Rule is required") String rule, BigDecimal amount,
+                             Boolean dryRun, Long affected, Long outOfRange, List<PriceChange> sample) {
+    }
+
+    public record PriceChange(String id, String name, BigDecimal currentPrice, BigDecimal newPrice) {
+    }
+}
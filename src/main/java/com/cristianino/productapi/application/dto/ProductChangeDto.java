@@ -0,0 +1,166 @@
+package com.cristianino.productapi.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * A product resource in a delta-sync page. Deleted products are returned as tombstones:
+ * no attributes and {@code meta.deleted = true}.
+ */
+public class ProductChangeDto {
+    @JsonProperty("id")
+    private String id;
+    
+    @JsonProperty("type")
+    private String type = "products";
+    
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @JsonProperty("attributes")
+    private ProductDto.ProductAttributes attributes;
+    
+    @JsonProperty("meta")
+    private ChangeMeta meta;
+    
+    public ProductChangeDto() {}
+    
+    public ProductChangeDto(String id, String name, BigDecimal price, long sequence, String changeType) {
+        this.id = id;
+        this.attributes = new ProductDto.ProductAttributes(name, price);
+        this.meta = new ChangeMeta(sequence, changeType, false);
+    }
+    
+    public static ProductChangeDto tombstone(String id, long sequence) {
+        ProductChangeDto dto = new ProductChangeDto();
+        dto.setId(id);
+        dto.setMeta(new ChangeMeta(sequence, "DELETED", true));
+        return dto;
+    }
+    
+    public String getId() {
+        return id;
+    }
+    
+    public void setId(String id) {
+        this.id = id;
+    }
+    
+    public String getType() {
+        return type;
+    }
+    
+    public void setType(String type) {
+        this.type = type;
+    }
+    
+    public ProductDto.ProductAttributes getAttributes() {
+        return attributes;
+    }
+    
+    public void setAttributes(ProductDto.ProductAttributes attributes) {
+        this.attributes = attributes;
+    }
+    
+    public ChangeMeta getMeta() {
+        return meta;
+    }
+    
+    public void setMeta(ChangeMeta meta) {
+        this.meta = meta;
+    }
+    
+    public static class ChangeMeta {
+        @JsonProperty("sequence")
+        private long sequence;
+        
+        @JsonProperty("changeType")
+        private String changeType;
+        
+        @JsonProperty("deleted")
+        private boolean deleted;
+        
+        public ChangeMeta() {}
+        
+        public ChangeMeta(long sequence, String changeType, boolean deleted) {
+            this.sequence = sequence;
+            this.changeType = changeType;
+            this.deleted = deleted;
+        }
+        
+        public long getSequence() {
+            return sequence;
+        }
+        
+        public void setSequence(long sequence) {
+            this.sequence = sequence;
+        }
+        
+        public String getChangeType() {
+            return changeType;
+        }
+        
+        public void setChangeType(String changeType) {
+            this.changeType = changeType;
+        }
+        
+        public boolean isDeleted() {
+            return deleted;
+        }
+        
+        public void setDeleted(boolean deleted) {
+            this.deleted = deleted;
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            ChangeMeta that = (ChangeMeta) o;
+            return sequence == that.sequence &&
+                   deleted == that.deleted &&
+                   Objects.equals(changeType, that.changeType);
+        }
+        
+        @Override
+        public int hashCode() {
+            return Objects.hash(sequence, changeType, deleted);
+        }
+        
+        @Override
+        public String toString() {
+            return "ChangeMeta{" +
+                   "sequence=" + sequence +
+                   ", changeType='" + changeType + '\'' +
+                   ", deleted=" + deleted +
+                   '}';
+        }
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ProductChangeDto that = (ProductChangeDto) o;
+        return Objects.equals(id, that.id) &&
+               Objects.equals(type, that.type) &&
+               Objects.equals(attributes, that.attributes) &&
+               Objects.equals(meta, that.meta);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, type, attributes, meta);
+    }
+    
+    @Override
+    public String toString() {
+        return "ProductChangeDto{" +
+               "id='" + id + '\'' +
+               ", type='" + type + '\'' +
+               ", attributes=" + attributes +
+               ", meta=" + meta +
+               '}';
+    }
+}
@@ -1,10 +1,12 @@
 package com.cristianino.productapi.application.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.PositiveOrZero;
 
 import java.math.BigDecimal;
+import java.util.Map;
 import java.util.Objects;
 
 public class ProductDto {
@@ -17,6 +19,10 @@ public class ProductDto {
     @JsonProperty("attributes")
     private ProductAttributes attributes;
     
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @JsonProperty("relationships")
+    private Map<String, Object> relationships;
+    
     public ProductDto() {}
     
     public ProductDto(String id, String name, BigDecimal price) {
@@ -48,6 +54,14 @@ public class ProductDto {
         this.attributes = attributes;
     }
     
+    public Map<String, Object> getRelationships() {
+        return relationships;
+    }
+    
+    public void setRelationships(Map<String, Object> relationships) {
+        this.relationships = relationships;
+    }
+    
     public static class ProductAttributes {
         @NotBlank(message = "Name is required")
         @JsonProperty("name")
@@ -110,12 +124,13 @@ public class ProductDto {
         ProductDto that = (ProductDto) o;
         return Objects.equals(id, that.id) &&
                Objects.equals(type, that.type) &&
-               Objects.equals(attributes, that.attributes);
+               Objects.equals(attributes, that.attributes) &&
+               Objects.equals(relationships, that.relationships);
     }
     
     @Override
     public int hashCode() {
-        return Objects.hash(id, type, attributes);
+        return Objects.hash(id, type, attributes, relationships);
     }
     
     @Override
@@ -124,6 +139,7 @@ public class ProductDto {
                "id='" + id + '\'' +
                ", type='" + type + '\'' +
                ", attributes=" + attributes +
+               ", relationships=" + relationships +
                '}';
     }
 }
\ No newline at end of file
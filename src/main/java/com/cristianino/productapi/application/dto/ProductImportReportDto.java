@@ -0,0 +1,25 @@
+package com.cristianino.productapi.application.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk product import, as a JSON:API resource.
+ */
+public record ProductImportReportDto(String id, String type, ImportSummary attributes) {
+
+    public static final String TYPE = "product-imports";
+
+    public ProductImportReportDto(String id, ImportSummary attributes) {
+        this(id, TYPE, attributes);
+    }
+
+    /**
+     * {@code rejects} lists the first rejected rows by line; {@code rejected} counts all of them.
+     */
+    public record ImportSummary(long received, long created, long updated, long rejected,
+                                List<RowReject> rejects, boolean rejectsTruncated) {
+    }
+
+    public record RowReject(long line, String reason) {
+    }
+}
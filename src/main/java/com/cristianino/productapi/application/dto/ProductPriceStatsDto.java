@@ -0,0 +1,35 @@
+package com.cristianino.productapi.application.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Price statistics for the products matching a filter, as a JSON:API singleton resource.
+ */
+public record ProductPriceStatsDto(String id, String type, PriceStatistics attributes) {
+
+    public static final String TYPE = "product-price-stats";
+
+    public ProductPriceStatsDto(PriceStatistics attributes) {
+        this("price", TYPE, attributes);
+    }
+
+    /**
+     * Amounts are {@code null} and the histogram empty when no product matches. Average and
+     * percentiles (continuous, interpolated) are rounded half-up to cents.
+     */
+    public record PriceStatistics(long count, BigDecimal min, BigDecimal max, BigDecimal average,
+                                  BigDecimal p50, BigDecimal p90, BigDecimal p99, List<PriceBucket> histogram) {
+
+        public static PriceStatistics empty() {
+            return new PriceStatistics(0, null, null, null, null, null, null, List.of());
+        }
+    }
+
+    /**
+     * Products priced from {@code lowerBound} (inclusive) to {@code upperBound} (exclusive,
+     * inclusive for the last bucket).
+     */
+    public record PriceBucket(BigDecimal lowerBound, BigDecimal upperBound, long count) {
+    }
+}
@@ -0,0 +1,19 @@
+package com.cristianino.productapi.application.port;
+
+import com.cristianino.productapi.application.dto.client.ProductClientDto;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Read-only access for the internal service-to-service API. Implementations project rows
+ * straight into {@link ProductClientDto} without loading entities or domain objects.
+ */
+public interface ProductClientQueryPort {
+    List<ProductClientDto> findPage(int page, int size);
+    long count();
+    Optional<ProductClientDto> findById(Long id);
+    List<ProductClientDto> findByIds(Collection<Long> ids);
+    boolean existsById(Long id);
+}
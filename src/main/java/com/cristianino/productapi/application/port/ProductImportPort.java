@@ -0,0 +1,34 @@
+package com.cristianino.productapi.application.port;
+
+import com.cristianino.productapi.domain.model.Product;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Bulk write path for catalog imports. Products are streamed through as they are read, so an
+ * import of any size never has to be held in memory.
+ */
+public interface ProductImportPort {
+
+    /**
+     * Writes every product {@code rows} pushes and merges them into the catalog in one
+     * transaction: a product with an id replaces the existing product, one without is created.
+     * When several rows share an id, the last one wins. Rows whose id does not exist are not
+     * applied and are reported back by line, up to {@code maxReportedUnknown} of them.
+     */
+    MergeResult importProducts(RowSource rows, int maxReportedUnknown) throws IOException;
+
+    @FunctionalInterface
+    interface RowSource {
+        void writeTo(RowSink sink) throws IOException;
+    }
+
+    @FunctionalInterface
+    interface RowSink {
+        void accept(long line, Product product) throws IOException;
+    }
+
+    record MergeResult(long created, long updated, long unknownIds, List<Long> unknownIdLines) {
+    }
+}
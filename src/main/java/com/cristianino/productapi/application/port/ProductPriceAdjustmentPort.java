@@ -0,0 +1,35 @@
+package com.cristianino.productapi.application.port;
+
+import com.cristianino.productapi.domain.model.Money;
+import com.cristianino.productapi.domain.model.PriceAdjustment;
+import com.cristianino.productapi.domain.model.ProductFilter;
+
+import java.util.List;
+
+/**
+ * Set-based repricing. Only products whose price the adjustment actually changes count as
+ * affected; the rest are left untouched.
+ */
+public interface ProductPriceAdjustmentPort {
+
+    /**
+     * Computes what {@link #apply} would do without writing anything: the number of affected
+     * products, how many of them would end up priced outside the allowed range, and the first
+     * {@code sampleSize} of them by id.
+     */
+    Preview preview(ProductFilter filter, PriceAdjustment adjustment, int sampleSize);
+
+    /**
+     * Reprices every matching product in one statement and appends an outbox change for each.
+     * Nothing is written when any new price would fall outside the allowed range.
+     *
+     * @return the number of products repriced
+     */
+    long apply(ProductFilter filter, PriceAdjustment adjustment);
+
+    record Preview(long affected, long outOfRange, List<PriceChange> sample) {
+    }
+
+    record PriceChange(long productId, String name, Money currentPrice, Money newPrice) {
+    }
+}
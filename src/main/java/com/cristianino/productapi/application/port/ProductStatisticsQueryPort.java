@@ -0,0 +1,16 @@
+package com.cristianino.productapi.application.port;
+
+import com.cristianino.productapi.application.dto.ProductPriceStatsDto.PriceStatistics;
+import com.cristianino.productapi.domain.model.ProductFilter;
+
+/**
+ * Aggregates computed by the database, so callers never load the products they summarise.
+ */
+public interface ProductStatisticsQueryPort {
+
+    /**
+     * Price statistics over the products matching {@code filter}, with a histogram of
+     * {@code buckets} equal-width buckets spanning the matching min and max price.
+     */
+    PriceStatistics priceStatistics(ProductFilter filter, int buckets);
+}
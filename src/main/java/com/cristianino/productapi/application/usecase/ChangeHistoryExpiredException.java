@@ -0,0 +1,20 @@
+package com.cristianino.productapi.application.usecase;
+
+/**
+ * The requested change cursor predates purged tombstones, so deltas from it would miss
+ * deletions. The consumer has to drop its copy and reload the full catalog from {@code since=0},
+ * then continue from the {@code nextSince} that load returns.
+ */
+public class ChangeHistoryExpiredException extends RuntimeException {
+    
+    private final long horizon;
+    
+    public ChangeHistoryExpiredException(long since, long horizon) {
+        super(String.format("Change history before sequence %d has been compacted (requested since=%d); reload from since=0", horizon, since));
+        this.horizon = horizon;
+    }
+    
+    public long getHorizon() {
+        return horizon;
+    }
+}
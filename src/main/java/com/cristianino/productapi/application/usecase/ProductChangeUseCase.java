@@ -0,0 +1,61 @@
+package com.cristianino.productapi.application.usecase;
+
+import com.cristianino.productapi.application.dto.ProductChangeDto;
+import com.cristianino.productapi.domain.model.ProductChange;
+import com.cristianino.productapi.domain.model.ProductChangeType;
+import com.cristianino.productapi.domain.port.ProductOutbox;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+public class ProductChangeUseCase {
+    
+    private final ProductOutbox productOutbox;
+    
+    public ProductChangeUseCase(ProductOutbox productOutbox) {
+        this.productOutbox = productOutbox;
+    }
+    
+    /**
+     * Latest state of every product changed after {@code since}, up to and including
+     * {@code upTo}, in sequence order. Deleted products come back as tombstones.
+     */
+    public List<ProductChangeDto> getChangesSince(long since, long upTo, int limit) {
+        if (since < 0) {
+            throw new IllegalArgumentException("since must be a non-negative sequence");
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+        verifyCursor(since);
+        return productOutbox.findLatestChanges(since, upTo, limit)
+                .stream()
+                .map(this::mapToDto)
+                .collect(Collectors.toList());
+    }
+    
+    /**
+     * Rejects cursors older than the tombstone retention horizon. {@code since=0} is always
+     * accepted: it is a full load rather than a delta, and compaction keeps the latest row of
+     * every live product, so it needs none of the purged tombstones.
+     */
+    public void verifyCursor(long since) {
+        if (since == 0) {
+            return;
+        }
+        long horizon = productOutbox.horizon();
+        if (since < horizon) {
+            throw new ChangeHistoryExpiredException(since, horizon);
+        }
+    }
+    
+    private ProductChangeDto mapToDto(ProductChange change) {
+        String id = String.valueOf(change.productId());
+        if (change.type() == ProductChangeType.DELETED) {
+            return ProductChangeDto.tombstone(id, change.sequence());
+        }
+        return new ProductChangeDto(id, change.name(), change.price(), change.sequence(), change.type().name());
+    }
+}
@@ -0,0 +1,63 @@
+package com.cristianino.productapi.application.usecase;
+
+import com.cristianino.productapi.application.dto.client.ProductClientDto;
+import com.cristianino.productapi.application.dto.client.ProductListClientResponse;
+import com.cristianino.productapi.application.port.ProductClientQueryPort;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Lean reads for service-to-service callers: flat DTOs, no JSON:API envelope.
+ */
+@Service
+public class ProductClientUseCase {
+    
+    private final ProductClientQueryPort queryPort;
+    
+    public ProductClientUseCase(ProductClientQueryPort queryPort) {
+        this.queryPort = queryPort;
+    }
+    
+    public ProductListClientResponse getProducts(int page, int size) {
+        if (page < 0) {
+            throw new IllegalArgumentException("page must be non-negative");
+        }
+        if (size < 1) {
+            throw new IllegalArgumentException("size must be positive");
+        }
+        List<ProductClientDto> products = queryPort.findPage(page, size);
+        // A short first page already tells us the total, so skip the count query
+        long total = page == 0 && products.size() < size ? products.size() : queryPort.count();
+        return ProductListClientResponse.success(products, total);
+    }
+    
+    public Optional<ProductClientDto> getProduct(Long id) {
+        if (id == null) {
+            throw new IllegalArgumentException("Product ID cannot be null");
+        }
+        return queryPort.findById(id);
+    }
+    
+    public ProductListClientResponse getProductsByIds(Collection<Long> ids, int maxBatchSize) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("productIds cannot be empty");
+        }
+        LinkedHashSet<Long> distinctIds = new LinkedHashSet<>(ids);
+        distinctIds.remove(null);
+        if (distinctIds.size() > maxBatchSize) {
+            throw new IllegalArgumentException("At most " + maxBatchSize + " productIds can be requested at once");
+        }
+        return ProductListClientResponse.success(queryPort.findByIds(distinctIds));
+    }
+    
+    public boolean isAvailable(Long id) {
+        if (id == null) {
+            throw new IllegalArgumentException("Product ID cannot be null");
+        }
+        return queryPort.existsById(id);
+    }
+}
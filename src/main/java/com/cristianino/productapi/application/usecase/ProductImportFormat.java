@@ -0,0 +1,16 @@
+package com.cristianino.productapi.application.usecase;
+
+/**
+ * Upload formats accepted by the bulk product import.
+ */
+public enum ProductImportFormat {
+    /**
+     * RFC 4180 CSV whose header row names the {@code name} and {@code price} columns and
+     * optionally {@code id}, in any order.
+     */
+    CSV,
+    /**
+     * One JSON object per line with {@code name}, {@code price} and optionally {@code id}.
+     */
+    NDJSON
+}
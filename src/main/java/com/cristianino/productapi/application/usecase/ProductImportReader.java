@@ -0,0 +1,191 @@
+package com.cristianino.productapi.application.usecase;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Reads import rows one at a time from an upload, holding only the current row in memory.
+ * Rows that cannot be parsed come back with an {@code error} instead of failing the upload;
+ * only an unusable CSV header is fatal.
+ */
+final class ProductImportReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Raw field values of one row; {@code line} is where the row starts in the upload.
+     */
+    record Row(long line, String id, String name, String price, String error) {
+
+        static Row malformed(long line, String error) {
+            return new Row(line, null, null, null, error);
+        }
+    }
+
+    private final BufferedReader reader;
+    private final ProductImportFormat format;
+    private final ObjectReader jsonReader;
+    private long linesRead;
+    private int idColumn = -1;
+    private int nameColumn = -1;
+    private int priceColumn = -1;
+
+    private ProductImportReader(InputStream input, ProductImportFormat format, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8), BUFFER_SIZE);
+        this.format = format;
+        this.jsonReader = objectMapper.reader().with(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+    }
+
+    static ProductImportReader open(InputStream input, ProductImportFormat format, ObjectMapper objectMapper) throws IOException {
+        ProductImportReader importReader = new ProductImportReader(input, format, objectMapper);
+        if (format == ProductImportFormat.CSV) {
+            importReader.readHeader();
+        }
+        return importReader;
+    }
+
+    /**
+     * The next row, or {@code null} once the upload is exhausted. Blank lines are skipped.
+     */
+    Row next() throws IOException {
+        return format == ProductImportFormat.CSV ? nextCsvRow() : nextJsonRow();
+    }
+
+    private void readHeader() throws IOException {
+        List<String> header = readRecord();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV import must start with a header row");
+        }
+        for (int i = 0; i < header.size(); i++) {
+            switch (header.get(i).trim().toLowerCase(Locale.ROOT)) {
+                case "id" -> idColumn = i;
+                case "name" -> nameColumn = i;
+                case "price" -> priceColumn = i;
+                default -> {
+                    // supplier feeds carry extra columns; they are ignored
+                }
+            }
+        }
+        if (nameColumn < 0 || priceColumn < 0) {
+            throw new IllegalArgumentException("CSV header must name the name and price columns");
+        }
+    }
+
+    private Row nextCsvRow() throws IOException {
+        while (true) {
+            long line = linesRead + 1;
+            List<String> fields;
+            try {
+                fields = readRecord();
+            } catch (MalformedRecordException e) {
+                return Row.malformed(line, e.getMessage());
+            }
+            if (fields == null) {
+                return null;
+            }
+            if (fields.size() == 1 && fields.get(0).isEmpty()) {
+                continue;
+            }
+            int required = Math.max(Math.max(nameColumn, priceColumn), idColumn) + 1;
+            if (fields.size() < required) {
+                return Row.malformed(line, "Expected at least " + required + " columns but found " + fields.size());
+            }
+            return new Row(line, idColumn >= 0 ? fields.get(idColumn) : null,
+                fields.get(nameColumn), fields.get(priceColumn), null);
+        }
+    }
+
+    /**
+     * Reads one RFC 4180 record; quoted fields may contain commas, doubled quotes and line breaks.
+     */
+    private List<String> readRecord() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    linesRead++;
+                    throw new MalformedRecordException("Unterminated quoted field");
+                }
+                if (c == '"') {
+                    c = reader.read();
+                    if (c != '"') {
+                        quoted = false;
+                        continue;
+                    }
+                } else if (c == '\n') {
+                    linesRead++;
+                }
+                field.append((char) c);
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == -1) {
+                linesRead++;
+                fields.add(field.toString());
+                return fields;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+    }
+
+    private Row nextJsonRow() throws IOException {
+        String text;
+        do {
+            text = reader.readLine();
+            if (text == null) {
+                return null;
+            }
+            linesRead++;
+        } while (text.isBlank());
+        try {
+            JsonNode node = jsonReader.readTree(text);
+            if (!node.isObject()) {
+                return Row.malformed(linesRead, "Expected a JSON object");
+            }
+            return new Row(linesRead, value(node.get("id")), value(node.get("name")), value(node.get("price")), null);
+        } catch (JsonProcessingException e) {
+            return Row.malformed(linesRead, "Malformed JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    private static String value(JsonNode node) {
+        if (node == null || node.isNull()) {
+            return null;
+        }
+        return node.isBigDecimal() ? node.decimalValue().toPlainString() : node.asText();
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private static final class MalformedRecordException extends IOException {
+        MalformedRecordException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.cristianino.productapi.application.usecase;
+
+import com.cristianino.productapi.application.dto.ProductImportReportDto;
+import com.cristianino.productapi.application.dto.ProductImportReportDto.ImportSummary;
+import com.cristianino.productapi.application.dto.ProductImportReportDto.RowReject;
+import com.cristianino.productapi.application.port.ProductImportPort;
+import com.cristianino.productapi.domain.model.Product;
+import com.cristianino.productapi.domain.service.ProductDomainService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Streams an uploaded catalog into the database. Each row is validated with the same rules as
+ * a single create or update; rows that fail are reported back by line and the rest are imported.
+ */
+@Service
+public class ProductImportUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductImportUseCase.class);
+
+    private final ProductImportPort importPort;
+    private final ProductDomainService productDomainService;
+    private final ObjectMapper objectMapper;
+    private final int maxReportedRejects;
+
+    public ProductImportUseCase(ProductImportPort importPort, ProductDomainService productDomainService,
+                                ObjectMapper objectMapper,
+                                @Value("${app.product-import.max-reported-rejects:1000}") int maxReportedRejects) {
+        this.importPort = importPort;
+        this.productDomainService = productDomainService;
+        this.objectMapper = objectMapper;
+        this.maxReportedRejects = maxReportedRejects;
+    }
+
+    public ProductImportReportDto importProducts(InputStream input, ProductImportFormat format) throws IOException {
+        if (input == null || format == null) {
+            throw new IllegalArgumentException("Import input and format are required");
+        }
+        String importId = UUID.randomUUID().toString();
+        // Rows arrive in line order, so the first rejects seen are the first by line
+        List<RowReject> rejects = new ArrayList<>();
+        long[] counts = new long[2]; // received, invalid
+        ProductImportPort.MergeResult merge;
+        try (ProductImportReader reader = ProductImportReader.open(input, format, objectMapper)) {
+            merge = importPort.importProducts(sink -> {
+                for (ProductImportReader.Row row = reader.next(); row != null; row = reader.next()) {
+                    counts[0]++;
+                    try {
+                        sink.accept(row.line(), toProduct(row));
+                    } catch (IllegalArgumentException e) {
+                        if (counts[1]++ < maxReportedRejects) {
+                            rejects.add(new RowReject(row.line(), e.getMessage()));
+                        }
+                    }
+                }
+            }, maxReportedRejects);
+        }
+        merge.unknownIdLines().forEach(line -> rejects.add(new RowReject(line, "Product not found")));
+        rejects.sort(Comparator.comparingLong(RowReject::line));
+        List<RowReject> reported = List.copyOf(rejects.subList(0, Math.min(maxReportedRejects, rejects.size())));
+        long rejected = counts[1] + merge.unknownIds();
+        logger.info("Product import {}: {} rows, {} created, {} updated, {} rejected",
+                importId, counts[0], merge.created(), merge.updated(), rejected);
+        return new ProductImportReportDto(importId, new ImportSummary(counts[0], merge.created(), merge.updated(),
+                rejected, reported, rejected > reported.size()));
+    }
+    
+    private Product toProduct(ProductImportReader.Row row) {
+        if (row.error() != null) {
+            throw new IllegalArgumentException(row.error());
+        }
+        Long id = parseId(row.id());
+        BigDecimal price = parsePrice(row.price());
+        Product product = id != null ? new Product(id, row.name(), price) : new Product(row.name(), price);
+        productDomainService.validateProduct(product);
+        return product;
+    }
+
+    private static Long parseId(String id) {
+        if (id == null || id.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.valueOf(id.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid product id: " + id);
+        }
+    }
+
+    private static BigDecimal parsePrice(String price) {
+        if (price == null || price.isBlank()) {
+            return null;
+        }
+        try {
+            return new BigDecimal(price.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid product price: " + price);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.cristianino.productapi.application.usecase;
+
+import com.cristianino.productapi.application.dto.PriceAdjustmentDto;
+import com.cristianino.productapi.application.port.ProductPriceAdjustmentPort;
+import com.cristianino.productapi.domain.model.PriceAdjustment;
+import com.cristianino.productapi.domain.model.ProductFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reprices every product matching a filter at once, in place of one update per product.
+ */
+@Service
+public class ProductPriceAdjustmentUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductPriceAdjustmentUseCase.class);
+
+    private final ProductPriceAdjustmentPort adjustmentPort;
+    private final int sampleSize;
+
+    public ProductPriceAdjustmentUseCase(ProductPriceAdjustmentPort adjustmentPort,
+                                         @Value("${app.product-price-adjustment.dry-run-sample-size:20}") int sampleSize) {
+        this.adjustmentPort = adjustmentPort;
+        this.sampleSize = sampleSize;
+    }
+
+    /**
+     * @param dryRun when {@code true}, nothing is written and the result carries a sample of the
+     *               price changes the adjustment would make
+     */
+    public PriceAdjustmentDto adjustPrices(ProductFilter filter, PriceAdjustmentDto request, boolean dryRun) {
+        if (filter == null) {
+            throw new IllegalArgumentException("ProductFilter cannot be null");
+        }
+        if (request == null || request.attributes() == null) {
+            throw new IllegalArgumentException("Price adjustment data cannot be null");
+        }
+        PriceAdjustmentDto.Attributes attributes = request.attributes();
+        PriceAdjustment adjustment = new PriceAdjustment(PriceAdjustment.Rule.parse(attributes.rule()), attributes.amount());
+        String rule = adjustment.rule().name();
+        if (dryRun) {
+            ProductPriceAdjustmentPort.Preview preview = adjustmentPort.preview(filter, adjustment, sampleSize);
+            List<PriceAdjustmentDto.PriceChange> sample = preview.sample().stream()
+                    .map(change -> new PriceAdjustmentDto.PriceChange(String.valueOf(change.productId()), change.name(),
+                            change.currentPrice().toBigDecimal(), change.newPrice().toBigDecimal()))
+                    .toList();
+            return new PriceAdjustmentDto(null, PriceAdjustmentDto.TYPE, new PriceAdjustmentDto.Attributes(
+                    rule, adjustment.amount(), true, preview.affected(), preview.outOfRange(), sample));
+        }
+        String adjustmentId = UUID.randomUUID().toString();
+        long affected = adjustmentPort.apply(filter, adjustment);
+        logger.info("Price adjustment {}: {} {} repriced {} products matching {}",
+                adjustmentId, rule, adjustment.amount(), affected, filter);
+        return new PriceAdjustmentDto(adjustmentId, PriceAdjustmentDto.TYPE, new PriceAdjustmentDto.Attributes(
+                rule, adjustment.amount(), false, affected, null, null));
+    }
+}
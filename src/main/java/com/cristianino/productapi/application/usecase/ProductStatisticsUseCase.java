@@ -0,0 +1,37 @@
+package com.cristianino.productapi.application.usecase;
+
+import com.cristianino.productapi.application.dto.ProductPriceStatsDto;
+import com.cristianino.productapi.application.port.ProductStatisticsQueryPort;
+import com.cristianino.productapi.domain.model.ProductFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Service
+public class ProductStatisticsUseCase {
+    
+    private final ProductStatisticsQueryPort queryPort;
+    private final int defaultBuckets;
+    private final int maxBuckets;
+    
+    public ProductStatisticsUseCase(ProductStatisticsQueryPort queryPort,
+                                    @Value("${app.product-stats.default-buckets:10}") int defaultBuckets,
+                                    @Value("${app.product-stats.max-buckets:100}") int maxBuckets) {
+        this.queryPort = queryPort;
+        this.defaultBuckets = defaultBuckets;
+        this.maxBuckets = maxBuckets;
+    }
+    
+    /**
+     * @param buckets histogram bucket count, or {@code null} for the configured default
+     */
+    public ProductPriceStatsDto getPriceStatistics(ProductFilter filter, Integer buckets) {
+        if (filter == null) {
+            throw new IllegalArgumentException("ProductFilter cannot be null");
+        }
+        int bucketCount = buckets != null ? buckets : defaultBuckets;
+        if (bucketCount < 1 || bucketCount > maxBuckets) {
+            throw new IllegalArgumentException("buckets must be between 1 and " + maxBuckets);
+        }
+        return new ProductPriceStatsDto(queryPort.priceStatistics(filter, bucketCount));
+    }
+}
@@ -1,8 +1,12 @@
 package com.cristianino.productapi.application.usecase;
 
 import com.cristianino.productapi.application.dto.ProductDto;
+import com.cristianino.productapi.domain.model.Money;
 import com.cristianino.productapi.domain.model.Product;
+import com.cristianino.productapi.domain.model.ProductFilter;
+import com.cristianino.productapi.domain.model.ProductPatch;
 import com.cristianino.productapi.domain.service.ProductDomainService;
+import io.micrometer.observation.annotation.Observed;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
@@ -11,6 +15,7 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
+@Observed(name = "product.usecase")
 public class ProductUseCase {
     
     private final ProductDomainService productDomainService;
@@ -43,6 +48,16 @@ public class ProductUseCase {
                 .collect(Collectors.toList());
     }
     
+    public List<ProductDto> getProducts(ProductFilter filter) {
+        if (filter == null) {
+            throw new IllegalArgumentException("ProductFilter cannot be null");
+        }
+        return productDomainService.getProducts(filter)
+                .stream()
+                .map(this::mapToDto)
+                .collect(Collectors.toList());
+    }
+    
     public Optional<ProductDto> updateProduct(Long id, ProductDto productDto) {
         if (id == null) {
             throw new IllegalArgumentException("Product ID cannot be null");
@@ -55,6 +70,26 @@ public class ProductUseCase {
         return updatedProduct != null ? Optional.of(mapToDto(updatedProduct)) : Optional.empty();
     }
     
+    /**
+     * Updates only the attributes present in {@code productDto}; absent or {@code null}
+     * attributes keep their stored value.
+     */
+    public Optional<ProductDto> patchProduct(Long id, ProductDto productDto) {
+        if (id == null) {
+            throw new IllegalArgumentException("Product ID cannot be null");
+        }
+        if (productDto == null) {
+            throw new IllegalArgumentException("ProductDto cannot be null");
+        }
+        if (productDto.getAttributes() == null) {
+            throw new IllegalArgumentException("ProductDto attributes cannot be null");
+        }
+        BigDecimal price = productDto.getAttributes().getPrice();
+        ProductPatch patch = new ProductPatch(productDto.getAttributes().getName(), price != null ? Money.of(price) : null);
+        return productDomainService.patchProduct(id, patch)
+                .map(this::mapToDto);
+    }
+    
     public boolean deleteProduct(Long id) {
         if (id == null) {
             throw new IllegalArgumentException("Product ID cannot be null");
@@ -76,7 +111,7 @@ public class ProductUseCase {
         return new ProductDto(
                 product.getId().toString(),
                 product.getName(),
-                product.getPrice()
+                product.getPrice().toBigDecimal()
         );
     }
 }
\ No newline at end of file
@@ -0,0 +1,51 @@
+package com.cristianino.productapi.domain.model;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+
+/**
+ * A rule that reprices products:
+ * <ul>
+ *   <li>{@link Rule#PERCENTAGE}: {@code amount} percent up (or down when negative), rounded half-up to cents</li>
+ *   <li>{@link Rule#DELTA}: {@code amount} added to the price (subtracted when negative)</li>
+ *   <li>{@link Rule#ROUND_TO_99}: the price's whole part plus {@code .99}, so {@code 12.40} becomes {@code 12.99};
+ *       takes no amount</li>
+ * </ul>
+ */
+public record PriceAdjustment(Rule rule, BigDecimal amount) {
+
+    public enum Rule {
+        PERCENTAGE, DELTA, ROUND_TO_99;
+
+        /**
+         * Accepts the constant name or its lower-case, hyphenated form ({@code round-to-99}).
+         */
+        public static Rule parse(String value) {
+            if (value == null || value.isBlank()) {
+                throw new IllegalArgumentException("Price adjustment rule is required");
+            }
+            try {
+                return valueOf(value.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown price adjustment rule: " + value);
+            }
+        }
+    }
+
+    public PriceAdjustment {
+        if (rule == null) {
+            throw new IllegalArgumentException("Price adjustment rule is required");
+        }
+        if (rule == Rule.ROUND_TO_99) {
+            if (amount != null) {
+                throw new IllegalArgumentException("Price adjustment rule " + rule + " takes no amount");
+            }
+        } else if (amount == null || amount.signum() == 0) {
+            throw new IllegalArgumentException("Price adjustment rule " + rule + " needs a non-zero amount");
+        } else if (rule == Rule.PERCENTAGE && amount.compareTo(BigDecimal.valueOf(-100)) < 0) {
+            throw new IllegalArgumentException("Price adjustment percentage cannot be below -100");
+        } else if (rule == Rule.DELTA) {
+            amount = Money.of(amount).toBigDecimal();
+        }
+    }
+}
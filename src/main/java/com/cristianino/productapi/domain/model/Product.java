@@ -6,21 +6,29 @@ import java.util.Objects;
 public class Product {
     private Long id;
     private String name;
-    private BigDecimal price;
+    private Money price;
 
     public Product() {}
 
-    public Product(Long id, String name, BigDecimal price) {
+    public Product(Long id, String name, Money price) {
         this.id = id;
         this.name = validateName(name);
         this.price = validatePrice(price);
     }
 
-    public Product(String name, BigDecimal price) {
+    public Product(Long id, String name, BigDecimal price) {
+        this(id, name, toMoney(price));
+    }
+
+    public Product(String name, Money price) {
         this.name = validateName(name);
         this.price = validatePrice(price);
     }
 
+    public Product(String name, BigDecimal price) {
+        this(name, toMoney(price));
+    }
+
     public Long getId() {
         return id;
     }
@@ -37,11 +45,11 @@ public class Product {
         this.name = validateName(name);
     }
 
-    public BigDecimal getPrice() {
+    public Money getPrice() {
         return price;
     }
 
-    public void setPrice(BigDecimal price) {
+    public void setPrice(Money price) {
         this.price = validatePrice(price);
     }
 
@@ -52,16 +60,20 @@ public class Product {
         return name;
     }
 
-    private BigDecimal validatePrice(BigDecimal price) {
+    private Money validatePrice(Money price) {
         if (price == null) {
             throw new IllegalArgumentException("Product price cannot be null");
         }
-        if (price.compareTo(BigDecimal.ZERO) < 0) {
+        if (price.isNegative()) {
             throw new IllegalArgumentException("Product price cannot be negative");
         }
         return price;
     }
 
+    private static Money toMoney(BigDecimal price) {
+        return price != null ? Money.of(price) : null;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,17 @@
+package com.cristianino.productapi.domain.model;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * A committed product mutation read back from the outbox. {@code sequence} is strictly
+ * increasing and doubles as the resume cursor for change-feed consumers. Deletions carry
+ * no name or price.
+ */
+public record ProductChange(long sequence,
+                            ProductChangeType type,
+                            Long productId,
+                            String name,
+                            BigDecimal price,
+                            Instant occurredAt) {
+}
@@ -0,0 +1,7 @@
+package com.cristianino.productapi.domain.model;
+
+public enum ProductChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,34 @@
+package com.cristianino.productapi.domain.model;
+
+import java.util.Locale;
+
+/**
+ * Optional criteria narrowing a set of products. {@code name} matches case-insensitively
+ * anywhere in the product name; the price bounds are inclusive. A filter without criteria
+ * matches every product.
+ */
+public record ProductFilter(String name, Money minPrice, Money maxPrice) {
+
+    public static final ProductFilter NONE = new ProductFilter(null, null, null);
+
+    public ProductFilter {
+        name = name == null || name.isBlank() ? null : name.trim();
+        if (minPrice != null && maxPrice != null && minPrice.compareTo(maxPrice) > 0) {
+            throw new IllegalArgumentException("minPrice cannot be greater than maxPrice");
+        }
+    }
+
+    public boolean isEmpty() {
+        return name == null && minPrice == null && maxPrice == null;
+    }
+
+    public boolean matches(Product product) {
+        if (name != null && !product.getName().toLowerCase(Locale.ROOT).contains(name.toLowerCase(Locale.ROOT))) {
+            return false;
+        }
+        if (minPrice != null && product.getPrice().compareTo(minPrice) < 0) {
+            return false;
+        }
+        return maxPrice == null || product.getPrice().compareTo(maxPrice) <= 0;
+    }
+}
@@ -0,0 +1,12 @@
+package com.cristianino.productapi.domain.model;
+
+/**
+ * Partial product update. A {@code null} field is left as it is; a patch without fields
+ * changes nothing.
+ */
+public record ProductPatch(String name, Money price) {
+
+    public boolean isEmpty() {
+        return name == null && price == null;
+    }
+}
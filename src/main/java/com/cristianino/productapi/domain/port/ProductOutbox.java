@@ -0,0 +1,35 @@
+package com.cristianino.productapi.domain.port;
+
+import com.cristianino.productapi.domain.model.Product;
+import com.cristianino.productapi.domain.model.ProductChange;
+import com.cristianino.productapi.domain.model.ProductChangeType;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Append-only log of product mutations, written in the same transaction as the mutation itself.
+ * Deletions stay in the log as tombstones until purged by retention.
+ */
+public interface ProductOutbox {
+    void append(ProductChangeType type, Long productId, Product state);
+    List<ProductChange> findChanges(long afterSequence, long upToSequence, int limit);
+    List<ProductChange> findLatestChanges(long afterSequence, long upToSequence, int limit);
+    long latestSequence();
+    long horizon();
+    int compact(Instant supersededBefore);
+    long purgeTombstones(Instant deletedBefore);
+
+    /**
+     * Marker past every write transaction open now, to pass to {@link #writesSettled(long)}.
+     * Sequences are taken before commit, so one of those transactions may still own a missing
+     * sequence. 0 when the store cannot tell.
+     */
+    long openWritesMarker();
+
+    /**
+     * Whether every write transaction open when {@code marker} was taken has committed or
+     * rolled back. Always true for a store that cannot tell.
+     */
+    boolean writesSettled(long marker);
+}
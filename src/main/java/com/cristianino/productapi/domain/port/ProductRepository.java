@@ -1,6 +1,8 @@
 package com.cristianino.productapi.domain.port;
 
 import com.cristianino.productapi.domain.model.Product;
+import com.cristianino.productapi.domain.model.ProductFilter;
+import com.cristianino.productapi.domain.model.ProductPatch;
 
 import java.util.List;
 import java.util.Optional;
@@ -9,6 +11,18 @@ public interface ProductRepository {
     Product save(Product product);
     Optional<Product> findById(Long id);
     List<Product> findAll();
+    List<Product> findAll(ProductFilter filter);
     void deleteById(Long id);
     boolean existsById(Long id);
+    
+    /**
+     * Writes only the fields set in {@code patch}, and only when at least one differs from the
+     * stored value.
+     *
+     * @return the product as stored afterwards, or empty when no product has {@code id}
+     */
+    Optional<PatchResult> patch(Long id, ProductPatch patch);
+    
+    record PatchResult(Product product, boolean changed) {
+    }
 }
\ No newline at end of file
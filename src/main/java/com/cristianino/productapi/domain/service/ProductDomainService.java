@@ -1,24 +1,40 @@
 package com.cristianino.productapi.domain.service;
 
+import com.cristianino.productapi.domain.model.Money;
 import com.cristianino.productapi.domain.model.Product;
+import com.cristianino.productapi.domain.model.ProductChangeType;
+import com.cristianino.productapi.domain.model.ProductFilter;
+import com.cristianino.productapi.domain.model.ProductPatch;
+import com.cristianino.productapi.domain.port.ProductOutbox;
 import com.cristianino.productapi.domain.port.ProductRepository;
+import io.micrometer.observation.annotation.Observed;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
 
 @Service
+@Observed(name = "product.domain")
 public class ProductDomainService {
     
+    static final int MAX_NAME_LENGTH = 255;
+    public static final Money MAX_PRICE = Money.ofMinor(9_999_999_999L);
+    
     private final ProductRepository productRepository;
+    private final ProductOutbox productOutbox;
     
-    public ProductDomainService(ProductRepository productRepository) {
+    public ProductDomainService(ProductRepository productRepository, ProductOutbox productOutbox) {
         this.productRepository = productRepository;
+        this.productOutbox = productOutbox;
     }
     
+    @Transactional
     public Product createProduct(Product product) {
         validateProduct(product);
-        return productRepository.save(product);
+        Product saved = productRepository.save(product);
+        productOutbox.append(ProductChangeType.CREATED, saved.getId(), saved);
+        return saved;
     }
     
     public Optional<Product> getProductById(Long id) {
@@ -29,29 +45,75 @@ public class ProductDomainService {
         return productRepository.findAll();
     }
     
+    public List<Product> getProducts(ProductFilter filter) {
+        return productRepository.findAll(filter);
+    }
+    
+    @Transactional
     public Product updateProduct(Long id, Product product) {
         if (!productRepository.existsById(id)) {
             return null;
         }
         validateProduct(product);
         product.setId(id);
-        return productRepository.save(product);
+        Product saved = productRepository.save(product);
+        productOutbox.append(ProductChangeType.UPDATED, id, saved);
+        return saved;
+    }
+    
+    /**
+     * Applies the fields set in {@code patch}. Nothing is written, and no change is published,
+     * when they match what is already stored.
+     *
+     * @return the product after the patch, or empty when it does not exist
+     */
+    @Transactional
+    public Optional<Product> patchProduct(Long id, ProductPatch patch) {
+        if (patch.name() != null) {
+            validateName(patch.name());
+        }
+        if (patch.price() != null) {
+            validatePrice(patch.price());
+        }
+        Optional<ProductRepository.PatchResult> result = productRepository.patch(id, patch);
+        result.filter(ProductRepository.PatchResult::changed)
+                .ifPresent(patched -> productOutbox.append(ProductChangeType.UPDATED, id, patched.product()));
+        return result.map(ProductRepository.PatchResult::product);
     }
     
+    @Transactional
     public boolean deleteProduct(Long id) {
         if (!productRepository.existsById(id)) {
             return false;
         }
         productRepository.deleteById(id);
+        productOutbox.append(ProductChangeType.DELETED, id, null);
         return true;
     }
     
-    private void validateProduct(Product product) {
-        if (product.getName() == null || product.getName().trim().isEmpty()) {
+    /**
+     * Rules every stored product satisfies, including the limits of the {@code products} columns.
+     */
+    public void validateProduct(Product product) {
+        validateName(product.getName());
+        validatePrice(product.getPrice());
+    }
+    
+    private static void validateName(String name) {
+        if (name == null || name.trim().isEmpty()) {
             throw new IllegalArgumentException("Product name cannot be null or empty");
         }
-        if (product.getPrice() == null || product.getPrice().signum() < 0) {
+        if (name.codePointCount(0, name.length()) > MAX_NAME_LENGTH) {
+            throw new IllegalArgumentException("Product name cannot exceed " + MAX_NAME_LENGTH + " characters");
+        }
+    }
+    
+    private static void validatePrice(Money price) {
+        if (price == null || price.isNegative()) {
             throw new IllegalArgumentException("Product price must be non-negative");
         }
+        if (price.compareTo(MAX_PRICE) > 0) {
+            throw new IllegalArgumentException("Product price cannot exceed " + MAX_PRICE);
+        }
     }
 }
\ No newline at end of file
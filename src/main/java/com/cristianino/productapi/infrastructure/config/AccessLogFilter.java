@@ -0,0 +1,116 @@
+package com.cristianino.productapi.infrastructure.config;
+
+import com.cristianino.productapi.infrastructure.logging.LoggerRateSamplingFilter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * Writes one structured line per request to the {@value #LOGGER_NAME} logger: request ID, a
+ * short hash of the API key, method, route template, status and latency. The request ID is
+ * taken from {@code X-Request-ID} when the caller sends a well-formed one, otherwise generated,
+ * and is echoed on the response.
+ * <p>
+ * Nothing is formatted unless the logger is enabled for INFO, so a quiet access log costs one
+ * header lookup and two clock reads per request. The logger is exempt from per-logger sampling.
+ * Async requests are logged when they complete, with their final status.
+ */
+public class AccessLogFilter extends OncePerRequestFilter {
+
+    static final String LOGGER_NAME = LoggerRateSamplingFilter.ACCESS_LOGGER;
+    static final String REQUEST_ID_HEADER = "X-Request-ID";
+
+    private static final String API_KEY_HEADER = "X-API-Key";
+    private static final Pattern VALID_REQUEST_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+    /** Distinct API keys whose hash is remembered; there are only a handful in practice. */
+    private static final int MAX_CACHED_KEYS = 64;
+
+    private static final Logger accessLog = LoggerFactory.getLogger(LOGGER_NAME);
+
+    private final Map<String, String> keyHashes = new ConcurrentHashMap<>();
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String requestId = requestId(request.getHeader(REQUEST_ID_HEADER));
+        response.setHeader(REQUEST_ID_HEADER, requestId);
+        long started = System.nanoTime();
+        int status = HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+        try {
+            filterChain.doFilter(request, response);
+            status = response.getStatus();
+        } finally {
+            if (isAsyncStarted(request)) {
+                request.getAsyncContext().addListener(new CompletionListener(
+                    () -> log(request, requestId, response.getStatus(), started)));
+            } else {
+                log(request, requestId, status, started);
+            }
+        }
+    }
+
+    private void log(HttpServletRequest request, String requestId, int status, long started) {
+        if (accessLog.isInfoEnabled()) {
+            Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            accessLog.info("{} {} {} {} {} {}",
+                kv("requestId", requestId),
+                kv("apiKeyHash", apiKeyHash(request.getHeader(API_KEY_HEADER))),
+                kv("method", request.getMethod()),
+                kv("route", route != null ? route : "-"),
+                kv("status", status),
+                kv("durationMs", (System.nanoTime() - started) / 1_000_000));
+        }
+    }
+
+    private static String requestId(String supplied) {
+        if (supplied != null && VALID_REQUEST_ID.matcher(supplied).matches()) {
+            return supplied;
+        }
+        return Long.toHexString(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * First 12 hex digits of the key's SHA-256: enough to tell clients apart in the logs without
+     * writing the key itself.
+     */
+    String apiKeyHash(String apiKey) {
+        if (apiKey == null || apiKey.isEmpty()) {
+            return "-";
+        }
+        String hash = keyHashes.get(apiKey);
+        if (hash == null) {
+            hash = sha256Prefix(apiKey);
+            if (keyHashes.size() < MAX_CACHED_KEYS) {
+                keyHashes.put(apiKey, hash);
+            }
+        }
+        return hash;
+    }
+
+    private static String sha256Prefix(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 6);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.cristianino.productapi.infrastructure.config;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limit that follows observed latency, after the gradient algorithm of Netflix's
+ * concurrency-limits. A long-term average of request latency is the baseline. While recent
+ * requests complete within {@code tolerance} times that baseline the limit grows by a small
+ * queue allowance; as they slow down it shrinks in proportion, at most halving per sample, so
+ * requests stop piling up behind a slow database.
+ * <p>
+ * The limit only moves while at least half of it is in use; an idle service learns nothing
+ * about its capacity.
+ */
+class AdaptiveConcurrencyLimiter {
+
+    /** Samples the long-term average spans. */
+    private static final int LONG_WINDOW = 600;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final AtomicInteger inflight = new AtomicInteger();
+
+    private volatile double limit;
+    private double longRttNanos;
+
+    AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double tolerance, double smoothing) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+        this.limit = initialLimit;
+    }
+
+    /**
+     * Takes a slot if fewer than {@code share} of the current limit are in use; every
+     * successful call must be followed by {@link #release(long)} or {@link #releaseIgnored()}.
+     */
+    boolean tryAcquire(double share) {
+        int allowed = Math.max(1, (int) (limit * share));
+        while (true) {
+            int current = inflight.get();
+            if (current >= allowed) {
+                return false;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Frees a slot and feeds the request's latency into the limit.
+     */
+    void release(long rttNanos) {
+        int inflightBefore = inflight.getAndDecrement();
+        update(rttNanos, inflightBefore);
+    }
+
+    /**
+     * Frees a slot without a latency sample, for requests that failed before doing real work.
+     */
+    void releaseIgnored() {
+        inflight.decrementAndGet();
+    }
+
+    int limit() {
+        return (int) limit;
+    }
+
+    int inflight() {
+        return inflight.get();
+    }
+
+    private synchronized void update(long rttNanos, int inflightBefore) {
+        if (rttNanos <= 0) {
+            return;
+        }
+        if (longRttNanos == 0) {
+            longRttNanos = rttNanos;
+            return;
+        }
+        longRttNanos += (rttNanos - longRttNanos) / LONG_WINDOW;
+        // Recovered from a long slowdown: let the baseline catch up instead of throttling for minutes
+        if (longRttNanos / rttNanos > 2) {
+            longRttNanos *= 0.95;
+        }
+        if (inflightBefore < limit / 2) {
+            return;
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRttNanos / rttNanos));
+        double queueSize = Math.sqrt(limit);
+        double target = limit * gradient + queueSize;
+        double next = limit * (1 - smoothing) + target * smoothing;
+        limit = Math.max(minLimit, Math.min(maxLimit, next));
+    }
+}
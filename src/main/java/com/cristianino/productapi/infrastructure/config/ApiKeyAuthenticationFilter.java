@@ -1,5 +1,6 @@
 package com.cristianino.productapi.infrastructure.config;
 
+import com.cristianino.productapi.infrastructure.jfr.FilterDecisionEvent;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -31,6 +32,9 @@ public class ApiKeyAuthenticationFilter extends OncePerRequestFilter {
             UsernamePasswordAuthenticationToken auth = 
                 new UsernamePasswordAuthenticationToken("api-client", null, Collections.emptyList());
             SecurityContextHolder.getContext().setAuthentication(auth);
+            FilterDecisionEvent.commit("api-key", "authenticated", request);
+        } else {
+            FilterDecisionEvent.commit("api-key", requestApiKey == null ? "missing" : "rejected", request);
         }
         
         filterChain.doFilter(request, response);
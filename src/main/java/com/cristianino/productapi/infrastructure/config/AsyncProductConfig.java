@@ -0,0 +1,34 @@
+package com.cristianino.productapi.infrastructure.config;
+
+import com.cristianino.productapi.infrastructure.persistence.DatabaseWorkExecutor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+
+/**
+ * The worker pool behind {@code /api/v1/async/products}. It has as many threads as the primary
+ * connection pool has connections, so async requests wait for a worker rather than holding one
+ * while they wait for a connection.
+ */
+@Configuration
+public class AsyncProductConfig {
+
+    @Value("${app.async-products.pool-size:${spring.datasource.hikari.maximum-pool-size:10}}")
+    private int poolSize;
+
+    @Value("${app.async-products.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${app.async-products.timeout:5s}")
+    private Duration timeout;
+
+    @Bean
+    public DatabaseWorkExecutor databaseWorkExecutor(PlatformTransactionManager transactionManager,
+                                                     MeterRegistry meterRegistry) {
+        return new DatabaseWorkExecutor(transactionManager, poolSize, queueCapacity, timeout, meterRegistry);
+    }
+}
@@ -0,0 +1,112 @@
+package com.cristianino.productapi.infrastructure.config;
+
+import com.cristianino.productapi.domain.port.ProductOutbox;
+import com.cristianino.productapi.domain.port.ProductRepository;
+import com.cristianino.productapi.infrastructure.persistence.ProductCatalogFile;
+import com.cristianino.productapi.infrastructure.persistence.ProductCatalogFileStore;
+import com.cristianino.productapi.infrastructure.persistence.ProductCatalogSnapshotManager;
+import com.cristianino.productapi.infrastructure.persistence.ProductRepositoryImpl;
+import com.cristianino.productapi.infrastructure.persistence.SnapshotProductRepository;
+import com.cristianino.productapi.infrastructure.service.ProductCatalogFileWriter;
+import com.cristianino.productapi.infrastructure.service.ProductChangeFeed;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.nio.file.Path;
+import java.sql.DriverManager;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Optional in-memory read model for the product catalog, kept current through PostgreSQL
+ * LISTEN/NOTIFY. Enable with {@code app.catalog-snapshot.enabled=true}; requires PostgreSQL.
+ * Setting {@code app.catalog-snapshot.file.path} adds a local catalog file for warm restarts.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.catalog-snapshot.enabled", havingValue = "true")
+public class CatalogSnapshotConfig {
+
+    @Value("${app.catalog-snapshot.max-staleness:5s}")
+    private Duration maxStaleness;
+
+    @Value("${app.catalog-snapshot.poll-interval:200ms}")
+    private Duration pollInterval;
+
+    @Value("${app.catalog-snapshot.heartbeat-interval:1s}")
+    private Duration heartbeatInterval;
+
+    @Value("${app.catalog-snapshot.reconnect-delay:2s}")
+    private Duration reconnectDelay;
+
+    @Value("${app.catalog-snapshot.file.replay-page-size:1000}")
+    private int replayPageSize;
+
+    @Bean
+    @ConditionalOnProperty(name = "app.catalog-snapshot.file.path")
+    public ProductCatalogFileStore productCatalogFileStore(@Value("${app.catalog-snapshot.file.path}") Path path,
+                                                           ProductRepositoryImpl productRepositoryImpl,
+                                                           ProductOutbox productOutbox) {
+        return new ProductCatalogFileStore(path, productRepositoryImpl, productOutbox, replayPageSize);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.catalog-snapshot.file.path")
+    public ProductCatalogFileWriter productCatalogFileWriter(ProductCatalogSnapshotManager snapshotManager,
+                                                             ProductCatalogFileStore fileStore,
+                                                             ProductChangeFeed changeFeed) {
+        // Two heartbeats are enough for the listener to confirm a connected snapshot
+        return new ProductCatalogFileWriter(snapshotManager, fileStore, changeFeed, heartbeatInterval.multipliedBy(2));
+    }
+
+    @Bean
+    public ProductCatalogSnapshotManager productCatalogSnapshotManager(ProductRepositoryImpl productRepositoryImpl,
+                                                                       ObjectProvider<ProductCatalogFileStore> fileStore,
+                                                                       DataSourceProperties dataSourceProperties,
+                                                                       ObjectMapper objectMapper,
+                                                                       MeterRegistry meterRegistry) {
+        // A dedicated connection outside the pool: LISTEN holds it for the life of the application
+        ProductCatalogFileStore store = fileStore.getIfAvailable();
+        ProductCatalogSnapshotManager.CatalogSource source = store != null ? store : productRepositoryImpl::findAll;
+        ProductCatalogSnapshotManager manager = new ProductCatalogSnapshotManager(source,
+            () -> DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword()),
+            objectMapper, pollInterval, heartbeatInterval, reconnectDelay);
+        Gauge.builder("catalog.snapshot.version", manager, m -> m.snapshot().version())
+            .description("Version of the in-memory catalog snapshot")
+            .register(meterRegistry);
+        Gauge.builder("catalog.snapshot.size", manager, m -> m.snapshot().size())
+            .register(meterRegistry);
+        Gauge.builder("catalog.snapshot.staleness", manager, m -> m.staleness().toMillis() / 1000.0)
+            .description("Seconds since the snapshot was last confirmed current")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+        Gauge.builder("catalog.snapshot.lag", manager, m -> m.lag().toMillis() / 1000.0)
+            .description("Seconds between the last applied change being written and becoming visible")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+        return manager;
+    }
+
+    @Bean
+    @Primary
+    public ProductRepository snapshotProductRepository(ProductRepositoryImpl productRepositoryImpl,
+                                                       ProductCatalogSnapshotManager snapshotManager,
+                                                       ObjectProvider<ProductCatalogFileStore> fileStore) {
+        ProductCatalogFileStore store = fileStore.getIfAvailable();
+        return new SnapshotProductRepository(productRepositoryImpl, snapshotManager, maxStaleness,
+            store != null ? store::warmCatalog : Optional::<ProductCatalogFile>empty);
+    }
+
+    @Bean
+    public CatalogSnapshotEndpoint catalogSnapshotEndpoint(ProductCatalogSnapshotManager snapshotManager) {
+        return new CatalogSnapshotEndpoint(snapshotManager);
+    }
+}
@@ -0,0 +1,37 @@
+package com.cristianino.productapi.infrastructure.config;
+
+import com.cristianino.productapi.infrastructure.persistence.ProductCatalogSnapshot;
+import com.cristianino.productapi.infrastructure.persistence.ProductCatalogSnapshotManager;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@code /actuator/catalogsnapshot}: version, size, lag and staleness of the in-memory catalog.
+ */
+@Endpoint(id = "catalogsnapshot")
+public class CatalogSnapshotEndpoint {
+
+    private final ProductCatalogSnapshotManager snapshotManager;
+
+    public CatalogSnapshotEndpoint(ProductCatalogSnapshotManager snapshotManager) {
+        this.snapshotManager = snapshotManager;
+    }
+
+    @ReadOperation
+    public Map<String, Object> snapshot() {
+        ProductCatalogSnapshot snapshot = snapshotManager.snapshot();
+        Map<String, Object> view = new LinkedHashMap<>();
+        view.put("version", snapshot.version());
+        view.put("size", snapshot.size());
+        view.put("builtAt", snapshot.builtAt().toString());
+        view.put("listening", snapshotManager.isListening());
+        view.put("stalenessMillis", snapshotManager.staleness().toMillis());
+        view.put("lagMillis", snapshotManager.lag().toMillis());
+        view.put("lastChangeAppliedAt", snapshotManager.lastChangeAppliedAt() != null
+            ? snapshotManager.lastChangeAppliedAt().toString() : null);
+        return view;
+    }
+}
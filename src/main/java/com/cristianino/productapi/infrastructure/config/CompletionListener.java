@@ -0,0 +1,29 @@
+package com.cristianino.productapi.infrastructure.config;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+
+/**
+ * Runs a filter's end-of-request work when an async request completes instead of when its
+ * first dispatch returns the request thread. {@code onComplete} also follows timeouts and
+ * errors, so the work runs exactly once.
+ */
+record CompletionListener(Runnable onComplete) implements AsyncListener {
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+        onComplete.run();
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+    }
+}
@@ -0,0 +1,50 @@
+package com.cristianino.productapi.infrastructure.config;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Size-bounded LRU cache of compressed response bodies.
+ * Entries are keyed by path, query, encoding and a digest of the uncompressed body,
+ * so a hit can only ever return the compressed form of identical content.
+ */
+public class CompressedResponseCache {
+
+    private final long maxBytes;
+    private final LinkedHashMap<String, byte[]> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long currentBytes;
+
+    public CompressedResponseCache(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    public synchronized byte[] get(String key) {
+        return entries.get(key);
+    }
+
+    public synchronized void put(String key, byte[] compressed) {
+        if (compressed.length > maxBytes) {
+            return;
+        }
+        byte[] previous = entries.put(key, compressed);
+        if (previous != null) {
+            currentBytes -= previous.length;
+        }
+        currentBytes += compressed.length;
+
+        Iterator<Map.Entry<String, byte[]>> eldest = entries.entrySet().iterator();
+        while (currentBytes > maxBytes && eldest.hasNext()) {
+            currentBytes -= eldest.next().getValue().length;
+            eldest.remove();
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long currentBytes() {
+        return currentBytes;
+    }
+}
@@ -0,0 +1,58 @@
+package com.cristianino.productapi.infrastructure.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+/**
+ * Adaptive concurrency limit and load shedding for the product endpoints; see
+ * {@link ConcurrencyLimitFilter}. On by default, disable with
+ * {@code app.concurrency-limit.enabled=false}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.concurrency-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitConfig {
+
+    @Value("${app.concurrency-limit.initial-limit:20}")
+    private int initialLimit;
+
+    @Value("${app.concurrency-limit.min-limit:4}")
+    private int minLimit;
+
+    @Value("${app.concurrency-limit.max-limit:180}")
+    private int maxLimit;
+
+    @Value("${app.concurrency-limit.tolerance:1.5}")
+    private double tolerance;
+
+    @Value("${app.concurrency-limit.smoothing:0.2}")
+    private double smoothing;
+
+    @Value("${app.concurrency-limit.list-scan-share:0.7}")
+    private double listScanShare;
+
+    @Value("${app.concurrency-limit.retry-after:1s}")
+    private Duration retryAfter;
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(MeterRegistry meterRegistry) {
+        AdaptiveConcurrencyLimiter limiter =
+            new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, tolerance, smoothing);
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(limiter, listScanShare, retryAfter, meterRegistry);
+
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/api/v1/products", "/api/v1/products/*", "/api/v1/async/products",
+            "/api/v1/async/products/*", "/api/products", "/api/products/*", "/api/internal/*");
+        // Ahead of security, SQL accounting and compression so shed requests cost almost nothing,
+        // but inside the access log, Server-Timing and traffic lanes so they are still seen
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 4);
+        return registration;
+    }
+}
@@ -0,0 +1,102 @@
+package com.cristianino.productapi.infrastructure.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Admits product API requests under an {@link AdaptiveConcurrencyLimiter} and sheds the rest
+ * with {@code 503} and {@code Retry-After} instead of letting them queue for a Tomcat thread.
+ * Writes and {@code /api/internal} traffic may use the whole limit; collection reads without
+ * an ID, the cheapest requests to retry, only {@code list-scan-share} of it, so they are shed
+ * first.
+ * <p>
+ * Requests that go async hold their slot until the async request completes, except Server-Sent
+ * Event streams such as the change feed, which give it back once the stream is open.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final String INTERNAL_PREFIX = "/api/internal/";
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final double listScanShare;
+    private final String retryAfterSeconds;
+    private final Counter shedListScans;
+    private final Counter shedPriority;
+
+    public ConcurrencyLimitFilter(AdaptiveConcurrencyLimiter limiter, double listScanShare, Duration retryAfter,
+                                  MeterRegistry meterRegistry) {
+        this.limiter = limiter;
+        this.listScanShare = listScanShare;
+        this.retryAfterSeconds = Long.toString(Math.max(1, retryAfter.toSeconds()));
+        Gauge.builder("http.server.requests.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::limit)
+            .description("Current adaptive concurrency limit of the product API")
+            .register(meterRegistry);
+        Gauge.builder("http.server.requests.concurrency.inflight", limiter, AdaptiveConcurrencyLimiter::inflight)
+            .description("Product API requests currently admitted")
+            .register(meterRegistry);
+        this.shedListScans = shedCounter(meterRegistry, "list-scan");
+        this.shedPriority = shedCounter(meterRegistry, "priority");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        boolean listScan = isListScan(request);
+        if (!limiter.tryAcquire(listScan ? listScanShare : 1.0)) {
+            (listScan ? shedListScans : shedPriority).increment();
+            ServiceUnavailableResponse.write(response, retryAfterSeconds, "OVERLOADED",
+                "Too many concurrent requests, retry later");
+            return;
+        }
+        long started = System.nanoTime();
+        boolean released = false;
+        try {
+            filterChain.doFilter(request, response);
+            if (isAsyncStarted(request)) {
+                if (ServerSentEvents.isStream(request, response)) {
+                    // A stream is open for as long as its subscriber listens: it must neither keep
+                    // a slot nor turn its lifetime into a latency sample
+                    limiter.releaseIgnored();
+                } else {
+                    request.getAsyncContext().addListener(
+                        new CompletionListener(() -> limiter.release(System.nanoTime() - started)));
+                }
+                released = true;
+            }
+        } catch (IOException | ServletException | RuntimeException e) {
+            limiter.releaseIgnored();
+            released = true;
+            throw e;
+        } finally {
+            if (!released) {
+                limiter.release(System.nanoTime() - started);
+            }
+        }
+    }
+
+    private static boolean isListScan(HttpServletRequest request) {
+        if (!HttpMethod.GET.matches(request.getMethod())) {
+            return false;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !path.startsWith(INTERNAL_PREFIX) && (path.equals("/api/v1/products")
+            || path.equals("/api/v1/async/products") || path.equals("/api/products"));
+    }
+
+    private static Counter shedCounter(MeterRegistry meterRegistry, String priority) {
+        return Counter.builder("http.server.requests.shed")
+            .description("Product API requests rejected by the adaptive concurrency limit")
+            .tag("priority", priority)
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,62 @@
+package com.cristianino.productapi.infrastructure.config;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Marks {@link OpenApiConfig} and the springdoc/Swagger beans lazy so API documentation is
+ * built on the first request to {@code /v3/api-docs} or the Swagger UI instead of at startup.
+ * Their controllers are still mapped at startup; Spring MVC resolves lazy handler beans on
+ * first use. Enabled by the {@code fast-startup} profile.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "app.startup.defer-api-docs", havingValue = "true")
+public class DeferredApiDocsConfig {
+
+    private static final String[] DEFERRED_PACKAGES = {"org.springdoc.", "io.swagger."};
+
+    @Bean
+    public static BeanFactoryPostProcessor deferredApiDocsBeanFactoryPostProcessor() {
+        return beanFactory -> {
+            for (String beanName : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+                // springdoc declares its resources @Lazy(false) to opt out of global lazy
+                // initialization; that is overridden here on purpose
+                if (definition instanceof AbstractBeanDefinition beanDefinition
+                        && isApiDocsBean(beanFactory, beanName, beanDefinition)) {
+                    beanDefinition.setLazyInit(true);
+                }
+            }
+        };
+    }
+
+    private static boolean isApiDocsBean(ConfigurableListableBeanFactory beanFactory, String beanName,
+                                         AbstractBeanDefinition definition) {
+        Class<?> type = beanFactory.getType(beanName, false);
+        if (type == null || SmartInitializingSingleton.class.isAssignableFrom(type)) {
+            return false;
+        }
+        if (OpenApiConfig.class.isAssignableFrom(type)) {
+            return true;
+        }
+        String factoryBeanName = definition.getFactoryBeanName();
+        if (factoryBeanName != null && beanFactory.containsBeanDefinition(factoryBeanName)) {
+            Class<?> factoryType = beanFactory.getType(factoryBeanName, false);
+            if (factoryType != null && OpenApiConfig.class.isAssignableFrom(factoryType)) {
+                return true;
+            }
+        }
+        for (String deferredPackage : DEFERRED_PACKAGES) {
+            if (type.getName().startsWith(deferredPackage)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -2,9 +2,14 @@ package com.cristianino.productapi.infrastructure.config;
 
 import com.cristianino.productapi.application.dto.JsonApiError;
 import com.cristianino.productapi.application.dto.JsonApiResponse;
+import com.cristianino.productapi.application.usecase.ChangeHistoryExpiredException;
+import com.cristianino.productapi.infrastructure.persistence.WriteTimeoutException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.transaction.TransactionTimedOutException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -14,6 +19,8 @@ import org.springframework.web.method.annotation.MethodArgumentTypeMismatchExcep
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
 
 @ControllerAdvice
 public class GlobalExceptionHandler {
@@ -99,6 +106,70 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(response);
     }
 
+    @ExceptionHandler(ChangeHistoryExpiredException.class)
+    public ResponseEntity<JsonApiResponse<Void>> handleChangeHistoryExpired(
+            ChangeHistoryExpiredException ex, WebRequest request) {
+        
+        JsonApiError error = new JsonApiError();
+        error.setStatus("410");
+        error.setCode("CHANGE_HISTORY_EXPIRED");
+        error.setTitle("Change History Expired");
+        error.setDetail(ex.getMessage());
+        
+        JsonApiError.JsonApiErrorSource source = new JsonApiError.JsonApiErrorSource();
+        source.setParameter("since");
+        error.setSource(source);
+        
+        List<JsonApiError> errors = List.of(error);
+        JsonApiResponse<Void> response = new JsonApiResponse<>(errors);
+        
+        return ResponseEntity.status(HttpStatus.GONE).body(response);
+    }
+
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<JsonApiResponse<Void>> handleRejectedExecution(
+            RejectedExecutionException ex, WebRequest request) {
+        
+        return serviceUnavailable("OVERLOADED", "Too many requests waiting for the database, retry later");
+    }
+
+    @ExceptionHandler({TimeoutException.class, QueryTimeoutException.class, TransactionTimedOutException.class})
+    public ResponseEntity<JsonApiResponse<Void>> handleTimeout(Exception ex, WebRequest request) {
+        
+        return serviceUnavailable("TIMEOUT", "The request did not complete in time, retry later");
+    }
+
+    @ExceptionHandler(WriteTimeoutException.class)
+    public ResponseEntity<JsonApiResponse<Void>> handleWriteTimeout(WriteTimeoutException ex, WebRequest request) {
+        
+        // No Retry-After: a blind retry of a create is how duplicates are made
+        JsonApiError error = new JsonApiError();
+        error.setStatus("504");
+        error.setCode("WRITE_TIMEOUT");
+        error.setTitle("Gateway Timeout");
+        error.setDetail("The write did not complete in time and was rolled back; check the resource before retrying");
+        
+        List<JsonApiError> errors = List.of(error);
+        JsonApiResponse<Void> response = new JsonApiResponse<>(errors);
+        
+        return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).body(response);
+    }
+
+    private static ResponseEntity<JsonApiResponse<Void>> serviceUnavailable(String code, String detail) {
+        JsonApiError error = new JsonApiError();
+        error.setStatus("503");
+        error.setCode(code);
+        error.setTitle("Service Unavailable");
+        error.setDetail(detail);
+        
+        List<JsonApiError> errors = List.of(error);
+        JsonApiResponse<Void> response = new JsonApiResponse<>(errors);
+        
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .body(response);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<JsonApiResponse<Void>> handleGenericException(
             Exception ex, WebRequest request) {
@@ -0,0 +1,149 @@
+package com.cristianino.productapi.infrastructure.config;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.function.Consumer;
+
+/**
+ * Sets headers computed over the whole request once, just before the first byte of the body
+ * or an error is written and the headers are committed. Stamping waits for an actual write
+ * rather than {@code getOutputStream()}, which wrappers such as Spring's
+ * {@code ContentCachingResponseWrapper} call before the body exists. Call {@link #stamp()}
+ * after the filter chain for responses that never write a body.
+ */
+final class HeaderStampingResponse extends HttpServletResponseWrapper {
+
+    private final Consumer<HttpServletResponse> headers;
+    private boolean stamped;
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+
+    HeaderStampingResponse(HttpServletResponse response, Consumer<HttpServletResponse> headers) {
+        super(response);
+        this.headers = headers;
+    }
+
+    void stamp() {
+        if (stamped || isCommitted()) {
+            return;
+        }
+        stamped = true;
+        headers.accept((HttpServletResponse) getResponse());
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (outputStream == null) {
+            outputStream = new StampingOutputStream(super.getOutputStream());
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            writer = new PrintWriter(new StampingWriter(super.getWriter()));
+        }
+        return writer;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        stamp();
+        super.flushBuffer();
+    }
+
+    @Override
+    public void sendError(int sc, String msg) throws IOException {
+        stamp();
+        super.sendError(sc, msg);
+    }
+
+    @Override
+    public void sendError(int sc) throws IOException {
+        stamp();
+        super.sendError(sc);
+    }
+
+    @Override
+    public void sendRedirect(String location) throws IOException {
+        stamp();
+        super.sendRedirect(location);
+    }
+
+    private final class StampingOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+
+        StampingOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            stamp();
+            delegate.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            stamp();
+            delegate.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            stamp();
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            stamp();
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+
+    private final class StampingWriter extends Writer {
+
+        private final Writer delegate;
+
+        StampingWriter(Writer delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            stamp();
+            delegate.write(cbuf, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            stamp();
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            stamp();
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.cristianino.productapi.infrastructure.config;
+
+import com.cristianino.productapi.infrastructure.persistence.ProductInvalidationBus;
+import com.cristianino.productapi.infrastructure.persistence.ProductInvalidationListener;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.DriverManager;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Cross-instance invalidation of local product caches over PostgreSQL LISTEN/NOTIFY, for
+ * deployments with more than one replica. Enable with {@code app.invalidation-bus.enabled=true};
+ * requires PostgreSQL.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.invalidation-bus.enabled", havingValue = "true")
+public class InvalidationBusConfig {
+
+    @Value("${app.invalidation-bus.coalesce-window:50ms}")
+    private Duration coalesceWindow;
+
+    @Value("${app.invalidation-bus.heartbeat-interval:5s}")
+    private Duration heartbeatInterval;
+
+    @Value("${app.invalidation-bus.reconnect-delay:2s}")
+    private Duration reconnectDelay;
+
+    @Bean
+    public ProductInvalidationBus productInvalidationBus(JdbcTemplate jdbcTemplate,
+                                                         DataSourceProperties dataSourceProperties,
+                                                         ObjectMapper objectMapper,
+                                                         ObjectProvider<ProductInvalidationListener> listeners,
+                                                         MeterRegistry meterRegistry) {
+        // A dedicated connection outside the pool: LISTEN holds it for the life of the application
+        ProductInvalidationBus bus = new ProductInvalidationBus(jdbcTemplate,
+            () -> DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword()),
+            objectMapper, listeners.orderedStream().toList(), UUID.randomUUID().toString(),
+            coalesceWindow, heartbeatInterval, reconnectDelay);
+        Gauge.builder("product.invalidation.bus.listening", bus, b -> b.isListening() ? 1 : 0)
+            .description("Whether this instance is receiving invalidations from the others")
+            .register(meterRegistry);
+        Gauge.builder("product.invalidation.bus.sequence", bus, ProductInvalidationBus::seenSequence)
+            .description("Highest product outbox sequence this instance has caught up with")
+            .register(meterRegistry);
+        return bus;
+    }
+}
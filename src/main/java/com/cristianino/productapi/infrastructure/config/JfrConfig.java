@@ -0,0 +1,36 @@
+package com.cristianino.productapi.infrastructure.config;
+
+import com.cristianino.productapi.infrastructure.jfr.JfrRecordingEndpoint;
+import com.cristianino.productapi.infrastructure.jfr.ProductOperationEventAspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Flight Recorder events for product operations and the {@code /actuator/jfr} endpoint that
+ * records them on demand. On by default, disable with {@code app.jfr.enabled=false}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.jfr.enabled", havingValue = "true", matchIfMissing = true)
+public class JfrConfig {
+
+    @Value("${app.jfr.dump-directory:${java.io.tmpdir}/product-api-jfr}")
+    private Path dumpDirectory;
+
+    @Value("${app.jfr.max-duration:15m}")
+    private Duration maxDuration;
+
+    @Bean
+    public ProductOperationEventAspect productOperationEventAspect() {
+        return new ProductOperationEventAspect();
+    }
+
+    @Bean
+    public JfrRecordingEndpoint jfrRecordingEndpoint() {
+        return new JfrRecordingEndpoint(dumpDirectory, maxDuration);
+    }
+}
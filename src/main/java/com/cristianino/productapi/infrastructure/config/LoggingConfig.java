@@ -0,0 +1,42 @@
+package com.cristianino.productapi.infrastructure.config;
+
+import com.cristianino.productapi.infrastructure.logging.LogEventCounters;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Access log and the meters for log events lost to the async appenders and the per-logger
+ * sampler configured in {@code logback-spring.xml}.
+ */
+@Configuration
+public class LoggingConfig {
+
+    @Bean
+    public MeterBinder logEventCounters() {
+        return registry -> {
+            FunctionCounter.builder("logging.events.dropped", LogEventCounters.class,
+                    counters -> LogEventCounters.droppedCount())
+                .description("Log events dropped because an async appender's ring buffer was full")
+                .register(registry);
+            FunctionCounter.builder("logging.events.sampled", LogEventCounters.class,
+                    counters -> LogEventCounters.sampledOutCount())
+                .description("Log events below WARN discarded by per-logger rate sampling")
+                .register(registry);
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.access-log.enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<AccessLogFilter> accessLogFilter() {
+        FilterRegistrationBean<AccessLogFilter> registration = new FilterRegistrationBean<>(new AccessLogFilter());
+        registration.addUrlPatterns("/*");
+        // Inside Server-Timing, outside everything that can change the status or buffer the body
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+        return registration;
+    }
+}
@@ -1,11 +1,18 @@
 package com.cristianino.productapi.infrastructure.config;
 
+import io.micrometer.observation.ObservationRegistry;
+import io.netty.channel.ChannelOption;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.beans.factory.annotation.Value;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
 
 @Configuration
 public class MicroserviceClientConfig {
@@ -13,9 +20,41 @@ public class MicroserviceClientConfig {
     @Value("${app.api.key}")
     private String apiKey;
 
+    @Value("${app.http-client.connect-timeout:1s}")
+    private Duration connectTimeout;
+
+    @Value("${app.http-client.response-timeout:2s}")
+    private Duration responseTimeout;
+
+    @Value("${app.http-client.max-connections:50}")
+    private int maxConnections;
+
+    @Value("${app.http-client.pending-acquire-timeout:1s}")
+    private Duration pendingAcquireTimeout;
+
+    @Value("${app.http-client.max-idle-time:30s}")
+    private Duration maxIdleTime;
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider microserviceConnectionProvider() {
+        return ConnectionProvider.builder("microservices")
+            .maxConnections(maxConnections)
+            .pendingAcquireTimeout(pendingAcquireTimeout)
+            .maxIdleTime(maxIdleTime)
+            .build();
+    }
+
     @Bean
-    public WebClient.Builder webClientBuilder() {
+    public WebClient.Builder webClientBuilder(ConnectionProvider microserviceConnectionProvider,
+                                              ObservationRegistry observationRegistry) {
+        HttpClient httpClient = HttpClient.create(microserviceConnectionProvider)
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+            .responseTimeout(responseTimeout);
+
         return WebClient.builder()
+            .clientConnector(new ReactorClientHttpConnector(httpClient))
+            // Client spans for each call, with the W3C traceparent header sent downstream
+            .observationRegistry(observationRegistry)
             .defaultHeader(HttpHeaders.CONTENT_TYPE, "application/vnd.api+json")
             .defaultHeader(HttpHeaders.ACCEPT, "application/vnd.api+json")
             .defaultHeader("X-API-Key", apiKey)
@@ -25,18 +64,24 @@ public class MicroserviceClientConfig {
     @Bean
     public WebClient inventoryServiceClient(WebClient.Builder webClientBuilder,
                                           @Value("${microservices.inventory.base-url:http://localhost:8081}") String baseUrl) {
-        return webClientBuilder
+        // Clone so the base URL does not leak into other clients built from the shared builder
+        return webClientBuilder.clone()
             .baseUrl(baseUrl)
             .build();
     }
 
-    @Bean  
+    @Bean
     public WebClient genericMicroserviceClient(WebClient.Builder webClientBuilder) {
-        return webClientBuilder.build();
+        return webClientBuilder.clone().build();
     }
 
     @Bean
-    public org.springframework.web.client.RestTemplate restTemplate() {
-        return new org.springframework.web.client.RestTemplate();
+    public org.springframework.web.client.RestTemplate restTemplate(ObservationRegistry observationRegistry) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(connectTimeout);
+        requestFactory.setReadTimeout(responseTimeout);
+        org.springframework.web.client.RestTemplate restTemplate = new org.springframework.web.client.RestTemplate(requestFactory);
+        restTemplate.setObservationRegistry(observationRegistry);
+        return restTemplate;
     }
-}
\ No newline at end of file
+}
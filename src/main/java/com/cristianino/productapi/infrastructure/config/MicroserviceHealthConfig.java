@@ -0,0 +1,67 @@
+package com.cristianino.productapi.infrastructure.config;
+
+import com.cristianino.productapi.infrastructure.service.MicroserviceEndpoint;
+import com.cristianino.productapi.infrastructure.service.MicroserviceHealthProber;
+import com.cristianino.productapi.infrastructure.service.ServiceHealthSnapshot;
+import com.cristianino.productapi.infrastructure.service.ServiceHealthStatus;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.CompositeHealthContributor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Configuration
+public class MicroserviceHealthConfig {
+
+    /**
+     * Reported when a downstream service is unreachable; the product API itself keeps serving.
+     */
+    public static final Status DEGRADED = new Status("DEGRADED");
+
+    @Value("${app.health-prober.interval:10s}")
+    private Duration interval;
+
+    @Value("${app.health-prober.jitter:2s}")
+    private Duration jitter;
+
+    @Bean
+    public MicroserviceHealthProber microserviceHealthProber(Environment environment,
+                                                             @Qualifier("genericMicroserviceClient") WebClient webClient,
+                                                             TaskScheduler taskScheduler) {
+        Map<String, MicroserviceEndpoint> endpoints = Binder.get(environment)
+            .bind("microservices", Bindable.mapOf(String.class, MicroserviceEndpoint.class))
+            .orElse(Map.of());
+        return new MicroserviceHealthProber(endpoints, webClient, taskScheduler, interval, jitter);
+    }
+
+    @Bean
+    public CompositeHealthContributor microservicesHealthContributor(MicroserviceHealthProber prober) {
+        Map<String, HealthIndicator> indicators = new LinkedHashMap<>();
+        prober.serviceNames().forEach(name -> indicators.put(name, () -> {
+            ServiceHealthSnapshot snapshot = prober.snapshot();
+            return toHealth(snapshot.service(name), snapshot.serviceView(name));
+        }));
+        return CompositeHealthContributor.fromMap(indicators);
+    }
+
+    private static Health toHealth(ServiceHealthStatus status, Map<String, Object> details) {
+        Status healthStatus = switch (status.status()) {
+            case ServiceHealthStatus.UP -> Status.UP;
+            case ServiceHealthStatus.DOWN -> DEGRADED;
+            default -> Status.UNKNOWN;
+        };
+        return Health.status(healthStatus).withDetails(details).build();
+    }
+}
@@ -0,0 +1,317 @@
+package com.cristianino.productapi.infrastructure.config;
+
+import com.cristianino.productapi.infrastructure.jfr.FilterDecisionEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Filter that compresses JSON responses above a size threshold using gzip or deflate,
+ * negotiated from the request's Accept-Encoding header. Compressed bodies of cacheable
+ * collection pages are kept in a {@link CompressedResponseCache}.
+ * <p>
+ * Server-Sent Event streams are written straight through whatever the client accepts: whether a
+ * response is a stream is decided from its handler or content type when the body is first
+ * opened, not from the request's Accept header.
+ */
+public class ResponseCompressionFilter extends OncePerRequestFilter {
+
+    static final String GZIP = "gzip";
+    static final String DEFLATE = "deflate";
+
+    private static final String FILTER_NAME = "compression";
+
+    private final int minResponseSize;
+    private final List<MediaType> compressibleTypes;
+    private final Set<String> cacheablePaths;
+    private final CompressedResponseCache cache;
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+    private final Map<String, DistributionSummary> ratioSummaries;
+    private final Map<String, Timer> cpuTimers;
+    private final Counter cacheHits;
+    private final Counter cacheMisses;
+
+    public ResponseCompressionFilter(int minResponseSize, List<MediaType> compressibleTypes,
+                                     Set<String> cacheablePaths, CompressedResponseCache cache,
+                                     MeterRegistry meterRegistry) {
+        this.minResponseSize = minResponseSize;
+        this.compressibleTypes = compressibleTypes;
+        this.cacheablePaths = cacheablePaths;
+        this.cache = cache;
+        this.ratioSummaries = Map.of(
+            GZIP, ratioSummary(meterRegistry, GZIP),
+            DEFLATE, ratioSummary(meterRegistry, DEFLATE));
+        this.cpuTimers = Map.of(
+            GZIP, cpuTimer(meterRegistry, GZIP),
+            DEFLATE, cpuTimer(meterRegistry, DEFLATE));
+        this.cacheHits = Counter.builder("http.server.response.compression.cache")
+            .tag("result", "hit")
+            .register(meterRegistry);
+        this.cacheMisses = Counter.builder("http.server.response.compression.cache")
+            .tag("result", "miss")
+            .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (HttpMethod.HEAD.matches(request.getMethod())) {
+            return true;
+        }
+        return negotiateEncoding(request.getHeader(HttpHeaders.ACCEPT_ENCODING)) == null;
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper =
+            WebUtils.getNativeResponse(response, ContentCachingResponseWrapper.class);
+        if (wrapper == null) {
+            wrapper = new CompressibleResponse(request, response);
+        }
+
+        filterChain.doFilter(request, wrapper);
+
+        if (isAsyncStarted(request)) {
+            return;
+        }
+        if (wrapper instanceof CompressibleResponse compressible && compressible.isStreaming()) {
+            FilterDecisionEvent.commit(FILTER_NAME, "event-stream", request);
+            return;
+        }
+        writeResponse(request, wrapper);
+    }
+
+    private void writeResponse(HttpServletRequest request, ContentCachingResponseWrapper wrapper)
+            throws IOException {
+        HttpServletResponse rawResponse = (HttpServletResponse) wrapper.getResponse();
+        if (!isCompressible(wrapper.getContentType()) || rawResponse.containsHeader(HttpHeaders.CONTENT_ENCODING)) {
+            FilterDecisionEvent.commit(FILTER_NAME, "not-compressible", request);
+            wrapper.copyBodyToResponse();
+            return;
+        }
+
+        rawResponse.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (wrapper.getContentSize() < minResponseSize) {
+            FilterDecisionEvent.commit(FILTER_NAME, "below-min-size", request);
+            wrapper.copyBodyToResponse();
+            return;
+        }
+
+        String encoding = negotiateEncoding(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        byte[] body = wrapper.getContentAsByteArray();
+        byte[] compressed = compressWithCache(request, encoding, body);
+
+        wrapper.resetBuffer();
+        rawResponse.setHeader(HttpHeaders.CONTENT_ENCODING, encoding);
+        rawResponse.setContentLength(compressed.length);
+        rawResponse.getOutputStream().write(compressed);
+        rawResponse.flushBuffer();
+    }
+
+    private byte[] compressWithCache(HttpServletRequest request, String encoding, byte[] body) throws IOException {
+        if (!HttpMethod.GET.matches(request.getMethod()) || !cacheablePaths.contains(request.getRequestURI())) {
+            FilterDecisionEvent.commit(FILTER_NAME, encoding, request);
+            return compress(encoding, body);
+        }
+
+        String key = cacheKey(request, encoding, body);
+        byte[] cached = cache.get(key);
+        if (cached != null) {
+            cacheHits.increment();
+            FilterDecisionEvent.commit(FILTER_NAME, encoding + "-cached", request);
+            return cached;
+        }
+        cacheMisses.increment();
+        FilterDecisionEvent.commit(FILTER_NAME, encoding, request);
+        byte[] compressed = compress(encoding, body);
+        cache.put(key, compressed);
+        return compressed;
+    }
+
+    byte[] compress(String encoding, byte[] body) throws IOException {
+        long cpuStart = cpuTimeNanos();
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+        try (OutputStream out = GZIP.equals(encoding)
+                ? new GZIPOutputStream(buffer)
+                : new DeflaterOutputStream(buffer)) {
+            out.write(body);
+        }
+        byte[] compressed = buffer.toByteArray();
+
+        cpuTimers.get(encoding).record(cpuTimeNanos() - cpuStart, TimeUnit.NANOSECONDS);
+        ratioSummaries.get(encoding).record((double) compressed.length / body.length);
+        return compressed;
+    }
+
+    private boolean isCompressible(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        try {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            return compressibleTypes.stream().anyMatch(type -> type.equalsTypeAndSubtype(mediaType));
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Picks gzip or deflate from an Accept-Encoding header honouring q-values,
+     * preferring gzip on ties. Returns null when neither is acceptable.
+     */
+    static String negotiateEncoding(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return null;
+        }
+        double gzipQ = -1;
+        double deflateQ = -1;
+        double wildcardQ = -1;
+
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().split(";");
+            String coding = parts[0].trim().toLowerCase();
+            double q = 1.0;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.startsWith("q=")) {
+                    try {
+                        q = Double.parseDouble(param.substring(2));
+                    } catch (NumberFormatException e) {
+                        q = 0;
+                    }
+                }
+            }
+            switch (coding) {
+                case GZIP, "x-gzip" -> gzipQ = q;
+                case DEFLATE -> deflateQ = q;
+                case "*" -> wildcardQ = q;
+                default -> { }
+            }
+        }
+
+        if (gzipQ < 0) {
+            gzipQ = wildcardQ;
+        }
+        if (deflateQ < 0) {
+            deflateQ = wildcardQ;
+        }
+        if (gzipQ <= 0 && deflateQ <= 0) {
+            return null;
+        }
+        return gzipQ >= deflateQ ? GZIP : DEFLATE;
+    }
+
+    private String cacheKey(HttpServletRequest request, String encoding, byte[] body) {
+        String query = request.getQueryString();
+        return request.getRequestURI() + (query != null ? "?" + query : "") + "|" + encoding + "|" + digest(body);
+    }
+
+    private static String digest(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private long cpuTimeNanos() {
+        return threadMXBean.isCurrentThreadCpuTimeSupported()
+            ? threadMXBean.getCurrentThreadCpuTime()
+            : System.nanoTime();
+    }
+
+    /**
+     * Buffers the body for compression unless it turns out to be a Server-Sent Event stream,
+     * which is decided when the body is first opened; a stream's writes and flushes then go
+     * straight to the response so every event reaches the client as it is sent.
+     */
+    private static final class CompressibleResponse extends ContentCachingResponseWrapper {
+
+        private final HttpServletRequest request;
+        private Boolean streaming;
+
+        CompressibleResponse(HttpServletRequest request, HttpServletResponse response) {
+            super(response);
+            this.request = request;
+        }
+
+        boolean isStreaming() {
+            return Boolean.TRUE.equals(streaming);
+        }
+
+        private boolean decideStreaming() {
+            if (streaming == null) {
+                streaming = ServerSentEvents.isStream(request, this);
+            }
+            return streaming;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            return decideStreaming() ? getResponse().getOutputStream() : super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            return decideStreaming() ? getResponse().getWriter() : super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (isStreaming()) {
+                getResponse().flushBuffer();
+            } else {
+                super.flushBuffer();
+            }
+        }
+    }
+
+    private static DistributionSummary ratioSummary(MeterRegistry registry, String encoding) {
+        return DistributionSummary.builder("http.server.response.compression.ratio")
+            .description("Compressed size divided by original size")
+            .tag("encoding", encoding)
+            .register(registry);
+    }
+
+    private static Timer cpuTimer(MeterRegistry registry, String encoding) {
+        return Timer.builder("http.server.response.compression.cpu")
+            .description("CPU time spent compressing response bodies")
+            .tag("encoding", encoding)
+            .register(registry);
+    }
+}
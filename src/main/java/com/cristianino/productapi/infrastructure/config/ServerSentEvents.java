@@ -0,0 +1,33 @@
+package com.cristianino.productapi.infrastructure.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Collection;
+
+/**
+ * Recognizes Server-Sent Event streams from the filters, which cannot rely on the response
+ * content type alone: wrappers further down the chain may hold it back until the body is
+ * copied out.
+ */
+final class ServerSentEvents {
+
+    private ServerSentEvents() {
+    }
+
+    /**
+     * Whether the handler chosen for {@code request} produces {@code text/event-stream}, or the
+     * response already says so. Only meaningful once the request has been dispatched.
+     */
+    static boolean isStream(HttpServletRequest request, HttpServletResponse response) {
+        if (request.getAttribute(HandlerMapping.PRODUCIBLE_MEDIA_TYPES_ATTRIBUTE) instanceof Collection<?> producible
+                && producible.stream().anyMatch(type -> type instanceof MediaType mediaType
+                    && MediaType.TEXT_EVENT_STREAM.isCompatibleWith(mediaType))) {
+            return true;
+        }
+        String contentType = response.getContentType();
+        return contentType != null && contentType.startsWith(MediaType.TEXT_EVENT_STREAM_VALUE);
+    }
+}
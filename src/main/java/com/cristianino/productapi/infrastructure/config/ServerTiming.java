@@ -0,0 +1,93 @@
+package com.cristianino.productapi.infrastructure.config;
+
+import jakarta.servlet.ServletRequest;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * Stage marks for one sampled request, taken with {@link System#nanoTime()} as the request
+ * passes through the pipeline:
+ * <ul>
+ *   <li>{@code filters}: servlet and security filters, including API key authentication,
+ *       up to the handler</li>
+ *   <li>{@code app}: the controller and use case, less the time spent in JDBC</li>
+ *   <li>{@code db}: JDBC statements and row fetches</li>
+ *   <li>{@code serialize}: writing the response body with Jackson</li>
+ *   <li>{@code total}: the whole request as seen by {@link ServerTimingFilter}</li>
+ * </ul>
+ * A stage is left out when its marks were not reached, for example {@code serialize} for a
+ * response without a body.
+ */
+final class ServerTiming {
+
+    static final String ATTRIBUTE = ServerTiming.class.getName();
+
+    private final long started;
+    private long handlerStarted;
+    private long handlerEnded;
+    private long serializationEnded;
+    private long jdbcNanos = -1;
+
+    ServerTiming(long started) {
+        this.started = started;
+    }
+
+    static ServerTiming of(ServletRequest request) {
+        return (ServerTiming) request.getAttribute(ATTRIBUTE);
+    }
+
+    void handlerStarted() {
+        if (handlerStarted == 0) {
+            handlerStarted = System.nanoTime();
+        }
+    }
+
+    void handlerEnded() {
+        if (handlerEnded == 0) {
+            handlerEnded = System.nanoTime();
+        }
+    }
+
+    void serializationEnded() {
+        if (handlerEnded != 0 && serializationEnded == 0) {
+            serializationEnded = System.nanoTime();
+        }
+    }
+
+    void jdbcTime(Duration jdbcTime) {
+        jdbcNanos = jdbcTime.toNanos();
+    }
+
+    /**
+     * Stage durations as of {@code now}, in pipeline order.
+     */
+    Map<String, Duration> stages(long now) {
+        Map<String, Duration> stages = new LinkedHashMap<>();
+        if (handlerStarted != 0) {
+            stages.put("filters", Duration.ofNanos(handlerStarted - started));
+            if (handlerEnded != 0) {
+                long handler = handlerEnded - handlerStarted;
+                stages.put("app", Duration.ofNanos(Math.max(0, jdbcNanos < 0 ? handler : handler - jdbcNanos)));
+            }
+        }
+        if (jdbcNanos >= 0) {
+            stages.put("db", Duration.ofNanos(jdbcNanos));
+        }
+        if (serializationEnded != 0) {
+            stages.put("serialize", Duration.ofNanos(serializationEnded - handlerEnded));
+        }
+        stages.put("total", Duration.ofNanos(now - started));
+        return stages;
+    }
+
+    static String headerValue(Map<String, Duration> stages) {
+        StringJoiner header = new StringJoiner(", ");
+        stages.forEach((stage, duration) ->
+            header.add(String.format(Locale.ROOT, "%s;dur=%.3f", stage, duration.toNanos() / 1_000_000.0)));
+        return header.toString();
+    }
+}
@@ -0,0 +1,87 @@
+package com.cristianino.productapi.infrastructure.config;
+
+import com.cristianino.productapi.infrastructure.persistence.SqlStatementRecorder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Breaks a sampled fraction of requests down into the stages of {@link ServerTiming}, sent as a
+ * standard {@code Server-Timing} header and recorded in {@code http.server.requests.stages}
+ * tagged by stage and endpoint. Requests outside the sample cost one random draw.
+ * <p>
+ * The header is set when the first byte of the body is written. For clients accepting gzip or
+ * deflate the compression filter buffers the body, so that is after serialization; for other
+ * clients {@code serialize} is only in the histogram. Async requests are recorded when they
+ * complete.
+ */
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    static final String HEADER = "Server-Timing";
+
+    private final MeterRegistry meterRegistry;
+    private final double sampleRate;
+
+    public ServerTimingFilter(MeterRegistry meterRegistry, double sampleRate) {
+        this.meterRegistry = meterRegistry;
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (sampleRate <= 0 || (sampleRate < 1 && ThreadLocalRandom.current().nextDouble() >= sampleRate)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        ServerTiming timing = new ServerTiming(System.nanoTime());
+        request.setAttribute(ServerTiming.ATTRIBUTE, timing);
+        HeaderStampingResponse stamping = new HeaderStampingResponse(response,
+            headers -> headers.setHeader(HEADER, ServerTiming.headerValue(stages(request, timing))));
+        try {
+            filterChain.doFilter(request, stamping);
+        } finally {
+            if (isAsyncStarted(request)) {
+                request.getAsyncContext().addListener(
+                    new CompletionListener(() -> record(request, stages(request, timing))));
+            } else {
+                Map<String, Duration> stages = stages(request, timing);
+                stamping.stamp();
+                record(request, stages);
+            }
+        }
+    }
+
+    private static Map<String, Duration> stages(HttpServletRequest request, ServerTiming timing) {
+        if (request.getAttribute(SqlStatementAccountingFilter.RECORDING_ATTRIBUTE)
+                instanceof SqlStatementRecorder.Recording recording) {
+            timing.jdbcTime(recording.jdbcTime());
+        }
+        return timing.stages(System.nanoTime());
+    }
+
+    private void record(HttpServletRequest request, Map<String, Duration> stages) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern == null) {
+            return;
+        }
+        String uri = pattern.toString();
+        String method = request.getMethod();
+        stages.forEach((stage, duration) -> Timer.builder("http.server.requests.stages")
+            .description("Time spent in each stage of sampled requests")
+            .tags("stage", stage, "method", method, "uri", uri)
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+            .record(duration));
+    }
+}
@@ -0,0 +1,33 @@
+package com.cristianino.productapi.infrastructure.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Marks the {@link ServerTiming} stage boundaries inside Spring MVC: the handler starts at
+ * {@code preHandle}, ends when its return value reaches body conversion in
+ * {@link ServerTimingResponseBodyAdvice} (or at completion when there is no body), and
+ * serialization ends at completion.
+ */
+class ServerTimingInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        ServerTiming timing = ServerTiming.of(request);
+        if (timing != null) {
+            timing.handlerStarted();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        ServerTiming timing = ServerTiming.of(request);
+        if (timing != null) {
+            timing.serializationEnded();
+            timing.handlerEnded();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.cristianino.productapi.infrastructure.config;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * JSON:API {@code 503} with {@code Retry-After}, written directly by filters that turn requests
+ * away before they reach a controller.
+ */
+final class ServiceUnavailableResponse {
+
+    private static final String BODY = """
+        {"errors":[{"status":"503","code":"%s","title":"Service Overloaded","detail":"%s"}]}""";
+
+    private ServiceUnavailableResponse() {
+    }
+
+    static void write(HttpServletResponse response, String retryAfterSeconds, String code, String detail)
+            throws IOException {
+        response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        response.setContentType("application/vnd.api+json");
+        byte[] body = BODY.formatted(code, detail).getBytes(StandardCharsets.UTF_8);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+}
@@ -0,0 +1,53 @@
+package com.cristianino.productapi.infrastructure.config;
+
+import com.cristianino.productapi.infrastructure.persistence.SqlAccountingDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+/**
+ * Per-request SQL statement accounting; see {@link SqlStatementAccountingFilter}. On by default,
+ * disable with {@code app.sql-accounting.enabled=false}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.sql-accounting.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlAccountingConfig {
+
+    @Value("${app.sql-accounting.response-header:false}")
+    private boolean responseHeader;
+
+    @Value("${app.sql-accounting.repeated-statement-threshold:5}")
+    private int repeatedStatementThreshold;
+
+    @Bean
+    public static BeanPostProcessor sqlAccountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource && !(bean instanceof SqlAccountingDataSource)
+                    ? new SqlAccountingDataSource(dataSource)
+                    : bean;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlStatementAccountingFilter> sqlStatementAccountingFilter(MeterRegistry meterRegistry) {
+        SqlStatementAccountingFilter filter =
+            new SqlStatementAccountingFilter(meterRegistry, responseHeader, repeatedStatementThreshold);
+
+        FilterRegistrationBean<SqlStatementAccountingFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/*");
+        // Outside the compression filter, so the headers are set before its buffered body is written
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 5);
+        return registration;
+    }
+}
@@ -0,0 +1,121 @@
+package com.cristianino.productapi.infrastructure.config;
+
+import com.cristianino.productapi.infrastructure.persistence.SqlStatementRecorder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Records the SQL work each request does on its own thread, tagged by endpoint:
+ * {@code http.server.requests.sql.statements}, {@code .rows} and {@code .time}. The same
+ * statement text executed {@code repeated-statement-threshold} times or more in one request is
+ * logged and counted in {@code http.server.requests.sql.repeated}, the usual sign of an N+1
+ * query.
+ * <p>
+ * With {@code response-header} on, the totals are also sent as {@code X-SQL-Statements},
+ * {@code X-SQL-Rows} and {@code X-SQL-Time}, set just before the body is first written.
+ * <p>
+ * Work handed to the executor of the async product endpoints is recorded into the request's
+ * recording as well, and the totals are taken when the async request completes.
+ */
+public class SqlStatementAccountingFilter extends OncePerRequestFilter {
+
+    static final String STATEMENTS_HEADER = "X-SQL-Statements";
+    static final String ROWS_HEADER = "X-SQL-Rows";
+    static final String TIME_HEADER = "X-SQL-Time";
+
+    /** Request attribute holding the request's {@link SqlStatementRecorder.Recording}. */
+    static final String RECORDING_ATTRIBUTE = SqlStatementAccountingFilter.class.getName() + ".recording";
+
+    private static final Logger logger = LoggerFactory.getLogger(SqlStatementAccountingFilter.class);
+
+    private final MeterRegistry meterRegistry;
+    private final boolean responseHeader;
+    private final int repeatedStatementThreshold;
+
+    public SqlStatementAccountingFilter(MeterRegistry meterRegistry, boolean responseHeader, int repeatedStatementThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.responseHeader = responseHeader;
+        this.repeatedStatementThreshold = repeatedStatementThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        SqlStatementRecorder.Recording recording = SqlStatementRecorder.start();
+        request.setAttribute(RECORDING_ATTRIBUTE, recording);
+        HeaderStampingResponse stamping = responseHeader
+            ? new HeaderStampingResponse(response, headers -> setHeaders(headers, recording))
+            : null;
+        try {
+            filterChain.doFilter(request, stamping != null ? stamping : response);
+        } finally {
+            SqlStatementRecorder.stop();
+            if (isAsyncStarted(request)) {
+                // Workers keep adding to the recording until the async result is written
+                request.getAsyncContext().addListener(new CompletionListener(() -> record(request, recording)));
+            } else {
+                if (stamping != null) {
+                    stamping.stamp();
+                }
+                record(request, recording);
+            }
+        }
+    }
+
+    private static void setHeaders(HttpServletResponse response, SqlStatementRecorder.Recording recording) {
+        response.setHeader(STATEMENTS_HEADER, Long.toString(recording.statements()));
+        response.setHeader(ROWS_HEADER, Long.toString(recording.rows()));
+        response.setHeader(TIME_HEADER, String.format(Locale.ROOT, "%.3fms", recording.jdbcTime().toNanos() / 1_000_000.0));
+    }
+
+    private void record(HttpServletRequest request, SqlStatementRecorder.Recording recording) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern == null) {
+            return;
+        }
+        String uri = pattern.toString();
+        String method = request.getMethod();
+        DistributionSummary.builder("http.server.requests.sql.statements")
+            .description("JDBC statements executed per request")
+            .tags("method", method, "uri", uri)
+            .register(meterRegistry)
+            .record(recording.statements());
+        DistributionSummary.builder("http.server.requests.sql.rows")
+            .description("Rows fetched per request")
+            .tags("method", method, "uri", uri)
+            .register(meterRegistry)
+            .record(recording.rows());
+        Timer.builder("http.server.requests.sql.time")
+            .description("Time spent in JDBC per request")
+            .tags("method", method, "uri", uri)
+            .register(meterRegistry)
+            .record(recording.jdbcTime());
+        recording.mostRepeated()
+            .filter(repeated -> repeated.getValue() >= repeatedStatementThreshold)
+            .ifPresent(repeated -> reportRepeated(method, uri, repeated));
+    }
+
+    private void reportRepeated(String method, String uri, Map.Entry<String, Integer> repeated) {
+        Counter.builder("http.server.requests.sql.repeated")
+            .description("Requests that ran the same statement repeatedly, a likely N+1 query")
+            .tags("method", method, "uri", uri)
+            .register(meterRegistry)
+            .increment();
+        logger.warn("{} {} executed the same statement {} times, likely an N+1 query: {}",
+            method, uri, repeated.getValue(), repeated.getKey());
+    }
+}
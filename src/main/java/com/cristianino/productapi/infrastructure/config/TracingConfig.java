@@ -0,0 +1,33 @@
+package com.cristianino.productapi.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.aop.ObservedAspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+/**
+ * Spans for the {@code @Observed} controller, use case, domain service and repository, on top
+ * of the HTTP server and inventory client spans Spring creates itself. Spans are exported over
+ * OTLP when {@code management.otlp.tracing.endpoint} is set, and to a local JSON-lines file when
+ * {@code app.tracing.file.path} is; trace context travels downstream as W3C {@code traceparent}
+ * and lands in the log MDC as {@code traceId} and {@code spanId}.
+ */
+@Configuration
+public class TracingConfig {
+
+    @Bean
+    public ObservedAspect observedAspect(ObservationRegistry observationRegistry) {
+        return new ObservedAspect(observationRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.tracing.file.path")
+    public FileSpanExporter fileSpanExporter(@Value("${app.tracing.file.path}") Path path, ObjectMapper objectMapper) {
+        return new FileSpanExporter(path, objectMapper);
+    }
+}
@@ -0,0 +1,175 @@
+package com.cristianino.productapi.infrastructure.config;
+
+import com.cristianino.productapi.infrastructure.persistence.LaneRoutingDataSource;
+import com.cristianino.productapi.infrastructure.persistence.TrafficLane;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.DispatcherType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Bulkheads between public, internal and health traffic; see {@link TrafficLaneFilter}. Besides
+ * its share of Tomcat workers, the health lane gets a small connection pool copied from the
+ * primary Hikari pool. Internal traffic, which is most of the load, shares the primary pool
+ * unless {@code app.lanes.internal.pool-size} gives it one of its own. On by default, disable
+ * with {@code app.lanes.enabled=false}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.lanes.enabled", havingValue = "true", matchIfMissing = true)
+public class TrafficLaneConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrafficLaneConfig.class);
+
+    @Value("${app.lanes.public.max-concurrent:150}")
+    private int publicMaxConcurrent;
+
+    @Value("${app.lanes.internal.max-concurrent:30}")
+    private int internalMaxConcurrent;
+
+    @Value("${app.lanes.health.max-concurrent:10}")
+    private int healthMaxConcurrent;
+
+    @Value("${app.lanes.retry-after:1s}")
+    private Duration retryAfter;
+
+    @Value("${server.tomcat.threads.max:200}")
+    private int tomcatMaxThreads;
+
+    /**
+     * Puts the primary Hikari pool behind a {@link LaneRoutingDataSource}. Ordered so it runs
+     * before the SQL accounting wrapper, which then counts statements of every lane. Other data
+     * sources, such as an embedded test database, are left alone.
+     */
+    @Bean
+    public static LaneRoutingPostProcessor laneRoutingDataSourcePostProcessor(Environment environment) {
+        return new LaneRoutingPostProcessor(environment);
+    }
+
+    @Bean
+    public FilterRegistrationBean<TrafficLaneFilter> trafficLaneFilter(MeterRegistry meterRegistry) {
+        Map<TrafficLane, Integer> maxConcurrent = new EnumMap<>(TrafficLane.class);
+        maxConcurrent.put(TrafficLane.PUBLIC, publicMaxConcurrent);
+        maxConcurrent.put(TrafficLane.INTERNAL, internalMaxConcurrent);
+        maxConcurrent.put(TrafficLane.HEALTH, healthMaxConcurrent);
+        int total = publicMaxConcurrent + internalMaxConcurrent + healthMaxConcurrent;
+        if (total > tomcatMaxThreads) {
+            logger.warn("Traffic lanes allow {} concurrent requests but Tomcat has {} workers; "
+                + "a full public lane can still starve health probes", total, tomcatMaxThreads);
+        }
+        TrafficLaneFilter filter = new TrafficLaneFilter(maxConcurrent, Math.max(1, retryAfter.toSeconds()), meterRegistry);
+
+        FilterRegistrationBean<TrafficLaneFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/*");
+        registration.setDispatcherTypes(DispatcherType.REQUEST);
+        // Before anything that touches the database, inside the access log so rejections are seen
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 3);
+        return registration;
+    }
+
+    /**
+     * {@code traffic.lane.db.connections.active}, {@code .pending} and {@code .max} per lane pool.
+     */
+    @Bean
+    public MeterBinder trafficLanePoolMetrics(DataSource dataSource) {
+        return registry -> {
+            LaneRoutingDataSource routing = unwrapRouting(dataSource);
+            if (routing == null) {
+                return;
+            }
+            for (TrafficLane lane : TrafficLane.values()) {
+                if (routing.poolFor(lane) instanceof HikariDataSource pool) {
+                    poolGauge(registry, "traffic.lane.db.connections.active", lane, pool, HikariPoolMXBean::getActiveConnections);
+                    poolGauge(registry, "traffic.lane.db.connections.pending", lane, pool, HikariPoolMXBean::getThreadsAwaitingConnection);
+                    Gauge.builder("traffic.lane.db.connections.max", pool, HikariDataSource::getMaximumPoolSize)
+                        .tag("lane", lane.tag())
+                        .register(registry);
+                }
+            }
+        };
+    }
+
+    private static void poolGauge(MeterRegistry registry, String name, TrafficLane lane, HikariDataSource pool,
+                                  ToDoubleFunction<HikariPoolMXBean> value) {
+        // The MXBean only exists once the pool has handed out its first connection
+        Gauge.builder(name, pool, p -> p.getHikariPoolMXBean() != null ? value.applyAsDouble(p.getHikariPoolMXBean()) : 0)
+            .tag("lane", lane.tag())
+            .register(registry);
+    }
+
+    private static LaneRoutingDataSource unwrapRouting(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(LaneRoutingDataSource.class)
+                ? dataSource.unwrap(LaneRoutingDataSource.class)
+                : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+
+    static final class LaneRoutingPostProcessor implements BeanPostProcessor, Ordered {
+
+        private final Environment environment;
+
+        private LaneRoutingPostProcessor(Environment environment) {
+            this.environment = environment;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof HikariDataSource primary)) {
+                return bean;
+            }
+            Map<TrafficLane, HikariDataSource> lanePools = new EnumMap<>(TrafficLane.class);
+            // A small fixed pool would make internal callers queue behind a few connections while
+            // their lane admits many times that; only split it off when sized deliberately
+            if (environment.containsProperty("app.lanes.internal.pool-size")) {
+                lanePools.put(TrafficLane.INTERNAL, lanePool(primary, TrafficLane.INTERNAL,
+                    primary.getMaximumPoolSize(), primary.getConnectionTimeout()));
+            }
+            lanePools.put(TrafficLane.HEALTH, lanePool(primary, TrafficLane.HEALTH, 2, 2_000));
+            return new LaneRoutingDataSource(primary, lanePools);
+        }
+
+        private HikariDataSource lanePool(HikariDataSource primary, TrafficLane lane, int defaultSize,
+                                          long defaultTimeoutMillis) {
+            String prefix = "app.lanes." + lane.tag() + ".";
+            HikariConfig config = new HikariConfig();
+            primary.copyStateTo(config);
+            config.setPoolName((primary.getPoolName() != null ? primary.getPoolName() : "HikariPool") + "-" + lane.tag());
+            int size = environment.getProperty(prefix + "pool-size", Integer.class, defaultSize);
+            config.setMaximumPoolSize(size);
+            config.setMinimumIdle(Math.min(1, size));
+            config.setConnectionTimeout(environment.getProperty(prefix + "connection-timeout", Duration.class,
+                Duration.ofMillis(defaultTimeoutMillis)).toMillis());
+            // Started on first use like the primary pool, so a lane that never runs SQL holds no connections
+            HikariDataSource pool = new HikariDataSource();
+            config.copyStateTo(pool);
+            return pool;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.cristianino.productapi.infrastructure.config;
+
+import com.cristianino.productapi.infrastructure.persistence.TrafficLane;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Sorts each request into a {@link TrafficLane} and caps how many Tomcat workers every lane may
+ * hold at once. A lane at its cap answers {@code 503} straight away, so a flood of public list
+ * requests leaves workers free for internal calls and health probes. The lane is bound to the
+ * thread for the rest of the request, which routes its JDBC work to the lane's pool.
+ * <p>
+ * Publishes {@code traffic.lane.requests.active}, {@code .limit}, {@code .saturation} and
+ * {@code .rejected}, tagged by lane.
+ */
+public class TrafficLaneFilter extends OncePerRequestFilter {
+
+    private final Map<TrafficLane, Semaphore> permits = new EnumMap<>(TrafficLane.class);
+    private final Map<TrafficLane, Counter> rejected = new EnumMap<>(TrafficLane.class);
+    private final String retryAfterSeconds;
+
+    public TrafficLaneFilter(Map<TrafficLane, Integer> maxConcurrent, long retryAfterSeconds,
+                             MeterRegistry meterRegistry) {
+        this.retryAfterSeconds = Long.toString(retryAfterSeconds);
+        for (TrafficLane lane : TrafficLane.values()) {
+            int limit = maxConcurrent.get(lane);
+            Semaphore semaphore = new Semaphore(limit);
+            permits.put(lane, semaphore);
+            Gauge.builder("traffic.lane.requests.active", semaphore, s -> limit - s.availablePermits())
+                .description("Requests holding a Tomcat worker in the lane")
+                .tag("lane", lane.tag())
+                .register(meterRegistry);
+            Gauge.builder("traffic.lane.requests.limit", () -> limit)
+                .tag("lane", lane.tag())
+                .register(meterRegistry);
+            Gauge.builder("traffic.lane.saturation", semaphore, s -> (double) (limit - s.availablePermits()) / limit)
+                .description("Share of the lane's workers in use")
+                .tag("lane", lane.tag())
+                .register(meterRegistry);
+            rejected.put(lane, Counter.builder("traffic.lane.requests.rejected")
+                .description("Requests turned away because their lane was full")
+                .tag("lane", lane.tag())
+                .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        TrafficLane lane = classify(request);
+        Semaphore semaphore = permits.get(lane);
+        if (!semaphore.tryAcquire()) {
+            rejected.get(lane).increment();
+            ServiceUnavailableResponse.write(response, retryAfterSeconds, "LANE_SATURATED",
+                "All workers for " + lane.tag() + " traffic are busy, retry later");
+            return;
+        }
+        TrafficLane.enter(lane);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            TrafficLane.exit();
+            semaphore.release();
+        }
+    }
+
+    static TrafficLane classify(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (path.equals("/actuator/health") || path.startsWith("/actuator/health/")
+                || path.equals("/api/connectivity") || path.startsWith("/api/connectivity/")) {
+            return TrafficLane.HEALTH;
+        }
+        if (path.startsWith("/api/internal/") || path.startsWith("/actuator")) {
+            return TrafficLane.INTERNAL;
+        }
+        return TrafficLane.PUBLIC;
+    }
+}
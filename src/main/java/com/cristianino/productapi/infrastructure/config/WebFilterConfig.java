@@ -0,0 +1,47 @@
+package com.cristianino.productapi.infrastructure.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+import java.util.Set;
+
+@Configuration
+public class WebFilterConfig {
+
+    @Value("${app.compression.min-response-size:2048}")
+    private int minResponseSize;
+
+    @Value("${app.compression.mime-types:application/vnd.api+json,application/json}")
+    private List<String> compressibleMimeTypes;
+
+    @Value("${app.compression.cache.paths:/api/v1/products,/api/products}")
+    private Set<String> cacheablePaths;
+
+    @Value("${app.compression.cache.max-bytes:16777216}")
+    private long cacheMaxBytes;
+
+    @Bean
+    @ConditionalOnProperty(name = "app.compression.enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<ResponseCompressionFilter> responseCompressionFilter(MeterRegistry meterRegistry) {
+        ResponseCompressionFilter filter = new ResponseCompressionFilter(
+            minResponseSize,
+            compressibleMimeTypes.stream().map(MediaType::parseMediaType).toList(),
+            cacheablePaths,
+            new CompressedResponseCache(cacheMaxBytes),
+            meterRegistry);
+
+        FilterRegistrationBean<ResponseCompressionFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/*");
+        registration.setDispatcherTypes(DispatcherType.REQUEST, DispatcherType.ASYNC);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
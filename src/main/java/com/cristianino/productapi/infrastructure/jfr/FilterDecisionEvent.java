@@ -0,0 +1,43 @@
+package com.cristianino.productapi.infrastructure.jfr;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * What a servlet filter decided for a request, such as whether an API key was accepted or a
+ * response compressed.
+ */
+@Name("com.cristianino.productapi.FilterDecision")
+@Label("Filter Decision")
+@Category({"Product API", "HTTP"})
+@StackTrace(false)
+public class FilterDecisionEvent extends Event {
+
+    @Label("Filter")
+    String filter;
+
+    @Label("Decision")
+    String decision;
+
+    @Label("Method")
+    String method;
+
+    @Label("URI")
+    String uri;
+
+    public static void commit(String filter, String decision, HttpServletRequest request) {
+        FilterDecisionEvent event = new FilterDecisionEvent();
+        if (!event.isEnabled()) {
+            return;
+        }
+        event.filter = filter;
+        event.decision = decision;
+        event.method = request.getMethod();
+        event.uri = request.getRequestURI();
+        event.commit();
+    }
+}
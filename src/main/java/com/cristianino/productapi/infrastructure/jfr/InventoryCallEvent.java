@@ -0,0 +1,38 @@
+package com.cristianino.productapi.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One stock lookup against the Inventory service, from cache check to the last batch or the
+ * deadline. Callers {@link #begin()} it and set the counts before {@link #commit()}.
+ */
+@Name("com.cristianino.productapi.InventoryCall")
+@Label("Inventory Stock Lookup")
+@Category({"Product API", "Inventory"})
+@StackTrace(false)
+public class InventoryCallEvent extends Event {
+
+    @Label("Requested")
+    @Description("Distinct products asked for")
+    public int requested;
+
+    @Label("Cached")
+    @Description("Products answered from the local cache")
+    public int cached;
+
+    @Label("Fetched")
+    @Description("Products returned by the Inventory service")
+    public int fetched;
+
+    @Label("Unavailable")
+    @Description("Products with no answer: failed batch, deadline or full bulkhead")
+    public int unavailable;
+
+    @Label("Outcome")
+    public String outcome;
+}
@@ -0,0 +1,139 @@
+package com.cristianino.productapi.infrastructure.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@code /actuator/jfr}: Flight Recorder on a running instance.
+ * <ul>
+ *   <li>{@code GET /actuator/jfr} lists recordings, including one started with
+ *       {@code -XX:StartFlightRecording}</li>
+ *   <li>{@code POST /actuator/jfr} with optional {@code settings} ({@code default} or
+ *       {@code profile}), {@code duration} and {@code name} starts one</li>
+ *   <li>{@code GET /actuator/jfr/{id}} downloads what a recording holds so far, or its final
+ *       contents once stopped</li>
+ *   <li>{@code DELETE /actuator/jfr/{id}} stops it and keeps the final contents for download</li>
+ * </ul>
+ * Recordings started here never run longer than {@code app.jfr.max-duration}.
+ */
+@Endpoint(id = "jfr")
+public class JfrRecordingEndpoint {
+
+    private static final Set<String> SETTINGS = Set.of("default", "profile");
+
+    private final Path dumpDirectory;
+    private final Duration maxDuration;
+
+    public JfrRecordingEndpoint(Path dumpDirectory, Duration maxDuration) {
+        this.dumpDirectory = dumpDirectory;
+        this.maxDuration = maxDuration;
+    }
+
+    @ReadOperation
+    public List<Map<String, Object>> recordings() {
+        return FlightRecorder.getFlightRecorder().getRecordings().stream()
+            .map(JfrRecordingEndpoint::view)
+            .toList();
+    }
+
+    @WriteOperation
+    public Map<String, Object> start(@Nullable String settings, @Nullable Duration duration, @Nullable String name) {
+        String settingsName = settings != null ? settings : "default";
+        if (!SETTINGS.contains(settingsName)) {
+            throw new IllegalArgumentException("settings must be one of " + SETTINGS);
+        }
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration(settingsName);
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("Cannot read JFR settings " + settingsName, e);
+        }
+        Recording recording = new Recording(configuration);
+        recording.setName(name != null ? name : "on-demand");
+        recording.setToDisk(true);
+        recording.setDuration(duration != null && duration.compareTo(maxDuration) < 0 ? duration : maxDuration);
+        recording.start();
+        return view(recording);
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public Resource download(@Selector long id) {
+        Path file = dumpFile(id);
+        Recording recording = find(id);
+        if (recording != null && (recording.getState() == RecordingState.RUNNING
+                || recording.getState() == RecordingState.STOPPED)) {
+            dump(recording, file);
+        }
+        return Files.exists(file) ? new FileSystemResource(file) : null;
+    }
+
+    @DeleteOperation
+    public Map<String, Object> stop(@Selector long id) {
+        Recording recording = find(id);
+        if (recording == null) {
+            return null;
+        }
+        if (recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+        }
+        if (recording.getState() == RecordingState.STOPPED) {
+            dump(recording, dumpFile(id));
+        }
+        Map<String, Object> view = view(recording);
+        recording.close();
+        return view;
+    }
+
+    private Path dumpFile(long id) {
+        return dumpDirectory.resolve("recording-" + id + ".jfr");
+    }
+
+    private void dump(Recording recording, Path file) {
+        try {
+            Files.createDirectories(dumpDirectory);
+            recording.dump(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write JFR recording to " + file, e);
+        }
+    }
+
+    private static Recording find(long id) {
+        return FlightRecorder.getFlightRecorder().getRecordings().stream()
+            .filter(recording -> recording.getId() == id)
+            .findFirst()
+            .orElse(null);
+    }
+
+    private static Map<String, Object> view(Recording recording) {
+        Map<String, Object> view = new LinkedHashMap<>();
+        view.put("id", recording.getId());
+        view.put("name", recording.getName());
+        view.put("state", recording.getState().name());
+        view.put("startTime", recording.getStartTime() != null ? recording.getStartTime().toString() : null);
+        view.put("duration", recording.getDuration() != null ? recording.getDuration().toString() : null);
+        view.put("maxAge", recording.getMaxAge() != null ? recording.getMaxAge().toString() : null);
+        view.put("sizeBytes", recording.getSize());
+        return view;
+    }
+}
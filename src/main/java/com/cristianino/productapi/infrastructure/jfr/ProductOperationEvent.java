@@ -0,0 +1,31 @@
+package com.cristianino.productapi.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * Fields shared by the use case and repository events; the event's own duration is the time
+ * spent in the call.
+ */
+@Category({"Product API", "Operations"})
+@StackTrace(false)
+abstract class ProductOperationEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Product ID")
+    @Description("Product the operation targets, 0 when it is not for a single product")
+    long productId;
+
+    @Label("Rows")
+    @Description("Products returned, -1 when the result is not a product or a collection of them")
+    int rows = -1;
+
+    @Label("Failure")
+    @Description("Simple name of the exception thrown, if any")
+    String failure;
+}
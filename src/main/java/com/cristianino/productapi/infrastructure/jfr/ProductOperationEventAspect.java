@@ -0,0 +1,66 @@
+package com.cristianino.productapi.infrastructure.jfr;
+
+import com.cristianino.productapi.domain.port.ProductRepository;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.support.AopUtils;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Emits a {@link ProductUseCaseEvent} for every public {@code ProductUseCase} method and a
+ * {@link ProductRepositoryEvent} for every {@link ProductRepository} call. When neither event
+ * is enabled in the running recordings, the advice is a single check before proceeding.
+ */
+@Aspect
+public class ProductOperationEventAspect {
+
+    @Around("execution(public * com.cristianino.productapi.application.usecase.ProductUseCase.*(..))")
+    public Object useCase(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(new ProductUseCaseEvent(), joinPoint);
+    }
+
+    @Around("execution(public * com.cristianino.productapi.domain.port.ProductRepository+.*(..))")
+    public Object repository(ProceedingJoinPoint joinPoint) throws Throwable {
+        ProductRepositoryEvent event = new ProductRepositoryEvent();
+        if (event.isEnabled()) {
+            event.implementation = AopUtils.getTargetClass(joinPoint.getTarget()).getSimpleName();
+        }
+        return record(event, joinPoint);
+    }
+
+    private static Object record(ProductOperationEvent event, ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        event.operation = joinPoint.getSignature().getName();
+        event.productId = productId(joinPoint.getArgs());
+        event.begin();
+        try {
+            Object result = joinPoint.proceed();
+            event.rows = rows(result);
+            return result;
+        } catch (Throwable e) {
+            event.failure = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            event.commit();
+        }
+    }
+
+    private static long productId(Object[] args) {
+        return args.length > 0 && args[0] instanceof Long id ? id : 0;
+    }
+
+    private static int rows(Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,12 @@
+package com.cristianino.productapi.infrastructure.jfr;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.cristianino.productapi.ProductRepository")
+@Label("Product Repository Call")
+class ProductRepositoryEvent extends ProductOperationEvent {
+
+    @Label("Implementation")
+    String implementation;
+}
@@ -0,0 +1,9 @@
+package com.cristianino.productapi.infrastructure.jfr;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.cristianino.productapi.ProductUseCase")
+@Label("Product Use Case")
+class ProductUseCaseEvent extends ProductOperationEvent {
+}
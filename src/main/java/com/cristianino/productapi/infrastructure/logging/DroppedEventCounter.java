@@ -0,0 +1,17 @@
+package com.cristianino.productapi.infrastructure.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import net.logstash.logback.appender.listener.AppenderListener;
+
+/**
+ * Listener for {@code LoggingEventAsyncDisruptorAppender} that counts the events it drops when
+ * its ring buffer is full, rather than blocking the logging thread.
+ */
+public class DroppedEventCounter implements AppenderListener<ILoggingEvent> {
+
+    @Override
+    public void eventAppendFailed(Appender<ILoggingEvent> appender, ILoggingEvent event, Throwable reason) {
+        LogEventCounters.dropped();
+    }
+}
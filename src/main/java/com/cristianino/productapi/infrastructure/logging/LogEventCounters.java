@@ -0,0 +1,36 @@
+package com.cristianino.productapi.infrastructure.logging;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Process-wide tallies of log events that never reached an appender. Logback creates its
+ * components before the Spring context exists, so they report here and
+ * {@link com.cristianino.productapi.infrastructure.config.LoggingConfig} exposes the
+ * counts as meters.
+ */
+public final class LogEventCounters {
+
+    private static final LongAdder DROPPED = new LongAdder();
+    private static final LongAdder SAMPLED_OUT = new LongAdder();
+
+    private LogEventCounters() {
+    }
+
+    static void dropped() {
+        DROPPED.increment();
+    }
+
+    static void sampledOut() {
+        SAMPLED_OUT.increment();
+    }
+
+    /** Events discarded because an async appender's ring buffer was full. */
+    public static long droppedCount() {
+        return DROPPED.sum();
+    }
+
+    /** Events discarded because their logger exceeded its per-second budget. */
+    public static long sampledOutCount() {
+        return SAMPLED_OUT.sum();
+    }
+}
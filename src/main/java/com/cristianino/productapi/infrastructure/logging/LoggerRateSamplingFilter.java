@@ -0,0 +1,111 @@
+package com.cristianino.productapi.infrastructure.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caps how many events below WARN each logger may emit per second; the rest are denied before
+ * logback builds an event for them and counted in {@link LogEventCounters#sampledOutCount()}.
+ * WARN and ERROR always pass.
+ * <p>
+ * An {@code isXxxEnabled()} check answers whether the logger still has budget this second
+ * without spending it, so callers that guard expensive arguments skip building them once the
+ * logger is being sampled.
+ * <p>
+ * Loggers whose every line matters, such as the access log, are exempt along with their
+ * children: {@value #ACCESS_LOGGER} by default, others with {@code <exemptLogger>}.
+ */
+public class LoggerRateSamplingFilter extends TurboFilter {
+
+    /** One line per request; sampling it would lose requests rather than noise. */
+    public static final String ACCESS_LOGGER = "com.cristianino.productapi.access";
+
+    private static final Window EXEMPT = new Window();
+
+    private int maxEventsPerSecond = 100;
+
+    private final Set<String> exemptLoggers = new CopyOnWriteArraySet<>(Set.of(ACCESS_LOGGER));
+    private final ConcurrentMap<String, Window> windows = new ConcurrentHashMap<>();
+
+    public void setMaxEventsPerSecond(int maxEventsPerSecond) {
+        this.maxEventsPerSecond = maxEventsPerSecond;
+    }
+
+    public int getMaxEventsPerSecond() {
+        return maxEventsPerSecond;
+    }
+
+    public void addExemptLogger(String name) {
+        exemptLoggers.add(name);
+        windows.clear();
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (!isStarted() || maxEventsPerSecond <= 0 || level.isGreaterOrEqual(Level.WARN)
+                || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        Window window = windows.get(logger.getName());
+        if (window == null) {
+            window = windows.computeIfAbsent(logger.getName(), name -> isExempt(name) ? EXEMPT : new Window());
+        }
+        if (window == EXEMPT) {
+            return FilterReply.NEUTRAL;
+        }
+        long second = System.nanoTime() / 1_000_000_000L;
+        if (format == null && params == null && t == null) {
+            return window.exhausted(second, maxEventsPerSecond) ? FilterReply.DENY : FilterReply.NEUTRAL;
+        }
+        if (window.tryAcquire(second, maxEventsPerSecond)) {
+            return FilterReply.NEUTRAL;
+        }
+        LogEventCounters.sampledOut();
+        return FilterReply.DENY;
+    }
+
+    private boolean isExempt(String name) {
+        for (String exempt : exemptLoggers) {
+            if (name.equals(exempt) || name.startsWith(exempt + ".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Events emitted by one logger in the current second, packed as {@code second << 32 | count}
+     * so both move together in a single compare-and-set.
+     */
+    private static final class Window {
+
+        private final AtomicLong state = new AtomicLong();
+
+        boolean tryAcquire(long second, int limit) {
+            while (true) {
+                long current = state.get();
+                long count = current >>> 32 == (second & 0xFFFFFFFFL) ? current & 0xFFFFFFFFL : 0;
+                if (count >= limit) {
+                    return false;
+                }
+                if (state.compareAndSet(current, (second & 0xFFFFFFFFL) << 32 | (count + 1))) {
+                    return true;
+                }
+            }
+        }
+
+        boolean exhausted(long second, int limit) {
+            long current = state.get();
+            return current >>> 32 == (second & 0xFFFFFFFFL) && (current & 0xFFFFFFFFL) >= limit;
+        }
+    }
+}
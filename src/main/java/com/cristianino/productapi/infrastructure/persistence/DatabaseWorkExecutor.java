@@ -0,0 +1,138 @@
+package com.cristianino.productapi.infrastructure.persistence;
+
+import io.micrometer.context.ContextSnapshot;
+import io.micrometer.context.ContextSnapshotFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs units of database work off the request thread, on a pool no larger than the connection
+ * pool so that workers never queue for a connection; excess work waits in a bounded queue and is
+ * rejected with {@link java.util.concurrent.RejectedExecutionException} once that is full.
+ * <p>
+ * Each unit gets a deadline of {@code timeout} from submission. Work still queued when it passes
+ * is dropped and its future fails with {@link TimeoutException}. Work already running is in a
+ * transaction that times out within a second or two after the deadline, which Hibernate applies
+ * as the JDBC query timeout of every statement so the database cancels the query in flight.
+ * <p>
+ * A running read is abandoned at the deadline. A running write is not: its transaction outlives
+ * the deadline and a timeout does not stop a commit, so the future waits for the real outcome
+ * instead of reporting a timeout for a write that may still commit. A write whose transaction
+ * times out fails with {@link WriteTimeoutException}.
+ * <p>
+ * The submitting request's traffic lane, SQL recording and trace context carry over to the
+ * worker.
+ */
+public class DatabaseWorkExecutor implements AutoCloseable {
+
+    private static final ContextSnapshotFactory SNAPSHOTS = ContextSnapshotFactory.builder().build();
+
+    private final PlatformTransactionManager transactionManager;
+    private final Duration timeout;
+    private final ExecutorService pool;
+
+    public DatabaseWorkExecutor(PlatformTransactionManager transactionManager, int poolSize, int queueCapacity,
+                                Duration timeout, MeterRegistry meterRegistry) {
+        this.transactionManager = transactionManager;
+        this.timeout = timeout;
+        AtomicInteger threads = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                Thread thread = new Thread(runnable, "product-db-" + threads.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        this.pool = ExecutorServiceMetrics.monitor(meterRegistry, executor, "product.db.work");
+    }
+
+    /**
+     * Runs {@code work} in a transaction on the pool.
+     *
+     * @throws java.util.concurrent.RejectedExecutionException when the pool and its queue are full
+     */
+    public <T> CompletableFuture<T> submit(boolean readOnly, Supplier<T> work) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        CompletableFuture<T> result = new CompletableFuture<>();
+        ContextSnapshot context = SNAPSHOTS.captureAll();
+        TrafficLane lane = TrafficLane.current();
+        SqlStatementRecorder.Recording recording = SqlStatementRecorder.current();
+        // Whoever claims the unit first decides its fate: the worker runs it, the deadline drops it
+        AtomicBoolean claimed = new AtomicBoolean();
+        pool.execute(context.wrap(() -> {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0 || !claimed.compareAndSet(false, true)) {
+                result.completeExceptionally(new TimeoutException("Timed out waiting for a database worker"));
+                return;
+            }
+            TrafficLane previousLane = TrafficLane.current();
+            SqlStatementRecorder.Recording previousRecording = SqlStatementRecorder.current();
+            bind(lane, recording);
+            try {
+                result.complete(transaction(readOnly, remaining).execute(status -> work.get()));
+            } catch (Throwable e) {
+                result.completeExceptionally(!readOnly && timedOut(e, deadline) ? new WriteTimeoutException(e) : e);
+            } finally {
+                bind(previousLane, previousRecording);
+            }
+        }));
+        if (readOnly) {
+            return result.orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        }
+        CompletableFuture.delayedExecutor(timeout.toNanos(), TimeUnit.NANOSECONDS).execute(() -> {
+            if (claimed.compareAndSet(false, true)) {
+                result.completeExceptionally(new TimeoutException("Timed out waiting for a database worker"));
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Hibernate rounds the transaction time left down to whole seconds and refuses statements
+     * once it reaches zero, reporting that as a generic {@code JpaSystemException}; any data
+     * access failure past the deadline is therefore treated as the transaction timing out.
+     */
+    private static boolean timedOut(Throwable e, long deadline) {
+        return e instanceof QueryTimeoutException || e instanceof TransactionTimedOutException
+            || (e instanceof DataAccessException || e instanceof TransactionException) && deadline - System.nanoTime() <= 0;
+    }
+
+    private TransactionTemplate transaction(boolean readOnly, long remainingNanos) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        // Transaction timeouts are whole seconds, and Hibernate refuses statements once less than a
+        // whole second of it is left; round up and add one so statements may run until the deadline
+        template.setTimeout((int) TimeUnit.NANOSECONDS.toSeconds(remainingNanos + 999_999_999L) + 1);
+        return template;
+    }
+
+    private static void bind(TrafficLane lane, SqlStatementRecorder.Recording recording) {
+        if (lane != null) {
+            TrafficLane.enter(lane);
+        } else {
+            TrafficLane.exit();
+        }
+        SqlStatementRecorder.bind(recording);
+    }
+
+    @Override
+    public void close() {
+        pool.shutdownNow();
+    }
+}
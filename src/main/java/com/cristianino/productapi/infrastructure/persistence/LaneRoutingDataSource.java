@@ -0,0 +1,52 @@
+package com.cristianino.productapi.infrastructure.persistence;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Hands out connections from the pool of the calling thread's {@link TrafficLane}. Lanes without
+ * a pool of their own, and work outside any request, use the primary pool, which is also what
+ * {@code unwrap} reaches, so pool metrics and health checks see one ordinary data source.
+ */
+public class LaneRoutingDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    private final Map<TrafficLane, DataSource> lanePools;
+
+    public LaneRoutingDataSource(DataSource primary, Map<TrafficLane, ? extends DataSource> lanePools) {
+        super(primary);
+        this.lanePools = new EnumMap<>(TrafficLane.class);
+        this.lanePools.putAll(lanePools);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return poolFor(TrafficLane.current()).getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return poolFor(TrafficLane.current()).getConnection(username, password);
+    }
+
+    public DataSource poolFor(TrafficLane lane) {
+        DataSource pool = lane != null ? lanePools.get(lane) : null;
+        return pool != null ? pool : obtainTargetDataSource();
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (DataSource pool : lanePools.values()) {
+            if (pool instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+        if (obtainTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.cristianino.productapi.infrastructure.persistence;
+
+import com.cristianino.productapi.domain.model.Money;
+import com.cristianino.productapi.domain.model.Product;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Read-only, memory-mapped catalog snapshot file. Lookups binary-search the mapped id section
+ * and decode a single record, so the catalog is usable straight after {@link #open} without
+ * copying it onto the heap.
+ * <p>
+ * Layout (big-endian):
+ * <pre>
+ * header   int magic, short format, short reserved, long sequence, long builtAtMillis,
+ *          int count, int crc32 of everything after the header
+ * ids      long[count], ascending
+ * offsets  int[count], record start relative to the records section
+ * records  unsigned short nameLength, UTF-8 name, byte priceScale, long unscaledPrice
+ * </pre>
+ * {@code sequence} is the product outbox position the contents are known to include, which
+ * lets a restarted instance catch up from the change log instead of reloading everything.
+ */
+public final class ProductCatalogFile {
+
+    private static final int MAGIC = 0x50434146; // "PCAF"
+    private static final short FORMAT = 1;
+    private static final int HEADER_SIZE = 32;
+    private static final int CRC_OFFSET = 28;
+
+    private final MappedByteBuffer buffer;
+    private final long sequence;
+    private final Instant builtAt;
+    private final int count;
+    private final int offsetsStart;
+    private final int recordsStart;
+
+    private ProductCatalogFile(MappedByteBuffer buffer) {
+        this.buffer = buffer;
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IllegalStateException("Not a product catalog file");
+        }
+        if (buffer.getShort(4) != FORMAT) {
+            throw new IllegalStateException("Unsupported product catalog file format " + buffer.getShort(4));
+        }
+        this.sequence = buffer.getLong(8);
+        this.builtAt = Instant.ofEpochMilli(buffer.getLong(16));
+        this.count = buffer.getInt(24);
+        if (count < 0 || HEADER_SIZE + (long) count * (Long.BYTES + Integer.BYTES) > buffer.capacity()) {
+            throw new IllegalStateException("Truncated product catalog file");
+        }
+        this.offsetsStart = HEADER_SIZE + count * Long.BYTES;
+        this.recordsStart = offsetsStart + count * Integer.BYTES;
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(HEADER_SIZE, buffer.capacity() - HEADER_SIZE));
+        if ((int) crc.getValue() != buffer.getInt(CRC_OFFSET)) {
+            throw new IllegalStateException("Product catalog file checksum mismatch");
+        }
+    }
+
+    /**
+     * Maps {@code path} read-only and validates its header and checksum.
+     */
+    public static ProductCatalogFile open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IllegalStateException("Product catalog file exceeds 2 GB");
+            }
+            return new ProductCatalogFile(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Writes {@code snapshot} next to {@code path} and atomically moves it into place, so readers
+     * never observe a partial file. Existing mappings of the replaced file stay valid.
+     */
+    public static void write(Path path, ProductCatalogSnapshot snapshot, long sequence) throws IOException {
+        List<Product> products = snapshot.findAll();
+        byte[][] names = new byte[products.size()][];
+        int[] offsets = new int[products.size()];
+        long recordsSize = 0;
+        for (int i = 0; i < products.size(); i++) {
+            names[i] = products.get(i).getName().getBytes(StandardCharsets.UTF_8);
+            if (names[i].length > 0xFFFF) {
+                throw new IllegalArgumentException("Product name too long for catalog file: " + products.get(i).getId());
+            }
+            offsets[i] = (int) recordsSize;
+            recordsSize += Short.BYTES + names[i].length + Byte.BYTES + Long.BYTES;
+            if (HEADER_SIZE + (long) products.size() * (Long.BYTES + Integer.BYTES) + recordsSize > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Catalog too large for a single catalog file");
+            }
+        }
+
+        Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            channel.position(HEADER_SIZE);
+            CRC32 crc = new CRC32();
+            DataOutputStream out = new DataOutputStream(new CheckedOutputStream(
+                new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16), crc));
+            for (Product product : products) {
+                out.writeLong(product.getId());
+            }
+            for (int offset : offsets) {
+                out.writeInt(offset);
+            }
+            for (int i = 0; i < products.size(); i++) {
+                out.writeShort(names[i].length);
+                out.write(names[i]);
+                out.writeByte(Money.SCALE);
+                out.writeLong(products.get(i).getPrice().minorUnits());
+            }
+            out.flush();
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.BIG_ENDIAN)
+                .putInt(MAGIC)
+                .putShort(FORMAT)
+                .putShort((short) 0)
+                .putLong(sequence)
+                .putLong(snapshot.builtAt().toEpochMilli())
+                .putInt(products.size())
+                .putInt((int) crc.getValue())
+                .flip();
+            channel.write(header, 0);
+            channel.force(true);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public long sequence() {
+        return sequence;
+    }
+
+    public Instant builtAt() {
+        return builtAt;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public Optional<Product> findById(long id) {
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midId = buffer.getLong(HEADER_SIZE + mid * Long.BYTES);
+            if (midId < id) {
+                low = mid + 1;
+            } else if (midId > id) {
+                high = mid - 1;
+            } else {
+                return Optional.of(read(mid));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Decodes every product in id order.
+     */
+    public List<Product> findAll() {
+        List<Product> products = new ArrayList<>(count);
+        forEach(products::add);
+        return products;
+    }
+
+    public void forEach(Consumer<Product> action) {
+        for (int i = 0; i < count; i++) {
+            action.accept(read(i));
+        }
+    }
+
+    private Product read(int index) {
+        long id = buffer.getLong(HEADER_SIZE + index * Long.BYTES);
+        int position = recordsStart + buffer.getInt(offsetsStart + index * Integer.BYTES);
+        int nameLength = Short.toUnsignedInt(buffer.getShort(position));
+        byte[] name = new byte[nameLength];
+        buffer.get(position + Short.BYTES, name);
+        int pricePosition = position + Short.BYTES + nameLength;
+        byte scale = buffer.get(pricePosition);
+        long unscaled = buffer.getLong(pricePosition + Byte.BYTES);
+        Money price = scale == Money.SCALE ? Money.ofMinor(unscaled) : Money.of(BigDecimal.valueOf(unscaled, scale));
+        return new Product(id, new String(name, StandardCharsets.UTF_8), price);
+    }
+}
@@ -0,0 +1,112 @@
+package com.cristianino.productapi.infrastructure.persistence;
+
+import com.cristianino.productapi.domain.model.Product;
+import com.cristianino.productapi.domain.model.ProductChange;
+import com.cristianino.productapi.domain.model.ProductChangeType;
+import com.cristianino.productapi.domain.port.ProductOutbox;
+import com.cristianino.productapi.domain.port.ProductRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Local catalog file used to warm-start the catalog snapshot. The file found at startup is
+ * mapped right away and can serve reads until the first load completes; that load replays
+ * the product outbox from the file's sequence instead of reading the whole table, and falls
+ * back to a full read when the file is missing, unreadable or older than the outbox horizon.
+ */
+public class ProductCatalogFileStore implements ProductCatalogSnapshotManager.CatalogSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductCatalogFileStore.class);
+
+    private final Path path;
+    private final ProductRepository repository;
+    private final ProductOutbox outbox;
+    private final int pageSize;
+    private volatile ProductCatalogFile warmCatalog;
+
+    public ProductCatalogFileStore(Path path, ProductRepository repository, ProductOutbox outbox, int pageSize) {
+        this.path = path;
+        this.repository = repository;
+        this.outbox = outbox;
+        this.pageSize = pageSize;
+        this.warmCatalog = openExisting(path);
+    }
+
+    /**
+     * The file mapped at startup, until the first load has replaced it.
+     */
+    public Optional<ProductCatalogFile> warmCatalog() {
+        return Optional.ofNullable(warmCatalog);
+    }
+
+    @Override
+    public Collection<Product> loadCatalog() {
+        ProductCatalogFile file = warmCatalog;
+        if (file == null) {
+            return repository.findAll();
+        }
+        long horizon = outbox.horizon();
+        if (file.sequence() < horizon) {
+            logger.info("Catalog file at sequence {} is older than change log horizon {}, reloading from the database",
+                file.sequence(), horizon);
+            Collection<Product> catalog = repository.findAll();
+            warmCatalog = null;
+            return catalog;
+        }
+
+        Map<Long, Product> catalog = new HashMap<>(Math.max(16, (int) (file.size() / 0.75f) + 1));
+        file.forEach(product -> catalog.put(product.getId(), product));
+        long cursor = file.sequence();
+        int applied = 0;
+        while (true) {
+            List<ProductChange> page = outbox.findLatestChanges(cursor, Long.MAX_VALUE, pageSize);
+            for (ProductChange change : page) {
+                if (change.type() == ProductChangeType.DELETED) {
+                    catalog.remove(change.productId());
+                } else {
+                    catalog.put(change.productId(), new Product(change.productId(), change.name(), change.price()));
+                }
+                cursor = change.sequence();
+            }
+            applied += page.size();
+            if (page.size() < pageSize) {
+                break;
+            }
+        }
+        logger.info("Warm-started catalog from file at sequence {} with {} products, replayed {} changes up to sequence {}",
+            file.sequence(), file.size(), applied, cursor);
+        warmCatalog = null;
+        return catalog.values();
+    }
+
+    /**
+     * Persists {@code snapshot}; {@code sequence} must be an outbox position whose changes, and
+     * all earlier ones, are reflected in the snapshot.
+     */
+    public void write(ProductCatalogSnapshot snapshot, long sequence) throws IOException {
+        ProductCatalogFile.write(path, snapshot, sequence);
+    }
+
+    private static ProductCatalogFile openExisting(Path path) {
+        if (!Files.exists(path)) {
+            return null;
+        }
+        try {
+            ProductCatalogFile file = ProductCatalogFile.open(path);
+            logger.info("Mapped catalog file {} with {} products at sequence {}", path, file.size(), file.sequence());
+            return file;
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Ignoring unreadable catalog file {}: {}", path, e.getMessage());
+            return null;
+        }
+    }
+}
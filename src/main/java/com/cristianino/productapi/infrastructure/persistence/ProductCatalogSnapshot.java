@@ -0,0 +1,116 @@
+package com.cristianino.productapi.infrastructure.persistence;
+
+import com.cristianino.productapi.domain.model.Product;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Immutable copy of the whole catalog, sorted by id. Lookups go through a {@link ProductIdIndex}
+ * built once per snapshot; changes produce a new snapshot instead of mutating this one, so readers
+ * never lock.
+ * Products handed out are shared between readers and must not be mutated.
+ */
+public final class ProductCatalogSnapshot {
+
+    private static final ProductCatalogSnapshot EMPTY = new ProductCatalogSnapshot(new long[0], new Product[0], 0, Instant.EPOCH);
+
+    private final long[] ids;
+    private final Product[] products;
+    private final List<Product> productList;
+    private final ProductIdIndex index;
+    private final long version;
+    private final Instant builtAt;
+
+    private ProductCatalogSnapshot(long[] ids, Product[] products, long version, Instant builtAt) {
+        this.ids = ids;
+        this.products = products;
+        this.productList = Collections.unmodifiableList(Arrays.asList(products));
+        this.index = new ProductIdIndex(ids.length);
+        for (int i = 0; i < ids.length; i++) {
+            index.put(ids[i], products[i]);
+        }
+        this.version = version;
+        this.builtAt = builtAt;
+    }
+
+    public static ProductCatalogSnapshot empty() {
+        return EMPTY;
+    }
+
+    public static ProductCatalogSnapshot of(Collection<Product> catalog, long version, Instant builtAt) {
+        Product[] sorted = catalog.toArray(new Product[0]);
+        Arrays.sort(sorted, (a, b) -> Long.compare(a.getId(), b.getId()));
+        long[] ids = new long[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            ids[i] = sorted[i].getId();
+        }
+        return new ProductCatalogSnapshot(ids, sorted, version, builtAt);
+    }
+
+    /**
+     * New snapshot with {@code upserts} inserted or replaced and {@code deletes} removed,
+     * merged in one pass over the current arrays.
+     */
+    public ProductCatalogSnapshot withChanges(Map<Long, Product> upserts, Set<Long> deletes, long newVersion, Instant builtAt) {
+        long[] changedIds = upserts.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+        long[] mergedIds = new long[ids.length + changedIds.length];
+        Product[] mergedProducts = new Product[mergedIds.length];
+        int i = 0;
+        int j = 0;
+        int size = 0;
+        while (i < ids.length || j < changedIds.length) {
+            long id;
+            Product product;
+            if (j >= changedIds.length || (i < ids.length && ids[i] < changedIds[j])) {
+                id = ids[i];
+                product = products[i++];
+            } else {
+                id = changedIds[j++];
+                product = upserts.get(id);
+                if (i < ids.length && ids[i] == id) {
+                    i++;
+                }
+            }
+            if (deletes.contains(id)) {
+                continue;
+            }
+            mergedIds[size] = id;
+            mergedProducts[size++] = product;
+        }
+        return new ProductCatalogSnapshot(Arrays.copyOf(mergedIds, size), Arrays.copyOf(mergedProducts, size), newVersion, builtAt);
+    }
+
+    public Optional<Product> findById(long id) {
+        return Optional.ofNullable(index.get(id));
+    }
+
+    public boolean contains(long id) {
+        return index.containsKey(id);
+    }
+
+    /**
+     * All products in id order, as an unmodifiable view over the snapshot array.
+     */
+    public List<Product> findAll() {
+        return productList;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public Instant builtAt() {
+        return builtAt;
+    }
+}
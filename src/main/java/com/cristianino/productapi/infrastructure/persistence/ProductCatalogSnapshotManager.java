@@ -0,0 +1,250 @@
+package com.cristianino.productapi.infrastructure.persistence;
+
+import com.cristianino.productapi.domain.model.Money;
+import com.cristianino.productapi.domain.model.Product;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Maintains the in-memory {@link ProductCatalogSnapshot}. A dedicated connection LISTENs on
+ * {@code product_changes} (see V5 migration) before the full catalog is loaded, so no commit
+ * can fall between the load and the first notification. Each batch of notifications is merged
+ * into a new snapshot and published atomically; a statement that changed too many rows to list
+ * in its notification triggers a full reload instead.
+ * <p>
+ * The connection is checked with a lightweight query every {@code heartbeat-interval}; the
+ * last successful check bounds how stale the snapshot can be. When the connection drops the
+ * snapshot is reported stale until a reconnect has reloaded it.
+ */
+public class ProductCatalogSnapshotManager implements SmartLifecycle {
+
+    static final String CHANNEL = "product_changes";
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductCatalogSnapshotManager.class);
+
+    private final CatalogSource source;
+    private final ListenConnectionFactory connectionFactory;
+    private final ObjectMapper objectMapper;
+    private final Duration pollInterval;
+    private final Duration heartbeatInterval;
+    private final Duration reconnectDelay;
+    private final AtomicReference<ProductCatalogSnapshot> snapshot = new AtomicReference<>(ProductCatalogSnapshot.empty());
+
+    private volatile boolean running;
+    private volatile boolean listening;
+    private volatile Instant lastConfirmedAt = Instant.EPOCH;
+    private volatile Instant lastChangeCommittedAt;
+    private volatile Instant lastChangeAppliedAt;
+    private Thread listenerThread;
+
+    public ProductCatalogSnapshotManager(CatalogSource source, ListenConnectionFactory connectionFactory,
+                                         ObjectMapper objectMapper, Duration pollInterval,
+                                         Duration heartbeatInterval, Duration reconnectDelay) {
+        this.source = source;
+        this.connectionFactory = connectionFactory;
+        this.objectMapper = objectMapper;
+        this.pollInterval = pollInterval;
+        this.heartbeatInterval = heartbeatInterval;
+        this.reconnectDelay = reconnectDelay;
+    }
+
+    public ProductCatalogSnapshot snapshot() {
+        return snapshot.get();
+    }
+
+    /**
+     * True while the snapshot is known to be no older than {@code maxStaleness}.
+     */
+    public boolean isFresh(Duration maxStaleness) {
+        return listening && staleness().compareTo(maxStaleness) <= 0;
+    }
+
+    public boolean isListening() {
+        return listening;
+    }
+
+    /**
+     * True once the listener has confirmed the snapshot includes every change committed before {@code instant}.
+     */
+    public boolean isConfirmedSince(Instant instant) {
+        return listening && lastConfirmedAt.isAfter(instant);
+    }
+
+    /**
+     * Time since the listener last confirmed it had received every committed change.
+     */
+    public Duration staleness() {
+        return Duration.between(lastConfirmedAt, Instant.now());
+    }
+
+    /**
+     * Delay between the last applied change being written and being visible in the snapshot.
+     */
+    public Duration lag() {
+        Instant committed = lastChangeCommittedAt;
+        Instant applied = lastChangeAppliedAt;
+        return committed == null || applied == null ? Duration.ZERO : Duration.between(committed, applied);
+    }
+
+    public Instant lastChangeAppliedAt() {
+        return lastChangeAppliedAt;
+    }
+
+    void reload() {
+        Instant loadStartedAt = Instant.now();
+        Collection<Product> catalog = source.loadCatalog();
+        long version = snapshot.get().version() + 1;
+        snapshot.set(ProductCatalogSnapshot.of(catalog, version, Instant.now()));
+        lastConfirmedAt = loadStartedAt;
+        logger.info("Loaded catalog snapshot v{} with {} products", version, catalog.size());
+    }
+
+    /**
+     * Applies notification payloads in delivery (commit) order as one new snapshot version. A
+     * payload lists the rows changed by one statement, or is a single row as sent before V5.
+     */
+    void apply(List<String> payloads) {
+        Map<Long, Product> upserts = new HashMap<>();
+        Set<Long> deletes = new HashSet<>();
+        Instant committedAt = null;
+        for (String payload : payloads) {
+            try {
+                JsonNode change = objectMapper.readTree(payload);
+                String op = change.path("op").asText();
+                if ("RELOAD".equals(op)) {
+                    // The reload reads every commit delivered so far, this batch included
+                    reload();
+                    return;
+                }
+                Iterable<JsonNode> rows = change.has("rows") ? change.path("rows") : List.of(change);
+                for (JsonNode row : rows) {
+                    long id = row.path("id").asLong();
+                    if ("DELETE".equals(op)) {
+                        upserts.remove(id);
+                        deletes.add(id);
+                    } else {
+                        deletes.remove(id);
+                        upserts.put(id, new Product(id, row.path("name").asText(), Money.of(row.path("price").decimalValue())));
+                    }
+                }
+                if (change.has("at")) {
+                    committedAt = Instant.ofEpochMilli((long) (change.path("at").asDouble() * 1000));
+                }
+            } catch (Exception e) {
+                logger.warn("Ignoring malformed product change notification: {}", e.getMessage());
+            }
+        }
+        if (upserts.isEmpty() && deletes.isEmpty()) {
+            return;
+        }
+        ProductCatalogSnapshot current = snapshot.get();
+        Instant now = Instant.now();
+        snapshot.set(current.withChanges(upserts, deletes, current.version() + 1, now));
+        lastChangeCommittedAt = committedAt;
+        lastChangeAppliedAt = now;
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = connectionFactory.connect()) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                reload();
+                listening = true;
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                Instant nextHeartbeat = Instant.now().plus(heartbeatInterval);
+                while (running) {
+                    applyNotifications(pgConnection.getNotifications((int) pollInterval.toMillis()));
+                    if (Instant.now().isAfter(nextHeartbeat)) {
+                        Instant checkedAt = Instant.now();
+                        try (Statement statement = connection.createStatement()) {
+                            statement.execute("SELECT 1");
+                        }
+                        // Commits that preceded the round trip are delivered with its response
+                        applyNotifications(pgConnection.getNotifications());
+                        lastConfirmedAt = checkedAt;
+                        nextHeartbeat = checkedAt.plus(heartbeatInterval);
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                listening = false;
+                if (running) {
+                    logger.warn("Catalog snapshot listener disconnected, reconnecting in {}: {}", reconnectDelay, e.getMessage());
+                    sleep(reconnectDelay);
+                }
+            }
+        }
+        listening = false;
+    }
+
+    private void applyNotifications(PGNotification[] notifications) {
+        if (notifications != null && notifications.length > 0) {
+            apply(Arrays.stream(notifications).map(PGNotification::getParameter).toList());
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        listenerThread = new Thread(this::listen, "product-catalog-snapshot");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Supplies the full catalog the snapshot is rebuilt from after (re)connecting.
+     */
+    @FunctionalInterface
+    public interface CatalogSource {
+        Collection<Product> loadCatalog();
+    }
+
+    /**
+     * Opens the dedicated LISTEN connection, kept outside the application pool.
+     */
+    @FunctionalInterface
+    public interface ListenConnectionFactory {
+        Connection connect() throws SQLException;
+    }
+}
@@ -0,0 +1,44 @@
+package com.cristianino.productapi.infrastructure.persistence;
+
+import jakarta.persistence.*;
+
+/**
+ * Single-row table holding the highest purged tombstone sequence. Delta-sync cursors
+ * below it can no longer see every deletion.
+ */
+@Entity
+@Table(name = "product_change_horizon")
+public class ProductChangeHorizonEntity {
+    
+    public static final short SINGLETON_ID = 1;
+    
+    @Id
+    @Column(name = "id")
+    private Short id;
+    
+    @Column(name = "sequence", nullable = false)
+    private Long sequence;
+    
+    public ProductChangeHorizonEntity() {}
+    
+    public ProductChangeHorizonEntity(Long sequence) {
+        this.id = SINGLETON_ID;
+        this.sequence = sequence;
+    }
+    
+    public Short getId() {
+        return id;
+    }
+    
+    public void setId(Short id) {
+        this.id = id;
+    }
+    
+    public Long getSequence() {
+        return sequence;
+    }
+    
+    public void setSequence(Long sequence) {
+        this.sequence = sequence;
+    }
+}
@@ -0,0 +1,8 @@
+package com.cristianino.productapi.infrastructure.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ProductChangeHorizonJpaRepository extends JpaRepository<ProductChangeHorizonEntity, Short> {
+}
@@ -0,0 +1,50 @@
+package com.cristianino.productapi.infrastructure.persistence;
+
+import com.cristianino.productapi.application.dto.client.ProductClientDto;
+import com.cristianino.productapi.application.port.ProductClientQueryPort;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@Transactional(readOnly = true)
+public class ProductClientQueryAdapter implements ProductClientQueryPort {
+    
+    private final ProductClientQueryRepository queryRepository;
+    
+    public ProductClientQueryAdapter(ProductClientQueryRepository queryRepository) {
+        this.queryRepository = queryRepository;
+    }
+    
+    @Override
+    public List<ProductClientDto> findPage(int page, int size) {
+        return queryRepository.findPage(PageRequest.of(page, size));
+    }
+    
+    @Override
+    public long count() {
+        return queryRepository.count();
+    }
+    
+    @Override
+    public Optional<ProductClientDto> findById(Long id) {
+        return queryRepository.findProjectedById(id);
+    }
+    
+    @Override
+    public List<ProductClientDto> findByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return queryRepository.findProjectedByIds(ids);
+    }
+    
+    @Override
+    public boolean existsById(Long id) {
+        return queryRepository.existsById(id);
+    }
+}
@@ -0,0 +1,33 @@
+package com.cristianino.productapi.infrastructure.persistence;
+
+import com.cristianino.productapi.application.dto.client.ProductClientDto;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Constructor projections over the products table for the internal API.
+ */
+public interface ProductClientQueryRepository extends Repository<ProductEntity, Long> {
+
+    @Query("select new com.cristianino.productapi.application.dto.client.ProductClientDto(p.id, p.name, p.price) " +
+           "from ProductEntity p order by p.id")
+    List<ProductClientDto> findPage(Pageable pageable);
+
+    @Query("select new com.cristianino.productapi.application.dto.client.ProductClientDto(p.id, p.name, p.price) " +
+           "from ProductEntity p where p.id = :id")
+    Optional<ProductClientDto> findProjectedById(@Param("id") Long id);
+
+    @Query("select new com.cristianino.productapi.application.dto.client.ProductClientDto(p.id, p.name, p.price) " +
+           "from ProductEntity p where p.id in :ids order by p.id")
+    List<ProductClientDto> findProjectedByIds(@Param("ids") Collection<Long> ids);
+
+    long count();
+
+    boolean existsById(Long id);
+}
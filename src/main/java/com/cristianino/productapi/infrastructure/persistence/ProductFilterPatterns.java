@@ -0,0 +1,35 @@
+package com.cristianino.productapi.infrastructure.persistence;
+
+import com.cristianino.productapi.domain.model.Money;
+import com.cristianino.productapi.domain.model.ProductFilter;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+
+/**
+ * Translates {@link ProductFilter} criteria into query parameters.
+ */
+final class ProductFilterPatterns {
+
+    private ProductFilterPatterns() {
+    }
+
+    /**
+     * Lower-cased {@code LIKE} pattern matching the filter name anywhere, with wildcards in the
+     * name escaped by {@code \}, or {@code null} when the filter has no name criterion.
+     */
+    static String namePattern(ProductFilter filter) {
+        if (filter.name() == null) {
+            return null;
+        }
+        String escaped = filter.name().toLowerCase(Locale.ROOT)
+            .replace("\\", "\\\\")
+            .replace("%", "\\%")
+            .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+
+    static BigDecimal amount(Money money) {
+        return money != null ? money.toBigDecimal() : null;
+    }
+}
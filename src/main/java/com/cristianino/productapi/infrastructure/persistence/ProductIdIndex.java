@@ -0,0 +1,212 @@
+package com.cristianino.productapi.infrastructure.persistence;
+
+import com.cristianino.productapi.domain.model.Product;
+
+import java.util.Collection;
+import java.util.function.Consumer;
+
+/**
+ * Open-addressing hash index from primitive {@code long} product ids to products.
+ * <p>
+ * Keys live in a flat {@code long[]} next to a parallel {@code Product[]}, probed linearly, so a
+ * lookup neither boxes the id nor follows a per-entry node. Slot key {@code 0} marks an empty
+ * slot; a product with id 0 is kept in a dedicated field. Removal shifts the following run back
+ * instead of leaving tombstones, so lookups never degrade after churn.
+ * <p>
+ * Not thread-safe. Callers that share an index between threads must publish it safely and stop
+ * mutating it, as {@link ProductCatalogSnapshot} does.
+ */
+public final class ProductIdIndex {
+
+    private static final float LOAD_FACTOR = 0.75f;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private long[] keys;
+    private Product[] values;
+    private int mask;
+    private int size;
+    private int resizeThreshold;
+    private Product zeroValue;
+
+    public ProductIdIndex() {
+        this(16);
+    }
+
+    public ProductIdIndex(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size must not be negative");
+        }
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * Index of every product in {@code products}, sized up front so it never rehashes while filling.
+     */
+    public static ProductIdIndex of(Collection<Product> products) {
+        ProductIdIndex index = new ProductIdIndex(products.size());
+        products.forEach(product -> index.put(product.getId(), product));
+        return index;
+    }
+
+    public Product get(long id) {
+        if (id == 0) {
+            return zeroValue;
+        }
+        long[] keys = this.keys;
+        int mask = this.mask;
+        for (int slot = slot(id, mask); ; slot = (slot + 1) & mask) {
+            long key = keys[slot];
+            if (key == id) {
+                return values[slot];
+            }
+            if (key == 0) {
+                return null;
+            }
+        }
+    }
+
+    public boolean containsKey(long id) {
+        return get(id) != null;
+    }
+
+    /**
+     * Associates {@code product} with {@code id}, returning the product it replaced, if any.
+     */
+    public Product put(long id, Product product) {
+        if (product == null) {
+            throw new IllegalArgumentException("Product cannot be null");
+        }
+        if (id == 0) {
+            Product previous = zeroValue;
+            zeroValue = product;
+            if (previous == null) {
+                size++;
+            }
+            return previous;
+        }
+        int slot = slot(id, mask);
+        while (keys[slot] != 0) {
+            if (keys[slot] == id) {
+                Product previous = values[slot];
+                values[slot] = product;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = id;
+        values[slot] = product;
+        if (++size > resizeThreshold) {
+            rehash(keys.length << 1);
+        }
+        return null;
+    }
+
+    public Product remove(long id) {
+        if (id == 0) {
+            Product previous = zeroValue;
+            if (previous != null) {
+                zeroValue = null;
+                size--;
+            }
+            return previous;
+        }
+        for (int slot = slot(id, mask); keys[slot] != 0; slot = (slot + 1) & mask) {
+            if (keys[slot] == id) {
+                Product previous = values[slot];
+                size--;
+                shiftBack(slot);
+                return previous;
+            }
+        }
+        return null;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Visits every product in slot order, which is unrelated to id order.
+     */
+    public void forEach(Consumer<Product> action) {
+        if (zeroValue != null) {
+            action.accept(zeroValue);
+        }
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != 0) {
+                action.accept(values[slot]);
+            }
+        }
+    }
+
+    /**
+     * Refills the hole at {@code slot} with the next entry in its run that may legally move there.
+     */
+    private void shiftBack(int slot) {
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (keys[next] != 0) {
+            int home = slot(keys[next], mask);
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                keys[hole] = keys[next];
+                values[hole] = values[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[hole] = 0;
+        values[hole] = null;
+    }
+
+    private void rehash(int newCapacity) {
+        if (newCapacity > MAX_CAPACITY) {
+            throw new IllegalStateException("Product id index cannot grow beyond " + MAX_CAPACITY + " slots");
+        }
+        long[] oldKeys = keys;
+        Product[] oldValues = values;
+        allocate(newCapacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if (key != 0) {
+                int slot = slot(key, mask);
+                while (keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Product[capacity];
+        mask = capacity - 1;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int capacityFor(int expectedSize) {
+        long needed = (long) Math.ceil(expectedSize / (double) LOAD_FACTOR) + 1;
+        if (needed > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Expected size " + expectedSize + " exceeds index capacity");
+        }
+        return Math.max(16, Integer.highestOneBit((int) needed - 1) << 1);
+    }
+
+    /**
+     * Spreads sequential and strided ids across the table (Fibonacci hashing).
+     */
+    private static int slot(long id, int mask) {
+        long hash = id * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    @Override
+    public String toString() {
+        return "ProductIdIndex[size=" + size + ", capacity=" + keys.length + "]";
+    }
+}
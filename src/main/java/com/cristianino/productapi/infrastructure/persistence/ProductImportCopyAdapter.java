@@ -0,0 +1,152 @@
+package com.cristianino.productapi.infrastructure.persistence;
+
+import com.cristianino.productapi.application.port.ProductImportPort;
+import com.cristianino.productapi.domain.model.Product;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streams import rows into a transaction-scoped staging table over the PostgreSQL COPY protocol,
+ * then applies them with one statement that updates and inserts products and appends their
+ * outbox rows. Nothing is visible to readers until the import commits.
+ */
+@Repository
+public class ProductImportCopyAdapter implements ProductImportPort {
+
+    private static final int COPY_BUFFER_SIZE = 1 << 16;
+
+    private static final String CREATE_STAGING_SQL =
+        "create temporary table product_import_staging (" +
+        "line bigint not null, id bigint, name varchar(255) not null, price numeric(10,2) not null) " +
+        "on commit drop";
+
+    private static final String COPY_SQL =
+        "copy product_import_staging (line, id, name, price) from stdin with (format csv)";
+
+    private static final String UNKNOWN_IDS_SQL =
+        "select count(*) over () as total, s.line from product_import_staging s " +
+        "where s.id is not null and not exists (select 1 from products p where p.id = s.id) " +
+        "order by s.line limit ?";
+
+    private static final String MERGE_SQL =
+        "with latest as (" +
+        "select distinct on (id) id, name, price from product_import_staging " +
+        "where id is not null order by id, line desc), " +
+        "updated as (" +
+        "update products p set name = l.name, price = l.price from latest l where p.id = l.id " +
+        "returning p.id, p.name, p.price), " +
+        "created as (" +
+        "insert into products (name, price) " +
+        "select name, price from product_import_staging where id is null order by line " +
+        "returning id, name, price), " +
+        "appended as (" +
+        "insert into product_outbox (aggregate_id, event_type, name, price, created_at) " +
+        "select id, 'UPDATED', name, price, now() from updated " +
+        "union all select id, 'CREATED', name, price, now() from created " +
+        "returning id, event_type) " +
+        "select count(*) filter (where event_type = 'CREATED') as created, " +
+        "count(*) filter (where event_type = 'UPDATED') as updated, " +
+        "coalesce(max(id), 0) as last_sequence from appended";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ProductImportCopyAdapter(JdbcTemplate jdbcTemplate, ApplicationEventPublisher eventPublisher) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    @Transactional
+    public MergeResult importProducts(RowSource rows, int maxReportedUnknown) throws IOException {
+        try {
+            return jdbcTemplate.execute((ConnectionCallback<MergeResult>) connection -> {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute(CREATE_STAGING_SQL);
+                }
+                copy(connection, rows);
+                try (Statement statement = connection.createStatement()) {
+                    // a fresh temporary table has no statistics; without them the merge plans blind
+                    statement.execute("analyze product_import_staging");
+                }
+                List<Long> unknownIdLines = new ArrayList<>();
+                long unknownIds = 0;
+                try (PreparedStatement statement = connection.prepareStatement(UNKNOWN_IDS_SQL)) {
+                    statement.setInt(1, maxReportedUnknown);
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        while (resultSet.next()) {
+                            unknownIds = resultSet.getLong("total");
+                            unknownIdLines.add(resultSet.getLong("line"));
+                        }
+                    }
+                }
+                try (Statement statement = connection.createStatement();
+                     ResultSet resultSet = statement.executeQuery(MERGE_SQL)) {
+                    resultSet.next();
+                    long lastSequence = resultSet.getLong("last_sequence");
+                    if (lastSequence > 0) {
+                        eventPublisher.publishEvent(new ProductOutboxAppendedEvent(lastSequence));
+                    }
+                    return new MergeResult(resultSet.getLong("created"), resultSet.getLong("updated"),
+                        unknownIds, unknownIdLines);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static void copy(Connection connection, RowSource rows) throws SQLException {
+        PGCopyOutputStream copy = new PGCopyOutputStream(connection.unwrap(PGConnection.class), COPY_SQL, COPY_BUFFER_SIZE);
+        try {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(copy, StandardCharsets.UTF_8), COPY_BUFFER_SIZE);
+            rows.writeTo((line, product) -> writeRow(writer, line, product));
+            writer.flush();
+            copy.endCopy();
+        } catch (IOException e) {
+            cancel(copy);
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            cancel(copy);
+            throw e;
+        }
+    }
+
+    private static void writeRow(Writer writer, long line, Product product) throws IOException {
+        writer.write(Long.toString(line));
+        writer.write(',');
+        if (product.getId() != null) {
+            writer.write(Long.toString(product.getId()));
+        }
+        writer.write(",\"");
+        writer.write(product.getName().replace("\"", "\"\""));
+        writer.write("\",");
+        writer.write(product.getPrice().toBigDecimal().toPlainString());
+        writer.write('\n');
+    }
+
+    private static void cancel(PGCopyOutputStream copy) throws SQLException {
+        if (copy.isActive()) {
+            copy.cancelCopy();
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package com.cristianino.productapi.infrastructure.persistence;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tells the other instances that products changed, so their local caches do not serve stale
+ * data, using PostgreSQL NOTIFY rather than an external broker.
+ * <p>
+ * After a product transaction commits, the outbox sequence it reached is held for
+ * {@code coalesce-window} and then sent as a single NOTIFY on {@code product_invalidations},
+ * so a burst of writes costs one message. A dedicated connection LISTENs on the same channel
+ * and notifies the {@link ProductInvalidationListener}s once per batch of messages from other
+ * instances.
+ * <p>
+ * Every {@code heartbeat-interval} the listener compares the outbox head with the highest
+ * sequence it has seen, which also catches a message a peer failed to send. After a reconnect
+ * the listeners are notified unconditionally, since anything may have changed meanwhile.
+ */
+public class ProductInvalidationBus implements SmartLifecycle {
+
+    static final String CHANNEL = "product_invalidations";
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductInvalidationBus.class);
+    private static final String HEAD_SQL = "select coalesce(max(id), 0) from product_outbox";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ProductCatalogSnapshotManager.ListenConnectionFactory connectionFactory;
+    private final ObjectMapper objectMapper;
+    private final List<ProductInvalidationListener> listeners;
+    private final String instanceId;
+    private final Duration coalesceWindow;
+    private final Duration heartbeatInterval;
+    private final Duration reconnectDelay;
+    private final AtomicLong pendingSequence = new AtomicLong();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final AtomicLong seenSequence = new AtomicLong();
+    private final ScheduledExecutorService publisher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "product-invalidation-publisher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile boolean running;
+    private volatile boolean listening;
+    private Thread listenerThread;
+
+    public ProductInvalidationBus(JdbcTemplate jdbcTemplate,
+                                  ProductCatalogSnapshotManager.ListenConnectionFactory connectionFactory,
+                                  ObjectMapper objectMapper, List<ProductInvalidationListener> listeners,
+                                  String instanceId, Duration coalesceWindow, Duration heartbeatInterval,
+                                  Duration reconnectDelay) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.connectionFactory = connectionFactory;
+        this.objectMapper = objectMapper;
+        this.listeners = List.copyOf(listeners);
+        this.instanceId = instanceId;
+        this.coalesceWindow = coalesceWindow;
+        this.heartbeatInterval = heartbeatInterval;
+        this.reconnectDelay = reconnectDelay;
+    }
+
+    public boolean isListening() {
+        return listening;
+    }
+
+    public long seenSequence() {
+        return seenSequence.get();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOutboxAppended(ProductOutboxAppendedEvent event) {
+        seenSequence.accumulateAndGet(event.sequence(), Math::max);
+        pendingSequence.accumulateAndGet(event.sequence(), Math::max);
+        if (running && flushScheduled.compareAndSet(false, true)) {
+            publisher.schedule(this::flush, coalesceWindow.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Sends one notification for everything committed since the last one.
+     */
+    void flush() {
+        flushScheduled.set(false);
+        long sequence = pendingSequence.getAndSet(0);
+        if (sequence == 0) {
+            return;
+        }
+        try {
+            String payload = objectMapper.writeValueAsString(Map.of("origin", instanceId, "sequence", sequence));
+            jdbcTemplate.query("select pg_notify(?, ?)", (ResultSet resultSet) -> null, CHANNEL, payload);
+        } catch (Exception e) {
+            // peers catch up on their next heartbeat
+            logger.warn("Could not publish product invalidation up to sequence {}: {}", sequence, e.getMessage());
+        }
+    }
+
+    /**
+     * Handles one batch of notification payloads: a single listener call for all changes made
+     * by other instances, none when every change came from this one.
+     */
+    void receive(List<String> payloads) {
+        long sequence = 0;
+        for (String payload : payloads) {
+            try {
+                JsonNode message = objectMapper.readTree(payload);
+                if (!instanceId.equals(message.path("origin").asText())) {
+                    sequence = Math.max(sequence, message.path("sequence").asLong());
+                }
+            } catch (Exception e) {
+                logger.warn("Ignoring malformed product invalidation: {}", e.getMessage());
+            }
+        }
+        if (sequence > 0) {
+            seenSequence.accumulateAndGet(sequence, Math::max);
+            dispatch(sequence);
+        }
+    }
+
+    /**
+     * Notifies the listeners when the outbox has moved past everything seen, or always when
+     * {@code force} is set.
+     */
+    void reconcile(long head, boolean force) {
+        long seen = seenSequence.getAndAccumulate(head, Math::max);
+        if (force || head > seen) {
+            dispatch(head);
+        }
+    }
+
+    private void dispatch(long sequence) {
+        for (ProductInvalidationListener listener : listeners) {
+            try {
+                listener.onProductsChanged(sequence);
+            } catch (RuntimeException e) {
+                logger.warn("Product invalidation listener {} failed: {}", listener, e.getMessage());
+            }
+        }
+    }
+
+    private void listen() {
+        boolean reconnecting = false;
+        while (running) {
+            try (Connection connection = connectionFactory.connect()) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                reconcile(head(connection), reconnecting);
+                listening = true;
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                Instant nextHeartbeat = Instant.now().plus(heartbeatInterval);
+                while (running) {
+                    long timeout = Math.max(1, Duration.between(Instant.now(), nextHeartbeat).toMillis());
+                    receive(pgConnection.getNotifications((int) timeout));
+                    if (!Instant.now().isBefore(nextHeartbeat)) {
+                        reconcile(head(connection), false);
+                        // Commits that preceded the round trip are delivered with its response
+                        receive(pgConnection.getNotifications());
+                        nextHeartbeat = Instant.now().plus(heartbeatInterval);
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (running) {
+                    logger.warn("Product invalidation listener disconnected, reconnecting in {}: {}", reconnectDelay, e.getMessage());
+                    sleep(reconnectDelay);
+                }
+            } finally {
+                listening = false;
+            }
+            reconnecting = true;
+        }
+    }
+
+    private void receive(PGNotification[] notifications) {
+        if (notifications != null && notifications.length > 0) {
+            receive(Arrays.stream(notifications).map(PGNotification::getParameter).toList());
+        }
+    }
+
+    private static long head(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(HEAD_SQL)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        listenerThread = new Thread(this::listen, "product-invalidation-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+        publisher.shutdown();
+        // one last message for changes still inside the coalesce window
+        flush();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
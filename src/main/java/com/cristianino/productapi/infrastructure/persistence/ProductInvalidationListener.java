@@ -0,0 +1,15 @@
+package com.cristianino.productapi.infrastructure.persistence;
+
+/**
+ * A per-instance cache or view of products that must catch up with writes committed through
+ * other instances. Notified by {@link ProductInvalidationBus}.
+ */
+@FunctionalInterface
+public interface ProductInvalidationListener {
+
+    /**
+     * Products changed elsewhere, up to at least outbox {@code sequence}. Called once per
+     * coalesced burst of changes, on the bus thread; implementations should return quickly.
+     */
+    void onProductsChanged(long sequence);
+}
@@ -1,8 +1,25 @@
 package com.cristianino.productapi.infrastructure.persistence;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.util.List;
+
 @Repository
 public interface ProductJpaRepository extends JpaRepository<ProductEntity, Long> {
-}
\ No newline at end of file
+
+    /**
+     * Products matching every non-null criterion; see {@link ProductFilterPatterns} for {@code namePattern}.
+     */
+    @Query("select p from ProductEntity p " +
+           "where (:namePattern is null or lower(p.name) like :namePattern escape '\\') " +
+           "and (:minPrice is null or p.price >= :minPrice) " +
+           "and (:maxPrice is null or p.price <= :maxPrice) " +
+           "order by p.id")
+    List<ProductEntity> findFiltered(@Param("namePattern") String namePattern,
+                                     @Param("minPrice") BigDecimal minPrice,
+                                     @Param("maxPrice") BigDecimal maxPrice);
+}
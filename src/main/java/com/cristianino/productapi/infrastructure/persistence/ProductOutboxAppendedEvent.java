@@ -0,0 +1,8 @@
+package com.cristianino.productapi.infrastructure.persistence;
+
+/**
+ * Published when an outbox row is written. Listeners bound to the commit phase use it
+ * to pick up new changes without waiting for their next poll.
+ */
+public record ProductOutboxAppendedEvent(long sequence) {
+}
@@ -0,0 +1,89 @@
+package com.cristianino.productapi.infrastructure.persistence;
+
+import com.cristianino.productapi.domain.model.ProductChangeType;
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.Instant;
+
+@Entity
+@Table(name = "product_outbox", indexes = @Index(name = "idx_product_outbox_aggregate_id", columnList = "aggregate_id, id"))
+public class ProductOutboxEntity {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 16)
+    private ProductChangeType eventType;
+    
+    @Column(name = "name")
+    private String name;
+    
+    @Column(name = "price", precision = 10, scale = 2)
+    private BigDecimal price;
+    
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+    
+    public ProductOutboxEntity() {}
+    
+    public ProductOutboxEntity(Long aggregateId, ProductChangeType eventType, String name, BigDecimal price, Instant createdAt) {
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.name = name;
+        this.price = price;
+        this.createdAt = createdAt;
+    }
+    
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public Long getAggregateId() {
+        return aggregateId;
+    }
+    
+    public void setAggregateId(Long aggregateId) {
+        this.aggregateId = aggregateId;
+    }
+    
+    public ProductChangeType getEventType() {
+        return eventType;
+    }
+    
+    public void setEventType(ProductChangeType eventType) {
+        this.eventType = eventType;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public void setName(String name) {
+        this.name = name;
+    }
+    
+    public BigDecimal getPrice() {
+        return price;
+    }
+    
+    public void setPrice(BigDecimal price) {
+        this.price = price;
+    }
+    
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+}
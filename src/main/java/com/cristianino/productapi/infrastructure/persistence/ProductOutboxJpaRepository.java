@@ -0,0 +1,42 @@
+package com.cristianino.productapi.infrastructure.persistence;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface ProductOutboxJpaRepository extends JpaRepository<ProductOutboxEntity, Long> {
+
+    List<ProductOutboxEntity> findByIdGreaterThanAndIdLessThanEqualOrderByIdAsc(long afterId, long upToId, Pageable pageable);
+
+    @Query("select coalesce(max(o.id), 0) from ProductOutboxEntity o")
+    long findMaxId();
+
+    /**
+     * Newest row per product within the range; served by the (aggregate_id, id) index.
+     */
+    @Query("select o from ProductOutboxEntity o where o.id > :afterId and o.id <= :upToId " +
+           "and o.id = (select max(o2.id) from ProductOutboxEntity o2 where o2.aggregateId = o.aggregateId and o2.id <= :upToId) " +
+           "order by o.id")
+    List<ProductOutboxEntity> findLatestPerAggregate(@Param("afterId") long afterId, @Param("upToId") long upToId, Pageable pageable);
+
+    @Modifying
+    @Query("delete from ProductOutboxEntity o where o.createdAt < :before " +
+           "and exists (select 1 from ProductOutboxEntity o2 where o2.aggregateId = o.aggregateId and o2.id > o.id)")
+    int deleteSuperseded(@Param("before") Instant before);
+
+    @Query("select coalesce(max(o.id), 0) from ProductOutboxEntity o " +
+           "where o.eventType = com.cristianino.productapi.domain.model.ProductChangeType.DELETED and o.createdAt < :before")
+    long findMaxTombstoneIdBefore(@Param("before") Instant before);
+
+    @Modifying
+    @Query("delete from ProductOutboxEntity o " +
+           "where o.eventType = com.cristianino.productapi.domain.model.ProductChangeType.DELETED and o.id <= :upToId")
+    int deleteTombstonesUpTo(@Param("upToId") long upToId);
+}
@@ -0,0 +1,131 @@
+package com.cristianino.productapi.infrastructure.persistence;
+
+import com.cristianino.productapi.domain.model.Product;
+import com.cristianino.productapi.domain.model.ProductChange;
+import com.cristianino.productapi.domain.model.ProductChangeType;
+import com.cristianino.productapi.domain.port.ProductOutbox;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Repository
+public class ProductOutboxRepositoryImpl implements ProductOutbox {
+    
+    // Transaction IDs from the current snapshot: xmax is the next one to be assigned, xmin the
+    // oldest still running (equal to xmax when none is). Transactions that only read have none.
+    private static final String SNAPSHOT_XMAX_SQL = "select pg_snapshot_xmax(pg_current_snapshot())::text::bigint";
+    private static final String SNAPSHOT_XMIN_SQL = "select pg_snapshot_xmin(pg_current_snapshot())::text::bigint";
+    
+    private final ProductOutboxJpaRepository jpaRepository;
+    private final ProductChangeHorizonJpaRepository horizonRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Boolean postgres;
+    
+    public ProductOutboxRepositoryImpl(ProductOutboxJpaRepository jpaRepository,
+                                       ProductChangeHorizonJpaRepository horizonRepository,
+                                       ApplicationEventPublisher eventPublisher,
+                                       JdbcTemplate jdbcTemplate) {
+        this.jpaRepository = jpaRepository;
+        this.horizonRepository = horizonRepository;
+        this.eventPublisher = eventPublisher;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+    
+    @Override
+    public void append(ProductChangeType type, Long productId, Product state) {
+        ProductOutboxEntity entity = state == null
+                ? new ProductOutboxEntity(productId, type, null, null, Instant.now())
+                : new ProductOutboxEntity(productId, type, state.getName(), state.getPrice().toBigDecimal(), Instant.now());
+        ProductOutboxEntity saved = jpaRepository.save(entity);
+        eventPublisher.publishEvent(new ProductOutboxAppendedEvent(saved.getId()));
+    }
+    
+    @Override
+    public List<ProductChange> findChanges(long afterSequence, long upToSequence, int limit) {
+        return jpaRepository.findByIdGreaterThanAndIdLessThanEqualOrderByIdAsc(afterSequence, upToSequence, PageRequest.of(0, limit))
+                .stream()
+                .map(this::mapToDomain)
+                .collect(Collectors.toList());
+    }
+    
+    @Override
+    public List<ProductChange> findLatestChanges(long afterSequence, long upToSequence, int limit) {
+        return jpaRepository.findLatestPerAggregate(afterSequence, upToSequence, PageRequest.of(0, limit))
+                .stream()
+                .map(this::mapToDomain)
+                .collect(Collectors.toList());
+    }
+    
+    @Override
+    public long latestSequence() {
+        return jpaRepository.findMaxId();
+    }
+    
+    @Override
+    public long horizon() {
+        return horizonRepository.findById(ProductChangeHorizonEntity.SINGLETON_ID)
+                .map(ProductChangeHorizonEntity::getSequence)
+                .orElse(0L);
+    }
+    
+    @Override
+    @Transactional
+    public int compact(Instant supersededBefore) {
+        return jpaRepository.deleteSuperseded(supersededBefore);
+    }
+    
+    @Override
+    @Transactional
+    public long purgeTombstones(Instant deletedBefore) {
+        long horizon = horizon();
+        long purgeUpTo = jpaRepository.findMaxTombstoneIdBefore(deletedBefore);
+        if (purgeUpTo <= horizon) {
+            return horizon;
+        }
+        // Raise the horizon in the same transaction so no cursor can observe the gap
+        horizonRepository.save(new ProductChangeHorizonEntity(purgeUpTo));
+        jpaRepository.deleteTombstonesUpTo(purgeUpTo);
+        return purgeUpTo;
+    }
+    
+    @Override
+    public long openWritesMarker() {
+        if (!isPostgres()) {
+            return 0;
+        }
+        Long xmax = jdbcTemplate.queryForObject(SNAPSHOT_XMAX_SQL, Long.class);
+        return xmax != null ? xmax : 0;
+    }
+    
+    @Override
+    public boolean writesSettled(long marker) {
+        if (marker == 0 || !isPostgres()) {
+            return true;
+        }
+        Long xmin = jdbcTemplate.queryForObject(SNAPSHOT_XMIN_SQL, Long.class);
+        return xmin != null && xmin >= marker;
+    }
+    
+    private boolean isPostgres() {
+        Boolean result = postgres;
+        if (result == null) {
+            result = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                    "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName()));
+            postgres = result;
+        }
+        return Boolean.TRUE.equals(result);
+    }
+    
+    private ProductChange mapToDomain(ProductOutboxEntity entity) {
+        return new ProductChange(entity.getId(), entity.getEventType(), entity.getAggregateId(),
+                entity.getName(), entity.getPrice(), entity.getCreatedAt());
+    }
+}
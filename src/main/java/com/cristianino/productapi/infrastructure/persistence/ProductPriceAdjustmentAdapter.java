@@ -0,0 +1,126 @@
+package com.cristianino.productapi.infrastructure.persistence;
+
+import com.cristianino.productapi.application.port.ProductPriceAdjustmentPort;
+import com.cristianino.productapi.domain.model.Money;
+import com.cristianino.productapi.domain.model.PriceAdjustment;
+import com.cristianino.productapi.domain.model.ProductFilter;
+import com.cristianino.productapi.domain.service.ProductDomainService;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Applies a {@link PriceAdjustment} with a single {@code UPDATE ... WHERE} that also appends the
+ * outbox rows, instead of reading and saving each product. The {@code price >= 0} check and the
+ * {@code numeric(10,2)} column reject the whole statement if any new price is out of range.
+ */
+@Repository
+public class ProductPriceAdjustmentAdapter implements ProductPriceAdjustmentPort {
+
+    private static final String PREVIEW_SQL =
+        "select count(*) over () as affected, " +
+        "count(*) filter (where new_price < 0 or new_price > ?) over () as out_of_range, " +
+        "id, name, price, new_price from (" +
+        "select p.id, p.name, p.price, %1$s as new_price from products p%2$s) c " +
+        "where new_price <> price order by id limit ?";
+
+    private static final String APPLY_SQL =
+        "with updated as (" +
+        "update products p set price = %1$s where %1$s <> p.price%2$s " +
+        "returning p.id, p.name, p.price), " +
+        "appended as (" +
+        "insert into product_outbox (aggregate_id, event_type, name, price, created_at) " +
+        "select id, 'UPDATED', name, price, now() from updated " +
+        "returning id) " +
+        "select count(*) as updated, coalesce(max(id), 0) as last_sequence from appended";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ProductPriceAdjustmentAdapter(JdbcTemplate jdbcTemplate, ApplicationEventPublisher eventPublisher) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Preview preview(ProductFilter filter, PriceAdjustment adjustment, int sampleSize) {
+        List<Object> args = new ArrayList<>();
+        args.add(ProductDomainService.MAX_PRICE.toBigDecimal());
+        String expression = newPrice(adjustment, args);
+        String where = where(filter, " where ", args);
+        args.add(sampleSize);
+        long[] totals = new long[2]; // affected, out of range
+        List<PriceChange> sample = jdbcTemplate.query(PREVIEW_SQL.formatted(expression, where), (resultSet, rowNum) -> {
+            totals[0] = resultSet.getLong("affected");
+            totals[1] = resultSet.getLong("out_of_range");
+            return new PriceChange(resultSet.getLong("id"), resultSet.getString("name"),
+                money(resultSet, "price"), money(resultSet, "new_price"));
+        }, args.toArray());
+        return new Preview(totals[0], totals[1], sample);
+    }
+
+    @Override
+    @Transactional
+    public long apply(ProductFilter filter, PriceAdjustment adjustment) {
+        List<Object> args = new ArrayList<>();
+        // the expression appears in both SET and WHERE, so its parameters are bound twice
+        String expression = newPrice(adjustment, args);
+        newPrice(adjustment, args);
+        String where = where(filter, " and ", args);
+        try {
+            return jdbcTemplate.queryForObject(APPLY_SQL.formatted(expression, where), (resultSet, rowNum) -> {
+                long lastSequence = resultSet.getLong("last_sequence");
+                if (lastSequence > 0) {
+                    eventPublisher.publishEvent(new ProductOutboxAppendedEvent(lastSequence));
+                }
+                return resultSet.getLong("updated");
+            }, args.toArray());
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalArgumentException("Price adjustment would take a price below 0 or above "
+                + ProductDomainService.MAX_PRICE + "; preview it with a dry run");
+        }
+    }
+
+    private static String newPrice(PriceAdjustment adjustment, List<Object> args) {
+        return switch (adjustment.rule()) {
+            case PERCENTAGE -> {
+                args.add(adjustment.amount());
+                yield "round(p.price * (100 + ?) / 100, 2)";
+            }
+            case DELTA -> {
+                args.add(adjustment.amount());
+                yield "(p.price + ?)";
+            }
+            case ROUND_TO_99 -> "(floor(p.price) + 0.99)";
+        };
+    }
+
+    private static String where(ProductFilter filter, String prefix, List<Object> args) {
+        List<String> conditions = new ArrayList<>();
+        if (filter.name() != null) {
+            conditions.add("lower(p.name) like ? escape '\\'");
+            args.add(ProductFilterPatterns.namePattern(filter));
+        }
+        if (filter.minPrice() != null) {
+            conditions.add("p.price >= ?");
+            args.add(ProductFilterPatterns.amount(filter.minPrice()));
+        }
+        if (filter.maxPrice() != null) {
+            conditions.add("p.price <= ?");
+            args.add(ProductFilterPatterns.amount(filter.maxPrice()));
+        }
+        return conditions.isEmpty() ? "" : prefix + String.join(" and ", conditions);
+    }
+
+    private static Money money(ResultSet resultSet, String column) throws SQLException {
+        return Money.of(resultSet.getBigDecimal(column));
+    }
+}
@@ -1,20 +1,43 @@
 package com.cristianino.productapi.infrastructure.persistence;
 
 import com.cristianino.productapi.domain.model.Product;
+import com.cristianino.productapi.domain.model.ProductFilter;
+import com.cristianino.productapi.domain.model.ProductPatch;
 import com.cristianino.productapi.domain.port.ProductRepository;
+import io.micrometer.observation.annotation.Observed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.Tuple;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Repository
+@Observed(name = "product.repository")
 public class ProductRepositoryImpl implements ProductRepository {
     
+    /**
+     * One statement: the {@code UPDATE} sets only the supplied columns and matches nothing when
+     * they already hold those values, while the outer select still returns the current row so
+     * an unchanged product is told apart from a missing one.
+     */
+    private static final String PATCH_SQL =
+        "with current_row as (select id, name, price from products where id = :id), " +
+        "updated as (update products p set %s where p.id = :id and (%s) returning p.id, p.name, p.price) " +
+        "select c.id, coalesce(u.name, c.name) as name, coalesce(u.price, c.price) as price, " +
+        "u.id is not null as changed " +
+        "from current_row c left join updated u on u.id = c.id";
+    
     private final ProductJpaRepository jpaRepository;
+    private final EntityManager entityManager;
     
-    public ProductRepositoryImpl(ProductJpaRepository jpaRepository) {
+    public ProductRepositoryImpl(ProductJpaRepository jpaRepository, EntityManager entityManager) {
         this.jpaRepository = jpaRepository;
+        this.entityManager = entityManager;
     }
     
     @Override
@@ -38,6 +61,20 @@ public class ProductRepositoryImpl implements ProductRepository {
                 .collect(Collectors.toList());
     }
     
+    @Override
+    public List<Product> findAll(ProductFilter filter) {
+        if (filter.isEmpty()) {
+            return findAll();
+        }
+        return jpaRepository.findFiltered(
+                    ProductFilterPatterns.namePattern(filter),
+                    ProductFilterPatterns.amount(filter.minPrice()),
+                    ProductFilterPatterns.amount(filter.maxPrice()))
+                .stream()
+                .map(this::mapToDomain)
+                .collect(Collectors.toList());
+    }
+    
     @Override
     public void deleteById(Long id) {
         jpaRepository.deleteById(id);
@@ -48,8 +85,39 @@ public class ProductRepositoryImpl implements ProductRepository {
         return jpaRepository.existsById(id);
     }
     
+    @Override
+    public Optional<PatchResult> patch(Long id, ProductPatch patch) {
+        if (patch.isEmpty()) {
+            return findById(id).map(product -> new PatchResult(product, false));
+        }
+        List<String> assignments = new ArrayList<>();
+        List<String> differences = new ArrayList<>();
+        if (patch.name() != null) {
+            assignments.add("name = :name");
+            differences.add("p.name <> :name");
+        }
+        if (patch.price() != null) {
+            assignments.add("price = :price");
+            differences.add("p.price <> :price");
+        }
+        Query query = entityManager.createNativeQuery(
+                PATCH_SQL.formatted(String.join(", ", assignments), String.join(" or ", differences)), Tuple.class);
+        query.setParameter("id", id);
+        if (patch.name() != null) {
+            query.setParameter("name", patch.name());
+        }
+        if (patch.price() != null) {
+            query.setParameter("price", patch.price().toBigDecimal());
+        }
+        @SuppressWarnings("unchecked")
+        List<Tuple> rows = query.getResultList();
+        return rows.stream().findFirst().map(row -> new PatchResult(
+                new Product(((Number) row.get("id")).longValue(), row.get("name", String.class), row.get("price", BigDecimal.class)),
+                row.get("changed", Boolean.class)));
+    }
+    
     private ProductEntity mapToEntity(Product product) {
-        return new ProductEntity(product.getId(), product.getName(), product.getPrice());
+        return new ProductEntity(product.getId(), product.getName(), product.getPrice().toBigDecimal());
     }
     
     private Product mapToDomain(ProductEntity entity) {
@@ -0,0 +1,186 @@
+package com.cristianino.productapi.infrastructure.persistence;
+
+import com.cristianino.productapi.application.dto.ProductPriceStatsDto.PriceBucket;
+import com.cristianino.productapi.application.dto.ProductPriceStatsDto.PriceStatistics;
+import com.cristianino.productapi.application.port.ProductStatisticsQueryPort;
+import com.cristianino.productapi.domain.model.Money;
+import com.cristianino.productapi.domain.model.ProductFilter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.Tuple;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Computes price statistics in a single PostgreSQL statement: {@code percentile_cont} for the
+ * percentiles and {@code width_bucket} for the histogram, over one scan of the matching rows.
+ * <p>
+ * Results are cached per filter and bucket count. Every outbox append clears the cache once its
+ * transaction commits, and so does {@link ProductInvalidationBus} for writes made through other
+ * instances; {@code cache-ttl} bounds staleness when the bus is disabled. A query that was
+ * running when the cache was cleared does not store its result, since it may predate the write.
+ */
+@Repository
+public class ProductStatisticsQueryAdapter implements ProductStatisticsQueryPort, ProductInvalidationListener {
+
+    private static final String STATISTICS_SQL =
+        "with filtered as (select price from products%s), " +
+        "summary as (" +
+        "select count(*) as product_count, min(price) as min_price, max(price) as max_price, " +
+        "round(avg(price), 2) as average_price, " +
+        "round(cast(percentile_cont(0.5) within group (order by price) as numeric), 2) as p50, " +
+        "round(cast(percentile_cont(0.9) within group (order by price) as numeric), 2) as p90, " +
+        "round(cast(percentile_cont(0.99) within group (order by price) as numeric), 2) as p99 " +
+        "from filtered), " +
+        // width_bucket puts the maximum itself in bucket n + 1; fold it into the last bucket
+        "histogram as (" +
+        "select case when s.max_price = s.min_price then 1 " +
+        "else least(width_bucket(f.price, s.min_price, s.max_price, :buckets), :buckets) end as bucket, " +
+        "count(*) as bucket_count " +
+        "from filtered f cross join summary s group by 1) " +
+        "select s.product_count, s.min_price, s.max_price, s.average_price, s.p50, s.p90, s.p99, " +
+        "h.bucket, h.bucket_count " +
+        "from summary s left join histogram h on true order by h.bucket";
+
+    private final EntityManager entityManager;
+    private final Duration cacheTtl;
+    private final Map<CacheKey, CachedStatistics> cache;
+    private long generation;
+
+    public ProductStatisticsQueryAdapter(EntityManager entityManager,
+                                         @Value("${app.product-stats.cache-ttl:30s}") Duration cacheTtl,
+                                         @Value("${app.product-stats.cache-max-entries:256}") int cacheMaxEntries) {
+        this.entityManager = entityManager;
+        this.cacheTtl = cacheTtl;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CacheKey, CachedStatistics> eldest) {
+                return size() > cacheMaxEntries;
+            }
+        };
+    }
+
+    @Override
+    public PriceStatistics priceStatistics(ProductFilter filter, int buckets) {
+        CacheKey key = new CacheKey(filter, buckets);
+        long queriedGeneration;
+        synchronized (this) {
+            CachedStatistics cached = cache.get(key);
+            if (cached != null && cached.expiresAt().isAfter(Instant.now())) {
+                return cached.statistics();
+            }
+            queriedGeneration = generation;
+        }
+        PriceStatistics statistics = query(filter, buckets);
+        synchronized (this) {
+            if (generation == queriedGeneration) {
+                cache.put(key, new CachedStatistics(statistics, Instant.now().plus(cacheTtl)));
+            }
+        }
+        return statistics;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOutboxAppended(ProductOutboxAppendedEvent event) {
+        invalidate();
+    }
+
+    @Override
+    public void onProductsChanged(long sequence) {
+        invalidate();
+    }
+
+    public synchronized void invalidate() {
+        generation++;
+        cache.clear();
+    }
+
+    PriceStatistics query(ProductFilter filter, int buckets) {
+        List<String> conditions = new ArrayList<>();
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("buckets", buckets);
+        String namePattern = ProductFilterPatterns.namePattern(filter);
+        if (namePattern != null) {
+            conditions.add("lower(name) like :namePattern escape '\\'");
+            parameters.put("namePattern", namePattern);
+        }
+        if (filter.minPrice() != null) {
+            conditions.add("price >= :minPrice");
+            parameters.put("minPrice", filter.minPrice().toBigDecimal());
+        }
+        if (filter.maxPrice() != null) {
+            conditions.add("price <= :maxPrice");
+            parameters.put("maxPrice", filter.maxPrice().toBigDecimal());
+        }
+        String where = conditions.isEmpty() ? "" : " where " + String.join(" and ", conditions);
+        Query query = entityManager.createNativeQuery(STATISTICS_SQL.formatted(where), Tuple.class);
+        parameters.forEach(query::setParameter);
+        @SuppressWarnings("unchecked")
+        List<Tuple> rows = query.getResultList();
+        return toStatistics(rows, buckets);
+    }
+
+    static PriceStatistics toStatistics(List<Tuple> rows, int buckets) {
+        Tuple summary = rows.get(0);
+        long count = ((Number) summary.get("product_count")).longValue();
+        if (count == 0) {
+            return PriceStatistics.empty();
+        }
+        BigDecimal min = decimal(summary, "min_price");
+        BigDecimal max = decimal(summary, "max_price");
+        return new PriceStatistics(count, min, max,
+            decimal(summary, "average_price"), decimal(summary, "p50"),
+            decimal(summary, "p90"), decimal(summary, "p99"),
+            histogram(rows, min, max, buckets));
+    }
+
+    /**
+     * Bucket bounds are rounded up to whole cents: prices are whole cents, so a price belongs to
+     * a bucket exactly when it lies between the rounded bounds.
+     */
+    private static List<PriceBucket> histogram(List<Tuple> rows, BigDecimal min, BigDecimal max, int buckets) {
+        if (min.compareTo(max) == 0) {
+            return List.of(new PriceBucket(min, max, ((Number) rows.get(0).get("bucket_count")).longValue()));
+        }
+        long[] counts = new long[buckets];
+        for (Tuple row : rows) {
+            counts[((Number) row.get("bucket")).intValue() - 1] = ((Number) row.get("bucket_count")).longValue();
+        }
+        BigDecimal range = max.subtract(min);
+        BigDecimal divisor = BigDecimal.valueOf(buckets);
+        List<PriceBucket> histogram = new ArrayList<>(buckets);
+        BigDecimal lower = min;
+        for (int i = 1; i <= buckets; i++) {
+            BigDecimal upper = i == buckets ? max
+                : min.add(range.multiply(BigDecimal.valueOf(i)).divide(divisor, Money.SCALE, RoundingMode.CEILING));
+            histogram.add(new PriceBucket(lower, upper, counts[i - 1]));
+            lower = upper;
+        }
+        return histogram;
+    }
+
+    private static BigDecimal decimal(Tuple row, String column) {
+        Object value = row.get(column);
+        if (value == null) {
+            return null;
+        }
+        BigDecimal decimal = value instanceof BigDecimal bigDecimal ? bigDecimal : new BigDecimal(value.toString());
+        return decimal.setScale(Money.SCALE, RoundingMode.HALF_UP);
+    }
+
+    private record CacheKey(ProductFilter filter, int buckets) {
+    }
+
+    private record CachedStatistics(PriceStatistics statistics, Instant expiresAt) {
+    }
+}
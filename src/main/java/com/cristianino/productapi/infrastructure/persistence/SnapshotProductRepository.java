@@ -0,0 +1,106 @@
+package com.cristianino.productapi.infrastructure.persistence;
+
+import com.cristianino.productapi.domain.model.Product;
+import com.cristianino.productapi.domain.model.ProductFilter;
+import com.cristianino.productapi.domain.model.ProductPatch;
+import com.cristianino.productapi.domain.port.ProductRepository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Serves product reads from the in-memory catalog snapshot while it is within
+ * {@code maxStaleness}, and from the database otherwise. Writes and existence checks
+ * always go to the database so mutations see committed state.
+ * <p>
+ * Until the snapshot is first loaded, reads are served from the catalog file mapped at
+ * startup when one is available, accepting its age in exchange for not stampeding the
+ * database on restart.
+ */
+public class SnapshotProductRepository implements ProductRepository {
+    
+    private final ProductRepository delegate;
+    private final ProductCatalogSnapshotManager snapshotManager;
+    private final Duration maxStaleness;
+    private final Supplier<Optional<ProductCatalogFile>> warmCatalog;
+    
+    public SnapshotProductRepository(ProductRepository delegate, ProductCatalogSnapshotManager snapshotManager, Duration maxStaleness) {
+        this(delegate, snapshotManager, maxStaleness, Optional::empty);
+    }
+    
+    public SnapshotProductRepository(ProductRepository delegate, ProductCatalogSnapshotManager snapshotManager,
+                                     Duration maxStaleness, Supplier<Optional<ProductCatalogFile>> warmCatalog) {
+        this.delegate = delegate;
+        this.snapshotManager = snapshotManager;
+        this.maxStaleness = maxStaleness;
+        this.warmCatalog = warmCatalog;
+    }
+    
+    @Override
+    public Product save(Product product) {
+        return delegate.save(product);
+    }
+    
+    @Override
+    public Optional<Product> findById(Long id) {
+        if (id != null && snapshotManager.isFresh(maxStaleness)) {
+            return snapshotManager.snapshot().findById(id);
+        }
+        Optional<ProductCatalogFile> warm = warmCatalog.get();
+        if (id != null && warm.isPresent()) {
+            return warm.get().findById(id);
+        }
+        return delegate.findById(id);
+    }
+    
+    @Override
+    public List<Product> findAll() {
+        if (snapshotManager.isFresh(maxStaleness)) {
+            return snapshotManager.snapshot().findAll();
+        }
+        Optional<ProductCatalogFile> warm = warmCatalog.get();
+        if (warm.isPresent()) {
+            return warm.get().findAll();
+        }
+        return delegate.findAll();
+    }
+    
+    @Override
+    public List<Product> findAll(ProductFilter filter) {
+        if (filter.isEmpty()) {
+            return findAll();
+        }
+        if (snapshotManager.isFresh(maxStaleness)) {
+            return snapshotManager.snapshot().findAll().stream().filter(filter::matches).toList();
+        }
+        Optional<ProductCatalogFile> warm = warmCatalog.get();
+        if (warm.isPresent()) {
+            List<Product> matches = new ArrayList<>();
+            warm.get().forEach(product -> {
+                if (filter.matches(product)) {
+                    matches.add(product);
+                }
+            });
+            return matches;
+        }
+        return delegate.findAll(filter);
+    }
+    
+    @Override
+    public void deleteById(Long id) {
+        delegate.deleteById(id);
+    }
+    
+    @Override
+    public boolean existsById(Long id) {
+        return delegate.existsById(id);
+    }
+    
+    @Override
+    public Optional<PatchResult> patch(Long id, ProductPatch patch) {
+        return delegate.patch(id, patch);
+    }
+}
@@ -0,0 +1,155 @@
+package com.cristianino.productapi.infrastructure.persistence;
+
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Counts statements, fetched rows and JDBC time into the {@link SqlStatementRecorder} of the
+ * calling thread. Connections, statements and result sets are wrapped in JDK proxies; with no
+ * recording active every call goes straight through after one thread-local lookup.
+ * <p>
+ * A batch counts as one statement, as it is one round trip. Work done through driver-specific
+ * APIs reached with {@code unwrap}, such as COPY, is not seen.
+ */
+public class SqlAccountingDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    public SqlAccountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return proxy(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return proxy(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    /**
+     * Closes the wrapped pool, which the container would otherwise never see.
+     */
+    @Override
+    public void close() throws Exception {
+        if (obtainTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private static Connection proxy(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(SqlAccountingDataSource.class.getClassLoader(),
+            new Class<?>[] {ConnectionProxy.class}, new ConnectionHandler(connection));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Handles the identity methods every proxy must answer itself; null when {@code method} is
+     * not one of them.
+     */
+    private static Object identity(Object proxy, Method method, Object[] args) {
+        return switch (method.getName()) {
+            case "equals" -> args != null && args.length == 1 ? proxy == args[0] : null;
+            case "hashCode" -> method.getParameterCount() == 0 ? System.identityHashCode(proxy) : null;
+            default -> null;
+        };
+    }
+
+    private record ConnectionHandler(Connection target) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object identity = identity(proxy, method, args);
+            if (identity != null) {
+                return identity;
+            }
+            if ("getTargetConnection".equals(method.getName())) {
+                return target;
+            }
+            Object result = SqlAccountingDataSource.invoke(target, method, args);
+            return switch (method.getName()) {
+                case "createStatement" -> statement(Statement.class, (Statement) result, null);
+                case "prepareStatement" -> statement(PreparedStatement.class, (Statement) result, (String) args[0]);
+                case "prepareCall" -> statement(CallableStatement.class, (Statement) result, (String) args[0]);
+                default -> result;
+            };
+        }
+
+        private static Object statement(Class<? extends Statement> type, Statement statement, String sql) {
+            return Proxy.newProxyInstance(SqlAccountingDataSource.class.getClassLoader(),
+                new Class<?>[] {type}, new StatementHandler(statement, sql));
+        }
+    }
+
+    private record StatementHandler(Statement target, String preparedSql) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object identity = identity(proxy, method, args);
+            if (identity != null) {
+                return identity;
+            }
+            SqlStatementRecorder.Recording recording = SqlStatementRecorder.current();
+            String name = method.getName();
+            if (recording == null || !name.startsWith("execute")) {
+                Object result = SqlAccountingDataSource.invoke(target, method, args);
+                return result instanceof ResultSet resultSet ? resultSet(resultSet) : result;
+            }
+            long started = System.nanoTime();
+            try {
+                Object result = SqlAccountingDataSource.invoke(target, method, args);
+                return result instanceof ResultSet resultSet ? resultSet(resultSet) : result;
+            } finally {
+                String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : preparedSql;
+                recording.statement(sql, System.nanoTime() - started);
+            }
+        }
+
+        private static ResultSet resultSet(ResultSet resultSet) {
+            return (ResultSet) Proxy.newProxyInstance(SqlAccountingDataSource.class.getClassLoader(),
+                new Class<?>[] {ResultSet.class}, new ResultSetHandler(resultSet));
+        }
+    }
+
+    private record ResultSetHandler(ResultSet target) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object identity = identity(proxy, method, args);
+            if (identity != null) {
+                return identity;
+            }
+            SqlStatementRecorder.Recording recording = SqlStatementRecorder.current();
+            if (recording == null || !"next".equals(method.getName())) {
+                return SqlAccountingDataSource.invoke(target, method, args);
+            }
+            long started = System.nanoTime();
+            boolean row = false;
+            try {
+                row = (Boolean) SqlAccountingDataSource.invoke(target, method, args);
+                return row;
+            } finally {
+                recording.fetch(row, System.nanoTime() - started);
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.cristianino.productapi.infrastructure.persistence;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Thread-bound tally of the JDBC work done through {@link SqlAccountingDataSource} while a
+ * recording is active, typically for the duration of one HTTP request.
+ */
+public final class SqlStatementRecorder {
+
+    private static final ThreadLocal<Recording> CURRENT = new ThreadLocal<>();
+
+    private SqlStatementRecorder() {
+    }
+
+    public static Recording start() {
+        Recording recording = new Recording();
+        CURRENT.set(recording);
+        return recording;
+    }
+
+    public static void stop() {
+        CURRENT.remove();
+    }
+
+    public static Recording current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Makes {@code recording} the current one on this thread, or clears it when null. Lets work
+     * handed to another thread count towards the request that started it; a recording must only
+     * be bound on one thread at a time.
+     */
+    public static void bind(Recording recording) {
+        if (recording == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(recording);
+        }
+    }
+
+    public static final class Recording {
+
+        /** Distinct statement texts tracked for repeat detection; later ones are only counted. */
+        static final int MAX_TRACKED_SQL = 256;
+
+        private long statements;
+        private long rows;
+        private long jdbcNanos;
+        private final Map<String, Integer> executions = new HashMap<>();
+
+        void statement(String sql, long nanos) {
+            statements++;
+            jdbcNanos += nanos;
+            if (sql != null && (executions.size() < MAX_TRACKED_SQL || executions.containsKey(sql))) {
+                executions.merge(sql, 1, Integer::sum);
+            }
+        }
+
+        void fetch(boolean row, long nanos) {
+            jdbcNanos += nanos;
+            if (row) {
+                rows++;
+            }
+        }
+
+        public long statements() {
+            return statements;
+        }
+
+        public long rows() {
+            return rows;
+        }
+
+        /**
+         * Time spent inside JDBC executing statements and fetching their rows.
+         */
+        public Duration jdbcTime() {
+            return Duration.ofNanos(jdbcNanos);
+        }
+
+        /**
+         * The statement text executed most often, with its count; the signature of an N+1 query.
+         */
+        public Optional<Map.Entry<String, Integer>> mostRepeated() {
+            return executions.entrySet().stream().max(Map.Entry.comparingByValue());
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.cristianino.productapi.infrastructure.persistence;
+
+import java.util.Locale;
+
+/**
+ * Class of traffic a request belongs to. Each lane has its own share of the Tomcat workers and
+ * its own connection pool, so a flood in one cannot starve the others; see
+ * {@link LaneRoutingDataSource}.
+ */
+public enum TrafficLane {
+
+    /** JSON:API traffic from clients. */
+    PUBLIC,
+
+    /** Calls from other microservices and operational endpoints. */
+    INTERNAL,
+
+    /** Liveness, readiness and connectivity probes. */
+    HEALTH;
+
+    private static final ThreadLocal<TrafficLane> CURRENT = new ThreadLocal<>();
+
+    /**
+     * The lane of the request running on this thread, or null outside one, as for scheduled and
+     * background work.
+     */
+    public static TrafficLane current() {
+        return CURRENT.get();
+    }
+
+    public static void enter(TrafficLane lane) {
+        CURRENT.set(lane);
+    }
+
+    public static void exit() {
+        CURRENT.remove();
+    }
+
+    public String tag() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
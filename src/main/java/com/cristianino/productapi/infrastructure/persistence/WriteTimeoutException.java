@@ -0,0 +1,14 @@
+package com.cristianino.productapi.infrastructure.persistence;
+
+/**
+ * A write that had started on a {@link DatabaseWorkExecutor} worker ran past its transaction
+ * deadline. Its transaction was rolled back, but unlike work that never left the queue the
+ * caller cannot tell that from a dropped connection, so it should check the resource before
+ * sending the write again.
+ */
+public class WriteTimeoutException extends RuntimeException {
+
+    public WriteTimeoutException(Throwable cause) {
+        super("The write did not complete before its deadline and was rolled back", cause);
+    }
+}
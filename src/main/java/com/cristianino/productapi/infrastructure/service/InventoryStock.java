@@ -0,0 +1,7 @@
+package com.cristianino.productapi.infrastructure.service;
+
+/**
+ * Stock level reported by the Inventory service for a single product.
+ */
+public record InventoryStock(Long productId, int quantity, boolean available) {
+}
@@ -0,0 +1,187 @@
+package com.cristianino.productapi.infrastructure.service;
+
+import com.cristianino.productapi.infrastructure.jfr.InventoryCallEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+
+/**
+ * Fetches stock levels for a page of products from the Inventory service.
+ * Lookups are split into batches fetched in parallel under a per-request deadline.
+ * A semaphore bulkhead caps concurrent lookups, and a short-TTL local cache absorbs repeats.
+ * Batches that fail or miss the deadline, and products the response leaves out, are reported as
+ * unavailable rather than failing the request.
+ */
+@Service
+public class InventoryStockClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(InventoryStockClient.class);
+
+    private final WebClient inventoryServiceClient;
+    private final String stockEndpoint;
+    private final int batchSize;
+    private final int maxParallelBatches;
+    private final Duration deadline;
+    private final long cacheTtlNanos;
+    private final int cacheMaxEntries;
+    private final Semaphore bulkhead;
+    private final Map<Long, CachedStock> cache = new ConcurrentHashMap<>();
+
+    public InventoryStockClient(
+            @Qualifier("inventoryServiceClient") WebClient inventoryServiceClient,
+            @Value("${microservices.inventory.stock-endpoint:/api/v1/inventory}") String stockEndpoint,
+            @Value("${app.inventory-include.batch-size:50}") int batchSize,
+            @Value("${app.inventory-include.max-parallel-batches:4}") int maxParallelBatches,
+            @Value("${app.inventory-include.deadline:300ms}") Duration deadline,
+            @Value("${app.inventory-include.max-concurrent-lookups:16}") int maxConcurrentLookups,
+            @Value("${app.inventory-include.cache-ttl:5s}") Duration cacheTtl,
+            @Value("${app.inventory-include.cache-max-entries:10000}") int cacheMaxEntries) {
+        this.inventoryServiceClient = inventoryServiceClient;
+        this.stockEndpoint = stockEndpoint;
+        this.batchSize = batchSize;
+        this.maxParallelBatches = maxParallelBatches;
+        this.deadline = deadline;
+        this.cacheTtlNanos = cacheTtl.toNanos();
+        this.cacheMaxEntries = cacheMaxEntries;
+        this.bulkhead = new Semaphore(maxConcurrentLookups);
+    }
+
+    public InventoryStockLookup fetchStock(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return InventoryStockLookup.empty();
+        }
+
+        InventoryCallEvent event = new InventoryCallEvent();
+        event.begin();
+        long now = System.nanoTime();
+        Map<Long, InventoryStock> found = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long productId : new LinkedHashSet<>(productIds)) {
+            CachedStock cached = cache.get(productId);
+            if (cached != null && cached.expiresAtNanos() - now > 0) {
+                found.put(productId, cached.stock());
+            } else {
+                missing.add(productId);
+            }
+        }
+        event.requested = found.size() + missing.size();
+        event.cached = found.size();
+        if (missing.isEmpty()) {
+            commit(event, "cached", 0, 0);
+            return new InventoryStockLookup(found, Set.of());
+        }
+
+        if (!bulkhead.tryAcquire()) {
+            logger.debug("Inventory lookup bulkhead full, skipping {} products", missing.size());
+            commit(event, "bulkhead-full", 0, missing.size());
+            return new InventoryStockLookup(found, Set.copyOf(missing));
+        }
+        try {
+            Map<Long, InventoryStock> fetched = Flux.fromIterable(partition(missing))
+                .flatMap(this::fetchBatch, maxParallelBatches)
+                .take(deadline)
+                .collectMap(InventoryStock::productId)
+                .block();
+            if (fetched == null) {
+                fetched = Map.of();
+            }
+            cacheAll(fetched.values());
+            found.putAll(fetched);
+
+            Set<Long> unavailable = new HashSet<>(missing);
+            unavailable.removeAll(fetched.keySet());
+            commit(event, unavailable.isEmpty() ? "fetched" : "partial", fetched.size(), unavailable.size());
+            return new InventoryStockLookup(found, unavailable);
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    private static void commit(InventoryCallEvent event, String outcome, int fetched, int unavailable) {
+        if (event.shouldCommit()) {
+            event.outcome = outcome;
+            event.fetched = fetched;
+            event.unavailable = unavailable;
+            event.commit();
+        }
+    }
+
+    private Flux<InventoryStock> fetchBatch(List<Long> batch) {
+        String ids = batch.stream().map(String::valueOf).collect(Collectors.joining(","));
+        return inventoryServiceClient.get()
+            .uri(uriBuilder -> uriBuilder.path(stockEndpoint).queryParam("productIds", ids).build())
+            .retrieve()
+            .bodyToMono(JsonNode.class)
+            .flatMapIterable(body -> parse(body, batch))
+            .onErrorResume(e -> {
+                logger.debug("Inventory stock batch of {} products failed: {}", batch.size(), e.getMessage());
+                return Flux.empty();
+            });
+    }
+
+    /**
+     * Reads a JSON:API collection of inventory resources. Requested products missing from
+     * the response, all of them when the body has no {@code data} array, are left out: they
+     * are reported as unavailable and not cached, since an empty or malformed answer is no
+     * evidence that they are out of stock.
+     */
+    private static List<InventoryStock> parse(JsonNode body, List<Long> batch) {
+        Set<Long> requested = new HashSet<>(batch);
+        List<InventoryStock> result = new ArrayList<>(batch.size());
+        for (JsonNode resource : body.path("data")) {
+            JsonNode attributes = resource.path("attributes");
+            long productId = attributes.path("productId").asLong(resource.path("id").asLong());
+            if (!requested.remove(productId)) {
+                continue;
+            }
+            int quantity = attributes.path("quantity").asInt(0);
+            boolean available = attributes.has("available")
+                ? attributes.path("available").asBoolean()
+                : quantity > 0;
+            result.add(new InventoryStock(productId, quantity, available));
+        }
+        return result;
+    }
+
+    private List<List<Long>> partition(List<Long> ids) {
+        List<List<Long>> batches = new ArrayList<>();
+        for (int start = 0; start < ids.size(); start += batchSize) {
+            batches.add(ids.subList(start, Math.min(ids.size(), start + batchSize)));
+        }
+        return batches;
+    }
+
+    private void cacheAll(Collection<InventoryStock> stocks) {
+        long expiresAt = System.nanoTime() + cacheTtlNanos;
+        stocks.forEach(stock -> cache.put(stock.productId(), new CachedStock(stock, expiresAt)));
+
+        if (cache.size() > cacheMaxEntries) {
+            long now = System.nanoTime();
+            cache.values().removeIf(cached -> cached.expiresAtNanos() - now <= 0);
+            if (cache.size() > cacheMaxEntries) {
+                cache.clear();
+            }
+        }
+    }
+
+    private record CachedStock(InventoryStock stock, long expiresAtNanos) {
+    }
+}
@@ -0,0 +1,19 @@
+package com.cristianino.productapi.infrastructure.service;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Outcome of a batched stock lookup. Products whose stock could not be fetched in time
+ * are listed in {@code unavailable} instead of failing the whole lookup.
+ */
+public record InventoryStockLookup(Map<Long, InventoryStock> stock, Set<Long> unavailable) {
+
+    public static InventoryStockLookup empty() {
+        return new InventoryStockLookup(Map.of(), Set.of());
+    }
+
+    public boolean isPartial() {
+        return !unavailable.isEmpty();
+    }
+}
@@ -0,0 +1,18 @@
+package com.cristianino.productapi.infrastructure.service;
+
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Connection settings for a downstream microservice declared under {@code microservices.<name>}.
+ */
+public record MicroserviceEndpoint(
+        String baseUrl,
+        @DefaultValue("/actuator/health") String healthEndpoint,
+        @DefaultValue("2s") Duration probeTimeout) {
+
+    public String healthUrl() {
+        return baseUrl + healthEndpoint;
+    }
+}
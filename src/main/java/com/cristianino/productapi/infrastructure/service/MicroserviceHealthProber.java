@@ -0,0 +1,164 @@
+package com.cristianino.productapi.infrastructure.service;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Probes every configured microservice in parallel on a jittered schedule and publishes
+ * the results as an immutable {@link ServiceHealthSnapshot} behind an atomic reference.
+ */
+public class MicroserviceHealthProber implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(MicroserviceHealthProber.class);
+    private static final ParameterizedTypeReference<Map<String, Object>> MAP_TYPE =
+        new ParameterizedTypeReference<>() {};
+
+    private final Map<String, MicroserviceEndpoint> endpoints;
+    private final Map<String, CircuitBreaker> circuitBreakers = new LinkedHashMap<>();
+    private final WebClient webClient;
+    private final TaskScheduler taskScheduler;
+    private final Duration interval;
+    private final Duration jitter;
+    private final AtomicReference<ServiceHealthSnapshot> snapshot;
+
+    private volatile boolean running;
+    private volatile ScheduledFuture<?> nextProbe;
+
+    public MicroserviceHealthProber(Map<String, MicroserviceEndpoint> endpoints, WebClient webClient,
+                                    TaskScheduler taskScheduler, Duration interval, Duration jitter) {
+        this.endpoints = Map.copyOf(endpoints);
+        this.webClient = webClient;
+        this.taskScheduler = taskScheduler;
+        this.interval = interval;
+        this.jitter = jitter;
+        this.snapshot = new AtomicReference<>(ServiceHealthSnapshot.initial(this.endpoints));
+        this.endpoints.keySet().forEach(name -> circuitBreakers.put(name, CircuitBreaker.of(name, CircuitBreakerConfig.custom()
+            .slidingWindowSize(5)
+            .minimumNumberOfCalls(3)
+            .failureRateThreshold(50)
+            .waitDurationInOpenState(Duration.ofSeconds(30))
+            .permittedNumberOfCallsInHalfOpenState(1)
+            .build())));
+    }
+
+    /**
+     * Latest published snapshot. Never blocks and never performs network calls.
+     */
+    public ServiceHealthSnapshot snapshot() {
+        return snapshot.get();
+    }
+
+    public Set<String> serviceNames() {
+        return endpoints.keySet();
+    }
+
+    /**
+     * Probes all services in parallel and publishes the combined result.
+     */
+    public Mono<ServiceHealthSnapshot> probeAll() {
+        return Flux.fromIterable(endpoints.entrySet())
+            .flatMap(entry -> probe(entry.getKey(), entry.getValue()))
+            .collectList()
+            .map(statuses -> ServiceHealthSnapshot.of(statuses, System.currentTimeMillis()))
+            .doOnNext(this::publish);
+    }
+
+    Mono<ServiceHealthStatus> probe(String name, MicroserviceEndpoint endpoint) {
+        CircuitBreaker circuitBreaker = circuitBreakers.get(name);
+        String url = endpoint.healthUrl();
+        String displayName = ServiceHealthStatus.displayName(name);
+
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return webClient.get()
+                .uri(url)
+                .retrieve()
+                .bodyToMono(MAP_TYPE)
+                .defaultIfEmpty(Map.of())
+                .timeout(endpoint.probeTimeout())
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .map(response -> new ServiceHealthStatus(name, ServiceHealthStatus.UP, url,
+                    "Successfully connected to " + displayName + " service", null,
+                    circuitBreaker.getState().name(), System.currentTimeMillis(), elapsedMillis(start), response))
+                .onErrorResume(e -> Mono.just(new ServiceHealthStatus(name, ServiceHealthStatus.DOWN, url,
+                    "Failed to connect to " + displayName + " service",
+                    e instanceof CallNotPermittedException ? "Circuit breaker is open" : String.valueOf(e.getMessage()),
+                    circuitBreaker.getState().name(), System.currentTimeMillis(), elapsedMillis(start), null)));
+        });
+    }
+
+    private void publish(ServiceHealthSnapshot next) {
+        ServiceHealthSnapshot previous = snapshot.getAndSet(next);
+        next.services().forEach((name, status) -> {
+            ServiceHealthStatus before = previous.service(name);
+            if (before == null || !before.status().equals(status.status())) {
+                if (status.isUp()) {
+                    logger.info("{} service is now UP at {}", name, status.url());
+                } else {
+                    logger.warn("{} service is now {} at {}: {}", name, status.status(), status.url(), status.error());
+                }
+            }
+        });
+    }
+
+    private void runCycle() {
+        probeAll()
+            .doFinally(signal -> scheduleNext(nextDelay()))
+            .subscribe(result -> { }, e -> logger.error("Microservice health probe cycle failed", e));
+    }
+
+    private void scheduleNext(Duration delay) {
+        if (running) {
+            nextProbe = taskScheduler.schedule(this::runCycle, Instant.now().plus(delay));
+        }
+    }
+
+    Duration nextDelay() {
+        long jitterMillis = jitter.toMillis();
+        long offset = jitterMillis > 0 ? ThreadLocalRandom.current().nextLong(-jitterMillis, jitterMillis + 1) : 0;
+        return Duration.ofMillis(Math.max(0, interval.toMillis() + offset));
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return Duration.ofNanos(System.nanoTime() - startNanos).toMillis();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        scheduleNext(Duration.ZERO);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        ScheduledFuture<?> pending = nextProbe;
+        if (pending != null) {
+            pending.cancel(false);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
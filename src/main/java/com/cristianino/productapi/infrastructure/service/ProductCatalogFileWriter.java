@@ -0,0 +1,78 @@
+package com.cristianino.productapi.infrastructure.service;
+
+import com.cristianino.productapi.infrastructure.persistence.ProductCatalogFileStore;
+import com.cristianino.productapi.infrastructure.persistence.ProductCatalogSnapshot;
+import com.cristianino.productapi.infrastructure.persistence.ProductCatalogSnapshotManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Periodically writes the catalog snapshot to the local catalog file.
+ * <p>
+ * The recorded sequence is the change feed's dispatched position, which never passes an
+ * uncommitted outbox row. It is read before waiting for the snapshot listener to confirm it
+ * is current, so every change up to that sequence is in the snapshot that gets written.
+ */
+public class ProductCatalogFileWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductCatalogFileWriter.class);
+
+    private final ProductCatalogSnapshotManager snapshotManager;
+    private final ProductCatalogFileStore fileStore;
+    private final ProductChangeFeed changeFeed;
+    private final Duration confirmationTimeout;
+    private long writtenVersion = -1;
+    private long writtenSequence = -1;
+
+    public ProductCatalogFileWriter(ProductCatalogSnapshotManager snapshotManager, ProductCatalogFileStore fileStore,
+                                    ProductChangeFeed changeFeed, Duration confirmationTimeout) {
+        this.snapshotManager = snapshotManager;
+        this.fileStore = fileStore;
+        this.changeFeed = changeFeed;
+        this.confirmationTimeout = confirmationTimeout;
+    }
+
+    @Scheduled(initialDelayString = "${app.catalog-snapshot.file.write-interval:PT5M}",
+               fixedDelayString = "${app.catalog-snapshot.file.write-interval:PT5M}")
+    public synchronized void writeSnapshot() {
+        long sequence = changeFeed.dispatchedSequence();
+        Instant capturedAt = Instant.now();
+        if (!awaitConfirmation(capturedAt)) {
+            logger.debug("Skipping catalog file write: snapshot not confirmed current");
+            return;
+        }
+        ProductCatalogSnapshot snapshot = snapshotManager.snapshot();
+        if (snapshot.version() == writtenVersion && sequence == writtenSequence) {
+            return;
+        }
+        try {
+            fileStore.write(snapshot, sequence);
+            writtenVersion = snapshot.version();
+            writtenSequence = sequence;
+            logger.debug("Wrote catalog file with {} products at sequence {}", snapshot.size(), sequence);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Failed to write catalog file: {}", e.getMessage());
+        }
+    }
+
+    private boolean awaitConfirmation(Instant capturedAt) {
+        long deadline = System.nanoTime() + confirmationTimeout.toNanos();
+        while (!snapshotManager.isConfirmedSince(capturedAt)) {
+            if (System.nanoTime() >= deadline) {
+                return false;
+            }
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,364 @@
+package com.cristianino.productapi.infrastructure.service;
+
+import com.cristianino.productapi.domain.model.ProductChange;
+import com.cristianino.productapi.domain.port.ProductOutbox;
+import com.cristianino.productapi.infrastructure.persistence.ProductInvalidationBus;
+import com.cristianino.productapi.infrastructure.persistence.ProductInvalidationListener;
+import com.cristianino.productapi.infrastructure.persistence.ProductOutboxAppendedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Relays committed outbox rows to Server-Sent Events subscribers.
+ * <p>
+ * A single relay thread tails the outbox in sequence order. It is woken right after each
+ * product transaction commits, when {@link ProductInvalidationBus} reports writes made through
+ * another instance, and otherwise polls at {@code poll-interval}. Because identity
+ * values are assigned before commit, a lower sequence can become visible after a higher one;
+ * the relay holds back at such a gap for {@code gap-timeout}, and then until every write
+ * transaction open at that point has ended, before treating it as a rolled-back transaction.
+ * A bulk import takes its sequences at the start of one long statement and commits minutes
+ * later; it must not be skipped.
+ * <p>
+ * Each subscriber has a bounded buffer. A subscriber that falls behind is disconnected rather
+ * than slowing the relay, and resumes from the outbox with {@code Last-Event-ID}.
+ */
+@Component
+public class ProductChangeFeed implements SmartLifecycle, ProductInvalidationListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductChangeFeed.class);
+    private static final Object HEARTBEAT = new Object();
+
+    private final ProductOutbox outbox;
+    private final int bufferSize;
+    private final int batchSize;
+    private final int maxSubscribers;
+    private final Duration pollInterval;
+    private final Duration gapTimeout;
+    private final Duration heartbeatInterval;
+    private final Duration emitterTimeout;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final Semaphore wakeup = new Semaphore(0);
+    private final Counter droppedSubscribers;
+    private final ExecutorService deliveryExecutor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "product-change-feed-delivery");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile long dispatchedSequence;
+    private volatile boolean running;
+    private Thread relayThread;
+    private long gapDetectedAt;
+    private long gapWritesMarker;
+    private boolean gapHeldForWrites;
+    private long lastHeartbeatAt;
+
+    public ProductChangeFeed(ProductOutbox outbox,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.change-feed.buffer-size:256}") int bufferSize,
+                             @Value("${app.change-feed.batch-size:500}") int batchSize,
+                             @Value("${app.change-feed.max-subscribers:256}") int maxSubscribers,
+                             @Value("${app.change-feed.poll-interval:1s}") Duration pollInterval,
+                             @Value("${app.change-feed.gap-timeout:2s}") Duration gapTimeout,
+                             @Value("${app.change-feed.heartbeat-interval:15s}") Duration heartbeatInterval,
+                             @Value("${app.change-feed.emitter-timeout:30m}") Duration emitterTimeout) {
+        this.outbox = outbox;
+        this.bufferSize = bufferSize;
+        this.batchSize = batchSize;
+        this.maxSubscribers = maxSubscribers;
+        this.pollInterval = pollInterval;
+        this.gapTimeout = gapTimeout;
+        this.heartbeatInterval = heartbeatInterval;
+        this.emitterTimeout = emitterTimeout;
+        meterRegistry.gauge("product.change.feed.subscribers", subscriberCount);
+        this.droppedSubscribers = Counter.builder("product.change.feed.dropped")
+            .description("Subscribers disconnected because their buffer overflowed")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Opens a stream that first replays every change after {@code lastEventId} from the outbox
+     * and then follows live changes. Without a cursor the stream starts at the current head.
+     * Empty when the subscriber limit is reached.
+     */
+    public Optional<SseEmitter> subscribe(Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeout.toMillis());
+        return register(emitter, lastEventId) ? Optional.of(emitter) : Optional.empty();
+    }
+
+    boolean register(SseEmitter emitter, Long lastEventId) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            return false;
+        }
+        Subscriber subscriber = new Subscriber(emitter, lastEventId != null ? lastEventId : dispatchedSequence);
+        subscribers.add(subscriber);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+
+        subscriber.draining.set(true);
+        deliveryExecutor.execute(() -> catchUp(subscriber));
+        return true;
+    }
+
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    public long dispatchedSequence() {
+        return dispatchedSequence;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOutboxAppended(ProductOutboxAppendedEvent event) {
+        wakeUp();
+    }
+
+    @Override
+    public void onProductsChanged(long sequence) {
+        wakeUp();
+    }
+
+    private void wakeUp() {
+        if (wakeup.availablePermits() == 0) {
+            wakeup.release();
+        }
+    }
+
+    /**
+     * Reads newly committed outbox rows and hands them to live subscribers.
+     */
+    void relay() {
+        while (true) {
+            List<ProductChange> changes = outbox.findChanges(dispatchedSequence, Long.MAX_VALUE, batchSize);
+            for (ProductChange change : changes) {
+                if (change.sequence() != dispatchedSequence + 1 && !gapExpired()) {
+                    return;
+                }
+                gapDetectedAt = 0;
+                dispatchedSequence = change.sequence();
+                subscribers.forEach(subscriber -> offer(subscriber, change));
+            }
+            if (changes.size() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    private boolean gapExpired() {
+        long now = System.nanoTime();
+        if (gapDetectedAt == 0) {
+            gapDetectedAt = now;
+            gapWritesMarker = -1;
+            gapHeldForWrites = false;
+        }
+        if (now - gapDetectedAt < gapTimeout.toNanos()) {
+            return false;
+        }
+        // Taken only after the timeout, by when the owner of a missing sequence has long been
+        // assigned its transaction ID
+        if (gapWritesMarker < 0) {
+            gapWritesMarker = outbox.openWritesMarker();
+        }
+        if (!outbox.writesSettled(gapWritesMarker)) {
+            if (!gapHeldForWrites) {
+                gapHeldForWrites = true;
+                logger.info("Change feed holding at sequence {} for transactions still open", dispatchedSequence + 1);
+            }
+            return false;
+        }
+        return true;
+    }
+
+    void sendHeartbeats() {
+        subscribers.forEach(subscriber -> offer(subscriber, HEARTBEAT));
+    }
+
+    private void offer(Subscriber subscriber, Object item) {
+        synchronized (subscriber) {
+            if (!subscriber.live) {
+                return;
+            }
+            if (item instanceof ProductChange change) {
+                if (change.sequence() <= subscriber.cursor) {
+                    return;
+                }
+                subscriber.cursor = change.sequence();
+            }
+            if (!subscriber.queue.offer(item)) {
+                drop(subscriber);
+                return;
+            }
+        }
+        if (subscriber.draining.compareAndSet(false, true)) {
+            deliveryExecutor.execute(() -> drain(subscriber));
+        }
+    }
+
+    /**
+     * Replays the outbox up to the relay's position, then switches the subscriber to live
+     * delivery. The switch happens under the subscriber lock only once the relay has not moved
+     * past the replayed range, so no change is skipped or delivered twice.
+     */
+    private void catchUp(Subscriber subscriber) {
+        try {
+            while (true) {
+                long upTo = dispatchedSequence;
+                List<ProductChange> page = outbox.findChanges(subscriber.cursor, upTo, batchSize);
+                for (ProductChange change : page) {
+                    send(subscriber, change);
+                    subscriber.cursor = change.sequence();
+                }
+                if (page.size() < batchSize) {
+                    synchronized (subscriber) {
+                        if (dispatchedSequence == upTo) {
+                            subscriber.live = true;
+                            break;
+                        }
+                    }
+                }
+            }
+        } catch (Exception e) {
+            logger.debug("Change feed replay failed: {}", e.getMessage());
+            subscriber.emitter.completeWithError(e);
+            remove(subscriber);
+            return;
+        }
+        drain(subscriber);
+    }
+
+    private void drain(Subscriber subscriber) {
+        while (true) {
+            Object item = subscriber.queue.poll();
+            if (item == null) {
+                subscriber.draining.set(false);
+                if (subscriber.queue.isEmpty() || !subscriber.draining.compareAndSet(false, true)) {
+                    return;
+                }
+                continue;
+            }
+            try {
+                send(subscriber, item);
+            } catch (Exception e) {
+                logger.debug("Change feed delivery failed: {}", e.getMessage());
+                subscriber.emitter.completeWithError(e);
+                remove(subscriber);
+                return;
+            }
+        }
+    }
+
+    private static void send(Subscriber subscriber, Object item) throws IOException {
+        if (item == HEARTBEAT) {
+            subscriber.emitter.send(SseEmitter.event().comment("heartbeat"));
+            return;
+        }
+        ProductChange change = (ProductChange) item;
+        subscriber.emitter.send(SseEmitter.event()
+            .id(String.valueOf(change.sequence()))
+            .name("product." + change.type().name().toLowerCase(Locale.ROOT))
+            .data(change, MediaType.APPLICATION_JSON));
+    }
+
+    private void drop(Subscriber subscriber) {
+        logger.info("Disconnecting change feed subscriber at sequence {}: buffer of {} events overflowed",
+            subscriber.cursor, bufferSize);
+        droppedSubscribers.increment();
+        remove(subscriber);
+        subscriber.emitter.complete();
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            subscriberCount.decrementAndGet();
+        }
+    }
+
+    private void runRelay() {
+        while (running) {
+            try {
+                wakeup.tryAcquire(pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+                wakeup.drainPermits();
+                relay();
+                long now = System.nanoTime();
+                if (now - lastHeartbeatAt >= heartbeatInterval.toNanos()) {
+                    lastHeartbeatAt = now;
+                    sendHeartbeats();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                logger.warn("Change feed relay failed, retrying: {}", e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        dispatchedSequence = outbox.latestSequence();
+        lastHeartbeatAt = System.nanoTime();
+        running = true;
+        relayThread = new Thread(this::runRelay, "product-change-feed-relay");
+        relayThread.setDaemon(true);
+        relayThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (relayThread != null) {
+            relayThread.interrupt();
+        }
+        subscribers.forEach(subscriber -> {
+            remove(subscriber);
+            subscriber.emitter.complete();
+        });
+        deliveryExecutor.shutdownNow();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final BlockingQueue<Object> queue = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile long cursor;
+        private boolean live;
+
+        private Subscriber(SseEmitter emitter, long cursor) {
+            this.emitter = emitter;
+            this.cursor = cursor;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.cristianino.productapi.infrastructure.service;
+
+import com.cristianino.productapi.domain.port.ProductOutbox;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Keeps the product change log bounded. Rows superseded by a newer change to the same
+ * product are removed once older than {@code compaction-delay}, leaving one row per product.
+ * Tombstones are kept for {@code tombstone-retention}; purging them raises the horizon below
+ * which delta-sync cursors are rejected.
+ */
+@Component
+public class ProductChangeLogCompactor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductChangeLogCompactor.class);
+
+    private final ProductOutbox outbox;
+    private final Duration compactionDelay;
+    private final Duration tombstoneRetention;
+
+    public ProductChangeLogCompactor(ProductOutbox outbox,
+                                     @Value("${app.change-log.compaction-delay:24h}") Duration compactionDelay,
+                                     @Value("${app.change-log.tombstone-retention:7d}") Duration tombstoneRetention) {
+        this.outbox = outbox;
+        this.compactionDelay = compactionDelay;
+        this.tombstoneRetention = tombstoneRetention;
+    }
+
+    @Scheduled(initialDelayString = "${app.change-log.compaction-interval:PT1H}",
+               fixedDelayString = "${app.change-log.compaction-interval:PT1H}")
+    public void compact() {
+        Instant now = Instant.now();
+        try {
+            int compacted = outbox.compact(now.minus(compactionDelay));
+            long horizon = outbox.purgeTombstones(now.minus(tombstoneRetention));
+            logger.info("Compacted product change log: {} superseded rows removed, horizon at sequence {}",
+                compacted, horizon);
+        } catch (Exception e) {
+            logger.warn("Product change log compaction failed: {}", e.getMessage());
+        }
+    }
+}
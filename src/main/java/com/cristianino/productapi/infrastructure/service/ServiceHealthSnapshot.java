@@ -0,0 +1,84 @@
+package com.cristianino.productapi.infrastructure.service;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Immutable view of the latest probe results for every configured microservice.
+ * All derived response maps are built once at construction so readers never copy or aggregate.
+ */
+public final class ServiceHealthSnapshot {
+
+    private final Map<String, ServiceHealthStatus> services;
+    private final Map<String, Map<String, Object>> serviceViews;
+    private final Map<String, Object> connectivityView;
+    private final boolean allUp;
+    private final long takenAt;
+
+    private ServiceHealthSnapshot(Collection<ServiceHealthStatus> statuses, long takenAt) {
+        Map<String, ServiceHealthStatus> byName = new TreeMap<>();
+        statuses.forEach(status -> byName.put(status.name(), status));
+
+        Map<String, Map<String, Object>> views = new LinkedHashMap<>();
+        byName.forEach((name, status) -> views.put(name, status.toMap()));
+
+        this.services = Collections.unmodifiableMap(byName);
+        this.serviceViews = Collections.unmodifiableMap(views);
+        this.allUp = byName.values().stream().allMatch(ServiceHealthStatus::isUp);
+        this.takenAt = takenAt;
+        this.connectivityView = buildConnectivityView();
+    }
+
+    public static ServiceHealthSnapshot of(Collection<ServiceHealthStatus> statuses, long takenAt) {
+        return new ServiceHealthSnapshot(statuses, takenAt);
+    }
+
+    public static ServiceHealthSnapshot initial(Map<String, MicroserviceEndpoint> endpoints) {
+        return new ServiceHealthSnapshot(endpoints.entrySet().stream()
+            .map(entry -> ServiceHealthStatus.unknown(entry.getKey(), entry.getValue().healthUrl()))
+            .toList(), System.currentTimeMillis());
+    }
+
+    public ServiceHealthStatus service(String name) {
+        return services.get(name);
+    }
+
+    public Map<String, Object> serviceView(String name) {
+        return serviceViews.get(name);
+    }
+
+    public Map<String, ServiceHealthStatus> services() {
+        return services;
+    }
+
+    public String overallStatus() {
+        return allUp ? "UP" : "DEGRADED";
+    }
+
+    public long takenAt() {
+        return takenAt;
+    }
+
+    /**
+     * Aggregated response for {@code /api/connectivity/status}.
+     */
+    public Map<String, Object> connectivityView() {
+        return connectivityView;
+    }
+
+    private Map<String, Object> buildConnectivityView() {
+        Map<String, Object> view = new LinkedHashMap<>();
+        view.put("product-api", Map.of(
+            "service", "product-api",
+            "status", "UP",
+            "message", "Product API is running"
+        ));
+        services.values().forEach(status -> view.put(status.serviceName(), serviceViews.get(status.name())));
+        view.put("overall-status", overallStatus());
+        view.put("timestamp", takenAt);
+        return Collections.unmodifiableMap(view);
+    }
+}
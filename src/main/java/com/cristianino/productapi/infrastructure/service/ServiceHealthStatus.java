@@ -0,0 +1,64 @@
+package com.cristianino.productapi.infrastructure.service;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Result of a single health probe against a downstream microservice.
+ */
+public record ServiceHealthStatus(
+        String name,
+        String status,
+        String url,
+        String message,
+        String error,
+        String circuitBreaker,
+        long checkedAt,
+        long latencyMs,
+        Map<String, Object> response) {
+
+    public static final String UP = "UP";
+    public static final String DOWN = "DOWN";
+    public static final String UNKNOWN = "UNKNOWN";
+
+    public static ServiceHealthStatus unknown(String name, String url) {
+        return new ServiceHealthStatus(name, UNKNOWN, url, displayName(name) + " connectivity check pending",
+            null, null, System.currentTimeMillis(), 0, null);
+    }
+
+    public boolean isUp() {
+        return UP.equals(status);
+    }
+
+    public String serviceName() {
+        return name + "-api";
+    }
+
+    /**
+     * Renders the status in the format used by the connectivity endpoints.
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("service", serviceName());
+        map.put("status", status);
+        map.put("url", url);
+        map.put("message", message);
+        if (error != null) {
+            map.put("error", error);
+        }
+        if (circuitBreaker != null) {
+            map.put("circuitBreaker", circuitBreaker);
+        }
+        if (response != null) {
+            map.put("response", response);
+        }
+        map.put("latencyMs", latencyMs);
+        map.put("checkedAt", checkedAt);
+        return Collections.unmodifiableMap(map);
+    }
+
+    static String displayName(String name) {
+        return name.isEmpty() ? name : Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+}
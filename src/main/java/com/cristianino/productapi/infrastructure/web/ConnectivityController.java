@@ -1,6 +1,7 @@
 package com.cristianino.productapi.infrastructure.web;
 
 import com.cristianino.productapi.infrastructure.service.InventoryConnectivityService;
+import com.cristianino.productapi.infrastructure.service.MicroserviceHealthProber;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -8,7 +9,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Map;
-import java.util.HashMap;
 
 @RestController
 @RequestMapping("/api/connectivity")
@@ -17,17 +17,23 @@ import java.util.HashMap;
 public class ConnectivityController {
     
     private final InventoryConnectivityService inventoryConnectivityService;
+    private final MicroserviceHealthProber healthProber;
     
-    public ConnectivityController(InventoryConnectivityService inventoryConnectivityService) {
+    public ConnectivityController(InventoryConnectivityService inventoryConnectivityService,
+                                  MicroserviceHealthProber healthProber) {
         this.inventoryConnectivityService = inventoryConnectivityService;
+        this.healthProber = healthProber;
     }
     
     @GetMapping("/inventory")
     @Operation(summary = "Check Inventory Service Connectivity", 
                description = "Verifies connectivity with the Inventory microservice.\n\n" +
+                           "The result is refreshed by a background prober and served from cache, " +
+                           "so this endpoint never waits on the Inventory service.\n\n" +
                            "**Returns:**\n" +
                            "- `status: UP` - Service is reachable and healthy\n" +
-                           "- `status: DOWN` - Service is unreachable or unhealthy\n\n" +
+                           "- `status: DOWN` - Service is unreachable or unhealthy\n" +
+                           "- `status: UNKNOWN` - No probe has completed yet\n\n" +
                            "**Use cases:**\n" +
                            "- Health monitoring\n" +
                            "- Load balancer checks\n" +
@@ -46,35 +52,19 @@ public class ConnectivityController {
     @GetMapping("/status")
     @Operation(summary = "Overall Connectivity Status", 
                description = "Comprehensive health check for all microservice dependencies.\n\n" +
+                           "Aggregated from the latest background probe of every service configured " +
+                           "under `microservices.*`; no downstream calls are made per request.\n\n" +
                            "**Response includes:**\n" +
                            "- Product API status (always UP if responding)\n" +
-                           "- Inventory API connectivity status\n" +
+                           "- Connectivity status of each configured microservice\n" +
                            "- Overall system health (`UP` or `DEGRADED`)\n" +
-                           "- Timestamp for monitoring\n\n" +
+                           "- Timestamp of the probe cycle\n\n" +
                            "**Perfect for:**\n" +
                            "- System dashboards\n" +
                            "- Monitoring alerts\n" +
                            "- Service mesh health checks")
     public ResponseEntity<Map<String, Object>> getConnectivityStatus() {
-        Map<String, Object> overallStatus = new HashMap<>();
-        
-        // Check inventory connectivity
-        Map<String, Object> inventoryStatus = inventoryConnectivityService.checkInventoryConnectivity();
-        
-        // Build overall response
-        overallStatus.put("product-api", Map.of(
-            "service", "product-api",
-            "status", "UP",
-            "message", "Product API is running"
-        ));
-        
-        overallStatus.put("inventory-api", inventoryStatus);
-        
-        // Determine overall health
-        boolean allServicesUp = "UP".equals(inventoryStatus.get("status"));
-        overallStatus.put("overall-status", allServicesUp ? "UP" : "DEGRADED");
-        overallStatus.put("timestamp", System.currentTimeMillis());
-        
-        return ResponseEntity.ok(overallStatus);
+        // Served from the prober's latest snapshot; no downstream calls are made here
+        return ResponseEntity.ok(healthProber.snapshot().connectivityView());
     }
 }
\ No newline at end of file
@@ -0,0 +1,79 @@
+package com.cristianino.productapi.infrastructure.web.internal;
+
+import com.cristianino.productapi.application.dto.client.ProductClientDto;
+import com.cristianino.productapi.application.dto.client.ProductListClientResponse;
+import com.cristianino.productapi.application.usecase.ProductClientUseCase;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping(value = "/api/internal/products", produces = MediaType.APPLICATION_JSON_VALUE)
+@Tag(name = "Internal Product API", description = "Flat product reads for service-to-service calls (no JSON:API envelope)")
+@SecurityRequirement(name = "X-API-Key")
+public class InternalProductController {
+    
+    private final ProductClientUseCase productClientUseCase;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+    private final int maxBatchSize;
+    
+    public InternalProductController(ProductClientUseCase productClientUseCase,
+                                     @Value("${app.internal-api.default-page-size:100}") int defaultPageSize,
+                                     @Value("${app.internal-api.max-page-size:1000}") int maxPageSize,
+                                     @Value("${app.internal-api.max-batch-size:500}") int maxBatchSize) {
+        this.productClientUseCase = productClientUseCase;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+        this.maxBatchSize = maxBatchSize;
+    }
+    
+    @GetMapping
+    @Operation(summary = "List products (internal)", 
+               description = "Paginated flat product list ordered by id. `size` is capped at the configured maximum.")
+    public ResponseEntity<ProductListClientResponse> getProducts(
+            @Parameter(description = "Zero-based page index") @RequestParam(value = "page", defaultValue = "0") int page,
+            @Parameter(description = "Page size") @RequestParam(value = "size", required = false) Integer size) {
+        int pageSize = Math.min(size != null ? size : defaultPageSize, maxPageSize);
+        return ResponseEntity.ok(productClientUseCase.getProducts(page, pageSize));
+    }
+    
+    @GetMapping("/{id}")
+    @Operation(summary = "Get product (internal)")
+    public ResponseEntity<ProductClientDto> getProduct(@PathVariable Long id) {
+        return productClientUseCase.getProduct(id)
+            .map(ResponseEntity::ok)
+            .orElse(ResponseEntity.notFound().build());
+    }
+    
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get products by ids (internal)", 
+               description = "Body: `{\"productIds\": [1, 2, 3]}`. Unknown ids are omitted from the result.")
+    public ResponseEntity<ProductListClientResponse> getProductsByIds(@RequestBody BatchRequest request) {
+        return ResponseEntity.ok(productClientUseCase.getProductsByIds(request.productIds(), maxBatchSize));
+    }
+    
+    @GetMapping("/{id}/availability")
+    @Operation(summary = "Check product availability (internal)")
+    public ResponseEntity<Map<String, Object>> getAvailability(@PathVariable Long id) {
+        if (!productClientUseCase.isAvailable(id)) {
+            return ResponseEntity.notFound().build();
+        }
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("productId", id);
+        body.put("available", true);
+        return ResponseEntity.ok(body);
+    }
+    
+    public record BatchRequest(List<Long> productIds) {
+    }
+}
@@ -0,0 +1,117 @@
+package com.cristianino.productapi.infrastructure.web.internal;
+
+import com.cristianino.productapi.application.dto.JsonApiResponse;
+import com.cristianino.productapi.application.dto.ProductChangeDto;
+import com.cristianino.productapi.application.usecase.ProductChangeUseCase;
+import com.cristianino.productapi.infrastructure.service.ProductChangeFeed;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/internal/products")
+@Tag(name = "Internal Product Feeds", description = "Change streams for service-to-service consumers")
+@SecurityRequirement(name = "X-API-Key")
+public class ProductChangeFeedController {
+    
+    private final ProductChangeFeed changeFeed;
+    private final ProductChangeUseCase productChangeUseCase;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+    
+    public ProductChangeFeedController(ProductChangeFeed changeFeed,
+                                       ProductChangeUseCase productChangeUseCase,
+                                       @Value("${app.change-log.default-page-size:500}") int defaultPageSize,
+                                       @Value("${app.change-log.max-page-size:2000}") int maxPageSize) {
+        this.changeFeed = changeFeed;
+        this.productChangeUseCase = productChangeUseCase;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+    }
+    
+    @GetMapping("/changes")
+    @Operation(summary = "Get product changes since a sequence", 
+               description = "Delta sync: returns the latest state of every product created or changed after `since`, " +
+                           "plus tombstones (`meta.deleted: true`, no attributes) for deleted products, in sequence order.\n\n" +
+                           "Start with `since=0` for a full load, then pass `meta.nextSince` on the next call. " +
+                           "When `meta.hasMore` is true, call again immediately.\n\n" +
+                           "Returns **410 Gone** when `since` predates the tombstone retention horizon; " +
+                           "reload from `since=0` in that case.")
+    public ResponseEntity<JsonApiResponse<List<ProductChangeDto>>> getChanges(
+            @Parameter(description = "Change sequence already applied by the consumer")
+            @RequestParam("since") long since,
+            @Parameter(description = "Maximum number of products per page")
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        
+        int pageSize = Math.min(limit != null ? limit : defaultPageSize, maxPageSize);
+        // Only read up to what the relay has confirmed, so in-flight transactions with lower sequences are never skipped
+        long upTo = changeFeed.dispatchedSequence();
+        List<ProductChangeDto> changes = productChangeUseCase.getChangesSince(since, upTo, pageSize);
+        
+        boolean hasMore = changes.size() == pageSize;
+        long nextSince = hasMore
+            ? changes.get(changes.size() - 1).getMeta().getSequence()
+            : Math.max(since, upTo);
+        
+        Map<String, Object> meta = new LinkedHashMap<>();
+        meta.put("since", since);
+        meta.put("nextSince", nextSince);
+        meta.put("hasMore", hasMore);
+        meta.put("count", changes.size());
+        
+        Map<String, String> links = new LinkedHashMap<>();
+        links.put("self", "/api/internal/products/changes?since=" + since);
+        links.put("next", "/api/internal/products/changes?since=" + nextSince);
+        
+        return ResponseEntity.ok(new JsonApiResponse<>(changes, links, meta));
+    }
+    
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream product changes", 
+               description = "Server-Sent Events stream of committed product creates, updates and deletes, " +
+                           "read from the transactional outbox.\n\n" +
+                           "Each event carries its outbox sequence as the SSE `id` and is named " +
+                           "`product.created`, `product.updated` or `product.deleted`.\n\n" +
+                           "Reconnect with `Last-Event-ID` (or `?lastEventId=`) to replay everything after that " +
+                           "sequence before following live changes; cursors older than the tombstone horizon get 410. Slow consumers are disconnected when their " +
+                           "buffer fills and should resume the same way.")
+    public ResponseEntity<SseEmitter> streamChanges(
+            @Parameter(description = "Sequence of the last event received")
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+            @RequestParam(value = "lastEventId", required = false) String lastEventIdParam) {
+        
+        Long lastEventId = parseCursor(lastEventIdHeader != null ? lastEventIdHeader : lastEventIdParam);
+        if (lastEventId != null) {
+            productChangeUseCase.verifyCursor(lastEventId);
+        }
+        return changeFeed.subscribe(lastEventId)
+            .map(ResponseEntity::ok)
+            .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build());
+    }
+    
+    private static Long parseCursor(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            long cursor = Long.parseLong(value.trim());
+            if (cursor < 0) {
+                throw new IllegalArgumentException("Last-Event-ID must be a non-negative sequence: " + value);
+            }
+            return cursor;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Last-Event-ID must be a non-negative sequence: " + value);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.cristianino.productapi.infrastructure.web.v1;
+
+import com.cristianino.productapi.application.dto.InventoryDto;
+import com.cristianino.productapi.application.dto.JsonApiResponse;
+import com.cristianino.productapi.application.dto.ProductDto;
+import com.cristianino.productapi.infrastructure.service.InventoryStock;
+import com.cristianino.productapi.infrastructure.service.InventoryStockClient;
+import com.cristianino.productapi.infrastructure.service.InventoryStockLookup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The {@code include=inventory} support shared by the V1 product controllers: stock levels for
+ * a page of products, fetched in one batched call and embedded as JSON:API {@code included}
+ * resources.
+ */
+final class InventoryIncludes {
+
+    private static final String INCLUDE_INVENTORY = "inventory";
+
+    private final InventoryStockClient inventoryStockClient;
+
+    InventoryIncludes(InventoryStockClient inventoryStockClient) {
+        this.inventoryStockClient = inventoryStockClient;
+    }
+
+    static boolean requested(String include) {
+        if (include == null || include.isBlank()) {
+            return false;
+        }
+        for (String path : include.split(",")) {
+            if (!INCLUDE_INVENTORY.equals(path.trim())) {
+                throw new IllegalArgumentException("Unsupported include parameter: " + path.trim());
+            }
+        }
+        return true;
+    }
+
+    void add(List<ProductDto> products, JsonApiResponse<?> response) {
+        List<Long> productIds = products.stream().map(product -> Long.valueOf(product.getId())).toList();
+        InventoryStockLookup lookup = inventoryStockClient.fetchStock(productIds);
+
+        List<Object> included = new ArrayList<>();
+        for (ProductDto product : products) {
+            InventoryStock stock = lookup.stock().get(Long.valueOf(product.getId()));
+            if (stock != null) {
+                product.setRelationships(Map.of(INCLUDE_INVENTORY, Map.of(
+                    "data", Map.of("type", InventoryDto.TYPE, "id", product.getId()))));
+                included.add(new InventoryDto(product.getId(), stock.productId(), stock.quantity(), stock.available()));
+            }
+        }
+        response.setIncluded(included);
+
+        if (lookup.isPartial()) {
+            Map<String, Object> meta = response.getMeta() != null ? new HashMap<>(response.getMeta()) : new HashMap<>();
+            meta.put("inventoryUnavailable", lookup.unavailable().stream().sorted().toList());
+            response.setMeta(meta);
+        }
+    }
+}
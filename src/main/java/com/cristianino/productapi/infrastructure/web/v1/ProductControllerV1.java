@@ -3,8 +3,14 @@ package com.cristianino.productapi.infrastructure.web.v1;
 import com.cristianino.productapi.application.dto.JsonApiResponse;
 import com.cristianino.productapi.application.dto.JsonApiError;
 import com.cristianino.productapi.application.dto.ProductDto;
+import com.cristianino.productapi.application.dto.ProductPriceStatsDto;
+import com.cristianino.productapi.application.usecase.ProductStatisticsUseCase;
 import com.cristianino.productapi.application.usecase.ProductUseCase;
+import com.cristianino.productapi.domain.model.Money;
+import com.cristianino.productapi.domain.model.ProductFilter;
+import com.cristianino.productapi.infrastructure.service.InventoryStockClient;
 import com.cristianino.productapi.infrastructure.web.JsonApiRequest;
+import io.micrometer.observation.annotation.Observed;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -14,20 +20,27 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 @RestController
+@Observed(name = "product.controller")
 @RequestMapping("/api/v1/products")
 @Tag(name = "Products V1", description = "📦 Product Management API V1.0 - Stable & Production Ready")
 @SecurityRequirement(name = "X-API-Key")
 public class ProductControllerV1 {
     
     private final ProductUseCase productUseCase;
+    private final ProductStatisticsUseCase productStatisticsUseCase;
+    private final InventoryIncludes inventoryIncludes;
     
-    public ProductControllerV1(ProductUseCase productUseCase) {
+    public ProductControllerV1(ProductUseCase productUseCase, ProductStatisticsUseCase productStatisticsUseCase,
+                               InventoryStockClient inventoryStockClient) {
         this.productUseCase = productUseCase;
+        this.productStatisticsUseCase = productStatisticsUseCase;
+        this.inventoryIncludes = new InventoryIncludes(inventoryStockClient);
     }
     
     @PostMapping
@@ -59,14 +72,21 @@ public class ProductControllerV1 {
     }
     
     @GetMapping("/{id}")
-    @Operation(summary = "Get product by ID", description = "Retrieves a product by its ID - Version 1.0")
+    @Operation(summary = "Get product by ID", description = "Retrieves a product by its ID - Version 1.0.\n\n" +
+                           "Use `include=inventory` to embed its stock level as a JSON:API `included` resource.")
     public ResponseEntity<JsonApiResponse<ProductDto>> getProduct(
-            @Parameter(description = "Product ID") @PathVariable Long id) {
+            @Parameter(description = "Product ID") @PathVariable Long id,
+            @Parameter(description = "Related resources to include (supported: inventory)")
+            @RequestParam(required = false) String include) {
+        boolean includeInventory = InventoryIncludes.requested(include);
         Optional<ProductDto> product = productUseCase.getProductById(id);
         if (product.isPresent()) {
             Map<String, String> links = Map.of("self", "/api/v1/products/" + id);
             JsonApiResponse<ProductDto> response = new JsonApiResponse<>(
                     product.get(), links, null);
+            if (includeInventory) {
+                inventoryIncludes.add(List.of(product.get()), response);
+            }
             return ResponseEntity.ok(response);
         } else {
             JsonApiError error = new JsonApiError("404", "Not Found", "Product not found");
@@ -81,10 +101,24 @@ public class ProductControllerV1 {
                            "**Features:**\n" +
                            "- Complete product list\n" +
                            "- HATEOAS links\n" +
-                           "- Metadata with count\n\n" +
-                           "**Future V2.0 will add:** Pagination, filtering, sorting")
-    public ResponseEntity<JsonApiResponse<List<ProductDto>>> getAllProducts() {
-        List<ProductDto> products = productUseCase.getAllProducts();
+                           "- Metadata with count\n" +
+                           "- `filter[name]`, `filter[minPrice]` and `filter[maxPrice]` narrow the list\n" +
+                           "- `include=inventory` embeds stock levels for the whole page, fetched in one batched call\n\n" +
+                           "**Future V2.0 will add:** Pagination, sorting")
+    public ResponseEntity<JsonApiResponse<List<ProductDto>>> getAllProducts(
+            @Parameter(description = "Related resources to include (supported: inventory)")
+            @RequestParam(required = false) String include,
+            @Parameter(description = "Case-insensitive substring of the product name")
+            @RequestParam(value = "filter[name]", required = false) String name,
+            @Parameter(description = "Minimum price, inclusive")
+            @RequestParam(value = "filter[minPrice]", required = false) BigDecimal minPrice,
+            @Parameter(description = "Maximum price, inclusive")
+            @RequestParam(value = "filter[maxPrice]", required = false) BigDecimal maxPrice) {
+        boolean includeInventory = InventoryIncludes.requested(include);
+        ProductFilter filter = toFilter(name, minPrice, maxPrice);
+        List<ProductDto> products = filter.isEmpty()
+                ? productUseCase.getAllProducts()
+                : productUseCase.getProducts(filter);
         Map<String, String> links = Map.of("self", "/api/v1/products");
         Map<String, Object> meta = Map.of(
             "count", products.size(),
@@ -92,9 +126,33 @@ public class ProductControllerV1 {
         );
         JsonApiResponse<List<ProductDto>> response = new JsonApiResponse<>(
                 products, links, meta);
+        if (includeInventory) {
+            inventoryIncludes.add(products, response);
+        }
         return ResponseEntity.ok(response);
     }
     
+    @GetMapping("/stats")
+    @Operation(summary = "Get price statistics", 
+               description = "Count, min, max, average, p50/p90/p99 and a price histogram, computed by the database " +
+                           "over the products matching the same filters as the product list.\n\n" +
+                           "`buckets` sets the number of equal-width histogram buckets between the matching min and max price. " +
+                           "Results are cached and refreshed after product writes.")
+    public ResponseEntity<JsonApiResponse<ProductPriceStatsDto>> getPriceStatistics(
+            @Parameter(description = "Case-insensitive substring of the product name")
+            @RequestParam(value = "filter[name]", required = false) String name,
+            @Parameter(description = "Minimum price, inclusive")
+            @RequestParam(value = "filter[minPrice]", required = false) BigDecimal minPrice,
+            @Parameter(description = "Maximum price, inclusive")
+            @RequestParam(value = "filter[maxPrice]", required = false) BigDecimal maxPrice,
+            @Parameter(description = "Number of histogram buckets")
+            @RequestParam(required = false) Integer buckets) {
+        ProductPriceStatsDto statistics = productStatisticsUseCase.getPriceStatistics(
+                toFilter(name, minPrice, maxPrice), buckets);
+        Map<String, String> links = Map.of("self", "/api/v1/products/stats");
+        return ResponseEntity.ok(new JsonApiResponse<>(statistics, links, Map.of("version", "1.0")));
+    }
+    
     @PutMapping("/{id}")
     @Operation(summary = "Update product", description = "Updates an existing product - Version 1.0")
     public ResponseEntity<JsonApiResponse<ProductDto>> updateProduct(
@@ -117,6 +175,40 @@ public class ProductControllerV1 {
         }
     }
     
+    @PatchMapping("/{id}")
+    @Operation(summary = "Partially update product",
+               description = "Updates only the attributes present in the request - Version 1.0.\n\n" +
+                           "**Request Format:**\n" +
+                           "```json\n" +
+                           "{\n" +
+                           "  \"data\": {\n" +
+                           "    \"type\": \"products\",\n" +
+                           "    \"attributes\": {\n" +
+                           "      \"price\": 89.99\n" +
+                           "    }\n" +
+                           "  }\n" +
+                           "}\n" +
+                           "```\n\n" +
+                           "Attributes that already hold the sent value are not rewritten; " +
+                           "the response is the product as stored.")
+    public ResponseEntity<JsonApiResponse<ProductDto>> patchProduct(
+            @Parameter(description = "Product ID") @PathVariable Long id,
+            @RequestBody JsonApiRequest<ProductDto> request) {
+        try {
+            Optional<ProductDto> patchedProduct = productUseCase.patchProduct(id, request.getData());
+            if (patchedProduct.isPresent()) {
+                JsonApiResponse<ProductDto> response = new JsonApiResponse<>(patchedProduct.get());
+                return ResponseEntity.ok(response);
+            } else {
+                return ResponseEntity.notFound().build();
+            }
+        } catch (IllegalArgumentException e) {
+            JsonApiError error = new JsonApiError("400", "Bad Request", e.getMessage());
+            JsonApiResponse<ProductDto> errorResponse = new JsonApiResponse<>(List.of(error));
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+    }
+    
     @DeleteMapping("/{id}")
     @Operation(summary = "Delete product", description = "Deletes a product by its ID - Version 1.0")
     public ResponseEntity<Void> deleteProduct(
@@ -128,4 +220,10 @@ public class ProductControllerV1 {
             return ResponseEntity.notFound().build();
         }
     }
-}
\ No newline at end of file
+    
+    static ProductFilter toFilter(String name, BigDecimal minPrice, BigDecimal maxPrice) {
+        return new ProductFilter(name,
+                minPrice != null ? Money.of(minPrice) : null,
+                maxPrice != null ? Money.of(maxPrice) : null);
+    }
+}
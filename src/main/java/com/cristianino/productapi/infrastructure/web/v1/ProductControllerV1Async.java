@@ -0,0 +1,131 @@
+package com.cristianino.productapi.infrastructure.web.v1;
+
+import com.cristianino.productapi.application.dto.JsonApiResponse;
+import com.cristianino.productapi.application.dto.ProductDto;
+import com.cristianino.productapi.application.usecase.ProductUseCase;
+import com.cristianino.productapi.domain.model.ProductFilter;
+import com.cristianino.productapi.infrastructure.persistence.DatabaseWorkExecutor;
+import com.cristianino.productapi.infrastructure.service.InventoryStockClient;
+import com.cristianino.productapi.infrastructure.web.JsonApiRequest;
+import io.micrometer.observation.annotation.Observed;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The V1 product endpoints with the use case run on the {@link DatabaseWorkExecutor}, so the
+ * Tomcat thread is released while the request waits on JDBC and the inventory service. Requests
+ * and responses are those of {@link ProductControllerV1}; a request that misses its deadline
+ * gets {@code 503} and its query is cancelled.
+ */
+@RestController
+@Observed(name = "product.controller.async")
+@RequestMapping("/api/v1/async/products")
+@Tag(name = "Products V1 Async", description = "Product Management API V1.0 served without holding a request thread")
+@SecurityRequirement(name = "X-API-Key")
+public class ProductControllerV1Async {
+
+    private final ProductUseCase productUseCase;
+    private final InventoryIncludes inventoryIncludes;
+    private final DatabaseWorkExecutor databaseWork;
+
+    public ProductControllerV1Async(ProductUseCase productUseCase, InventoryStockClient inventoryStockClient,
+                                    DatabaseWorkExecutor databaseWork) {
+        this.productUseCase = productUseCase;
+        this.inventoryIncludes = new InventoryIncludes(inventoryStockClient);
+        this.databaseWork = databaseWork;
+    }
+
+    @PostMapping
+    @Operation(summary = "Create a new product", description = "Same as `POST /api/v1/products`.")
+    public CompletableFuture<ResponseEntity<JsonApiResponse<ProductDto>>> createProduct(
+            @Valid @RequestBody JsonApiRequest<ProductDto> request) {
+        return databaseWork.submit(false, () -> productUseCase.createProduct(request.getData()))
+            .thenApply(created -> ResponseEntity.status(HttpStatus.CREATED).body(new JsonApiResponse<>(created)));
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Get product by ID", description = "Same as `GET /api/v1/products/{id}`.")
+    public CompletableFuture<ResponseEntity<JsonApiResponse<ProductDto>>> getProduct(
+            @Parameter(description = "Product ID") @PathVariable Long id,
+            @Parameter(description = "Related resources to include (supported: inventory)")
+            @RequestParam(required = false) String include) {
+        boolean includeInventory = InventoryIncludes.requested(include);
+        return databaseWork.submit(true, () -> productUseCase.getProductById(id))
+            .thenApply(product -> product.map(found -> {
+                JsonApiResponse<ProductDto> response = new JsonApiResponse<>(
+                        found, Map.of("self", "/api/v1/async/products/" + id), null);
+                if (includeInventory) {
+                    inventoryIncludes.add(List.of(found), response);
+                }
+                return ResponseEntity.ok(response);
+            }).orElseGet(() -> ResponseEntity.notFound().build()));
+    }
+
+    @GetMapping
+    @Operation(summary = "Get all products", description = "Same as `GET /api/v1/products`, with the same filters.")
+    public CompletableFuture<ResponseEntity<JsonApiResponse<List<ProductDto>>>> getAllProducts(
+            @Parameter(description = "Related resources to include (supported: inventory)")
+            @RequestParam(required = false) String include,
+            @Parameter(description = "Case-insensitive substring of the product name")
+            @RequestParam(value = "filter[name]", required = false) String name,
+            @Parameter(description = "Minimum price, inclusive")
+            @RequestParam(value = "filter[minPrice]", required = false) BigDecimal minPrice,
+            @Parameter(description = "Maximum price, inclusive")
+            @RequestParam(value = "filter[maxPrice]", required = false) BigDecimal maxPrice) {
+        boolean includeInventory = InventoryIncludes.requested(include);
+        ProductFilter filter = ProductControllerV1.toFilter(name, minPrice, maxPrice);
+        return databaseWork.submit(true, () -> filter.isEmpty()
+                ? productUseCase.getAllProducts()
+                : productUseCase.getProducts(filter))
+            .thenApply(products -> {
+                JsonApiResponse<List<ProductDto>> response = new JsonApiResponse<>(products,
+                        Map.of("self", "/api/v1/async/products"),
+                        Map.of("count", products.size(), "version", "1.0"));
+                if (includeInventory) {
+                    inventoryIncludes.add(products, response);
+                }
+                return ResponseEntity.ok(response);
+            });
+    }
+
+    @PutMapping("/{id}")
+    @Operation(summary = "Update product", description = "Same as `PUT /api/v1/products/{id}`.")
+    public CompletableFuture<ResponseEntity<JsonApiResponse<ProductDto>>> updateProduct(
+            @Parameter(description = "Product ID") @PathVariable Long id,
+            @Valid @RequestBody JsonApiRequest<ProductDto> request) {
+        return databaseWork.submit(false, () -> productUseCase.updateProduct(id, request.getData()))
+            .thenApply(updated -> updated.map(product -> ResponseEntity.ok(new JsonApiResponse<>(product)))
+                .orElseGet(() -> ResponseEntity.notFound().build()));
+    }
+
+    @PatchMapping("/{id}")
+    @Operation(summary = "Partially update product", description = "Same as `PATCH /api/v1/products/{id}`.")
+    public CompletableFuture<ResponseEntity<JsonApiResponse<ProductDto>>> patchProduct(
+            @Parameter(description = "Product ID") @PathVariable Long id,
+            @RequestBody JsonApiRequest<ProductDto> request) {
+        return databaseWork.submit(false, () -> productUseCase.patchProduct(id, request.getData()))
+            .thenApply(patched -> patched.map(product -> ResponseEntity.ok(new JsonApiResponse<>(product)))
+                .orElseGet(() -> ResponseEntity.notFound().build()));
+    }
+
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Delete product", description = "Same as `DELETE /api/v1/products/{id}`.")
+    public CompletableFuture<ResponseEntity<Void>> deleteProduct(
+            @Parameter(description = "Product ID") @PathVariable Long id) {
+        return databaseWork.submit(false, () -> productUseCase.deleteProduct(id))
+            .thenApply(deleted -> deleted
+                ? ResponseEntity.noContent().<Void>build()
+                : ResponseEntity.notFound().<Void>build());
+    }
+}
@@ -0,0 +1,69 @@
+package com.cristianino.productapi.infrastructure.web.v1;
+
+import com.cristianino.productapi.application.dto.JsonApiError;
+import com.cristianino.productapi.application.dto.JsonApiResponse;
+import com.cristianino.productapi.application.dto.ProductImportReportDto;
+import com.cristianino.productapi.application.usecase.ProductImportFormat;
+import com.cristianino.productapi.application.usecase.ProductImportUseCase;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+@RestController
+@RequestMapping("/api/v1/products")
+@Tag(name = "Products V1", description = "📦 Product Management API V1.0 - Stable & Production Ready")
+@SecurityRequirement(name = "X-API-Key")
+public class ProductImportController {
+    
+    static final String TEXT_CSV = "text/csv";
+    static final String APPLICATION_NDJSON = "application/x-ndjson";
+    
+    private final ProductImportUseCase productImportUseCase;
+    
+    public ProductImportController(ProductImportUseCase productImportUseCase) {
+        this.productImportUseCase = productImportUseCase;
+    }
+    
+    @PostMapping(value = "/import", consumes = {TEXT_CSV, APPLICATION_NDJSON})
+    @Operation(summary = "Bulk import products", 
+               description = "Streams a catalog upload into the database in one transaction.\n\n" +
+                           "- `text/csv`: header row naming `name`, `price` and optionally `id`; other columns are ignored\n" +
+                           "- `application/x-ndjson`: one `{\"id\", \"name\", \"price\"}` object per line\n\n" +
+                           "Send `Content-Encoding: gzip` for a compressed upload. Rows with an `id` replace that product, " +
+                           "rows without one create a product. Invalid rows and unknown ids are skipped and reported by line " +
+                           "in `attributes.rejects`; the rest of the upload is imported.")
+    public ResponseEntity<JsonApiResponse<ProductImportReportDto>> importProducts(
+            HttpServletRequest request,
+            @Parameter(description = "text/csv or application/x-ndjson")
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            @RequestHeader(value = HttpHeaders.CONTENT_ENCODING, required = false) String contentEncoding) {
+        ProductImportFormat format = MediaType.valueOf(APPLICATION_NDJSON).includes(contentType)
+                ? ProductImportFormat.NDJSON
+                : ProductImportFormat.CSV;
+        try (InputStream body = "gzip".equalsIgnoreCase(contentEncoding)
+                ? new GZIPInputStream(request.getInputStream(), 1 << 16)
+                : request.getInputStream()) {
+            ProductImportReportDto report = productImportUseCase.importProducts(body, format);
+            Map<String, Object> meta = Map.of("version", "1.0");
+            return ResponseEntity.ok(new JsonApiResponse<>(report, null, meta));
+        } catch (IOException e) {
+            JsonApiError error = new JsonApiError("400", "Bad Request", "Could not read import: " + e.getMessage());
+            return ResponseEntity.badRequest().body(new JsonApiResponse<>(List.of(error)));
+        }
+    }
+}
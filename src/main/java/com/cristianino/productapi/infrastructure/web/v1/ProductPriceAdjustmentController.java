@@ -0,0 +1,69 @@
+package com.cristianino.productapi.infrastructure.web.v1;
+
+import com.cristianino.productapi.application.dto.JsonApiResponse;
+import com.cristianino.productapi.application.dto.PriceAdjustmentDto;
+import com.cristianino.productapi.application.usecase.ProductPriceAdjustmentUseCase;
+import com.cristianino.productapi.infrastructure.web.JsonApiRequest;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1/products")
+@Tag(name = "Products V1", description = "📦 Product Management API V1.0 - Stable & Production Ready")
+@SecurityRequirement(name = "X-API-Key")
+public class ProductPriceAdjustmentController {
+
+    private final ProductPriceAdjustmentUseCase productPriceAdjustmentUseCase;
+
+    public ProductPriceAdjustmentController(ProductPriceAdjustmentUseCase productPriceAdjustmentUseCase) {
+        this.productPriceAdjustmentUseCase = productPriceAdjustmentUseCase;
+    }
+
+    @PostMapping("/price-adjustments")
+    @Operation(summary = "Bulk adjust prices",
+               description = "Reprices every product matching the same filters as the product list in one statement.\n\n" +
+                           "**Request Format:**\n" +
+                           "```json\n" +
+                           "{\n" +
+                           "  \"data\": {\n" +
+                           "    \"type\": \"price-adjustments\",\n" +
+                           "    \"attributes\": {\n" +
+                           "      \"rule\": \"percentage\",\n" +
+                           "      \"amount\": -10\n" +
+                           "    }\n" +
+                           "  }\n" +
+                           "}\n" +
+                           "```\n\n" +
+                           "- `percentage`: `amount` percent up or down, rounded half-up to cents\n" +
+                           "- `delta`: `amount` added to the price\n" +
+                           "- `round-to-99`: whole part plus .99, no `amount`\n\n" +
+                           "Without filters every product is repriced. `dryRun=true` writes nothing and returns the number of " +
+                           "affected products, how many would fall outside 0 to 99999999.99, and a sample of the changes. " +
+                           "An adjustment that would take any price out of that range is rejected as a whole.")
+    public ResponseEntity<JsonApiResponse<PriceAdjustmentDto>> adjustPrices(
+            @Valid @RequestBody JsonApiRequest<PriceAdjustmentDto> request,
+            @Parameter(description = "Case-insensitive substring of the product name")
+            @RequestParam(value = "filter[name]", required = false) String name,
+            @Parameter(description = "Minimum price, inclusive")
+            @RequestParam(value = "filter[minPrice]", required = false) BigDecimal minPrice,
+            @Parameter(description = "Maximum price, inclusive")
+            @RequestParam(value = "filter[maxPrice]", required = false) BigDecimal maxPrice,
+            @Parameter(description = "Preview the adjustment without writing")
+            @RequestParam(defaultValue = "false") boolean dryRun) {
+        PriceAdjustmentDto result = productPriceAdjustmentUseCase.adjustPrices(
+                ProductControllerV1.toFilter(name, minPrice, maxPrice), request.getData(), dryRun);
+        return ResponseEntity.ok(new JsonApiResponse<>(result, null, Map.of("version", "1.0")));
+    }
+}
@@ -0,0 +1,10 @@
+-- Transactional outbox: one row per committed product mutation, written in the
+-- same transaction as the mutation. The id is the change-feed sequence cursor.
+CREATE TABLE product_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    aggregate_id BIGINT NOT NULL,
+    event_type VARCHAR(16) NOT NULL,
+    name VARCHAR(255),
+    price DECIMAL(10,2),
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now()
+);
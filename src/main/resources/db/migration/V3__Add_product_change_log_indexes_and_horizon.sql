@@ -0,0 +1,13 @@
+-- Delta sync reads the newest outbox row per product: max(id) grouped by aggregate_id.
+CREATE INDEX idx_product_outbox_aggregate_id ON product_outbox (aggregate_id, id);
+
+-- Tombstone retention scans only deletions by age.
+CREATE INDEX idx_product_outbox_tombstones ON product_outbox (created_at) WHERE event_type = 'DELETED';
+
+-- Highest purged tombstone sequence; delta-sync cursors below it must fully resync.
+CREATE TABLE product_change_horizon (
+    id SMALLINT PRIMARY KEY CHECK (id = 1),
+    sequence BIGINT NOT NULL
+);
+
+INSERT INTO product_change_horizon (id, sequence) VALUES (1, 0);
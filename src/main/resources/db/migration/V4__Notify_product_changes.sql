@@ -0,0 +1,25 @@
+-- Publishes every committed product row change on the product_changes channel so
+-- in-memory catalog snapshots can apply it without re-reading the table.
+-- Notifications are delivered only on commit, in commit order.
+CREATE OR REPLACE FUNCTION notify_product_change() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        PERFORM pg_notify('product_changes', json_build_object(
+            'op', 'DELETE',
+            'id', OLD.id,
+            'at', extract(epoch from clock_timestamp()))::text);
+        RETURN OLD;
+    END IF;
+    PERFORM pg_notify('product_changes', json_build_object(
+        'op', TG_OP,
+        'id', NEW.id,
+        'name', NEW.name,
+        'price', NEW.price,
+        'at', extract(epoch from clock_timestamp()))::text);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER products_notify_change
+    AFTER INSERT OR UPDATE OR DELETE ON products
+    FOR EACH ROW EXECUTE FUNCTION notify_product_change();
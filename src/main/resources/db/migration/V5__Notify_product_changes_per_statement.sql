@@ -0,0 +1,65 @@
+-- Replaces the per-row product_changes notification of V4 with one per statement, so a bulk
+-- merge or set-based update queues a single NOTIFY instead of one per row. The payload lists
+-- the changed rows; a statement whose rows would not fit in a notification (8000 bytes) sends
+-- a RELOAD instead and listeners rebuild their catalog snapshot from the table.
+-- Notifications are delivered only on commit, in commit order.
+DROP TRIGGER IF EXISTS products_notify_change ON products;
+DROP FUNCTION IF EXISTS notify_product_change();
+
+CREATE OR REPLACE FUNCTION notify_product_changes() RETURNS trigger AS $$
+DECLARE
+    changed bigint;
+    payload text;
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        SELECT count(*) INTO changed FROM old_rows;
+    ELSE
+        SELECT count(*) INTO changed FROM new_rows;
+    END IF;
+    IF changed = 0 THEN
+        RETURN NULL;
+    END IF;
+
+    -- Beyond this many rows the payload cannot fit whatever the names; skip building it
+    IF changed <= 100 THEN
+        IF TG_OP = 'DELETE' THEN
+            SELECT json_build_object(
+                'op', 'DELETE',
+                'rows', json_agg(json_build_object('id', id)),
+                'at', extract(epoch from clock_timestamp()))::text
+            INTO payload FROM old_rows;
+        ELSE
+            SELECT json_build_object(
+                'op', TG_OP,
+                'rows', json_agg(json_build_object('id', id, 'name', name, 'price', price)),
+                'at', extract(epoch from clock_timestamp()))::text
+            INTO payload FROM new_rows;
+        END IF;
+    END IF;
+
+    IF payload IS NULL OR octet_length(payload) > 7900 THEN
+        payload := json_build_object(
+            'op', 'RELOAD',
+            'count', changed,
+            'at', extract(epoch from clock_timestamp()))::text;
+    END IF;
+    PERFORM pg_notify('product_changes', payload);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Transition tables are only allowed on triggers for a single event
+CREATE TRIGGER products_notify_insert
+    AFTER INSERT ON products
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_product_changes();
+
+CREATE TRIGGER products_notify_update
+    AFTER UPDATE ON products
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_product_changes();
+
+CREATE TRIGGER products_notify_delete
+    AFTER DELETE ON products
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_product_changes();
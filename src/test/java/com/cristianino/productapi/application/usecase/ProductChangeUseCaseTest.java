@@ -0,0 +1,99 @@
+package com.cristianino.productapi.application.usecase;
+
+import com.cristianino.productapi.application.dto.ProductChangeDto;
+import com.cristianino.productapi.domain.model.ProductChange;
+import com.cristianino.productapi.domain.model.ProductChangeType;
+import com.cristianino.productapi.domain.port.ProductOutbox;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductChangeUseCaseTest {
+
+    @Mock
+    private ProductOutbox productOutbox;
+
+    @InjectMocks
+    private ProductChangeUseCase productChangeUseCase;
+
+    @Test
+    void getChangesSince_MapsUpdatesAndTombstones() {
+        // Given
+        when(productOutbox.horizon()).thenReturn(0L);
+        when(productOutbox.findLatestChanges(10L, 20L, 100)).thenReturn(List.of(
+            new ProductChange(12L, ProductChangeType.UPDATED, 1L, "Laptop", new BigDecimal("899.99"), Instant.now()),
+            new ProductChange(15L, ProductChangeType.DELETED, 2L, null, null, Instant.now())));
+
+        // When
+        List<ProductChangeDto> result = productChangeUseCase.getChangesSince(10L, 20L, 100);
+
+        // Then
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0).getId()).isEqualTo("1");
+        assertThat(result.get(0).getAttributes().getPrice()).isEqualByComparingTo("899.99");
+        assertThat(result.get(0).getMeta().getChangeType()).isEqualTo("UPDATED");
+        assertThat(result.get(0).getMeta().isDeleted()).isFalse();
+        assertThat(result.get(1)).isEqualTo(ProductChangeDto.tombstone("2", 15L));
+        assertThat(result.get(1).getAttributes()).isNull();
+    }
+
+    @Test
+    void getChangesSince_CursorBelowHorizon_ShouldThrowExpired() {
+        // Given
+        when(productOutbox.horizon()).thenReturn(50L);
+
+        // When & Then
+        assertThatThrownBy(() -> productChangeUseCase.getChangesSince(49L, 100L, 100))
+            .isInstanceOf(ChangeHistoryExpiredException.class)
+            .satisfies(e -> assertThat(((ChangeHistoryExpiredException) e).getHorizon()).isEqualTo(50L));
+        verify(productOutbox, never()).findLatestChanges(anyLong(), anyLong(), anyInt());
+    }
+
+    @Test
+    void getChangesSince_CursorAtHorizon_IsAccepted() {
+        // Given
+        when(productOutbox.horizon()).thenReturn(50L);
+        when(productOutbox.findLatestChanges(50L, 100L, 100)).thenReturn(List.of());
+
+        // When
+        List<ProductChangeDto> result = productChangeUseCase.getChangesSince(50L, 100L, 100);
+
+        // Then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void getChangesSince_FullLoadFromZero_IsAcceptedAfterTombstonesWerePurged() {
+        // Given
+        when(productOutbox.findLatestChanges(0L, 100L, 100)).thenReturn(List.of(
+            new ProductChange(60L, ProductChangeType.UPDATED, 1L, "Laptop", new BigDecimal("899.99"), Instant.now())));
+
+        // When
+        List<ProductChangeDto> result = productChangeUseCase.getChangesSince(0L, 100L, 100);
+
+        // Then
+        assertThat(result).extracting(ProductChangeDto::getId).containsExactly("1");
+        verify(productOutbox, never()).horizon();
+    }
+
+    @Test
+    void getChangesSince_WithNegativeSince_ShouldThrowException() {
+        // When & Then
+        assertThatThrownBy(() -> productChangeUseCase.getChangesSince(-1L, 100L, 100))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("since must be a non-negative sequence");
+        verifyNoInteractions(productOutbox);
+    }
+}
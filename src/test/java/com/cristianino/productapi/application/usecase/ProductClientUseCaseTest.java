@@ -0,0 +1,90 @@
+package com.cristianino.productapi.application.usecase;
+
+import com.cristianino.productapi.application.dto.client.ProductClientDto;
+import com.cristianino.productapi.application.dto.client.ProductListClientResponse;
+import com.cristianino.productapi.application.port.ProductClientQueryPort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductClientUseCaseTest {
+
+    @Mock
+    private ProductClientQueryPort queryPort;
+
+    @InjectMocks
+    private ProductClientUseCase productClientUseCase;
+
+    @Test
+    void getProducts_ShortFirstPage_SkipsCountQuery() {
+        // Given
+        when(queryPort.findPage(0, 100)).thenReturn(List.of(
+            new ProductClientDto(1L, "Laptop", new BigDecimal("999.99"))));
+
+        // When
+        ProductListClientResponse result = productClientUseCase.getProducts(0, 100);
+
+        // Then
+        assertThat(result.getProducts()).hasSize(1);
+        assertThat(result.getTotalElements()).isEqualTo(1);
+        verify(queryPort, never()).count();
+    }
+
+    @Test
+    void getProducts_LaterPage_ReportsTotalFromCount() {
+        // Given
+        when(queryPort.findPage(1, 2)).thenReturn(List.of(
+            new ProductClientDto(3L, "Keyboard", new BigDecimal("79.99"))));
+        when(queryPort.count()).thenReturn(3L);
+
+        // When
+        ProductListClientResponse result = productClientUseCase.getProducts(1, 2);
+
+        // Then
+        assertThat(result.getTotalElements()).isEqualTo(3);
+        assertThat(result.isSuccess()).isTrue();
+    }
+
+    @Test
+    void getProducts_WithNegativePage_ShouldThrowException() {
+        // When & Then
+        assertThatThrownBy(() -> productClientUseCase.getProducts(-1, 10))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("page must be non-negative");
+        verifyNoInteractions(queryPort);
+    }
+
+    @Test
+    void getProductsByIds_DeduplicatesIds() {
+        // Given
+        when(queryPort.findByIds(Set.of(1L, 2L))).thenReturn(List.of(
+            new ProductClientDto(1L, "Laptop", new BigDecimal("999.99")),
+            new ProductClientDto(2L, "Mouse", new BigDecimal("29.99"))));
+
+        // When
+        ProductListClientResponse result = productClientUseCase.getProductsByIds(Arrays.asList(1L, 2L, 1L, null), 10);
+
+        // Then
+        assertThat(result.getProducts()).extracting(ProductClientDto::getId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void getProductsByIds_AboveBatchLimit_ShouldThrowException() {
+        // When & Then
+        assertThatThrownBy(() -> productClientUseCase.getProductsByIds(List.of(1L, 2L, 3L), 2))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("At most 2 productIds can be requested at once");
+        verifyNoInteractions(queryPort);
+    }
+}
@@ -0,0 +1,118 @@
+package com.cristianino.productapi.application.usecase;
+
+import com.cristianino.productapi.application.dto.ProductImportReportDto;
+import com.cristianino.productapi.application.dto.ProductImportReportDto.ImportSummary;
+import com.cristianino.productapi.application.dto.ProductImportReportDto.RowReject;
+import com.cristianino.productapi.application.port.ProductImportPort;
+import com.cristianino.productapi.application.port.ProductImportPort.MergeResult;
+import com.cristianino.productapi.domain.model.Product;
+import com.cristianino.productapi.domain.service.ProductDomainService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductImportUseCaseTest {
+
+    @Mock
+    private ProductImportPort importPort;
+
+    private final List<Long> importedLines = new ArrayList<>();
+    private final List<Product> importedProducts = new ArrayList<>();
+
+    private ProductImportUseCase productImportUseCase;
+
+    @BeforeEach
+    void setUp() {
+        productImportUseCase = new ProductImportUseCase(importPort, new ProductDomainService(null, null), new ObjectMapper(), 2);
+    }
+
+    @Test
+    void importProducts_Csv_StreamsValidRowsAndRejectsInvalidOnesByLine() throws Exception {
+        // Given
+        mergeReturns(new MergeResult(2, 1, 0, List.of()));
+        String csv = "sku,Name,price,id\n" +
+                     "A-1,\"Desk, oak\",199.90,\n" +
+                     "A-2,\"Lamp \"\"Arc\"\"\nwith bulb\",49.5,7\n" +
+                     "\n" +
+                     "A-3,Mouse,-1,\n" +
+                     "A-4,Cable,2.00,\n";
+
+        // When
+        ProductImportReportDto report = productImportUseCase.importProducts(utf8(csv), ProductImportFormat.CSV);
+
+        // Then
+        assertThat(importedLines).containsExactly(2L, 3L, 7L);
+        assertThat(importedProducts.get(0).getName()).isEqualTo("Desk, oak");
+        assertThat(importedProducts.get(1).getId()).isEqualTo(7L);
+        assertThat(importedProducts.get(1).getName()).isEqualTo("Lamp \"Arc\"\nwith bulb");
+        assertThat(importedProducts.get(1).getPrice().toBigDecimal()).isEqualByComparingTo("49.50");
+        ImportSummary summary = report.attributes();
+        assertThat(report.type()).isEqualTo("product-imports");
+        assertThat(summary.received()).isEqualTo(4);
+        assertThat(summary.created()).isEqualTo(2);
+        assertThat(summary.updated()).isEqualTo(1);
+        assertThat(summary.rejects()).containsExactly(new RowReject(6, "Product price cannot be negative"));
+        assertThat(summary.rejectsTruncated()).isFalse();
+    }
+
+    @Test
+    void importProducts_Ndjson_MergesParseRejectsWithUnknownIdsAndCapsReport() throws Exception {
+        // Given
+        mergeReturns(new MergeResult(0, 1, 5, List.of(1L, 2L)));
+        String ndjson = "{\"id\": 41, \"name\": \"Ghost\", \"price\": 1.5}\n" +
+                        "{\"id\": 42, \"name\": \"Ghost 2\", \"price\": 2}\n" +
+                        "{\"name\": \"Broken\", \"price\": }\n" +
+                        "{\"id\": 1, \"name\": \"Laptop\", \"price\": 899.99}\n" +
+                        "{\"name\": \"\", \"price\": 5}\n";
+
+        // When
+        ImportSummary summary = productImportUseCase.importProducts(utf8(ndjson), ProductImportFormat.NDJSON).attributes();
+
+        // Then
+        assertThat(importedLines).containsExactly(1L, 2L, 4L);
+        assertThat(summary.received()).isEqualTo(5);
+        assertThat(summary.rejected()).isEqualTo(7);
+        assertThat(summary.rejects()).extracting(RowReject::line).containsExactly(1L, 2L);
+        assertThat(summary.rejects().get(0).reason()).isEqualTo("Product not found");
+        assertThat(summary.rejectsTruncated()).isTrue();
+    }
+
+    @Test
+    void importProducts_CsvWithoutPriceColumn_ThrowsBeforeWriting() {
+        // When & Then
+        assertThatThrownBy(() -> productImportUseCase.importProducts(utf8("id,name\n1,Laptop\n"), ProductImportFormat.CSV))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("CSV header must name the name and price columns");
+        verifyNoInteractions(importPort);
+    }
+
+    private void mergeReturns(MergeResult result) throws Exception {
+        when(importPort.importProducts(any(), anyInt())).thenAnswer(invocation -> {
+            ProductImportPort.RowSource rows = invocation.getArgument(0);
+            rows.writeTo((line, product) -> {
+                importedLines.add(line);
+                importedProducts.add(product);
+            });
+            return result;
+        });
+    }
+
+    private static InputStream utf8(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,96 @@
+package com.cristianino.productapi.application.usecase;
+
+import com.cristianino.productapi.application.dto.PriceAdjustmentDto;
+import com.cristianino.productapi.application.port.ProductPriceAdjustmentPort;
+import com.cristianino.productapi.application.port.ProductPriceAdjustmentPort.PriceChange;
+import com.cristianino.productapi.application.port.ProductPriceAdjustmentPort.Preview;
+import com.cristianino.productapi.domain.model.Money;
+import com.cristianino.productapi.domain.model.PriceAdjustment;
+import com.cristianino.productapi.domain.model.ProductFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductPriceAdjustmentUseCaseTest {
+
+    @Mock
+    private ProductPriceAdjustmentPort adjustmentPort;
+
+    private ProductPriceAdjustmentUseCase productPriceAdjustmentUseCase;
+
+    private final ProductFilter filter = new ProductFilter("laptop", null, null);
+
+    @BeforeEach
+    void setUp() {
+        productPriceAdjustmentUseCase = new ProductPriceAdjustmentUseCase(adjustmentPort, 5);
+    }
+
+    @Test
+    void adjustPrices_DryRun_ReturnsPreviewWithoutApplying() {
+        // Given
+        PriceAdjustment adjustment = new PriceAdjustment(PriceAdjustment.Rule.ROUND_TO_99, null);
+        when(adjustmentPort.preview(filter, adjustment, 5)).thenReturn(new Preview(12, 0,
+            List.of(new PriceChange(3, "Laptop", Money.ofMinor(99_940), Money.ofMinor(99_999)))));
+
+        // When
+        PriceAdjustmentDto result = productPriceAdjustmentUseCase.adjustPrices(filter, request("round-to-99", null), true);
+
+        // Then
+        PriceAdjustmentDto.Attributes attributes = result.attributes();
+        assertThat(result.type()).isEqualTo("price-adjustments");
+        assertThat(attributes.rule()).isEqualTo("ROUND_TO_99");
+        assertThat(attributes.dryRun()).isTrue();
+        assertThat(attributes.affected()).isEqualTo(12);
+        assertThat(attributes.sample()).containsExactly(new PriceAdjustmentDto.PriceChange(
+            "3", "Laptop", new BigDecimal("999.40"), new BigDecimal("999.99")));
+        verify(adjustmentPort, never()).apply(any(), any());
+    }
+
+    @Test
+    void adjustPrices_Delta_AppliesAmountRoundedToCents() {
+        // Given
+        PriceAdjustment adjustment = new PriceAdjustment(PriceAdjustment.Rule.DELTA, new BigDecimal("-5.005"));
+        when(adjustmentPort.apply(filter, adjustment)).thenReturn(7L);
+
+        // When
+        PriceAdjustmentDto result = productPriceAdjustmentUseCase.adjustPrices(filter, request("DELTA", new BigDecimal("-5.005")), false);
+
+        // Then
+        assertThat(result.id()).isNotBlank();
+        assertThat(result.attributes().amount()).isEqualByComparingTo("-5.01");
+        assertThat(result.attributes().affected()).isEqualTo(7);
+        assertThat(result.attributes().sample()).isNull();
+    }
+
+    @Test
+    void adjustPrices_InvalidRules_ThrowBeforeTouchingProducts() {
+        // When & Then
+        assertThatThrownBy(() -> productPriceAdjustmentUseCase.adjustPrices(filter, request("discount", BigDecimal.TEN), false))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Unknown price adjustment rule: discount");
+        assertThatThrownBy(() -> productPriceAdjustmentUseCase.adjustPrices(filter, request("percentage", new BigDecimal("-101")), true))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Price adjustment percentage cannot be below -100");
+        assertThatThrownBy(() -> productPriceAdjustmentUseCase.adjustPrices(filter, request("delta", null), false))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Price adjustment rule DELTA needs a non-zero amount");
+        assertThatThrownBy(() -> productPriceAdjustmentUseCase.adjustPrices(filter, request("round-to-99", BigDecimal.ONE), false))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Price adjustment rule ROUND_TO_99 takes no amount");
+        verifyNoInteractions(adjustmentPort);
+    }
+
+    private static PriceAdjustmentDto request(String rule, BigDecimal amount) {
+        return new PriceAdjustmentDto(null, PriceAdjustmentDto.TYPE,
+            new PriceAdjustmentDto.Attributes(rule, amount, null, null, null, null));
+    }
+}
@@ -0,0 +1,131 @@
+package com.cristianino.productapi.benchmark;
+
+import com.cristianino.productapi.domain.model.Money;
+import com.cristianino.productapi.domain.model.Product;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Price range filtering, price sorting and price totals over large product lists, with prices held as
+ * {@link Money} (the domain model) and as {@link BigDecimal} (the previous representation).
+ * Input prices mix scales ({@code 9.9} and {@code 9.90}) as they arrive from JSON.
+ * <p>
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark.args="MoneyBenchmark -prof gc"};
+ * {@code -prof gc} reports the allocation rate per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class MoneyBenchmark {
+
+    @Param({"100000", "1000000"})
+    public int size;
+
+    private List<Product> moneyProducts;
+    private List<BigDecimalProduct> bigDecimalProducts;
+    private Money minMoney;
+    private Money maxMoney;
+    private BigDecimal minBigDecimal;
+    private BigDecimal maxBigDecimal;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        moneyProducts = new ArrayList<>(size);
+        bigDecimalProducts = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            long cents = random.nextLong(100, 1_000_000);
+            BigDecimal price = cents % 10 == 0 && random.nextBoolean()
+                ? BigDecimal.valueOf(cents / 10, 1)
+                : BigDecimal.valueOf(cents, 2);
+            moneyProducts.add(new Product(id, "Product", price));
+            bigDecimalProducts.add(new BigDecimalProduct(id, "Product", price));
+        }
+        minBigDecimal = new BigDecimal("250.0");
+        maxBigDecimal = new BigDecimal("7500");
+        minMoney = Money.of(minBigDecimal);
+        maxMoney = Money.of(maxBigDecimal);
+    }
+
+    @Benchmark
+    public List<Product> filterMoney() {
+        List<Product> result = new ArrayList<>();
+        for (Product product : moneyProducts) {
+            Money price = product.getPrice();
+            if (price.compareTo(minMoney) >= 0 && price.compareTo(maxMoney) <= 0) {
+                result.add(product);
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<BigDecimalProduct> filterBigDecimal() {
+        List<BigDecimalProduct> result = new ArrayList<>();
+        for (BigDecimalProduct product : bigDecimalProducts) {
+            BigDecimal price = product.price();
+            if (price.compareTo(minBigDecimal) >= 0 && price.compareTo(maxBigDecimal) <= 0) {
+                result.add(product);
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<Product> sortMoney() {
+        List<Product> sorted = new ArrayList<>(moneyProducts);
+        sorted.sort(Comparator.comparingLong(product -> product.getPrice().minorUnits()));
+        return sorted;
+    }
+
+    @Benchmark
+    public List<BigDecimalProduct> sortBigDecimal() {
+        List<BigDecimalProduct> sorted = new ArrayList<>(bigDecimalProducts);
+        sorted.sort(Comparator.comparing(BigDecimalProduct::price));
+        return sorted;
+    }
+
+    @Benchmark
+    public long totalMoney() {
+        long total = 0;
+        for (Product product : moneyProducts) {
+            total += product.getPrice().minorUnits();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public BigDecimal totalBigDecimal() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (BigDecimalProduct product : bigDecimalProducts) {
+            total = total.add(product.price());
+        }
+        return total;
+    }
+
+    /**
+     * Stand-in for the product model before prices moved to {@link Money}.
+     */
+    public record BigDecimalProduct(long id, String name, BigDecimal price) {
+    }
+}
@@ -0,0 +1,100 @@
+package com.cristianino.productapi.benchmark;
+
+import com.cristianino.productapi.domain.model.Product;
+import com.cristianino.productapi.infrastructure.persistence.ProductIdIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Random-id lookups against {@link ProductIdIndex} and {@code HashMap<Long, Product>}.
+ * <p>
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark.args=ProductIdIndexBenchmark}.
+ * The 10M case needs a large heap; the profile forks with {@code -Xmx6g}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms6g", "-Xmx6g"})
+public class ProductIdIndexBenchmark {
+
+    private static final int LOOKUPS = 1 << 16;
+
+    @Param({"1000000", "10000000"})
+    public int size;
+
+    private ProductIdIndex index;
+    private Map<Long, Product> hashMap;
+    private long[] hitIds;
+    private long[] missIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        index = new ProductIdIndex(size);
+        hashMap = new HashMap<>((int) (size / 0.75f) + 1);
+        BigDecimal price = new BigDecimal("9.99");
+        for (long id = 1; id <= size; id++) {
+            Product product = new Product(id, "Product", price);
+            index.put(id, product);
+            hashMap.put(id, product);
+        }
+        SplittableRandom random = new SplittableRandom(42);
+        hitIds = new long[LOOKUPS];
+        missIds = new long[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            hitIds[i] = random.nextLong(1, size + 1L);
+            missIds[i] = random.nextLong(size + 1L, 2L * size);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void indexHit(Blackhole blackhole) {
+        for (long id : hitIds) {
+            blackhole.consume(index.get(id));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void hashMapHit(Blackhole blackhole) {
+        for (long id : hitIds) {
+            blackhole.consume(hashMap.get(id));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void indexMiss(Blackhole blackhole) {
+        for (long id : missIds) {
+            blackhole.consume(index.get(id));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void hashMapMiss(Blackhole blackhole) {
+        for (long id : missIds) {
+            blackhole.consume(hashMap.get(id));
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.cristianino.productapi.benchmark;
+
+import com.cristianino.productapi.domain.model.Product;
+import com.cristianino.productapi.infrastructure.persistence.ProductIdIndex;
+import org.openjdk.jol.info.GraphLayout;
+import org.openjdk.jol.vm.VM;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Retained size of the id-to-product structure alone (products themselves excluded), measured
+ * with JOL for {@link ProductIdIndex} and {@code HashMap<Long, Product>}.
+ * <p>
+ * Keys are the products' own {@code Long} ids, so the map pays for nodes and table but not for
+ * extra boxes, as in a real cache. Run with {@code mvn -Pbenchmark test-compile exec:exec
+ * -Dbenchmark.main=com.cristianino.productapi.benchmark.ProductIdIndexFootprint}.
+ */
+public final class ProductIdIndexFootprint {
+
+    private ProductIdIndexFootprint() {
+    }
+
+    public static void main(String[] args) {
+        System.out.println(VM.current().details());
+        for (int size : new int[] {1_000_000, 10_000_000}) {
+            measure(size);
+        }
+    }
+
+    private static void measure(int size) {
+        Product[] products = new Product[size];
+        BigDecimal price = new BigDecimal("9.99");
+        for (int i = 0; i < size; i++) {
+            products[i] = new Product(i + 1L, "Product", price);
+        }
+        long productsOnly = GraphLayout.parseInstance((Object) products).totalSize();
+
+        ProductIdIndex index = new ProductIdIndex(size);
+        for (Product product : products) {
+            index.put(product.getId(), product);
+        }
+        long indexSize = GraphLayout.parseInstance(index, products).totalSize() - productsOnly;
+        index = null;
+
+        Map<Long, Product> hashMap = new HashMap<>((int) (size / 0.75f) + 1);
+        for (Product product : products) {
+            hashMap.put(product.getId(), product);
+        }
+        long hashMapSize = GraphLayout.parseInstance(hashMap, products).totalSize() - productsOnly;
+
+        System.out.printf("%,d entries: ProductIdIndex %,d bytes (%.1f B/entry), HashMap<Long, Product> %,d bytes (%.1f B/entry)%n",
+            size, indexSize, indexSize / (double) size, hashMapSize, hashMapSize / (double) size);
+    }
+}
@@ -0,0 +1,89 @@
+package com.cristianino.productapi.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time-to-first-request: launches the application repeatedly and measures from process start
+ * until {@code url} first answers with a 2xx status.
+ * <p>
+ * Arguments: {@code <url> <runs> <command...>}. Compare the regular and fast-startup images with
+ * a database already running, for example:
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec \
+ *   -Dbenchmark.main=com.cristianino.productapi.benchmark.StartupTimeBenchmark \
+ *   -Dbenchmark.args="http://localhost:8080/actuator/health 5 docker run --rm --init -p 8080:8080 \
+ *     --network java-product-api_default -e DATABASE_URL=jdbc:postgresql://postgres:5432/productdb \
+ *     java-product-api:fast-startup"
+ * </pre>
+ */
+public final class StartupTimeBenchmark {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(3);
+
+    private StartupTimeBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 3) {
+            System.err.println("Usage: StartupTimeBenchmark <url> <runs> <command...>");
+            System.exit(2);
+        }
+        URI url = URI.create(args[0]);
+        int runs = Integer.parseInt(args[1]);
+        List<String> command = Arrays.asList(args).subList(2, args.length);
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+        long[] millis = new long[runs];
+        for (int run = 0; run < runs; run++) {
+            millis[run] = measure(client, url, command);
+            System.out.printf("run %d: %,d ms%n", run + 1, millis[run]);
+        }
+        Arrays.sort(millis);
+        System.out.printf("time-to-first-request over %d runs: min %,d ms, median %,d ms, max %,d ms%n",
+            runs, millis[0], millis[runs / 2], millis[runs - 1]);
+    }
+
+    private static long measure(HttpClient client, URI url, List<String> command) throws Exception {
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+            .redirectErrorStream(true)
+            .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+            .start();
+        try {
+            long deadline = start + STARTUP_TIMEOUT.toNanos();
+            while (System.nanoTime() < deadline) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("Application exited with status " + process.exitValue());
+                }
+                if (isUp(client, url)) {
+                    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                }
+                Thread.sleep(50);
+            }
+            throw new IllegalStateException("Application did not answer within " + STARTUP_TIMEOUT);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private static boolean isUp(HttpClient client, URI url) {
+        try {
+            HttpResponse<Void> response = client.send(
+                HttpRequest.newBuilder(url).timeout(Duration.ofSeconds(1)).GET().build(),
+                HttpResponse.BodyHandlers.discarding());
+            return response.statusCode() / 100 == 2;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.cristianino.productapi.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoneyTest {
+
+    @Test
+    void of_IgnoresScaleDifferences() {
+        // Given
+        Money shortScale = Money.of(new BigDecimal("9.9"));
+        Money fullScale = Money.of(new BigDecimal("9.90"));
+
+        // When & Then
+        assertEquals(shortScale, fullScale);
+        assertEquals(990, fullScale.minorUnits());
+        assertEquals(new Product(1L, "Mouse", new BigDecimal("9.9")), new Product(1L, "Mouse", new BigDecimal("9.90")));
+    }
+
+    @Test
+    void of_RoundsHalfUpToTwoDecimals() {
+        // When & Then
+        assertEquals(Money.ofMinor(1000), Money.of(new BigDecimal("9.995")));
+        assertEquals(Money.ofMinor(999), Money.of(new BigDecimal("9.994")));
+    }
+
+    @Test
+    void toBigDecimal_ConvertsAtTwoDecimalPlaces() {
+        // When
+        BigDecimal amount = Money.ofMinor(123456).toBigDecimal();
+
+        // Then
+        assertEquals(new BigDecimal("1234.56"), amount);
+        assertEquals("1234.56", Money.ofMinor(123456).toString());
+    }
+
+    @Test
+    void compareTo_OrdersByAmount() {
+        // When & Then
+        assertTrue(Money.ofMinor(-1).isNegative());
+        assertTrue(Money.ofMinor(100).compareTo(Money.ofMinor(99)) > 0);
+        assertEquals(0, Money.ZERO.compareTo(Money.of(BigDecimal.ZERO)));
+    }
+
+    @Test
+    void of_OutOfRangeAmount_ThrowsException() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> Money.of(new BigDecimal("1e30")));
+        assertThrows(IllegalArgumentException.class, () -> Money.of(null));
+    }
+}
@@ -0,0 +1,40 @@
+package com.cristianino.productapi.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductFilterTest {
+
+    @Test
+    void matches_AppliesNameCaseInsensitivelyAndInclusivePriceBounds() {
+        // Given
+        ProductFilter filter = new ProductFilter("LAP", Money.of(new BigDecimal("10.00")), Money.of(new BigDecimal("999.99")));
+
+        // When & Then
+        assertTrue(filter.matches(new Product(1L, "Laptop", new BigDecimal("999.99"))));
+        assertTrue(filter.matches(new Product(2L, "Lap desk", new BigDecimal("10.00"))));
+        assertFalse(filter.matches(new Product(3L, "Laptop Pro", new BigDecimal("1000.00"))));
+        assertFalse(filter.matches(new Product(4L, "Mouse", new BigDecimal("29.99"))));
+    }
+
+    @Test
+    void constructor_BlankNameIsNoCriterion() {
+        // When
+        ProductFilter filter = new ProductFilter("  ", null, null);
+
+        // Then
+        assertTrue(filter.isEmpty());
+        assertEquals(ProductFilter.NONE, filter);
+    }
+
+    @Test
+    void constructor_InvertedPriceRange_ThrowsException() {
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> new ProductFilter(null, Money.of(new BigDecimal("20")), Money.of(new BigDecimal("10"))));
+        assertEquals("minPrice cannot be greater than maxPrice", exception.getMessage());
+    }
+}
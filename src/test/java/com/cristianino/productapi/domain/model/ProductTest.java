@@ -23,7 +23,7 @@ class ProductTest {
         // Then
         assertNotNull(product);
         assertEquals(name, product.getName());
-        assertEquals(price, product.getPrice());
+        assertEquals(Money.of(price), product.getPrice());
         assertNull(product.getId());
     }
 
@@ -41,7 +41,7 @@ class ProductTest {
         assertNotNull(product);
         assertEquals(id, product.getId());
         assertEquals(name, product.getName());
-        assertEquals(price, product.getPrice());
+        assertEquals(Money.of(price), product.getPrice());
     }
 
     @ParameterizedTest
@@ -67,7 +67,7 @@ class ProductTest {
         // When & Then
         IllegalArgumentException exception = assertThrows(
             IllegalArgumentException.class,
-            () -> new Product(name, null)
+            () -> new Product(name, (BigDecimal) null)
         );
         assertEquals("Product price cannot be null", exception.getMessage());
     }
@@ -94,7 +94,7 @@ class ProductTest {
         // Then
         assertNotNull(product);
         assertEquals(name, product.getName());
-        assertEquals(zeroPrice, product.getPrice());
+        assertEquals(Money.of(zeroPrice), product.getPrice());
     }
 
     @Test
@@ -187,11 +187,11 @@ class ProductTest {
 
         // When
         product.setName("Updated Product");
-        product.setPrice(new BigDecimal("20.00"));
+        product.setPrice(Money.of(new BigDecimal("20.00")));
 
         // Then
         assertEquals("Updated Product", product.getName());
-        assertEquals(new BigDecimal("20.00"), product.getPrice());
+        assertEquals(Money.of(new BigDecimal("20.00")), product.getPrice());
     }
 
     @Test
@@ -215,7 +215,7 @@ class ProductTest {
         // When & Then
         IllegalArgumentException exception = assertThrows(
             IllegalArgumentException.class,
-            () -> product.setPrice(BigDecimal.valueOf(-5.0))
+            () -> product.setPrice(Money.of(BigDecimal.valueOf(-5.0)))
         );
         assertEquals("Product price cannot be negative", exception.getMessage());
     }
@@ -1,6 +1,10 @@
 package com.cristianino.productapi.domain.service;
 
+import com.cristianino.productapi.domain.model.Money;
 import com.cristianino.productapi.domain.model.Product;
+import com.cristianino.productapi.domain.model.ProductChangeType;
+import com.cristianino.productapi.domain.model.ProductPatch;
+import com.cristianino.productapi.domain.port.ProductOutbox;
 import com.cristianino.productapi.domain.port.ProductRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -25,6 +29,9 @@ class ProductDomainServiceTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private ProductOutbox productOutbox;
+
     @InjectMocks
     private ProductDomainService productDomainService;
 
@@ -35,12 +42,12 @@ class ProductDomainServiceTest {
     void setUp() {
         validProduct = new Product();
         validProduct.setName("Test Product");
-        validProduct.setPrice(new BigDecimal("99.99"));
+        validProduct.setPrice(Money.of(new BigDecimal("99.99")));
 
         savedProduct = new Product();
         savedProduct.setId(1L);
         savedProduct.setName("Test Product");
-        savedProduct.setPrice(new BigDecimal("99.99"));
+        savedProduct.setPrice(Money.of(new BigDecimal("99.99")));
     }
 
     @Test
@@ -56,6 +63,7 @@ class ProductDomainServiceTest {
         assertThat(result.getId()).isEqualTo(1L);
         assertThat(result.getName()).isEqualTo("Test Product");
         verify(productRepository).save(validProduct);
+        verify(productOutbox).append(ProductChangeType.CREATED, 1L, savedProduct);
     }
 
     @Test
@@ -101,7 +109,7 @@ class ProductDomainServiceTest {
     @Test
     void createProduct_WithNegativePrice_ShouldThrowException() {
         // Given & When & Then
-        assertThatThrownBy(() -> validProduct.setPrice(new BigDecimal("-10.00")))
+        assertThatThrownBy(() -> validProduct.setPrice(Money.of(new BigDecimal("-10.00"))))
             .isInstanceOf(IllegalArgumentException.class)
             .hasMessage("Product price cannot be negative");
 
@@ -111,7 +119,7 @@ class ProductDomainServiceTest {
     @Test
     void createProduct_WithZeroPrice_ShouldSaveProduct() {
         // Given
-        validProduct.setPrice(BigDecimal.ZERO);
+        validProduct.setPrice(Money.of(BigDecimal.ZERO));
         when(productRepository.save(any(Product.class))).thenReturn(savedProduct);
 
         // When
@@ -157,7 +165,7 @@ class ProductDomainServiceTest {
         Product product2 = new Product();
         product2.setId(2L);
         product2.setName("Product 2");
-        product2.setPrice(new BigDecimal("49.99"));
+        product2.setPrice(Money.of(new BigDecimal("49.99")));
 
         List<Product> products = Arrays.asList(savedProduct, product2);
         when(productRepository.findAll()).thenReturn(products);
@@ -177,12 +185,12 @@ class ProductDomainServiceTest {
         Long productId = 1L;
         Product updatedProduct = new Product();
         updatedProduct.setName("Updated Product");
-        updatedProduct.setPrice(new BigDecimal("199.99"));
+        updatedProduct.setPrice(Money.of(new BigDecimal("199.99")));
 
         Product savedUpdatedProduct = new Product();
         savedUpdatedProduct.setId(productId);
         savedUpdatedProduct.setName("Updated Product");
-        savedUpdatedProduct.setPrice(new BigDecimal("199.99"));
+        savedUpdatedProduct.setPrice(Money.of(new BigDecimal("199.99")));
 
         when(productRepository.existsById(productId)).thenReturn(true);
         when(productRepository.save(any(Product.class))).thenReturn(savedUpdatedProduct);
@@ -197,6 +205,7 @@ class ProductDomainServiceTest {
         assertThat(updatedProduct.getId()).isEqualTo(productId); // Verify ID was set
         verify(productRepository).existsById(productId);
         verify(productRepository).save(updatedProduct);
+        verify(productOutbox).append(ProductChangeType.UPDATED, productId, savedUpdatedProduct);
     }
 
     @Test
@@ -212,6 +221,7 @@ class ProductDomainServiceTest {
         assertThat(result).isNull();
         verify(productRepository).existsById(productId);
         verify(productRepository, never()).save(any(Product.class));
+        verifyNoInteractions(productOutbox);
     }
 
     @Test
@@ -219,7 +229,7 @@ class ProductDomainServiceTest {
         // Given
         Product invalidProduct = new Product();
         invalidProduct.setName("Valid Name");
-        invalidProduct.setPrice(new BigDecimal("99.99"));
+        invalidProduct.setPrice(Money.of(new BigDecimal("99.99")));
 
         // When & Then
         assertThatThrownBy(() -> invalidProduct.setName(null))
@@ -244,6 +254,7 @@ class ProductDomainServiceTest {
         assertThat(result).isTrue();
         verify(productRepository).existsById(productId);
         verify(productRepository).deleteById(productId);
+        verify(productOutbox).append(ProductChangeType.DELETED, productId, null);
     }
 
     @Test
@@ -259,5 +270,44 @@ class ProductDomainServiceTest {
         assertThat(result).isFalse();
         verify(productRepository).existsById(productId);
         verify(productRepository, never()).deleteById(any());
+        verifyNoInteractions(productOutbox);
+    }
+
+    @Test
+    void patchProduct_WithChangedPrice_ShouldAppendUpdatedChange() {
+        // Given
+        ProductPatch patch = new ProductPatch(null, Money.of(new BigDecimal("89.99")));
+        Product patched = new Product(1L, "Test Product", new BigDecimal("89.99"));
+        when(productRepository.patch(1L, patch)).thenReturn(Optional.of(new ProductRepository.PatchResult(patched, true)));
+
+        // When
+        Optional<Product> result = productDomainService.patchProduct(1L, patch);
+
+        // Then
+        assertThat(result).contains(patched);
+        verify(productOutbox).append(ProductChangeType.UPDATED, 1L, patched);
+    }
+
+    @Test
+    void patchProduct_WithUnchangedValues_ShouldNotAppendChange() {
+        // Given
+        ProductPatch patch = new ProductPatch("Test Product", null);
+        when(productRepository.patch(1L, patch)).thenReturn(Optional.of(new ProductRepository.PatchResult(savedProduct, false)));
+
+        // When
+        Optional<Product> result = productDomainService.patchProduct(1L, patch);
+
+        // Then
+        assertThat(result).contains(savedProduct);
+        verifyNoInteractions(productOutbox);
+    }
+
+    @Test
+    void patchProduct_WithBlankName_ShouldThrowBeforeWriting() {
+        // Given & When & Then
+        assertThatThrownBy(() -> productDomainService.patchProduct(1L, new ProductPatch(" ", null)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Product name cannot be null or empty");
+        verifyNoInteractions(productRepository, productOutbox);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,87 @@
+package com.cristianino.productapi.infrastructure.config;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccessLogFilterTest {
+
+    private final Logger accessLogger = (Logger) LoggerFactory.getLogger(AccessLogFilter.LOGGER_NAME);
+    private ListAppender<ILoggingEvent> appender;
+
+    @BeforeEach
+    void setUp() {
+        appender = new ListAppender<>();
+        appender.start();
+        accessLogger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        accessLogger.detachAppender(appender);
+    }
+
+    @Test
+    void request_IsLoggedWithRouteStatusAndHashedKey() throws Exception {
+        // Given
+        AccessLogFilter filter = new AccessLogFilter();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/products/7");
+        request.addHeader("X-API-Key", "secret-key");
+        request.addHeader(AccessLogFilter.REQUEST_ID_HEADER, "abc-123");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request, response, (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/products/{id}");
+            ((MockHttpServletResponse) res).setStatus(404);
+        });
+
+        // Then
+        assertEquals("abc-123", response.getHeader(AccessLogFilter.REQUEST_ID_HEADER));
+        assertEquals(1, appender.list.size());
+        String line = appender.list.get(0).getFormattedMessage();
+        assertTrue(line.matches("requestId=abc-123 apiKeyHash=[0-9a-f]{12} method=GET "
+            + "route=/api/v1/products/\\{id} status=404 durationMs=\\d+"), line);
+        assertFalse(line.contains("secret-key"));
+    }
+
+    @Test
+    void malformedRequestId_IsReplacedWithAGeneratedOne() throws Exception {
+        // Given
+        AccessLogFilter filter = new AccessLogFilter();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/actuator/health");
+        request.addHeader(AccessLogFilter.REQUEST_ID_HEADER, "bad id\r\ninjected");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request, response, (req, res) -> { });
+
+        // Then
+        String requestId = response.getHeader(AccessLogFilter.REQUEST_ID_HEADER);
+        assertTrue(requestId.matches("[0-9a-f]{1,16}"), requestId);
+        assertTrue(appender.list.get(0).getFormattedMessage().contains("apiKeyHash=- method=GET route=- status=200"));
+    }
+
+    @Test
+    void apiKeyHash_IsStableAndDistinguishesKeys() {
+        // Given
+        AccessLogFilter filter = new AccessLogFilter();
+
+        // When
+        String first = filter.apiKeyHash("key-one");
+
+        // Then
+        assertEquals(first, filter.apiKeyHash("key-one"));
+        assertNotEquals(first, filter.apiKeyHash("key-two"));
+        assertEquals("-", filter.apiKeyHash(null));
+    }
+}
@@ -0,0 +1,99 @@
+package com.cristianino.productapi.infrastructure.config;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = 10_000_000L;
+    private static final long SLOW = 100_000_000L;
+
+    @Test
+    void saturatedAtSteadyLatency_LimitGrows() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 2, 50, 1.5, 0.2);
+
+        // When
+        runSaturated(limiter, FAST, 100);
+
+        // Then
+        assertTrue(limiter.limit() > 10, "limit " + limiter.limit());
+        assertTrue(limiter.limit() <= 50);
+    }
+
+    @Test
+    void latencyRise_ShrinksLimitQuickly() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(40, 5, 50, 1.5, 0.2);
+        runSaturated(limiter, FAST, 20);
+        int before = limiter.limit();
+
+        // When
+        runSaturated(limiter, SLOW, 10);
+
+        // Then
+        assertTrue(limiter.limit() < before / 2, before + " -> " + limiter.limit());
+        assertTrue(limiter.limit() >= 5);
+    }
+
+    @Test
+    void sustainedSlowerLatency_BecomesTheNewBaseline() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(40, 5, 50, 1.5, 0.2);
+        runSaturated(limiter, FAST, 20);
+        runSaturated(limiter, SLOW, 10);
+        int throttled = limiter.limit();
+
+        // When
+        runSaturated(limiter, SLOW, 300);
+
+        // Then
+        assertTrue(limiter.limit() > throttled, throttled + " -> " + limiter.limit());
+    }
+
+    @Test
+    void idleService_KeepsItsLimit() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 2, 50, 1.5, 0.2);
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            assertTrue(limiter.tryAcquire(1.0));
+            limiter.release(i % 2 == 0 ? FAST : SLOW);
+        }
+
+        // Then
+        assertEquals(20, limiter.limit());
+        assertEquals(0, limiter.inflight());
+    }
+
+    @Test
+    void tryAcquire_RespectsShareOfLimit() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 2, 50, 1.5, 0.2);
+
+        // When
+        int listScans = 0;
+        while (limiter.tryAcquire(0.5)) {
+            listScans++;
+        }
+
+        // Then
+        assertEquals(5, listScans);
+        assertTrue(limiter.tryAcquire(1.0));
+    }
+
+    /** Fills the limit, then completes every request with {@code rttNanos}, {@code rounds} times. */
+    private static void runSaturated(AdaptiveConcurrencyLimiter limiter, long rttNanos, int rounds) {
+        for (int round = 0; round < rounds; round++) {
+            int admitted = 0;
+            while (limiter.tryAcquire(1.0)) {
+                admitted++;
+            }
+            for (int i = 0; i < admitted; i++) {
+                limiter.release(rttNanos);
+            }
+        }
+    }
+}
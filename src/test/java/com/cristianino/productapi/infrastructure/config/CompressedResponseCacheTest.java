@@ -0,0 +1,53 @@
+package com.cristianino.productapi.infrastructure.config;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompressedResponseCacheTest {
+
+    @Test
+    void put_BeyondCapacity_EvictsLeastRecentlyUsed() {
+        // Given
+        CompressedResponseCache cache = new CompressedResponseCache(10);
+        cache.put("a", new byte[4]);
+        cache.put("b", new byte[4]);
+        cache.get("a");
+
+        // When
+        cache.put("c", new byte[4]);
+
+        // Then
+        assertNotNull(cache.get("a"));
+        assertNull(cache.get("b"));
+        assertNotNull(cache.get("c"));
+        assertEquals(8, cache.currentBytes());
+    }
+
+    @Test
+    void put_EntryLargerThanCapacity_IsIgnored() {
+        // Given
+        CompressedResponseCache cache = new CompressedResponseCache(10);
+
+        // When
+        cache.put("big", new byte[11]);
+
+        // Then
+        assertNull(cache.get("big"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void put_ExistingKey_ReplacesEntryAndSize() {
+        // Given
+        CompressedResponseCache cache = new CompressedResponseCache(10);
+        cache.put("a", new byte[4]);
+
+        // When
+        cache.put("a", new byte[6]);
+
+        // Then
+        assertEquals(1, cache.size());
+        assertEquals(6, cache.currentBytes());
+    }
+}
@@ -0,0 +1,96 @@
+package com.cristianino.productapi.infrastructure.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrencyLimitFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AdaptiveConcurrencyLimiter limiter;
+    private ConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        limiter = new AdaptiveConcurrencyLimiter(10, 2, 50, 1.5, 0.2);
+        filter = new ConcurrencyLimitFilter(limiter, 0.5, Duration.ofSeconds(2), meterRegistry);
+    }
+
+    @Test
+    void listScanBeyondItsShare_IsShedWithRetryAfter() throws Exception {
+        // Given
+        occupy(5);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/products"), response, failIfCalled());
+
+        // Then
+        assertEquals(503, response.getStatus());
+        assertEquals("2", response.getHeader("Retry-After"));
+        assertTrue(response.getContentAsString().contains("\"OVERLOADED\""));
+        assertEquals(1, meterRegistry.get("http.server.requests.shed").tag("priority", "list-scan").counter().count());
+    }
+
+    @Test
+    void writesAndInternalCalls_UseTheWholeLimit() throws Exception {
+        // Given
+        occupy(5);
+
+        // When
+        MockHttpServletResponse write = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/v1/products"), write, (req, res) -> { });
+        MockHttpServletResponse internal = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/internal/products"), internal, (req, res) -> { });
+
+        // Then
+        assertEquals(200, write.getStatus());
+        assertEquals(200, internal.getStatus());
+        assertEquals(5, limiter.inflight());
+    }
+
+    @Test
+    void fullLimit_ShedsEvenPriorityRequests() throws Exception {
+        // Given
+        occupy(10);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("DELETE", "/api/v1/products/1"), response, failIfCalled());
+
+        // Then
+        assertEquals(503, response.getStatus());
+        assertEquals(1, meterRegistry.get("http.server.requests.shed").tag("priority", "priority").counter().count());
+    }
+
+    @Test
+    void failingRequest_ReleasesItsSlot() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/products/1");
+
+        // When
+        assertThrows(IllegalStateException.class, () -> filter.doFilter(request, new MockHttpServletResponse(),
+            (req, res) -> { throw new IllegalStateException("boom"); }));
+
+        // Then
+        assertEquals(0, limiter.inflight());
+    }
+
+    private void occupy(int slots) {
+        for (int i = 0; i < slots; i++) {
+            assertTrue(limiter.tryAcquire(1.0));
+        }
+    }
+
+    private static FilterChain failIfCalled() {
+        return (req, res) -> fail("request should have been shed");
+    }
+}
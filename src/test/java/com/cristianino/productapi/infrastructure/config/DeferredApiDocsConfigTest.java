@@ -0,0 +1,39 @@
+package com.cristianino.productapi.infrastructure.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "app.startup.defer-api-docs=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class DeferredApiDocsConfigTest {
+
+    @Autowired
+    private ConfigurableListableBeanFactory beanFactory;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void apiDocsBeans_AreCreatedOnFirstRequest() throws Exception {
+        // Given
+        assertTrue(beanFactory.getBeanDefinition("openApiConfig").isLazyInit());
+        assertFalse(beanFactory.containsSingleton("productsApiV1"));
+
+        // When & Then
+        mockMvc.perform(get("/v3/api-docs/v1-products"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.info.title").value("Products API V1.0"));
+
+        assertTrue(beanFactory.containsSingleton("productsApiV1"));
+    }
+}
@@ -0,0 +1,77 @@
+package com.cristianino.productapi.infrastructure.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileSpanExporterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void export_WritesOneJsonLinePerSpanWithParentLinks() throws Exception {
+        // Given
+        Path file = directory.resolve("traces/spans.jsonl");
+        FileSpanExporter exporter = new FileSpanExporter(file, objectMapper);
+        SdkTracerProvider tracerProvider = SdkTracerProvider.builder()
+            .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+            .build();
+        Tracer tracer = tracerProvider.get("test");
+
+        // When
+        Span parent = tracer.spanBuilder("product.usecase").startSpan();
+        try (Scope ignored = parent.makeCurrent()) {
+            tracer.spanBuilder("product.repository").setAttribute("method", "findById").startSpan().end();
+        } finally {
+            parent.end();
+        }
+        tracerProvider.shutdown();
+
+        // Then
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(2, lines.size());
+        JsonNode child = objectMapper.readTree(lines.get(0));
+        JsonNode root = objectMapper.readTree(lines.get(1));
+        assertEquals("product.repository", child.get("name").asText());
+        assertEquals(root.get("traceId").asText(), child.get("traceId").asText());
+        assertEquals(root.get("spanId").asText(), child.get("parentSpanId").asText());
+        assertFalse(root.has("parentSpanId"));
+        assertEquals("findById", child.get("attributes").get("method").asText());
+        assertTrue(root.get("durationMicros").asLong() >= 0);
+    }
+
+    @Test
+    void export_AppendsToAnExistingFile() throws Exception {
+        // Given
+        Path file = directory.resolve("spans.jsonl");
+        Files.writeString(file, "{\"name\":\"earlier\"}\n");
+        FileSpanExporter exporter = new FileSpanExporter(file, objectMapper);
+        SdkTracerProvider tracerProvider = SdkTracerProvider.builder()
+            .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+            .build();
+
+        // When
+        tracerProvider.get("test").spanBuilder("product.controller").startSpan().end();
+        tracerProvider.shutdown();
+
+        // Then
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(2, lines.size());
+        assertEquals("product.controller", objectMapper.readTree(lines.get(1)).get("name").asText());
+    }
+}
@@ -0,0 +1,224 @@
+package com.cristianino.productapi.infrastructure.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseCompressionFilterTest {
+
+    private static final String JSON_API = "application/vnd.api+json";
+
+    private SimpleMeterRegistry meterRegistry;
+    private CompressedResponseCache cache;
+    private ResponseCompressionFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new CompressedResponseCache(1024 * 1024);
+        filter = new ResponseCompressionFilter(
+            256,
+            List.of(MediaType.parseMediaType(JSON_API), MediaType.APPLICATION_JSON),
+            Set.of("/api/v1/products"),
+            cache,
+            meterRegistry);
+    }
+
+    @Test
+    void largeJsonApiResponse_WithGzipAccepted_IsGzipped() throws Exception {
+        // Given
+        MockHttpServletRequest request = request("/api/v1/products/1", "gzip, deflate");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        String body = largeBody();
+
+        // When
+        filter.doFilter(request, response, writing(JSON_API, body));
+
+        // Then
+        assertEquals("gzip", response.getHeader("Content-Encoding"));
+        assertEquals("Accept-Encoding", response.getHeader("Vary"));
+        assertEquals(response.getContentAsByteArray().length, response.getContentLength());
+        assertEquals(body, gunzip(response.getContentAsByteArray()));
+        assertEquals(1, meterRegistry.get("http.server.response.compression.ratio").tag("encoding", "gzip").summary().count());
+        assertEquals(1, meterRegistry.get("http.server.response.compression.cpu").tag("encoding", "gzip").timer().count());
+    }
+
+    @Test
+    void largeResponse_WithOnlyDeflateAccepted_IsDeflated() throws Exception {
+        // Given
+        MockHttpServletRequest request = request("/api/v1/products/1", "deflate");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        String body = largeBody();
+
+        // When
+        filter.doFilter(request, response, writing(JSON_API, body));
+
+        // Then
+        assertEquals("deflate", response.getHeader("Content-Encoding"));
+        assertEquals(body, inflate(response.getContentAsByteArray()));
+    }
+
+    @Test
+    void smallResponse_BelowThreshold_IsSentUncompressed() throws Exception {
+        // Given
+        MockHttpServletRequest request = request("/api/v1/products/1", "gzip");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request, response, writing(JSON_API, "{\"data\":null}"));
+
+        // Then
+        assertNull(response.getHeader("Content-Encoding"));
+        assertEquals("Accept-Encoding", response.getHeader("Vary"));
+        assertEquals("{\"data\":null}", response.getContentAsString());
+    }
+
+    @Test
+    void nonJsonResponse_IsSentUncompressed() throws Exception {
+        // Given
+        MockHttpServletRequest request = request("/swagger-ui/index.html", "gzip");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        String body = largeBody();
+
+        // When
+        filter.doFilter(request, response, writing("image/png", body));
+
+        // Then
+        assertNull(response.getHeader("Content-Encoding"));
+        assertEquals(body, response.getContentAsString());
+    }
+
+    @Test
+    void requestWithoutAcceptEncoding_IsNotBuffered() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/products");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        String body = largeBody();
+
+        // When
+        filter.doFilter(request, response, writing(JSON_API, body));
+
+        // Then
+        assertNull(response.getHeader("Content-Encoding"));
+        assertEquals(body, response.getContentAsString());
+    }
+
+    @Test
+    void eventStream_RequestedWithAnyAccept_IsWrittenThroughAsItIsSent() throws Exception {
+        // Given
+        MockHttpServletRequest request = request("/api/internal/products/events", "gzip");
+        request.addHeader("Accept", "*/*");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        String event = "id:1\nevent:product.created\ndata:{}\n\n";
+
+        // When
+        filter.doFilter(request, response, (req, res) -> {
+            res.setContentType(MediaType.TEXT_EVENT_STREAM_VALUE);
+            res.getOutputStream().write(event.getBytes(StandardCharsets.UTF_8));
+            res.flushBuffer();
+
+            // Then
+            assertTrue(response.isCommitted());
+            assertEquals(event, response.getContentAsString());
+        });
+        assertNull(response.getHeader("Content-Encoding"));
+        assertEquals(event, response.getContentAsString());
+    }
+
+    @Test
+    void cacheablePath_ReusesCompressedBodyForIdenticalContent() throws Exception {
+        // Given
+        String body = largeBody();
+
+        // When
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        filter.doFilter(request("/api/v1/products", "gzip"), first, writing(JSON_API, body));
+        MockHttpServletResponse second = new MockHttpServletResponse();
+        filter.doFilter(request("/api/v1/products", "gzip"), second, writing(JSON_API, body));
+
+        // Then
+        assertArrayEquals(first.getContentAsByteArray(), second.getContentAsByteArray());
+        assertEquals(1, cache.size());
+        assertEquals(1.0, meterRegistry.get("http.server.response.compression.cache").tag("result", "hit").counter().count());
+        assertEquals(1, meterRegistry.get("http.server.response.compression.cpu").tag("encoding", "gzip").timer().count());
+    }
+
+    @Test
+    void cacheablePath_WithChangedContent_DoesNotServeStaleBody() throws Exception {
+        // Given
+        String original = largeBody();
+        String changed = original.replace("Product", "Gadget");
+
+        // When
+        filter.doFilter(request("/api/v1/products", "gzip"), new MockHttpServletResponse(), writing(JSON_API, original));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request("/api/v1/products", "gzip"), response, writing(JSON_API, changed));
+
+        // Then
+        assertEquals(changed, gunzip(response.getContentAsByteArray()));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void negotiateEncoding_HonoursQualityValues() {
+        assertEquals("gzip", ResponseCompressionFilter.negotiateEncoding("gzip, deflate"));
+        assertEquals("deflate", ResponseCompressionFilter.negotiateEncoding("gzip;q=0.5, deflate"));
+        assertEquals("deflate", ResponseCompressionFilter.negotiateEncoding("gzip;q=0, *"));
+        assertEquals("gzip", ResponseCompressionFilter.negotiateEncoding("*"));
+        assertNull(ResponseCompressionFilter.negotiateEncoding("br"));
+        assertNull(ResponseCompressionFilter.negotiateEncoding("identity, *;q=0"));
+        assertNull(ResponseCompressionFilter.negotiateEncoding(null));
+    }
+
+    private static MockHttpServletRequest request(String uri, String acceptEncoding) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.addHeader("Accept-Encoding", acceptEncoding);
+        return request;
+    }
+
+    private static FilterChain writing(String contentType, String body) {
+        return (req, res) -> {
+            res.setContentType(contentType);
+            res.getOutputStream().write(body.getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    private static String largeBody() {
+        StringBuilder builder = new StringBuilder("{\"data\":[");
+        for (int i = 0; i < 100; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append("{\"id\":\"").append(i)
+                .append("\",\"type\":\"products\",\"attributes\":{\"name\":\"Product ").append(i)
+                .append("\",\"price\":99.99}}");
+        }
+        return builder.append("]}").toString();
+    }
+
+    private static String gunzip(byte[] compressed) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static String inflate(byte[] compressed) throws IOException {
+        try (InflaterInputStream in = new InflaterInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
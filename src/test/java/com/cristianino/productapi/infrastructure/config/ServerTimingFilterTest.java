@@ -0,0 +1,99 @@
+package com.cristianino.productapi.infrastructure.config;
+
+import com.cristianino.productapi.infrastructure.persistence.SqlStatementRecorder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ServerTimingFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ServerTimingInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        interceptor = new ServerTimingInterceptor();
+    }
+
+    @Test
+    void sampledRequest_SetsServerTimingHeaderAndRecordsStages() throws Exception {
+        // Given
+        ServerTimingFilter filter = new ServerTimingFilter(meterRegistry, 1.0);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/products/1");
+        request.setAttribute(SqlStatementAccountingFilter.RECORDING_ATTRIBUTE, SqlStatementRecorder.start());
+        SqlStatementRecorder.stop();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request, response, handling());
+
+        // Then
+        String header = response.getHeader(ServerTimingFilter.HEADER);
+        assertNotNull(header);
+        assertTrue(header.matches("filters;dur=[\\d.]+, app;dur=[\\d.]+, db;dur=[\\d.]+, total;dur=[\\d.]+"), header);
+        for (String stage : new String[] {"filters", "app", "db", "serialize", "total"}) {
+            assertEquals(1, meterRegistry.get("http.server.requests.stages")
+                .tags("stage", stage, "uri", "/api/v1/products/{id}").timer().count(), stage);
+        }
+    }
+
+    @Test
+    void unsampledRequest_IsPassedThroughUntimed() throws Exception {
+        // Given
+        ServerTimingFilter filter = new ServerTimingFilter(meterRegistry, 0.0);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/products/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request, response, handling());
+
+        // Then
+        assertNull(response.getHeader(ServerTimingFilter.HEADER));
+        assertNull(request.getAttribute(ServerTiming.ATTRIBUTE));
+        assertTrue(meterRegistry.find("http.server.requests.stages").timers().isEmpty());
+    }
+
+    @Test
+    void headerValue_FormatsMillisecondsInStageOrder() {
+        // Given
+        Map<String, Duration> stages = new LinkedHashMap<>();
+        stages.put("filters", Duration.ofNanos(250_000));
+        stages.put("db", Duration.ofMillis(3));
+        stages.put("total", Duration.ofNanos(4_125_500));
+
+        // When
+        String header = ServerTiming.headerValue(stages);
+
+        // Then
+        assertEquals("filters;dur=0.250, db;dur=3.000, total;dur=4.126", header);
+    }
+
+    /**
+     * Stands in for the dispatcher: marks the handler like {@link ServerTimingInterceptor} and
+     * {@link ServerTimingResponseBodyAdvice} do, then writes a body.
+     */
+    private FilterChain handling() {
+        return (req, res) -> {
+            MockHttpServletRequest request = (MockHttpServletRequest) req;
+            request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/products/{id}");
+            interceptor.preHandle(request, null, null);
+            ServerTiming timing = ServerTiming.of(request);
+            if (timing != null) {
+                timing.handlerEnded();
+            }
+            res.getWriter().write("{}");
+            interceptor.afterCompletion(request, null, null, null);
+        };
+    }
+}
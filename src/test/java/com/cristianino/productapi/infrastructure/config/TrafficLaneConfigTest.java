@@ -0,0 +1,59 @@
+package com.cristianino.productapi.infrastructure.config;
+
+import com.cristianino.productapi.infrastructure.persistence.LaneRoutingDataSource;
+import com.cristianino.productapi.infrastructure.persistence.TrafficLane;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrafficLaneConfigTest {
+
+    @Test
+    void internalLane_SharesThePrimaryPoolByDefault() throws Exception {
+        // Given
+        HikariDataSource primary = primaryPool();
+
+        // When
+        LaneRoutingDataSource routing = route(primary, new MockEnvironment());
+
+        // Then
+        assertSame(primary, routing.poolFor(TrafficLane.INTERNAL));
+        assertNotSame(primary, routing.poolFor(TrafficLane.HEALTH));
+        routing.close();
+    }
+
+    @Test
+    void internalLane_GetsItsOwnPoolOnceSized() throws Exception {
+        // Given
+        HikariDataSource primary = primaryPool();
+        MockEnvironment environment = new MockEnvironment()
+            .withProperty("app.lanes.internal.pool-size", "12");
+
+        // When
+        LaneRoutingDataSource routing = route(primary, environment);
+
+        // Then
+        DataSource internal = routing.poolFor(TrafficLane.INTERNAL);
+        assertNotSame(primary, internal);
+        assertEquals(12, ((HikariDataSource) internal).getMaximumPoolSize());
+        assertEquals(primary.getConnectionTimeout(), ((HikariDataSource) internal).getConnectionTimeout());
+        routing.close();
+    }
+
+    private static HikariDataSource primaryPool() {
+        HikariDataSource primary = new HikariDataSource();
+        primary.setJdbcUrl("jdbc:h2:mem:lanes");
+        primary.setMaximumPoolSize(20);
+        primary.setConnectionTimeout(30_000);
+        return primary;
+    }
+
+    private static LaneRoutingDataSource route(HikariDataSource primary, MockEnvironment environment) {
+        return (LaneRoutingDataSource) TrafficLaneConfig.laneRoutingDataSourcePostProcessor(environment)
+            .postProcessAfterInitialization(primary, "dataSource");
+    }
+}
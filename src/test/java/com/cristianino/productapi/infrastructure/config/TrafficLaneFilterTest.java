@@ -0,0 +1,88 @@
+package com.cristianino.productapi.infrastructure.config;
+
+import com.cristianino.productapi.infrastructure.persistence.TrafficLane;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrafficLaneFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private TrafficLaneFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new TrafficLaneFilter(
+            Map.of(TrafficLane.PUBLIC, 2, TrafficLane.INTERNAL, 1, TrafficLane.HEALTH, 1), 1, meterRegistry);
+    }
+
+    @Test
+    void classify_SortsProbesInternalCallsAndPublicTraffic() {
+        assertEquals(TrafficLane.HEALTH, TrafficLaneFilter.classify(new MockHttpServletRequest("GET", "/actuator/health/liveness")));
+        assertEquals(TrafficLane.HEALTH, TrafficLaneFilter.classify(new MockHttpServletRequest("GET", "/api/connectivity/status")));
+        assertEquals(TrafficLane.INTERNAL, TrafficLaneFilter.classify(new MockHttpServletRequest("GET", "/api/internal/products/1")));
+        assertEquals(TrafficLane.INTERNAL, TrafficLaneFilter.classify(new MockHttpServletRequest("GET", "/actuator/metrics")));
+        assertEquals(TrafficLane.PUBLIC, TrafficLaneFilter.classify(new MockHttpServletRequest("GET", "/api/v1/products")));
+    }
+
+    @Test
+    void fullPublicLane_RejectsPublicTrafficButHealthProbesStillAnswer() throws Exception {
+        // Given
+        CountDownLatch entered = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        for (int i = 0; i < 2; i++) {
+            executor.submit(() -> {
+                filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/products"), new MockHttpServletResponse(),
+                    (req, res) -> {
+                        entered.countDown();
+                        try {
+                            release.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    });
+                return null;
+            });
+        }
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+        // When
+        MockHttpServletResponse listResponse = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/products"), listResponse, failIfCalled());
+        AtomicReference<TrafficLane> probeLane = new AtomicReference<>();
+        MockHttpServletResponse probeResponse = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), probeResponse,
+            (req, res) -> probeLane.set(TrafficLane.current()));
+        release.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+
+        // Then
+        assertEquals(503, listResponse.getStatus());
+        assertEquals("1", listResponse.getHeader("Retry-After"));
+        assertTrue(listResponse.getContentAsString().contains("LANE_SATURATED"));
+        assertEquals(200, probeResponse.getStatus());
+        assertEquals(TrafficLane.HEALTH, probeLane.get());
+        assertNull(TrafficLane.current());
+        assertEquals(1, meterRegistry.get("traffic.lane.requests.rejected").tag("lane", "public").counter().count());
+        assertEquals(0, meterRegistry.get("traffic.lane.requests.active").tag("lane", "public").gauge().value());
+    }
+
+    private static FilterChain failIfCalled() {
+        return (req, res) -> fail("request should have been rejected");
+    }
+}
@@ -0,0 +1,131 @@
+package com.cristianino.productapi.infrastructure.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoggerRateSamplingFilterTest {
+
+    private LoggerContext context;
+    private ListAppender<ILoggingEvent> appender;
+
+    @BeforeEach
+    void setUp() {
+        context = new LoggerContext();
+        LoggerRateSamplingFilter filter = new LoggerRateSamplingFilter();
+        filter.setMaxEventsPerSecond(3);
+        filter.setContext(context);
+        filter.start();
+        context.addTurboFilter(filter);
+
+        appender = new ListAppender<>();
+        appender.setContext(context);
+        appender.start();
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.DEBUG);
+        root.addAppender(appender);
+    }
+
+    @Test
+    void busyLogger_IsCappedPerSecondAndCountedWhileOthersKeepTheirBudget() {
+        // Given
+        Logger busy = context.getLogger("busy");
+        Logger quiet = context.getLogger("quiet");
+        long sampledBefore = LogEventCounters.sampledOutCount();
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            busy.info("event {}", i);
+        }
+        quiet.info("still logged");
+
+        // Then
+        assertEquals(4, appender.list.size());
+        assertEquals("still logged", appender.list.get(3).getFormattedMessage());
+        assertTrue(LogEventCounters.sampledOutCount() - sampledBefore >= 7);
+    }
+
+    @Test
+    void accessLog_IsNeverSampled() {
+        // Given
+        Logger access = context.getLogger(LoggerRateSamplingFilter.ACCESS_LOGGER);
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            access.info("request {}", i);
+        }
+
+        // Then
+        assertEquals(10, appender.list.size());
+        assertTrue(access.isInfoEnabled());
+    }
+
+    @Test
+    void configuredExemptLogger_AndItsChildrenAreNeverSampled() {
+        // Given
+        LoggerRateSamplingFilter filter = (LoggerRateSamplingFilter) context.getTurboFilterList().get(0);
+        filter.addExemptLogger("audit");
+        Logger audit = context.getLogger("audit.orders");
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            audit.info("audited {}", i);
+        }
+
+        // Then
+        assertEquals(10, appender.list.size());
+    }
+
+    @Test
+    void warnings_AreNeverSampled() {
+        // Given
+        Logger busy = context.getLogger("busy");
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            busy.warn("warning {}", i);
+        }
+
+        // Then
+        assertEquals(10, appender.list.size());
+    }
+
+    @Test
+    void enabledCheck_ReportsExhaustedBudgetWithoutSpendingIt() {
+        // Given
+        Logger busy = context.getLogger("busy");
+
+        // When
+        boolean enabledBefore = busy.isDebugEnabled() && busy.isDebugEnabled() && busy.isDebugEnabled();
+        busy.debug("one");
+        busy.debug("two");
+        busy.debug("three");
+
+        // Then
+        assertTrue(enabledBefore);
+        assertEquals(3, appender.list.size());
+        assertFalse(busy.isDebugEnabled());
+    }
+
+    @Test
+    void disabledLevels_DoNotConsumeBudget() {
+        // Given
+        Logger busy = context.getLogger("busy");
+        busy.setLevel(Level.INFO);
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            busy.debug("filtered by level {}", i);
+        }
+        busy.info("first");
+
+        // Then
+        assertEquals(1, appender.list.size());
+    }
+}
@@ -0,0 +1,171 @@
+package com.cristianino.productapi.infrastructure.persistence;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class DatabaseWorkExecutorTest {
+
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private DatabaseWorkExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        TrafficLane.exit();
+        SqlStatementRecorder.stop();
+        executor.close();
+    }
+
+    @Test
+    void submit_RunsWorkInTransactionTimingOutNoEarlierThanTheDeadline() throws Exception {
+        // Given
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        executor = new DatabaseWorkExecutor(transactionManager, 2, 10, Duration.ofMillis(2500), new SimpleMeterRegistry());
+
+        // When
+        String result = executor.submit(true, () -> "done").get(5, TimeUnit.SECONDS);
+
+        // Then
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager).getTransaction(definition.capture());
+        verify(transactionManager).commit(any());
+        assertEquals("done", result);
+        assertTrue(definition.getValue().isReadOnly());
+        // 2.5s rounds up to 3, plus the second Hibernate holds back
+        assertEquals(4, definition.getValue().getTimeout());
+    }
+
+    @Test
+    void submit_CarriesLaneAndSqlRecordingToTheWorker() throws Exception {
+        // Given
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        executor = new DatabaseWorkExecutor(transactionManager, 1, 10, Duration.ofSeconds(5), new SimpleMeterRegistry());
+        TrafficLane.enter(TrafficLane.INTERNAL);
+        SqlStatementRecorder.Recording recording = SqlStatementRecorder.start();
+
+        // When
+        Object[] seen = executor.submit(false, () -> new Object[] {TrafficLane.current(), SqlStatementRecorder.current()})
+            .get(5, TimeUnit.SECONDS);
+        TrafficLane afterwards = executor.submit(false, TrafficLane::current).get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertSame(TrafficLane.INTERNAL, seen[0]);
+        assertSame(recording, seen[1]);
+        assertSame(TrafficLane.INTERNAL, afterwards);
+    }
+
+    @Test
+    void submit_WorkStillQueuedAtTheDeadline_TimesOutAndNeverRuns() throws Exception {
+        // Given
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        executor = new DatabaseWorkExecutor(transactionManager, 1, 10, Duration.ofMillis(100), new SimpleMeterRegistry());
+        executor.submit(false, this::awaitRelease);
+        AtomicBoolean ran = new AtomicBoolean();
+
+        // When
+        CompletableFuture<Boolean> queued = executor.submit(false, () -> ran.getAndSet(true));
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> queued.get(5, TimeUnit.SECONDS));
+        release.countDown();
+        executor.submit(false, () -> true).get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertInstanceOf(TimeoutException.class, failure.getCause());
+        assertFalse(ran.get());
+    }
+
+    @Test
+    void submit_WriteStillRunningAtTheDeadline_CompletesWithItsRealResult() throws Exception {
+        // Given
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        executor = new DatabaseWorkExecutor(transactionManager, 1, 10, Duration.ofMillis(100), new SimpleMeterRegistry());
+
+        // When
+        CompletableFuture<String> write = executor.submit(false, () -> {
+            sleep(400);
+            return "created";
+        });
+
+        // Then
+        assertEquals("created", write.get(5, TimeUnit.SECONDS));
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void submit_ReadStillRunningAtTheDeadline_TimesOut() {
+        // Given
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        executor = new DatabaseWorkExecutor(transactionManager, 1, 10, Duration.ofMillis(100), new SimpleMeterRegistry());
+
+        // When
+        CompletableFuture<Boolean> read = executor.submit(true, this::awaitRelease);
+
+        // Then
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> read.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(TimeoutException.class, failure.getCause());
+    }
+
+    @Test
+    void submit_WriteWhoseTransactionTimesOut_FailsWithWriteTimeout() {
+        // Given
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        executor = new DatabaseWorkExecutor(transactionManager, 1, 10, Duration.ofMillis(100), new SimpleMeterRegistry());
+
+        // When
+        CompletableFuture<Object> write = executor.submit(false, () -> {
+            throw new TransactionTimedOutException("Transaction timed out");
+        });
+
+        // Then
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> write.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(WriteTimeoutException.class, failure.getCause());
+    }
+
+    @Test
+    void submit_PoolAndQueueFull_IsRejected() {
+        // Given
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        executor = new DatabaseWorkExecutor(transactionManager, 1, 1, Duration.ofSeconds(5), new SimpleMeterRegistry());
+        executor.submit(false, this::awaitRelease);
+        executor.submit(false, this::awaitRelease);
+
+        // When & Then
+        assertThrows(RejectedExecutionException.class, () -> executor.submit(false, () -> true));
+    }
+
+    private boolean awaitRelease() {
+        try {
+            return release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
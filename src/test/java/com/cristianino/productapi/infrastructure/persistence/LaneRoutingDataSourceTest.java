@@ -0,0 +1,65 @@
+package com.cristianino.productapi.infrastructure.persistence;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class LaneRoutingDataSourceTest {
+
+    private final DataSource primary = mock(DataSource.class);
+    private final DataSource internal = mock(DataSource.class);
+    private final DataSource health = mock(DataSource.class);
+    private final LaneRoutingDataSource dataSource =
+        new LaneRoutingDataSource(primary, Map.of(TrafficLane.INTERNAL, internal, TrafficLane.HEALTH, health));
+
+    @AfterEach
+    void tearDown() {
+        TrafficLane.exit();
+    }
+
+    @Test
+    void connectionsComeFromTheCurrentLanesPool() throws Exception {
+        // Given
+        Connection healthConnection = mock(Connection.class);
+        when(health.getConnection()).thenReturn(healthConnection);
+
+        // When
+        TrafficLane.enter(TrafficLane.HEALTH);
+        Connection connection = dataSource.getConnection();
+
+        // Then
+        assertThat(connection).isSameAs(healthConnection);
+        verifyNoInteractions(primary, internal);
+    }
+
+    @Test
+    void publicTrafficAndBackgroundWork_UseThePrimaryPool() throws Exception {
+        // When
+        dataSource.getConnection();
+        TrafficLane.enter(TrafficLane.PUBLIC);
+        dataSource.getConnection();
+
+        // Then
+        verify(primary, times(2)).getConnection();
+        verifyNoInteractions(internal, health);
+    }
+
+    @Test
+    void unwrap_ReachesThePrimaryPool() throws Exception {
+        // Given
+        HikariDataSource hikari = new HikariDataSource();
+        LaneRoutingDataSource routing = new LaneRoutingDataSource(hikari, Map.of());
+        SqlAccountingDataSource accounting = new SqlAccountingDataSource(routing);
+
+        // When / Then
+        assertThat(accounting.unwrap(LaneRoutingDataSource.class)).isSameAs(routing);
+        assertThat(accounting.unwrap(HikariDataSource.class)).isSameAs(hikari);
+    }
+}
@@ -0,0 +1,123 @@
+package com.cristianino.productapi.infrastructure.persistence;
+
+import com.cristianino.productapi.domain.model.Product;
+import com.cristianino.productapi.domain.model.ProductChange;
+import com.cristianino.productapi.domain.model.ProductChangeType;
+import com.cristianino.productapi.domain.port.ProductOutbox;
+import com.cristianino.productapi.domain.port.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ProductCatalogFileStoreTest {
+
+    @TempDir
+    Path directory;
+
+    private Path path;
+    private ProductRepository repository;
+    private ProductOutbox outbox;
+
+    @BeforeEach
+    void setUp() {
+        path = directory.resolve("catalog.bin");
+        repository = mock(ProductRepository.class);
+        outbox = mock(ProductOutbox.class);
+    }
+
+    @Test
+    void write_ThenOpen_ServesProductsFromMappedFile() throws Exception {
+        // Given
+        ProductCatalogSnapshot snapshot = ProductCatalogSnapshot.of(List.of(
+            new Product(2L, "Café Crème", new BigDecimal("4.50")),
+            new Product(1L, "Laptop", new BigDecimal("999.99"))), 3, Instant.ofEpochMilli(1_700_000_000_000L));
+
+        // When
+        ProductCatalogFile.write(path, snapshot, 42);
+        ProductCatalogFile file = ProductCatalogFile.open(path);
+
+        // Then
+        assertEquals(42, file.sequence());
+        assertEquals(Instant.ofEpochMilli(1_700_000_000_000L), file.builtAt());
+        assertEquals(new Product(2L, "Café Crème", new BigDecimal("4.50")), file.findById(2L).orElseThrow());
+        assertTrue(file.findById(3L).isEmpty());
+        assertEquals(List.of(1L, 2L), file.findAll().stream().map(Product::getId).toList());
+    }
+
+    @Test
+    void loadCatalog_WithWarmFile_ReplaysOutboxInsteadOfReadingTable() throws Exception {
+        // Given
+        ProductCatalogFile.write(path, ProductCatalogSnapshot.of(List.of(
+            new Product(1L, "Laptop", new BigDecimal("999.99")),
+            new Product(2L, "Mouse", new BigDecimal("29.99"))), 1, Instant.now()), 10);
+        when(outbox.horizon()).thenReturn(5L);
+        when(outbox.findLatestChanges(eq(10L), anyLong(), eq(2))).thenReturn(List.of(
+            change(11, ProductChangeType.DELETED, 2L, null, null),
+            change(12, ProductChangeType.UPDATED, 1L, "Laptop Pro", "1299.99")));
+        when(outbox.findLatestChanges(eq(12L), anyLong(), eq(2))).thenReturn(List.of(
+            change(13, ProductChangeType.CREATED, 3L, "Keyboard", "79.99")));
+        ProductCatalogFileStore store = new ProductCatalogFileStore(path, repository, outbox, 2);
+        assertTrue(store.warmCatalog().isPresent());
+
+        // When
+        Collection<Product> catalog = store.loadCatalog();
+
+        // Then
+        assertEquals(List.of(new Product(1L, "Laptop Pro", new BigDecimal("1299.99")),
+                new Product(3L, "Keyboard", new BigDecimal("79.99"))),
+            catalog.stream().sorted(Comparator.comparing(Product::getId)).toList());
+        assertTrue(store.warmCatalog().isEmpty());
+        verify(repository, never()).findAll();
+    }
+
+    @Test
+    void loadCatalog_WithFileOlderThanHorizon_ReloadsFromDatabase() throws Exception {
+        // Given
+        ProductCatalogFile.write(path, ProductCatalogSnapshot.of(List.of(
+            new Product(1L, "Laptop", new BigDecimal("999.99"))), 1, Instant.now()), 10);
+        when(outbox.horizon()).thenReturn(20L);
+        when(repository.findAll()).thenReturn(List.of(new Product(5L, "Monitor", new BigDecimal("199.99"))));
+        ProductCatalogFileStore store = new ProductCatalogFileStore(path, repository, outbox, 100);
+
+        // When
+        Collection<Product> catalog = store.loadCatalog();
+
+        // Then
+        assertEquals(1, catalog.size());
+        assertEquals(5L, catalog.iterator().next().getId());
+        verify(outbox, never()).findLatestChanges(anyLong(), anyLong(), anyInt());
+    }
+
+    @Test
+    void constructor_WithCorruptFile_StartsCold() throws Exception {
+        // Given
+        ProductCatalogFile.write(path, ProductCatalogSnapshot.of(List.of(
+            new Product(1L, "Laptop", new BigDecimal("999.99"))), 1, Instant.now()), 10);
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[bytes.length - 1] ^= 0x7F;
+        Files.write(path, bytes);
+
+        // When
+        ProductCatalogFileStore store = new ProductCatalogFileStore(path, repository, outbox, 100);
+
+        // Then
+        assertTrue(store.warmCatalog().isEmpty());
+    }
+
+    private static ProductChange change(long sequence, ProductChangeType type, Long productId, String name, String price) {
+        return new ProductChange(sequence, type, productId, name, price != null ? new BigDecimal(price) : null, Instant.now());
+    }
+}
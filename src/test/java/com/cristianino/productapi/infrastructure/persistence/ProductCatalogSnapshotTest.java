@@ -0,0 +1,61 @@
+package com.cristianino.productapi.infrastructure.persistence;
+
+import com.cristianino.productapi.domain.model.Product;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductCatalogSnapshotTest {
+
+    @Test
+    void of_SortsProductsById() {
+        // Given
+        List<Product> catalog = List.of(product(3L, "Keyboard"), product(1L, "Laptop"), product(2L, "Mouse"));
+
+        // When
+        ProductCatalogSnapshot snapshot = ProductCatalogSnapshot.of(catalog, 1, Instant.now());
+
+        // Then
+        assertEquals(List.of(1L, 2L, 3L), snapshot.findAll().stream().map(Product::getId).toList());
+        assertEquals("Mouse", snapshot.findById(2L).orElseThrow().getName());
+        assertTrue(snapshot.findById(4L).isEmpty());
+    }
+
+    @Test
+    void withChanges_MergesUpsertsAndDeletesIntoNewSnapshot() {
+        // Given
+        ProductCatalogSnapshot original = ProductCatalogSnapshot.of(
+            List.of(product(1L, "Laptop"), product(3L, "Keyboard"), product(5L, "Monitor")), 1, Instant.now());
+
+        // When
+        ProductCatalogSnapshot updated = original.withChanges(
+            Map.of(3L, product(3L, "Mechanical Keyboard"), 4L, product(4L, "Webcam"), 9L, product(9L, "Dock")),
+            Set.of(1L), 2, Instant.now());
+
+        // Then
+        assertEquals(List.of(3L, 4L, 5L, 9L), updated.findAll().stream().map(Product::getId).toList());
+        assertEquals("Mechanical Keyboard", updated.findById(3L).orElseThrow().getName());
+        assertEquals(2, updated.version());
+        assertEquals(3, original.size());
+        assertEquals("Keyboard", original.findById(3L).orElseThrow().getName());
+    }
+
+    @Test
+    void findAll_IsUnmodifiable() {
+        // Given
+        ProductCatalogSnapshot snapshot = ProductCatalogSnapshot.of(List.of(product(1L, "Laptop")), 1, Instant.now());
+
+        // When & Then
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.findAll().clear());
+    }
+
+    private static Product product(Long id, String name) {
+        return new Product(id, name, new BigDecimal("10.00"));
+    }
+}
@@ -0,0 +1,94 @@
+package com.cristianino.productapi.infrastructure.persistence;
+
+import com.cristianino.productapi.domain.model.Product;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductIdIndexTest {
+
+    @Test
+    void put_ReplacesExistingEntryAndGrowsPastInitialCapacity() {
+        // Given
+        ProductIdIndex index = new ProductIdIndex(2);
+
+        // When
+        for (long id = 1; id <= 1_000; id++) {
+            index.put(id, product(id, "Product " + id));
+        }
+        Product replaced = index.put(500L, product(500L, "Replacement"));
+
+        // Then
+        assertEquals(1_000, index.size());
+        assertEquals("Product 500", replaced.getName());
+        assertEquals("Replacement", index.get(500L).getName());
+        assertNull(index.get(1_001L));
+    }
+
+    @Test
+    void remove_KeepsCollidingEntriesReachable() {
+        // Given
+        ProductIdIndex index = new ProductIdIndex();
+        List<Long> ids = new ArrayList<>();
+        for (long id = 1; id <= 12; id++) {
+            ids.add(id * 16);
+            index.put(id * 16, product(id * 16, "Product " + id));
+        }
+
+        // When
+        Product removed = index.remove(16L * 5);
+
+        // Then
+        assertEquals("Product 5", removed.getName());
+        assertNull(index.get(16L * 5));
+        assertNull(index.remove(16L * 5));
+        ids.stream().filter(id -> id != 16L * 5).forEach(id -> assertNotNull(index.get(id), "lost id " + id));
+        assertEquals(11, index.size());
+    }
+
+    @Test
+    void randomOperations_MatchHashMap() {
+        // Given
+        ProductIdIndex index = new ProductIdIndex();
+        Map<Long, Product> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        // When
+        for (int i = 0; i < 50_000; i++) {
+            long id = random.nextInt(2_000) - 100;
+            if (random.nextInt(3) == 0) {
+                assertSame(expected.remove(id), index.remove(id));
+            } else {
+                Product product = product(id, "Product " + i);
+                assertSame(expected.put(id, product), index.put(id, product));
+            }
+        }
+
+        // Then
+        assertEquals(expected.size(), index.size());
+        expected.forEach((id, product) -> assertSame(product, index.get(id)));
+        List<Product> visited = new ArrayList<>();
+        index.forEach(visited::add);
+        assertEquals(expected.size(), visited.size());
+    }
+
+    @Test
+    void put_WithNullProduct_ThrowsException() {
+        // Given
+        ProductIdIndex index = new ProductIdIndex();
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> index.put(1L, null));
+    }
+
+    private static Product product(long id, String name) {
+        return new Product(id, name, new BigDecimal("9.99"));
+    }
+}
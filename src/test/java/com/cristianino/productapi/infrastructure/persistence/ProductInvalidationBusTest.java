@@ -0,0 +1,87 @@
+package com.cristianino.productapi.infrastructure.persistence;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductInvalidationBusTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Long> invalidations = new ArrayList<>();
+
+    private ProductInvalidationBus bus;
+
+    @BeforeEach
+    void setUp() {
+        bus = new ProductInvalidationBus(jdbcTemplate, () -> {
+            throw new UnsupportedOperationException();
+        }, new ObjectMapper(), List.of(invalidations::add), "instance-a",
+            Duration.ofMillis(50), Duration.ofSeconds(5), Duration.ofSeconds(2));
+    }
+
+    @Test
+    void flush_AfterBurstOfCommits_SendsOneNotificationWithHighestSequence() {
+        // Given
+        bus.onOutboxAppended(new ProductOutboxAppendedEvent(5));
+        bus.onOutboxAppended(new ProductOutboxAppendedEvent(7));
+        bus.onOutboxAppended(new ProductOutboxAppendedEvent(6));
+
+        // When
+        bus.flush();
+        bus.flush();
+
+        // Then
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        verify(jdbcTemplate, times(1)).query(eq("select pg_notify(?, ?)"), any(ResultSetExtractor.class),
+            eq("product_invalidations"), payload.capture());
+        assertThat((String) payload.getValue()).contains("\"origin\":\"instance-a\"").contains("\"sequence\":7");
+        assertThat(bus.seenSequence()).isEqualTo(7);
+    }
+
+    @Test
+    void receive_BatchFromOtherInstances_NotifiesListenersOnceAndIgnoresOwnMessages() {
+        // When
+        bus.receive(List.of(
+            "{\"origin\":\"instance-b\",\"sequence\":12}",
+            "{\"origin\":\"instance-a\",\"sequence\":20}",
+            "not json",
+            "{\"origin\":\"instance-c\",\"sequence\":15}"));
+        bus.receive(List.of("{\"origin\":\"instance-a\",\"sequence\":21}"));
+
+        // Then
+        assertThat(invalidations).containsExactly(15L);
+    }
+
+    @Test
+    void reconcile_NotifiesOnlyWhenOutboxMovedPastSeenSequenceUnlessForced() {
+        // Given
+        bus.onOutboxAppended(new ProductOutboxAppendedEvent(10));
+
+        // When
+        bus.reconcile(10, false);
+        bus.reconcile(13, false);
+        bus.reconcile(13, true);
+
+        // Then
+        assertThat(invalidations).containsExactly(13L, 13L);
+        assertThat(bus.seenSequence()).isEqualTo(13);
+    }
+}
@@ -0,0 +1,138 @@
+package com.cristianino.productapi.infrastructure.persistence;
+
+import com.cristianino.productapi.application.dto.ProductChangeDto;
+import com.cristianino.productapi.application.usecase.ChangeHistoryExpiredException;
+import com.cristianino.productapi.application.usecase.ProductChangeUseCase;
+import com.cristianino.productapi.domain.model.Product;
+import com.cristianino.productapi.domain.model.ProductChange;
+import com.cristianino.productapi.domain.model.ProductChangeType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({ProductOutboxRepositoryImpl.class, ProductChangeUseCase.class})
+class ProductOutboxRepositoryImplTest {
+
+    @Autowired
+    private ProductOutboxRepositoryImpl outbox;
+
+    @Autowired
+    private ProductChangeUseCase productChangeUseCase;
+
+    @Test
+    void findLatestChanges_ReturnsNewestRowPerProductInSequenceOrder() {
+        // Given
+        long start = outbox.latestSequence();
+        outbox.append(ProductChangeType.CREATED, 1L, new Product(1L, "Laptop", new BigDecimal("999.99")));
+        outbox.append(ProductChangeType.CREATED, 2L, new Product(2L, "Mouse", new BigDecimal("29.99")));
+        outbox.append(ProductChangeType.UPDATED, 1L, new Product(1L, "Laptop Pro", new BigDecimal("1299.99")));
+        outbox.append(ProductChangeType.DELETED, 2L, null);
+        long head = outbox.latestSequence();
+
+        // When
+        List<ProductChange> changes = outbox.findLatestChanges(start, head, 100);
+
+        // Then
+        assertEquals(2, changes.size());
+        assertEquals(1L, changes.get(0).productId());
+        assertEquals("Laptop Pro", changes.get(0).name());
+        assertEquals(ProductChangeType.DELETED, changes.get(1).type());
+        assertEquals(head, changes.get(1).sequence());
+    }
+
+    @Test
+    void findLatestChanges_RespectsUpperBound() {
+        // Given
+        long start = outbox.latestSequence();
+        outbox.append(ProductChangeType.CREATED, 1L, new Product(1L, "Laptop", new BigDecimal("999.99")));
+        long firstWrite = outbox.latestSequence();
+        outbox.append(ProductChangeType.UPDATED, 1L, new Product(1L, "Laptop Pro", new BigDecimal("1299.99")));
+
+        // When
+        List<ProductChange> changes = outbox.findLatestChanges(start, firstWrite, 100);
+
+        // Then
+        assertEquals(1, changes.size());
+        assertEquals("Laptop", changes.get(0).name());
+    }
+
+    @Test
+    void compact_RemovesOnlySupersededRows() {
+        // Given
+        long start = outbox.latestSequence();
+        outbox.append(ProductChangeType.CREATED, 1L, new Product(1L, "Laptop", new BigDecimal("999.99")));
+        outbox.append(ProductChangeType.UPDATED, 1L, new Product(1L, "Laptop Pro", new BigDecimal("1299.99")));
+        outbox.append(ProductChangeType.CREATED, 2L, new Product(2L, "Mouse", new BigDecimal("29.99")));
+
+        // When
+        int removed = outbox.compact(Instant.now().plusSeconds(60));
+
+        // Then
+        assertEquals(1, removed);
+        List<ProductChange> remaining = outbox.findChanges(start, Long.MAX_VALUE, 100);
+        assertEquals(List.of("Laptop Pro", "Mouse"), remaining.stream().map(ProductChange::name).toList());
+    }
+
+    @Test
+    void purgeTombstones_RaisesHorizonToLastPurgedTombstone() {
+        // Given
+        outbox.append(ProductChangeType.CREATED, 1L, new Product(1L, "Laptop", new BigDecimal("999.99")));
+        outbox.append(ProductChangeType.DELETED, 2L, null);
+        long tombstone = outbox.latestSequence();
+
+        // When
+        long horizon = outbox.purgeTombstones(Instant.now().plusSeconds(60));
+
+        // Then
+        assertEquals(tombstone, horizon);
+        assertEquals(tombstone, outbox.horizon());
+        assertTrue(outbox.findChanges(0, Long.MAX_VALUE, 100).stream()
+            .noneMatch(change -> change.type() == ProductChangeType.DELETED));
+    }
+
+    @Test
+    void purgeTombstones_FullLoadFromZeroStillReturnsEveryLiveProduct() {
+        // Given
+        long start = outbox.latestSequence();
+        outbox.append(ProductChangeType.CREATED, 1L, new Product(1L, "Laptop", new BigDecimal("999.99")));
+        outbox.append(ProductChangeType.CREATED, 2L, new Product(2L, "Mouse", new BigDecimal("29.99")));
+        outbox.append(ProductChangeType.DELETED, 2L, null);
+        outbox.append(ProductChangeType.UPDATED, 1L, new Product(1L, "Laptop Pro", new BigDecimal("1299.99")));
+        long head = outbox.latestSequence();
+        outbox.compact(Instant.now().plusSeconds(60));
+        long horizon = outbox.purgeTombstones(Instant.now().plusSeconds(60));
+
+        // When
+        List<ProductChangeDto> changes = productChangeUseCase.getChangesSince(0, head, 100);
+
+        // Then
+        assertTrue(horizon > start);
+        assertThrows(ChangeHistoryExpiredException.class, () -> productChangeUseCase.getChangesSince(start + 1, head, 100));
+        assertTrue(changes.stream().anyMatch(change -> "1".equals(change.getId())
+            && "Laptop Pro".equals(change.getAttributes().getName())));
+        assertTrue(changes.stream().noneMatch(change -> "2".equals(change.getId())));
+    }
+
+    @Test
+    void purgeTombstones_WithoutExpiredTombstones_KeepsHorizon() {
+        // Given
+        outbox.append(ProductChangeType.DELETED, 3L, null);
+
+        // When
+        long horizon = outbox.purgeTombstones(Instant.now().minusSeconds(60));
+
+        // Then
+        assertEquals(0L, horizon);
+        assertEquals(0L, outbox.horizon());
+    }
+}
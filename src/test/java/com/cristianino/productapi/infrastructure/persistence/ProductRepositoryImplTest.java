@@ -1,5 +1,6 @@
 package com.cristianino.productapi.infrastructure.persistence;
 
+import com.cristianino.productapi.domain.model.Money;
 import com.cristianino.productapi.domain.model.Product;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -45,7 +46,7 @@ class ProductRepositoryImplTest {
         assertNotNull(result);
         assertEquals(1L, result.getId());
         assertEquals("Test Product", result.getName());
-        assertEquals(new BigDecimal("99.99"), result.getPrice());
+        assertEquals(Money.of(new BigDecimal("99.99")), result.getPrice());
         
         verify(jpaRepository, times(1)).save(any(ProductEntity.class));
     }
@@ -65,7 +66,7 @@ class ProductRepositoryImplTest {
         assertNotNull(result);
         assertEquals(1L, result.getId());
         assertEquals("Updated Product", result.getName());
-        assertEquals(new BigDecimal("199.99"), result.getPrice());
+        assertEquals(Money.of(new BigDecimal("199.99")), result.getPrice());
         
         verify(jpaRepository, times(1)).save(any(ProductEntity.class));
     }
@@ -86,7 +87,7 @@ class ProductRepositoryImplTest {
         Product product = result.get();
         assertEquals(productId, product.getId());
         assertEquals("Test Product", product.getName());
-        assertEquals(new BigDecimal("99.99"), product.getPrice());
+        assertEquals(Money.of(new BigDecimal("99.99")), product.getPrice());
         
         verify(jpaRepository, times(1)).findById(productId);
     }
@@ -126,12 +127,12 @@ class ProductRepositoryImplTest {
         Product product1 = result.get(0);
         assertEquals(1L, product1.getId());
         assertEquals("Product 1", product1.getName());
-        assertEquals(new BigDecimal("10.00"), product1.getPrice());
+        assertEquals(Money.of(new BigDecimal("10.00")), product1.getPrice());
         
         Product product2 = result.get(1);
         assertEquals(2L, product2.getId());
         assertEquals("Product 2", product2.getName());
-        assertEquals(new BigDecimal("20.00"), product2.getPrice());
+        assertEquals(Money.of(new BigDecimal("20.00")), product2.getPrice());
         
         verify(jpaRepository, times(1)).findAll();
     }
@@ -0,0 +1,136 @@
+package com.cristianino.productapi.infrastructure.persistence;
+
+import com.cristianino.productapi.application.dto.ProductPriceStatsDto.PriceBucket;
+import com.cristianino.productapi.application.dto.ProductPriceStatsDto.PriceStatistics;
+import com.cristianino.productapi.domain.model.Money;
+import com.cristianino.productapi.domain.model.ProductFilter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.Tuple;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductStatisticsQueryAdapterTest {
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private Query query;
+
+    private ProductStatisticsQueryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new ProductStatisticsQueryAdapter(entityManager, Duration.ofMinutes(1), 16);
+        lenient().when(entityManager.createNativeQuery(anyString(), eq(Tuple.class))).thenReturn(query);
+    }
+
+    @Test
+    void priceStatistics_MapsSummaryAndFillsEmptyBuckets() {
+        // Given
+        List<Tuple> rows = List.of(
+            row(3, "10.00", "20.00", "15.00", "15.00", "19.00", "19.90", 1, 1L),
+            row(3, "10.00", "20.00", "15.00", "15.00", "19.00", "19.90", 3, 2L));
+        when(query.getResultList()).thenReturn(rows);
+
+        // When
+        PriceStatistics statistics = adapter.priceStatistics(ProductFilter.NONE, 3);
+
+        // Then
+        assertThat(statistics.count()).isEqualTo(3);
+        assertThat(statistics.min()).isEqualByComparingTo("10.00");
+        assertThat(statistics.p99()).isEqualByComparingTo("19.90");
+        assertThat(statistics.histogram()).containsExactly(
+            new PriceBucket(new BigDecimal("10.00"), new BigDecimal("13.34"), 1),
+            new PriceBucket(new BigDecimal("13.34"), new BigDecimal("16.67"), 0),
+            new PriceBucket(new BigDecimal("16.67"), new BigDecimal("20.00"), 2));
+    }
+
+    @Test
+    void priceStatistics_NoMatchingProducts_ReturnsEmptyStatistics() {
+        // Given
+        List<Tuple> rows = List.of(row(0, null, null, null, null, null, null, null, null));
+        when(query.getResultList()).thenReturn(rows);
+
+        // When
+        PriceStatistics statistics = adapter.priceStatistics(ProductFilter.NONE, 10);
+
+        // Then
+        assertThat(statistics).isEqualTo(PriceStatistics.empty());
+    }
+
+    @Test
+    void priceStatistics_WithFilter_BindsOnlyPresentCriteria() {
+        // Given
+        List<Tuple> rows = List.of(row(0, null, null, null, null, null, null, null, null));
+        when(query.getResultList()).thenReturn(rows);
+        ProductFilter filter = new ProductFilter("50%_off", Money.of(new BigDecimal("5")), null);
+
+        // When
+        adapter.priceStatistics(filter, 10);
+
+        // Then
+        verify(entityManager).createNativeQuery(contains("where lower(name) like :namePattern escape '\\' and price >= :minPrice)"), eq(Tuple.class));
+        verify(query).setParameter("namePattern", "%50\\%\\_off%");
+        verify(query).setParameter("minPrice", new BigDecimal("5.00"));
+        verify(query, never()).setParameter(eq("maxPrice"), any());
+    }
+
+    @Test
+    void priceStatistics_IsCachedUntilOutboxAppend() {
+        // Given
+        List<Tuple> rows = List.of(row(1, "5.00", "5.00", "5.00", "5.00", "5.00", "5.00", 1, 1L));
+        when(query.getResultList()).thenReturn(rows);
+
+        // When
+        PriceStatistics first = adapter.priceStatistics(ProductFilter.NONE, 10);
+        PriceStatistics cached = adapter.priceStatistics(ProductFilter.NONE, 10);
+        adapter.onOutboxAppended(new ProductOutboxAppendedEvent(42));
+        adapter.priceStatistics(ProductFilter.NONE, 10);
+
+        // Then
+        assertThat(cached).isSameAs(first);
+        assertThat(first.histogram()).containsExactly(
+            new PriceBucket(new BigDecimal("5.00"), new BigDecimal("5.00"), 1));
+        verify(query, times(2)).getResultList();
+    }
+
+    private Tuple row(long count, String min, String max, String average, String p50, String p90, String p99,
+                      Integer bucket, Long bucketCount) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("product_count", count);
+        values.put("min_price", decimal(min));
+        values.put("max_price", decimal(max));
+        values.put("average_price", decimal(average));
+        values.put("p50", decimal(p50));
+        values.put("p90", decimal(p90));
+        values.put("p99", decimal(p99));
+        values.put("bucket", bucket);
+        values.put("bucket_count", bucketCount);
+        Tuple tuple = mock(Tuple.class);
+        lenient().when(tuple.get(anyString())).thenAnswer(invocation -> values.get(invocation.<String>getArgument(0)));
+        return tuple;
+    }
+
+    private static BigDecimal decimal(String value) {
+        return value != null ? new BigDecimal(value) : null;
+    }
+}
@@ -0,0 +1,148 @@
+package com.cristianino.productapi.infrastructure.persistence;
+
+import com.cristianino.productapi.domain.model.Money;
+import com.cristianino.productapi.domain.model.Product;
+import com.cristianino.productapi.domain.port.ProductRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SnapshotProductRepositoryTest {
+
+    private ProductRepository delegate;
+    private ProductCatalogSnapshotManager snapshotManager;
+    private SnapshotProductRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(ProductRepository.class);
+        snapshotManager = mock(ProductCatalogSnapshotManager.class);
+        repository = new SnapshotProductRepository(delegate, snapshotManager, Duration.ofSeconds(5));
+    }
+
+    @Test
+    void findById_WhenSnapshotFresh_DoesNotQueryDatabase() {
+        // Given
+        when(snapshotManager.isFresh(Duration.ofSeconds(5))).thenReturn(true);
+        when(snapshotManager.snapshot()).thenReturn(ProductCatalogSnapshot.of(
+            List.of(new Product(1L, "Laptop", new BigDecimal("999.99"))), 1, java.time.Instant.now()));
+
+        // When
+        Optional<Product> result = repository.findById(1L);
+
+        // Then
+        assertEquals("Laptop", result.orElseThrow().getName());
+        verifyNoInteractions(delegate);
+    }
+
+    @Test
+    void findAll_WhenSnapshotStale_FallsBackToDatabase() {
+        // Given
+        when(snapshotManager.isFresh(Duration.ofSeconds(5))).thenReturn(false);
+        when(delegate.findAll()).thenReturn(List.of(new Product(1L, "Laptop", new BigDecimal("999.99"))));
+
+        // When
+        List<Product> result = repository.findAll();
+
+        // Then
+        assertEquals(1, result.size());
+        verify(delegate).findAll();
+        verify(snapshotManager, never()).snapshot();
+    }
+
+    @Test
+    void writesAndExistenceChecks_AlwaysUseDatabase() {
+        // Given
+        Product product = new Product("Laptop", new BigDecimal("999.99"));
+        when(delegate.existsById(1L)).thenReturn(true);
+
+        // When
+        repository.save(product);
+        repository.deleteById(1L);
+        boolean exists = repository.existsById(1L);
+
+        // Then
+        assertTrue(exists);
+        verify(delegate).save(product);
+        verify(delegate).deleteById(1L);
+        verifyNoInteractions(snapshotManager);
+    }
+
+    @Test
+    void snapshotManager_AppliesNotificationsInCommitOrder() {
+        // Given
+        ProductRepository source = mock(ProductRepository.class);
+        when(source.findAll()).thenReturn(List.of(
+            new Product(1L, "Laptop", new BigDecimal("999.99")),
+            new Product(2L, "Mouse", new BigDecimal("29.99"))));
+        ProductCatalogSnapshotManager manager = new ProductCatalogSnapshotManager(source::findAll, () -> null,
+            new ObjectMapper(), Duration.ofMillis(100), Duration.ofSeconds(1), Duration.ofSeconds(1));
+        manager.reload();
+
+        // When
+        manager.apply(List.of(
+            "{\"op\":\"UPDATE\",\"id\":1,\"name\":\"Laptop Pro\",\"price\":1299.99,\"at\":1700000000.5}",
+            "{\"op\":\"INSERT\",\"id\":3,\"name\":\"Keyboard\",\"price\":79.99,\"at\":1700000000.6}",
+            "{\"op\":\"DELETE\",\"id\":2,\"at\":1700000000.7}",
+            "not json"));
+
+        // Then
+        ProductCatalogSnapshot snapshot = manager.snapshot();
+        assertEquals(2, snapshot.version());
+        assertEquals(List.of(1L, 3L), snapshot.findAll().stream().map(Product::getId).toList());
+        assertEquals(Money.of(new BigDecimal("1299.99")), snapshot.findById(1L).orElseThrow().getPrice());
+        assertNotNull(manager.lastChangeAppliedAt());
+    }
+
+    @Test
+    void snapshotManager_AppliesEveryRowOfAStatementNotification() {
+        // Given
+        ProductRepository source = mock(ProductRepository.class);
+        when(source.findAll()).thenReturn(List.of(
+            new Product(1L, "Laptop", new BigDecimal("999.99")),
+            new Product(2L, "Mouse", new BigDecimal("29.99"))));
+        ProductCatalogSnapshotManager manager = new ProductCatalogSnapshotManager(source::findAll, () -> null,
+            new ObjectMapper(), Duration.ofMillis(100), Duration.ofSeconds(1), Duration.ofSeconds(1));
+        manager.reload();
+
+        // When
+        manager.apply(List.of(
+            "{\"op\":\"UPDATE\",\"rows\":[{\"id\":1,\"name\":\"Laptop\",\"price\":899.99},"
+                + "{\"id\":2,\"name\":\"Mouse\",\"price\":26.99}],\"at\":1700000000.5}",
+            "{\"op\":\"DELETE\",\"rows\":[{\"id\":1}],\"at\":1700000000.6}"));
+
+        // Then
+        ProductCatalogSnapshot snapshot = manager.snapshot();
+        assertEquals(List.of(2L), snapshot.findAll().stream().map(Product::getId).toList());
+        assertEquals(Money.of(new BigDecimal("26.99")), snapshot.findById(2L).orElseThrow().getPrice());
+    }
+
+    @Test
+    void snapshotManager_ReloadsWhenAStatementChangedTooManyRowsToList() {
+        // Given
+        ProductRepository source = mock(ProductRepository.class);
+        when(source.findAll())
+            .thenReturn(List.of(new Product(1L, "Laptop", new BigDecimal("999.99"))))
+            .thenReturn(List.of(
+                new Product(1L, "Laptop", new BigDecimal("999.99")),
+                new Product(2L, "Imported", new BigDecimal("19.99"))));
+        ProductCatalogSnapshotManager manager = new ProductCatalogSnapshotManager(source::findAll, () -> null,
+            new ObjectMapper(), Duration.ofMillis(100), Duration.ofSeconds(1), Duration.ofSeconds(1));
+        manager.reload();
+
+        // When
+        manager.apply(List.of("{\"op\":\"RELOAD\",\"count\":5000,\"at\":1700000000.5}"));
+
+        // Then
+        verify(source, times(2)).findAll();
+        assertEquals(List.of(1L, 2L), manager.snapshot().findAll().stream().map(Product::getId).toList());
+    }
+}
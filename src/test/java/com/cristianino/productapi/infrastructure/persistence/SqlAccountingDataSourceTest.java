@@ -0,0 +1,84 @@
+package com.cristianino.productapi.infrastructure.persistence;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+
+import java.sql.Connection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlAccountingDataSourceTest {
+
+    private SqlAccountingDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:sql-accounting;DB_CLOSE_DELAY=-1");
+        dataSource = new SqlAccountingDataSource(h2);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table items (id int primary key, name varchar(20))");
+        jdbcTemplate.update("insert into items values (1, 'a'), (2, 'b'), (3, 'c')");
+    }
+
+    @AfterEach
+    void tearDown() {
+        SqlStatementRecorder.stop();
+        jdbcTemplate.execute("drop table items");
+    }
+
+    @Test
+    void countsStatementsAndFetchedRowsWhileRecording() {
+        // Given
+        SqlStatementRecorder.Recording recording = SqlStatementRecorder.start();
+
+        // When
+        jdbcTemplate.queryForList("select name from items order by id", String.class);
+        jdbcTemplate.update("update items set name = ? where id = ?", "z", 1);
+
+        // Then
+        assertThat(recording.statements()).isEqualTo(2);
+        assertThat(recording.rows()).isEqualTo(3);
+        assertThat(recording.jdbcTime()).isPositive();
+    }
+
+    @Test
+    void reportsTheMostRepeatedStatement() {
+        // Given
+        SqlStatementRecorder.Recording recording = SqlStatementRecorder.start();
+
+        // When
+        for (int id = 1; id <= 3; id++) {
+            jdbcTemplate.queryForObject("select name from items where id = ?", String.class, id);
+        }
+        jdbcTemplate.queryForObject("select count(*) from items", Long.class);
+
+        // Then
+        assertThat(recording.mostRepeated()).hasValueSatisfying(repeated -> {
+            assertThat(repeated.getKey()).isEqualTo("select name from items where id = ?");
+            assertThat(repeated.getValue()).isEqualTo(3);
+        });
+    }
+
+    @Test
+    void passesThroughWithoutRecordingAndExposesTargetConnection() throws Exception {
+        // Given
+        SqlStatementRecorder.Recording recording = SqlStatementRecorder.start();
+        SqlStatementRecorder.stop();
+
+        // When
+        jdbcTemplate.queryForList("select name from items", String.class);
+
+        // Then
+        assertThat(recording.statements()).isZero();
+        try (Connection connection = dataSource.getConnection()) {
+            assertThat(connection).isInstanceOf(ConnectionProxy.class);
+            assertThat(((ConnectionProxy) connection).getTargetConnection()).isNotInstanceOf(ConnectionProxy.class);
+        }
+    }
+}
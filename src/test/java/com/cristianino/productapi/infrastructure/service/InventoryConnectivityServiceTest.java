@@ -0,0 +1,45 @@
+package com.cristianino.productapi.infrastructure.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class InventoryConnectivityServiceTest {
+
+    @Test
+    void checkInventoryConnectivity_ReturnsInventoryEntryOfLatestSnapshot() {
+        // Given
+        MicroserviceHealthProber prober = mock(MicroserviceHealthProber.class);
+        ServiceHealthStatus up = new ServiceHealthStatus("inventory", "UP", "http://inventory:8081/actuator/health",
+            "Successfully connected to Inventory service", null, "CLOSED", 1L, 5L, Map.of("status", "UP"));
+        when(prober.snapshot()).thenReturn(ServiceHealthSnapshot.of(List.of(up), 1L));
+        InventoryConnectivityService service = new InventoryConnectivityService(prober);
+
+        // When
+        Map<String, Object> result = service.checkInventoryConnectivity();
+
+        // Then
+        assertEquals("UP", result.get("status"));
+        assertEquals("inventory-api", result.get("service"));
+        assertEquals("http://inventory:8081/actuator/health", result.get("url"));
+        assertEquals(Map.of("status", "UP"), result.get("response"));
+    }
+
+    @Test
+    void checkInventoryConnectivity_WhenInventoryNotConfigured_ReturnsUnknown() {
+        // Given
+        MicroserviceHealthProber prober = mock(MicroserviceHealthProber.class);
+        when(prober.snapshot()).thenReturn(ServiceHealthSnapshot.of(List.of(), 1L));
+        InventoryConnectivityService service = new InventoryConnectivityService(prober);
+
+        // When
+        Map<String, Object> result = service.checkInventoryConnectivity();
+
+        // Then
+        assertEquals("UNKNOWN", result.get("status"));
+    }
+}
@@ -0,0 +1,176 @@
+package com.cristianino.productapi.infrastructure.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InventoryStockClientTest {
+
+    @Test
+    void fetchStock_SplitsIdsIntoBatchesAndMergesResults() {
+        // Given
+        List<String> requestedBatches = new CopyOnWriteArrayList<>();
+        InventoryStockClient client = createClient(request -> {
+            String ids = productIdsParam(request.url().getQuery());
+            requestedBatches.add(ids);
+            return Mono.just(stockResponse(ids));
+        }, Duration.ofSeconds(2), 16);
+
+        // When
+        InventoryStockLookup lookup = client.fetchStock(LongStream.rangeClosed(1, 5).boxed().toList());
+
+        // Then
+        assertEquals(3, requestedBatches.size());
+        assertEquals(5, lookup.stock().size());
+        assertFalse(lookup.isPartial());
+        assertEquals(new InventoryStock(4L, 40, true), lookup.stock().get(4L));
+    }
+
+    @Test
+    void fetchStock_ProductMissingFromResponse_IsUnavailableAndNotCached() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+        InventoryStockClient client = createClient(request -> {
+            calls.incrementAndGet();
+            return Mono.just(stockResponse("1"));
+        }, Duration.ofSeconds(2), 16);
+
+        // When
+        InventoryStockLookup lookup = client.fetchStock(List.of(1L, 2L));
+        InventoryStockLookup repeated = client.fetchStock(List.of(2L));
+
+        // Then
+        assertEquals(Set.of(1L), lookup.stock().keySet());
+        assertEquals(Set.of(2L), lookup.unavailable());
+        assertEquals(Set.of(2L), repeated.unavailable());
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void fetchStock_ResponseWithoutDataArray_ReportsEveryProductUnavailable() {
+        // Given
+        InventoryStockClient client = createClient(request -> Mono.just(ClientResponse.create(HttpStatus.OK)
+            .header(HttpHeaders.CONTENT_TYPE, "application/vnd.api+json")
+            .body("{}")
+            .build()), Duration.ofSeconds(2), 16);
+
+        // When
+        InventoryStockLookup lookup = client.fetchStock(List.of(1L, 2L));
+
+        // Then
+        assertTrue(lookup.stock().isEmpty());
+        assertEquals(Set.of(1L, 2L), lookup.unavailable());
+    }
+
+    @Test
+    void fetchStock_RepeatedLookupWithinTtl_IsServedFromCache() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+        InventoryStockClient client = createClient(request -> {
+            calls.incrementAndGet();
+            return Mono.just(stockResponse(productIdsParam(request.url().getQuery())));
+        }, Duration.ofSeconds(2), 16);
+
+        // When
+        client.fetchStock(List.of(1L, 2L));
+        InventoryStockLookup lookup = client.fetchStock(List.of(2L, 1L));
+
+        // Then
+        assertEquals(1, calls.get());
+        assertEquals(2, lookup.stock().size());
+    }
+
+    @Test
+    void fetchStock_FailedBatch_ReturnsPartialResult() {
+        // Given
+        InventoryStockClient client = createClient(request -> {
+            String ids = productIdsParam(request.url().getQuery());
+            return ids.startsWith("3") ? Mono.error(new ConnectException("refused")) : Mono.just(stockResponse(ids));
+        }, Duration.ofSeconds(2), 16);
+
+        // When
+        InventoryStockLookup lookup = client.fetchStock(List.of(1L, 2L, 3L, 4L));
+
+        // Then
+        assertEquals(Set.of(1L, 2L), lookup.stock().keySet());
+        assertEquals(Set.of(3L, 4L), lookup.unavailable());
+        assertTrue(lookup.isPartial());
+    }
+
+    @Test
+    void fetchStock_SlowBatch_IsCutOffAtDeadline() {
+        // Given
+        InventoryStockClient client = createClient(request -> {
+            String ids = productIdsParam(request.url().getQuery());
+            return ids.startsWith("3") ? Mono.never() : Mono.just(stockResponse(ids));
+        }, Duration.ofMillis(100), 16);
+
+        // When
+        long start = System.nanoTime();
+        InventoryStockLookup lookup = client.fetchStock(List.of(1L, 2L, 3L, 4L));
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        // Then
+        assertEquals(Set.of(1L, 2L), lookup.stock().keySet());
+        assertEquals(Set.of(3L, 4L), lookup.unavailable());
+        assertTrue(elapsedMillis < 2000, "lookup exceeded deadline: " + elapsedMillis + "ms");
+    }
+
+    @Test
+    void fetchStock_WhenBulkheadFull_SkipsRemoteCall() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+        InventoryStockClient client = createClient(request -> {
+            calls.incrementAndGet();
+            return Mono.just(stockResponse("1"));
+        }, Duration.ofSeconds(2), 0);
+
+        // When
+        InventoryStockLookup lookup = client.fetchStock(List.of(1L));
+
+        // Then
+        assertEquals(0, calls.get());
+        assertEquals(Set.of(1L), lookup.unavailable());
+    }
+
+    private static InventoryStockClient createClient(ExchangeFunction exchangeFunction, Duration deadline,
+                                                     int maxConcurrentLookups) {
+        WebClient webClient = WebClient.builder()
+            .baseUrl("http://inventory:8081")
+            .exchangeFunction(exchangeFunction)
+            .build();
+        return new InventoryStockClient(webClient, "/api/v1/inventory", 2, 4, deadline,
+            maxConcurrentLookups, Duration.ofSeconds(5), 100);
+    }
+
+    private static String productIdsParam(String query) {
+        return query.replace("productIds=", "").replace("%2C", ",");
+    }
+
+    private static ClientResponse stockResponse(String ids) {
+        String data = Arrays.stream(ids.split(","))
+            .map(id -> "{\"type\":\"inventory\",\"id\":\"" + id + "\",\"attributes\":{\"productId\":" + id
+                + ",\"quantity\":" + (Long.parseLong(id) * 10) + "}}")
+            .collect(Collectors.joining(","));
+        return ClientResponse.create(HttpStatus.OK)
+            .header(HttpHeaders.CONTENT_TYPE, "application/vnd.api+json")
+            .body("{\"data\":[" + data + "]}")
+            .build();
+    }
+}
@@ -0,0 +1,133 @@
+package com.cristianino.productapi.infrastructure.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class MicroserviceHealthProberTest {
+
+    private static final Map<String, MicroserviceEndpoint> ENDPOINTS = Map.of(
+        "inventory", new MicroserviceEndpoint("http://inventory:8081", "/actuator/health", Duration.ofSeconds(2)),
+        "payments", new MicroserviceEndpoint("http://payments:8083", "/health", Duration.ofMillis(50)));
+
+    @Test
+    void snapshot_BeforeFirstProbe_ReportsUnknownWithoutCallingServices() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+        MicroserviceHealthProber prober = createProber(request -> {
+            calls.incrementAndGet();
+            return Mono.just(healthyResponse());
+        });
+
+        // When
+        ServiceHealthSnapshot snapshot = prober.snapshot();
+
+        // Then
+        assertEquals("UNKNOWN", snapshot.service("inventory").status());
+        assertEquals("UNKNOWN", snapshot.service("payments").status());
+        assertEquals("DEGRADED", snapshot.overallStatus());
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    void probeAll_ChecksEveryServiceAndPublishesSnapshot() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+        MicroserviceHealthProber prober = createProber(request -> {
+            calls.incrementAndGet();
+            return Mono.just(healthyResponse());
+        });
+
+        // When
+        prober.probeAll().block();
+        ServiceHealthSnapshot first = prober.snapshot();
+        ServiceHealthSnapshot second = prober.snapshot();
+
+        // Then
+        assertSame(first, second);
+        assertEquals(2, calls.get());
+        assertEquals("UP", first.overallStatus());
+        assertEquals("http://payments:8083/health", first.service("payments").url());
+        assertEquals(Map.of("status", "UP"), first.serviceView("inventory").get("response"));
+    }
+
+    @Test
+    void probeAll_WhenOneServiceHangs_MarksOnlyThatServiceDown() {
+        // Given
+        MicroserviceHealthProber prober = createProber(request ->
+            request.url().getHost().equals("payments") ? Mono.never() : Mono.just(healthyResponse()));
+
+        // When
+        ServiceHealthSnapshot snapshot = prober.probeAll().block(Duration.ofSeconds(5));
+
+        // Then
+        assertNotNull(snapshot);
+        assertEquals("UP", snapshot.service("inventory").status());
+        assertEquals("DOWN", snapshot.service("payments").status());
+        assertEquals("DEGRADED", snapshot.overallStatus());
+        assertEquals("DEGRADED", snapshot.connectivityView().get("overall-status"));
+    }
+
+    @Test
+    void probe_AfterRepeatedFailures_OpensCircuitAndSkipsCalls() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+        MicroserviceHealthProber prober = createProber(request -> {
+            calls.incrementAndGet();
+            return Mono.error(new ConnectException("Connection refused"));
+        });
+        MicroserviceEndpoint inventory = ENDPOINTS.get("inventory");
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            prober.probe("inventory", inventory).block();
+        }
+        ServiceHealthStatus status = prober.probe("inventory", inventory).block();
+
+        // Then
+        assertNotNull(status);
+        assertEquals("DOWN", status.status());
+        assertEquals("Circuit breaker is open", status.error());
+        assertEquals("OPEN", status.circuitBreaker());
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    void nextDelay_StaysWithinJitterBounds() {
+        // Given
+        MicroserviceHealthProber prober = createProber(request -> Mono.just(healthyResponse()));
+
+        // When & Then
+        for (int i = 0; i < 100; i++) {
+            long delay = prober.nextDelay().toMillis();
+            assertTrue(delay >= 8000 && delay <= 12000, "delay out of bounds: " + delay);
+        }
+    }
+
+    private static MicroserviceHealthProber createProber(ExchangeFunction exchangeFunction) {
+        WebClient webClient = WebClient.builder().exchangeFunction(exchangeFunction).build();
+        return new MicroserviceHealthProber(ENDPOINTS, webClient, mock(TaskScheduler.class),
+            Duration.ofSeconds(10), Duration.ofSeconds(2));
+    }
+
+    private static ClientResponse healthyResponse() {
+        return ClientResponse.create(HttpStatus.OK)
+            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+            .body("{\"status\":\"UP\"}")
+            .build();
+    }
+}
@@ -0,0 +1,279 @@
+package com.cristianino.productapi.infrastructure.service;
+
+import com.cristianino.productapi.domain.model.Product;
+import com.cristianino.productapi.domain.model.ProductChange;
+import com.cristianino.productapi.domain.model.ProductChangeType;
+import com.cristianino.productapi.domain.port.ProductOutbox;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductChangeFeedTest {
+
+    private final InMemoryOutbox outbox = new InMemoryOutbox();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void relay_DeliversCommittedChangesToLiveSubscriberInOrder() throws Exception {
+        // Given
+        ProductChangeFeed feed = createFeed(16, Duration.ofSeconds(2), 8);
+        CapturingEmitter emitter = new CapturingEmitter();
+        assertTrue(feed.register(emitter, null));
+        emitter.awaitLive(feed);
+
+        outbox.add(1, ProductChangeType.CREATED, 7L);
+        outbox.add(2, ProductChangeType.DELETED, 7L);
+
+        // When
+        feed.relay();
+
+        // Then
+        assertEquals("1:product.created", emitter.next());
+        assertEquals("2:product.deleted", emitter.next());
+        assertEquals(2, feed.dispatchedSequence());
+    }
+
+    @Test
+    void register_WithLastEventId_ReplaysOutboxBeforeFollowingLiveChanges() throws Exception {
+        // Given
+        ProductChangeFeed feed = createFeed(16, Duration.ofSeconds(2), 8);
+        outbox.add(1, ProductChangeType.CREATED, 1L);
+        outbox.add(2, ProductChangeType.CREATED, 2L);
+        outbox.add(3, ProductChangeType.UPDATED, 1L);
+        feed.relay();
+
+        // When
+        CapturingEmitter emitter = new CapturingEmitter();
+        feed.register(emitter, 1L);
+        emitter.awaitLive(feed);
+        outbox.add(4, ProductChangeType.DELETED, 2L);
+        feed.relay();
+
+        // Then
+        assertEquals("2:product.created", emitter.next());
+        assertEquals("3:product.updated", emitter.next());
+        assertEquals("4:product.deleted", emitter.next());
+        assertNull(emitter.poll());
+    }
+
+    @Test
+    void relay_HoldsBackAtSequenceGapUntilGapTimeout() throws Exception {
+        // Given
+        ProductChangeFeed holdingFeed = createFeed(16, Duration.ofHours(1), 8);
+        outbox.add(1, ProductChangeType.CREATED, 1L);
+        outbox.add(3, ProductChangeType.CREATED, 3L);
+
+        // When
+        holdingFeed.relay();
+
+        // Then
+        assertEquals(1, holdingFeed.dispatchedSequence());
+
+        // Given
+        ProductChangeFeed skippingFeed = createFeed(16, Duration.ZERO, 8);
+
+        // When
+        skippingFeed.relay();
+
+        // Then
+        assertEquals(3, skippingFeed.dispatchedSequence());
+    }
+
+    @Test
+    void relay_AfterGapTimeout_HoldsWhileOlderWritesAreStillOpen() throws Exception {
+        // Given
+        ProductChangeFeed feed = createFeed(16, Duration.ZERO, 8);
+        outbox.add(1, ProductChangeType.CREATED, 1L);
+        outbox.add(3, ProductChangeType.CREATED, 3L);
+        outbox.openWrites = true;
+
+        // When
+        feed.relay();
+
+        // Then
+        assertEquals(1, feed.dispatchedSequence());
+
+        // When
+        outbox.add(2, ProductChangeType.CREATED, 2L);
+        outbox.changes.sort(Comparator.comparingLong(ProductChange::sequence));
+        outbox.openWrites = false;
+        feed.relay();
+
+        // Then
+        assertEquals(3, feed.dispatchedSequence());
+    }
+
+    @Test
+    void relay_SlowSubscriberOverflowingBuffer_IsDisconnected() throws Exception {
+        // Given
+        ProductChangeFeed feed = createFeed(1, Duration.ofSeconds(2), 8);
+        CountDownLatch release = new CountDownLatch(1);
+        CapturingEmitter slowEmitter = new CapturingEmitter();
+        feed.register(slowEmitter, null);
+        slowEmitter.awaitLive(feed);
+        slowEmitter.blockSendsUntil(release);
+        for (int sequence = 1; sequence <= 4; sequence++) {
+            outbox.add(sequence, ProductChangeType.UPDATED, 1L);
+        }
+
+        // When
+        feed.relay();
+        release.countDown();
+
+        // Then
+        assertEquals(0, feed.subscriberCount());
+        assertEquals(1.0, meterRegistry.counter("product.change.feed.dropped").count());
+        assertEquals(4, feed.dispatchedSequence());
+    }
+
+    @Test
+    void subscribe_BeyondSubscriberLimit_IsRejected() {
+        // Given
+        ProductChangeFeed feed = createFeed(16, Duration.ofSeconds(2), 1);
+
+        // When
+        boolean first = feed.register(new CapturingEmitter(), null);
+        boolean second = feed.subscribe(null).isPresent();
+
+        // Then
+        assertTrue(first);
+        assertFalse(second);
+        assertEquals(1, feed.subscriberCount());
+    }
+
+    private ProductChangeFeed createFeed(int bufferSize, Duration gapTimeout, int maxSubscribers) {
+        return new ProductChangeFeed(outbox, meterRegistry, bufferSize, 100, maxSubscribers,
+            Duration.ofSeconds(1), gapTimeout, Duration.ofSeconds(15), Duration.ofMinutes(1));
+    }
+
+    private static final class InMemoryOutbox implements ProductOutbox {
+        private final List<ProductChange> changes = new CopyOnWriteArrayList<>();
+        private volatile boolean openWrites;
+
+        void add(long sequence, ProductChangeType type, Long productId) {
+            changes.add(new ProductChange(sequence, type, productId,
+                type == ProductChangeType.DELETED ? null : "Product " + productId,
+                type == ProductChangeType.DELETED ? null : new BigDecimal("9.99"), Instant.now()));
+        }
+
+        @Override
+        public void append(ProductChangeType type, Long productId, Product state) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<ProductChange> findChanges(long afterSequence, long upToSequence, int limit) {
+            return changes.stream()
+                .filter(change -> change.sequence() > afterSequence && change.sequence() <= upToSequence)
+                .limit(limit)
+                .collect(Collectors.toList());
+        }
+
+        @Override
+        public List<ProductChange> findLatestChanges(long afterSequence, long upToSequence, int limit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long latestSequence() {
+            return changes.isEmpty() ? 0 : changes.get(changes.size() - 1).sequence();
+        }
+
+        @Override
+        public long horizon() {
+            return 0;
+        }
+
+        @Override
+        public int compact(Instant supersededBefore) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long purgeTombstones(Instant deletedBefore) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long openWritesMarker() {
+            return 42;
+        }
+
+        @Override
+        public boolean writesSettled(long marker) {
+            return !openWrites;
+        }
+    }
+
+    /**
+     * Records "id:event" for each delivered change; can be made to block sends to simulate a slow client.
+     */
+    private static final class CapturingEmitter extends SseEmitter {
+        private final BlockingQueue<String> received = new LinkedBlockingQueue<>();
+        private volatile CountDownLatch release = new CountDownLatch(0);
+        private volatile boolean heartbeatReceived;
+
+        void blockSendsUntil(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            String text = builder.build().stream()
+                .map(part -> String.valueOf(part.getData()))
+                .collect(Collectors.joining());
+            if (text.startsWith(":heartbeat")) {
+                heartbeatReceived = true;
+                return;
+            }
+            String id = text.replaceAll("(?s).*id:(\\d+)\n.*", "$1");
+            String event = text.replaceAll("(?s).*event:([\\w.]+)\n.*", "$1");
+            received.add(id + ":" + event);
+        }
+
+        String next() throws InterruptedException {
+            String event = received.poll(5, TimeUnit.SECONDS);
+            assertNotNull(event, "expected an event");
+            return event;
+        }
+
+        String poll() throws InterruptedException {
+            return received.poll(200, TimeUnit.MILLISECONDS);
+        }
+
+        /**
+         * Replay runs on a delivery thread; sending a probe heartbeat confirms the switch to live delivery.
+         */
+        void awaitLive(ProductChangeFeed feed) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (System.nanoTime() < deadline) {
+                feed.sendHeartbeats();
+                Thread.sleep(20);
+                if (heartbeatReceived) {
+                    return;
+                }
+            }
+            fail("subscriber did not go live");
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.cristianino.productapi.infrastructure.web;
+
+import com.cristianino.productapi.infrastructure.service.InventoryConnectivityService;
+import com.cristianino.productapi.infrastructure.service.MicroserviceHealthProber;
+import com.cristianino.productapi.infrastructure.service.ServiceHealthSnapshot;
+import com.cristianino.productapi.infrastructure.service.ServiceHealthStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class ConnectivityControllerTest {
+
+    private InventoryConnectivityService inventoryConnectivityService;
+    private MicroserviceHealthProber healthProber;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        inventoryConnectivityService = mock(InventoryConnectivityService.class);
+        healthProber = mock(MicroserviceHealthProber.class);
+        mockMvc = MockMvcBuilders
+            .standaloneSetup(new ConnectivityController(inventoryConnectivityService, healthProber))
+            .build();
+    }
+
+    @Test
+    void getConnectivityStatus_AggregatesSnapshotWithoutProbing() throws Exception {
+        // Given
+        when(healthProber.snapshot()).thenReturn(ServiceHealthSnapshot.of(List.of(
+            serviceStatus("inventory", "UP"),
+            serviceStatus("payments", "DOWN")), 42L));
+
+        // When & Then
+        mockMvc.perform(get("/api/connectivity/status"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$['product-api'].status").value("UP"))
+            .andExpect(jsonPath("$['inventory-api'].status").value("UP"))
+            .andExpect(jsonPath("$['payments-api'].status").value("DOWN"))
+            .andExpect(jsonPath("$['overall-status']").value("DEGRADED"))
+            .andExpect(jsonPath("$.timestamp").value(42));
+
+        verify(healthProber, never()).probeAll();
+    }
+
+    @Test
+    void checkInventoryConnectivity_WhenDown_Returns503() throws Exception {
+        // Given
+        when(inventoryConnectivityService.checkInventoryConnectivity())
+            .thenReturn(Map.of("service", "inventory-api", "status", "DOWN"));
+
+        // When & Then
+        mockMvc.perform(get("/api/connectivity/inventory"))
+            .andExpect(status().isServiceUnavailable())
+            .andExpect(jsonPath("$.status").value("DOWN"));
+    }
+
+    @Test
+    void checkInventoryConnectivity_WhenUp_Returns200() throws Exception {
+        // Given
+        when(inventoryConnectivityService.checkInventoryConnectivity())
+            .thenReturn(Map.of("service", "inventory-api", "status", "UP"));
+
+        // When & Then
+        mockMvc.perform(get("/api/connectivity/inventory"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value("UP"));
+    }
+
+    private static ServiceHealthStatus serviceStatus(String name, String status) {
+        return new ServiceHealthStatus(name, status, "http://" + name + "/actuator/health",
+            "probe result", null, "CLOSED", 42L, 3L, null);
+    }
+}
@@ -0,0 +1,103 @@
+package com.cristianino.productapi.infrastructure.web.internal;
+
+import com.cristianino.productapi.application.dto.client.ProductClientDto;
+import com.cristianino.productapi.application.dto.client.ProductListClientResponse;
+import com.cristianino.productapi.application.usecase.ProductClientUseCase;
+import com.cristianino.productapi.infrastructure.config.GlobalExceptionHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class InternalProductControllerTest {
+
+    private ProductClientUseCase productClientUseCase;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        productClientUseCase = mock(ProductClientUseCase.class);
+        mockMvc = MockMvcBuilders
+            .standaloneSetup(new InternalProductController(productClientUseCase, 100, 1000, 500))
+            .setControllerAdvice(new GlobalExceptionHandler())
+            .build();
+    }
+
+    @Test
+    void getProducts_ReturnsFlatListWithoutEnvelope() throws Exception {
+        // Given
+        when(productClientUseCase.getProducts(0, 100)).thenReturn(ProductListClientResponse.success(List.of(
+            new ProductClientDto(1L, "Laptop", new BigDecimal("999.99"))), 1));
+
+        // When & Then
+        mockMvc.perform(get("/api/internal/products"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+            .andExpect(jsonPath("$.products[0].id").value(1))
+            .andExpect(jsonPath("$.products[0].name").value("Laptop"))
+            .andExpect(jsonPath("$.products[0].available").value(true))
+            .andExpect(jsonPath("$.totalElements").value(1))
+            .andExpect(jsonPath("$.data").doesNotExist())
+            .andExpect(jsonPath("$.links").doesNotExist());
+    }
+
+    @Test
+    void getProducts_SizeAboveMaximum_IsCapped() throws Exception {
+        // Given
+        when(productClientUseCase.getProducts(2, 1000)).thenReturn(ProductListClientResponse.success(List.of(), 0));
+
+        // When & Then
+        mockMvc.perform(get("/api/internal/products").param("page", "2").param("size", "50000"))
+            .andExpect(status().isOk());
+
+        verify(productClientUseCase).getProducts(2, 1000);
+    }
+
+    @Test
+    void getProduct_WhenMissing_Returns404() throws Exception {
+        // Given
+        when(productClientUseCase.getProduct(9L)).thenReturn(Optional.empty());
+
+        // When & Then
+        mockMvc.perform(get("/api/internal/products/9"))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void getProductsByIds_ReturnsRequestedProducts() throws Exception {
+        // Given
+        when(productClientUseCase.getProductsByIds(List.of(1L, 2L), 500)).thenReturn(ProductListClientResponse.success(List.of(
+            new ProductClientDto(1L, "Laptop", new BigDecimal("999.99")),
+            new ProductClientDto(2L, "Mouse", new BigDecimal("29.99")))));
+
+        // When & Then
+        mockMvc.perform(post("/api/internal/products/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"productIds\": [1, 2]}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.products.length()").value(2))
+            .andExpect(jsonPath("$.totalElements").value(2));
+    }
+
+    @Test
+    void getAvailability_ForExistingProduct_ReturnsAvailable() throws Exception {
+        // Given
+        when(productClientUseCase.isAvailable(1L)).thenReturn(true);
+
+        // When & Then
+        mockMvc.perform(get("/api/internal/products/1/availability"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.productId").value(1))
+            .andExpect(jsonPath("$.available").value(true));
+    }
+}
@@ -0,0 +1,109 @@
+package com.cristianino.productapi.infrastructure.web.internal;
+
+import com.cristianino.productapi.application.dto.ProductChangeDto;
+import com.cristianino.productapi.application.usecase.ChangeHistoryExpiredException;
+import com.cristianino.productapi.application.usecase.ProductChangeUseCase;
+import com.cristianino.productapi.infrastructure.config.GlobalExceptionHandler;
+import com.cristianino.productapi.infrastructure.service.ProductChangeFeed;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class ProductChangeFeedControllerTest {
+
+    private ProductChangeFeed changeFeed;
+    private ProductChangeUseCase productChangeUseCase;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        changeFeed = mock(ProductChangeFeed.class);
+        productChangeUseCase = mock(ProductChangeUseCase.class);
+        mockMvc = MockMvcBuilders
+            .standaloneSetup(new ProductChangeFeedController(changeFeed, productChangeUseCase, 2, 10))
+            .setControllerAdvice(new GlobalExceptionHandler())
+            .build();
+    }
+
+    @Test
+    void getChanges_PartialPage_AdvancesCursorToRelayPosition() throws Exception {
+        // Given
+        when(changeFeed.dispatchedSequence()).thenReturn(30L);
+        when(productChangeUseCase.getChangesSince(10L, 30L, 2)).thenReturn(List.of(
+            ProductChangeDto.tombstone("4", 21L)));
+
+        // When & Then
+        mockMvc.perform(get("/api/internal/products/changes").param("since", "10"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data[0].id").value("4"))
+            .andExpect(jsonPath("$.data[0].attributes").doesNotExist())
+            .andExpect(jsonPath("$.data[0].meta.deleted").value(true))
+            .andExpect(jsonPath("$.meta.nextSince").value(30))
+            .andExpect(jsonPath("$.meta.hasMore").value(false))
+            .andExpect(jsonPath("$.links.next").value("/api/internal/products/changes?since=30"));
+    }
+
+    @Test
+    void getChanges_FullPage_ContinuesFromLastSequence() throws Exception {
+        // Given
+        when(changeFeed.dispatchedSequence()).thenReturn(30L);
+        when(productChangeUseCase.getChangesSince(0L, 30L, 2)).thenReturn(List.of(
+            new ProductChangeDto("1", "Laptop", new BigDecimal("999.99"), 3L, "CREATED"),
+            new ProductChangeDto("2", "Mouse", new BigDecimal("29.99"), 7L, "UPDATED")));
+
+        // When & Then
+        mockMvc.perform(get("/api/internal/products/changes").param("since", "0"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.length()").value(2))
+            .andExpect(jsonPath("$.data[1].attributes.name").value("Mouse"))
+            .andExpect(jsonPath("$.meta.nextSince").value(7))
+            .andExpect(jsonPath("$.meta.hasMore").value(true));
+    }
+
+    @Test
+    void getChanges_LimitAboveMaximum_IsCapped() throws Exception {
+        // Given
+        when(changeFeed.dispatchedSequence()).thenReturn(5L);
+        when(productChangeUseCase.getChangesSince(0L, 5L, 10)).thenReturn(List.of());
+
+        // When & Then
+        mockMvc.perform(get("/api/internal/products/changes").param("since", "0").param("limit", "5000"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.meta.count").value(0));
+
+        verify(productChangeUseCase).getChangesSince(0L, 5L, 10);
+    }
+
+    @Test
+    void getChanges_CursorBeforeHorizon_Returns410() throws Exception {
+        // Given
+        when(productChangeUseCase.getChangesSince(anyLong(), anyLong(), anyInt()))
+            .thenThrow(new ChangeHistoryExpiredException(3L, 40L));
+
+        // When & Then
+        mockMvc.perform(get("/api/internal/products/changes").param("since", "3"))
+            .andExpect(status().isGone())
+            .andExpect(jsonPath("$.errors[0].code").value("CHANGE_HISTORY_EXPIRED"))
+            .andExpect(jsonPath("$.errors[0].source.parameter").value("since"));
+    }
+
+    @Test
+    void streamChanges_CursorBeforeHorizon_Returns410WithoutSubscribing() throws Exception {
+        // Given
+        doThrow(new ChangeHistoryExpiredException(3L, 40L)).when(productChangeUseCase).verifyCursor(3L);
+
+        // When & Then
+        mockMvc.perform(get("/api/internal/products/events").header("Last-Event-ID", "3"))
+            .andExpect(status().isGone());
+
+        verify(changeFeed, never()).subscribe(any());
+    }
+}
@@ -1,7 +1,9 @@
 package com.cristianino.productapi.infrastructure.web.v1;
 
+import com.cristianino.productapi.application.usecase.ProductStatisticsUseCase;
 import com.cristianino.productapi.application.usecase.ProductUseCase;
 import com.cristianino.productapi.application.dto.ProductDto;
+import com.cristianino.productapi.infrastructure.service.InventoryStockClient;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -29,6 +31,12 @@ class ProductControllerV1Test {
     @MockBean
     private ProductUseCase productUseCase;
 
+    @MockBean
+    private ProductStatisticsUseCase productStatisticsUseCase;
+
+    @MockBean
+    private InventoryStockClient inventoryStockClient;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -0,0 +1,223 @@
+package com.cristianino.productapi.infrastructure.web.v1;
+
+import com.cristianino.productapi.application.dto.ProductDto;
+import com.cristianino.productapi.application.dto.ProductPriceStatsDto;
+import com.cristianino.productapi.application.dto.ProductPriceStatsDto.PriceBucket;
+import com.cristianino.productapi.application.dto.ProductPriceStatsDto.PriceStatistics;
+import com.cristianino.productapi.application.usecase.ProductStatisticsUseCase;
+import com.cristianino.productapi.application.usecase.ProductUseCase;
+import com.cristianino.productapi.domain.model.Money;
+import com.cristianino.productapi.domain.model.ProductFilter;
+import com.cristianino.productapi.infrastructure.config.GlobalExceptionHandler;
+import com.cristianino.productapi.infrastructure.service.InventoryStock;
+import com.cristianino.productapi.infrastructure.service.InventoryStockClient;
+import com.cristianino.productapi.infrastructure.service.InventoryStockLookup;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class ProductControllerV1UnitTest {
+
+    @Mock
+    private ProductUseCase productUseCase;
+
+    @Mock
+    private ProductStatisticsUseCase productStatisticsUseCase;
+
+    @Mock
+    private InventoryStockClient inventoryStockClient;
+
+    @InjectMocks
+    private ProductControllerV1 productController;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        mockMvc = MockMvcBuilders.standaloneSetup(productController)
+            .setControllerAdvice(new GlobalExceptionHandler())
+            .build();
+    }
+
+    @Test
+    void getAllProducts_WithoutInclude_DoesNotCallInventory() throws Exception {
+        // Given
+        when(productUseCase.getAllProducts()).thenReturn(List.of(
+            new ProductDto("1", "Laptop", new BigDecimal("999.99"))));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/products"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.included").doesNotExist())
+            .andExpect(jsonPath("$.data[0].relationships").doesNotExist());
+
+        verifyNoInteractions(inventoryStockClient);
+    }
+
+    @Test
+    void getAllProducts_WithIncludeInventory_FetchesWholePageInOneLookup() throws Exception {
+        // Given
+        when(productUseCase.getAllProducts()).thenReturn(List.of(
+            new ProductDto("1", "Laptop", new BigDecimal("999.99")),
+            new ProductDto("2", "Mouse", new BigDecimal("29.99"))));
+        when(inventoryStockClient.fetchStock(List.of(1L, 2L))).thenReturn(new InventoryStockLookup(
+            Map.of(1L, new InventoryStock(1L, 7, true), 2L, new InventoryStock(2L, 0, false)), Set.of()));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/products").param("include", "inventory"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data[0].relationships.inventory.data.type").value("inventory"))
+            .andExpect(jsonPath("$.data[0].relationships.inventory.data.id").value("1"))
+            .andExpect(jsonPath("$.included.length()").value(2))
+            .andExpect(jsonPath("$.included[0].type").value("inventory"))
+            .andExpect(jsonPath("$.included[0].attributes.quantity").value(7))
+            .andExpect(jsonPath("$.included[1].attributes.available").value(false))
+            .andExpect(jsonPath("$.meta.count").value(2))
+            .andExpect(jsonPath("$.meta.inventoryUnavailable").doesNotExist());
+
+        verify(inventoryStockClient, times(1)).fetchStock(any());
+    }
+
+    @Test
+    void getAllProducts_WithPartialInventoryFailure_ReportsUnavailableProducts() throws Exception {
+        // Given
+        when(productUseCase.getAllProducts()).thenReturn(List.of(
+            new ProductDto("1", "Laptop", new BigDecimal("999.99")),
+            new ProductDto("2", "Mouse", new BigDecimal("29.99"))));
+        when(inventoryStockClient.fetchStock(any())).thenReturn(new InventoryStockLookup(
+            Map.of(1L, new InventoryStock(1L, 7, true)), Set.of(2L)));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/products").param("include", "inventory"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.included.length()").value(1))
+            .andExpect(jsonPath("$.data[1].relationships").doesNotExist())
+            .andExpect(jsonPath("$.meta.inventoryUnavailable[0]").value(2));
+    }
+
+    @Test
+    void getProduct_WithIncludeInventory_AddsIncludedResource() throws Exception {
+        // Given
+        when(productUseCase.getProductById(1L)).thenReturn(Optional.of(
+            new ProductDto("1", "Laptop", new BigDecimal("999.99"))));
+        when(inventoryStockClient.fetchStock(List.of(1L))).thenReturn(new InventoryStockLookup(
+            Map.of(1L, new InventoryStock(1L, 3, true)), Set.of()));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/products/1").param("include", "inventory"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.relationships.inventory.data.id").value("1"))
+            .andExpect(jsonPath("$.included[0].attributes.productId").value(1))
+            .andExpect(jsonPath("$.included[0].attributes.quantity").value(3));
+    }
+
+    @Test
+    void getAllProducts_WithUnsupportedInclude_ReturnsBadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/v1/products").param("include", "supplier"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.errors[0].detail").value("Unsupported include parameter: supplier"));
+
+        verifyNoInteractions(productUseCase, inventoryStockClient);
+    }
+
+    @Test
+    void getAllProducts_WithFilters_QueriesMatchingProducts() throws Exception {
+        // Given
+        ProductFilter filter = new ProductFilter("lap", Money.of(new BigDecimal("100")), null);
+        when(productUseCase.getProducts(filter)).thenReturn(List.of(
+            new ProductDto("1", "Laptop", new BigDecimal("999.99"))));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/products")
+                .param("filter[name]", "lap")
+                .param("filter[minPrice]", "100"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data[0].id").value("1"))
+            .andExpect(jsonPath("$.meta.count").value(1));
+
+        verify(productUseCase, never()).getAllProducts();
+    }
+
+    @Test
+    void getPriceStatistics_WithFilters_ReturnsStatisticsResource() throws Exception {
+        // Given
+        ProductFilter filter = new ProductFilter(null, null, Money.of(new BigDecimal("100")));
+        when(productStatisticsUseCase.getPriceStatistics(filter, 2)).thenReturn(new ProductPriceStatsDto(
+            new PriceStatistics(2, new BigDecimal("29.99"), new BigDecimal("79.99"), new BigDecimal("54.99"),
+                new BigDecimal("54.99"), new BigDecimal("74.99"), new BigDecimal("79.49"),
+                List.of(new PriceBucket(new BigDecimal("29.99"), new BigDecimal("54.99"), 1),
+                        new PriceBucket(new BigDecimal("54.99"), new BigDecimal("79.99"), 1)))));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/products/stats")
+                .param("filter[maxPrice]", "100")
+                .param("buckets", "2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.type").value("product-price-stats"))
+            .andExpect(jsonPath("$.data.attributes.count").value(2))
+            .andExpect(jsonPath("$.data.attributes.p90").value(74.99))
+            .andExpect(jsonPath("$.data.attributes.histogram.length()").value(2))
+            .andExpect(jsonPath("$.data.attributes.histogram[1].lowerBound").value(54.99))
+            .andExpect(jsonPath("$.links.self").value("/api/v1/products/stats"));
+    }
+
+    @Test
+    void getPriceStatistics_WithInvertedPriceRange_ReturnsBadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/v1/products/stats")
+                .param("filter[minPrice]", "100")
+                .param("filter[maxPrice]", "10"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.errors[0].detail").value("minPrice cannot be greater than maxPrice"));
+
+        verifyNoInteractions(productStatisticsUseCase);
+    }
+
+    @Test
+    void patchProduct_WithPriceOnly_PassesPartialAttributes() throws Exception {
+        // Given
+        when(productUseCase.patchProduct(eq(1L), argThat(dto -> dto.getAttributes().getName() == null
+                && new BigDecimal("89.99").equals(dto.getAttributes().getPrice()))))
+            .thenReturn(Optional.of(new ProductDto("1", "Laptop", new BigDecimal("89.99"))));
+
+        // When & Then
+        mockMvc.perform(patch("/api/v1/products/1")
+                .contentType("application/json")
+                .content("{\"data\":{\"type\":\"products\",\"attributes\":{\"price\":89.99}}}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.attributes.name").value("Laptop"))
+            .andExpect(jsonPath("$.data.attributes.price").value(89.99));
+    }
+
+    @Test
+    void patchProduct_WithUnknownId_ReturnsNotFound() throws Exception {
+        // Given
+        when(productUseCase.patchProduct(eq(99L), any(ProductDto.class))).thenReturn(Optional.empty());
+
+        // When & Then
+        mockMvc.perform(patch("/api/v1/products/99")
+                .contentType("application/json")
+                .content("{\"data\":{\"type\":\"products\",\"attributes\":{\"name\":\"Desk\"}}}"))
+            .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,94 @@
+package com.cristianino.productapi.infrastructure.web.v1;
+
+import com.cristianino.productapi.application.dto.ProductImportReportDto;
+import com.cristianino.productapi.application.dto.ProductImportReportDto.ImportSummary;
+import com.cristianino.productapi.application.dto.ProductImportReportDto.RowReject;
+import com.cristianino.productapi.application.usecase.ProductImportFormat;
+import com.cristianino.productapi.application.usecase.ProductImportUseCase;
+import com.cristianino.productapi.infrastructure.config.GlobalExceptionHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductImportControllerTest {
+
+    @Mock
+    private ProductImportUseCase productImportUseCase;
+
+    @InjectMocks
+    private ProductImportController productImportController;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(productImportController)
+            .setControllerAdvice(new GlobalExceptionHandler())
+            .build();
+    }
+
+    @Test
+    void importProducts_GzippedNdjson_DecompressesAndReportsRejects() throws Exception {
+        // Given
+        String ndjson = "{\"name\": \"Laptop\", \"price\": 999.99}\n";
+        String[] received = new String[1];
+        when(productImportUseCase.importProducts(any(InputStream.class), eq(ProductImportFormat.NDJSON))).thenAnswer(invocation -> {
+            received[0] = new String(invocation.<InputStream>getArgument(0).readAllBytes(), StandardCharsets.UTF_8);
+            return new ProductImportReportDto("import-1",
+                new ImportSummary(2, 1, 0, 1, List.of(new RowReject(2, "Product price cannot be negative")), false));
+        });
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/products/import")
+                .contentType("application/x-ndjson")
+                .header("Content-Encoding", "gzip")
+                .content(gzip(ndjson)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.type").value("product-imports"))
+            .andExpect(jsonPath("$.data.attributes.created").value(1))
+            .andExpect(jsonPath("$.data.attributes.rejects[0].line").value(2))
+            .andExpect(jsonPath("$.data.attributes.rejects[0].reason").value("Product price cannot be negative"));
+
+        assertThat(received[0]).isEqualTo(ndjson);
+    }
+
+    @Test
+    void importProducts_CorruptGzip_ReturnsBadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/api/v1/products/import")
+                .contentType("text/csv")
+                .header("Content-Encoding", "gzip")
+                .content("name,price\n"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.errors[0].status").value("400"));
+
+        verifyNoInteractions(productImportUseCase);
+    }
+
+    private static byte[] gzip(String content) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+}
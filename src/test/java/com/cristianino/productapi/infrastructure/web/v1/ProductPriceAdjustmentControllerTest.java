@@ -0,0 +1,83 @@
+package com.cristianino.productapi.infrastructure.web.v1;
+
+import com.cristianino.productapi.application.dto.PriceAdjustmentDto;
+import com.cristianino.productapi.application.usecase.ProductPriceAdjustmentUseCase;
+import com.cristianino.productapi.domain.model.Money;
+import com.cristianino.productapi.domain.model.ProductFilter;
+import com.cristianino.productapi.infrastructure.config.GlobalExceptionHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductPriceAdjustmentControllerTest {
+
+    private static final String PERCENTAGE_BODY =
+        "{\"data\":{\"type\":\"price-adjustments\",\"attributes\":{\"rule\":\"percentage\",\"amount\":-10}}}";
+
+    @Mock
+    private ProductPriceAdjustmentUseCase productPriceAdjustmentUseCase;
+
+    @InjectMocks
+    private ProductPriceAdjustmentController productPriceAdjustmentController;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(productPriceAdjustmentController)
+            .setControllerAdvice(new GlobalExceptionHandler())
+            .build();
+    }
+
+    @Test
+    void adjustPrices_DryRunWithFilters_ReturnsPreview() throws Exception {
+        // Given
+        ProductFilter filter = new ProductFilter("laptop", Money.of(new BigDecimal("100")), null);
+        PriceAdjustmentDto preview = new PriceAdjustmentDto(null, PriceAdjustmentDto.TYPE, new PriceAdjustmentDto.Attributes(
+            "PERCENTAGE", new BigDecimal("-10"), true, 1L, 0L,
+            List.of(new PriceAdjustmentDto.PriceChange("1", "Laptop", new BigDecimal("999.99"), new BigDecimal("899.99")))));
+        when(productPriceAdjustmentUseCase.adjustPrices(eq(filter), any(PriceAdjustmentDto.class), eq(true))).thenReturn(preview);
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/products/price-adjustments")
+                .param("filter[name]", "laptop")
+                .param("filter[minPrice]", "100")
+                .param("dryRun", "true")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(PERCENTAGE_BODY))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.type").value("price-adjustments"))
+            .andExpect(jsonPath("$.data.attributes.affected").value(1))
+            .andExpect(jsonPath("$.data.attributes.sample[0].newPrice").value(899.99));
+    }
+
+    @Test
+    void adjustPrices_OutOfRange_ReturnsBadRequest() throws Exception {
+        // Given
+        when(productPriceAdjustmentUseCase.adjustPrices(eq(ProductFilter.NONE), any(PriceAdjustmentDto.class), eq(false)))
+            .thenThrow(new IllegalArgumentException("Price adjustment would take a price below 0 or above 99999999.99; preview it with a dry run"));
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/products/price-adjustments")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(PERCENTAGE_BODY))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.errors[0].status").value("400"));
+    }
+}
@@ -0,0 +1,66 @@
+package com.cristianino.productapi.integration;
+
+import com.cristianino.productapi.application.dto.ProductDto;
+import com.cristianino.productapi.application.usecase.ProductUseCase;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * Clients such as curl or a proxy send {@code Accept: *}{@code /*} rather than
+ * {@code text/event-stream}; their change feed stream must still reach them event by event
+ * instead of being held for compression until the stream ends.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+class ChangeFeedCompressionIntegrationTest {
+
+    private static final String API_KEY = "test-api-key";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductUseCase productUseCase;
+
+    @Test
+    void streamRequestedWithAnyAccept_DeliversEventsUncompressedWhileOpen() throws Exception {
+        // Given
+        productUseCase.createProduct(new ProductDto(null, "Streamed product", new BigDecimal("12.50")));
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/internal/products/events")
+                .param("lastEventId", "0")
+                .header("X-API-Key", API_KEY)
+                .header("Accept", "*/*")
+                .header("Accept-Encoding", "gzip"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        MockHttpServletResponse response = result.getResponse();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!response.getContentAsString().contains("Streamed product") && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+
+        // Then
+        assertTrue(response.getContentAsString().contains("event:product.created"));
+        assertTrue(response.getContentAsString().contains("Streamed product"));
+        assertNull(response.getHeader("Content-Encoding"));
+        assertTrue(response.getContentType().startsWith("text/event-stream"));
+    }
+}
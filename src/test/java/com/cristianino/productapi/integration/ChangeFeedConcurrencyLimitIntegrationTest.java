@@ -0,0 +1,47 @@
+package com.cristianino.productapi.integration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Open change feed streams must not count against the adaptive concurrency limit, or a handful
+ * of subscribers would shed all product traffic for as long as they stay connected.
+ */
+@SpringBootTest(properties = {
+    "app.concurrency-limit.initial-limit=4",
+    "app.concurrency-limit.min-limit=4",
+    "app.concurrency-limit.max-limit=4"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+class ChangeFeedConcurrencyLimitIntegrationTest {
+
+    private static final String API_KEY = "test-api-key";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void moreSubscribersThanTheLimit_ProductReadsStillSucceed() throws Exception {
+        // Given
+        for (int i = 0; i < 8; i++) {
+            mockMvc.perform(get("/api/internal/products/events").header("X-API-Key", API_KEY))
+                .andExpect(request().asyncStarted());
+        }
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/products").header("X-API-Key", API_KEY))
+            .andExpect(status().isOk());
+        mockMvc.perform(get("/api/internal/products/events").header("X-API-Key", API_KEY))
+            .andExpect(request().asyncStarted());
+    }
+}
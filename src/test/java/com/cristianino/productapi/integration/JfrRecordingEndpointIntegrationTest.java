@@ -0,0 +1,89 @@
+package com.cristianino.productapi.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+class JfrRecordingEndpointIntegrationTest {
+
+    private static final String API_KEY = "test-api-key";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void jfrEndpoint_WithoutApiKey_IsForbidden() throws Exception {
+        mockMvc.perform(get("/actuator/jfr"))
+            .andExpect(status().isForbidden());
+        mockMvc.perform(post("/actuator/jfr").contentType(MediaType.APPLICATION_JSON).content("{}"))
+            .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void recording_CapturesProductOperationAndFilterEvents(@TempDir Path tempDir) throws Exception {
+        // Given
+        String started = mockMvc.perform(post("/actuator/jfr")
+                .header("X-API-Key", API_KEY)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": \"integration-test\", \"duration\": \"1m\"}"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+        long id = objectMapper.readTree(started).path("id").asLong();
+
+        // When
+        mockMvc.perform(get("/api/v1/products/999999").header("X-API-Key", API_KEY))
+            .andExpect(status().isNotFound());
+        byte[] recording = mockMvc.perform(get("/actuator/jfr/" + id).header("X-API-Key", API_KEY))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsByteArray();
+        String stopped = mockMvc.perform(delete("/actuator/jfr/" + id).header("X-API-Key", API_KEY))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+
+        // Then
+        Path file = Files.write(tempDir.resolve("recording.jfr"), recording);
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        RecordedEvent useCase = find(events, "com.cristianino.productapi.ProductUseCase", "getProductById");
+        assertEquals(999999L, useCase.getLong("productId"));
+        assertEquals(0, useCase.getInt("rows"));
+        RecordedEvent repository = find(events, "com.cristianino.productapi.ProductRepository", "findById");
+        assertEquals(999999L, repository.getLong("productId"));
+        assertTrue(events.stream().anyMatch(event -> event.getEventType().getName().equals("com.cristianino.productapi.FilterDecision")
+            && "authenticated".equals(event.getString("decision"))));
+        JsonNode view = objectMapper.readTree(stopped);
+        assertEquals("STOPPED", view.path("state").asText());
+    }
+
+    private static RecordedEvent find(List<RecordedEvent> events, String type, String operation) {
+        return events.stream()
+            .filter(event -> event.getEventType().getName().equals(type))
+            .filter(event -> operation.equals(event.getString("operation")))
+            .findFirst()
+            .orElseThrow(() -> new AssertionError("No " + type + " event for " + operation));
+    }
+}
@@ -0,0 +1,120 @@
+package com.cristianino.productapi.integration;
+
+import com.cristianino.productapi.application.port.ProductImportPort;
+import com.cristianino.productapi.domain.model.Product;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Product changes are published on {@code product_changes} once per statement, whether or not
+ * the catalog snapshot is enabled, so bulk writes must not pay for one NOTIFY per row.
+ */
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+class ProductChangeNotificationPostgresTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("testdb")
+            .withUsername("testuser")
+            .withPassword("testpass");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ProductImportPort importPort;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private Connection listener;
+
+    @BeforeEach
+    void listen() throws Exception {
+        listener = dataSource.getConnection();
+        try (Statement statement = listener.createStatement()) {
+            statement.execute("LISTEN product_changes");
+        }
+    }
+
+    @AfterEach
+    void unlisten() throws Exception {
+        try (Statement statement = listener.createStatement()) {
+            statement.execute("UNLISTEN *");
+        }
+        listener.close();
+    }
+
+    @Test
+    void setBasedUpdate_IsPublishedAsOneNotificationListingEveryRow() throws Exception {
+        // Given
+        int products = jdbcTemplate.queryForObject("select count(*) from products", Integer.class);
+
+        // When
+        jdbcTemplate.update("update products set price = price + 1");
+
+        // Then
+        List<JsonNode> notifications = notifications();
+        assertEquals(1, notifications.size());
+        assertEquals("UPDATE", notifications.get(0).path("op").asText());
+        assertEquals(products, notifications.get(0).path("rows").size());
+    }
+
+    @Test
+    void bulkImport_TooLargeToList_IsPublishedAsOneReload() throws Exception {
+        // When
+        importPort.importProducts(sink -> {
+            for (int line = 1; line <= 500; line++) {
+                sink.accept(line, new Product("Imported " + line, new BigDecimal("19.99")));
+            }
+        }, 100);
+
+        // Then
+        List<JsonNode> notifications = notifications();
+        assertEquals(1, notifications.size());
+        assertEquals("RELOAD", notifications.get(0).path("op").asText());
+        assertEquals(500, notifications.get(0).path("count").asInt());
+    }
+
+    private List<JsonNode> notifications() throws Exception {
+        List<JsonNode> received = new ArrayList<>();
+        PGNotification[] batch;
+        while ((batch = listener.unwrap(PGConnection.class).getNotifications(500)) != null && batch.length > 0) {
+            for (PGNotification notification : batch) {
+                received.add(objectMapper.readTree(notification.getParameter()));
+            }
+        }
+        return received;
+    }
+}
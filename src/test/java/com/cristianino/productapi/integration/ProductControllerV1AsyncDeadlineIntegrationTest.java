@@ -0,0 +1,103 @@
+package com.cristianino.productapi.integration;
+
+import com.cristianino.productapi.application.dto.ProductDto;
+import com.cristianino.productapi.application.usecase.ProductUseCase;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * A write on {@code /api/v1/async/products} that is still running at its deadline may yet
+ * commit, so it must answer with its real outcome rather than a retriable {@code 503}: a client
+ * retrying the POST would create the product twice.
+ */
+@SpringBootTest(properties = "app.async-products.timeout=200ms")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+class ProductControllerV1AsyncDeadlineIntegrationTest {
+
+    private static final String API_KEY = "test-api-key";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @SpyBean
+    private ProductUseCase productUseCase;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    void createCommittingAfterTheDeadline_AnswersCreated() throws Exception {
+        // Given
+        doAnswer(invocation -> {
+            Object created = invocation.callRealMethod();
+            // Every statement has run; only the commit is left when the deadline passes
+            entityManager.flush();
+            Thread.sleep(600);
+            return created;
+        }).when(productUseCase).createProduct(any(ProductDto.class));
+
+        // When
+        MvcResult started = create("Slow Desk");
+
+        // Then
+        mockMvc.perform(asyncDispatch(started))
+            .andExpect(status().isCreated())
+            .andExpect(header().doesNotExist("Retry-After"))
+            .andExpect(jsonPath("$.data.attributes.name").value("Slow Desk"));
+        assertEquals(1, countNamed("Slow Desk"));
+    }
+
+    @Test
+    void createWhoseTransactionTimesOut_AnswersWriteTimeoutWithoutRetryAfter() throws Exception {
+        // Given
+        doAnswer(invocation -> {
+            // Past the deadline and the second of transaction time beyond it
+            Thread.sleep(1300);
+            return invocation.callRealMethod();
+        }).when(productUseCase).createProduct(any(ProductDto.class));
+
+        // When
+        MvcResult started = create("Late Chair");
+
+        // Then
+        mockMvc.perform(asyncDispatch(started))
+            .andExpect(status().isGatewayTimeout())
+            .andExpect(header().doesNotExist("Retry-After"))
+            .andExpect(jsonPath("$.errors[0].code").value("WRITE_TIMEOUT"));
+        assertEquals(0, countNamed("Late Chair"));
+    }
+
+    private MvcResult create(String name) throws Exception {
+        return mockMvc.perform(post("/api/v1/async/products")
+                .header("X-API-Key", API_KEY)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {"data": {"type": "products", "attributes": {"name": "%s", "price": 199.99}}}""".formatted(name)))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+    }
+
+    private long countNamed(String name) {
+        return productUseCase.getAllProducts().stream()
+            .filter(product -> name.equals(product.getAttributes().getName()))
+            .count();
+    }
+}
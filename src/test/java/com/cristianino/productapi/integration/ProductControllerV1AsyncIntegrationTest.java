@@ -0,0 +1,79 @@
+package com.cristianino.productapi.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static com.cristianino.productapi.integration.SqlStatementAssertions.sqlStatements;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * {@code /api/v1/async/products} end to end: the first dispatch only starts async processing,
+ * and the result, including the SQL done on the worker, arrives on the async dispatch.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+class ProductControllerV1AsyncIntegrationTest {
+
+    private static final String API_KEY = "test-api-key";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void createGetAndDelete_CompleteAsynchronously() throws Exception {
+        // Given
+        MvcResult created = perform(post("/api/v1/async/products")
+                .header("X-API-Key", API_KEY)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {"data": {"type": "products", "attributes": {"name": "Async Keyboard", "price": 49.99}}}"""))
+            .andExpect(status().isCreated())
+            .andReturn();
+        String id = objectMapper.readTree(created.getResponse().getContentAsString()).path("data").path("id").asText();
+
+        // When & Then
+        perform(get("/api/v1/async/products/" + id).header("X-API-Key", API_KEY))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.attributes.name").value("Async Keyboard"))
+            .andExpect(jsonPath("$.links.self").value("/api/v1/async/products/" + id))
+            .andExpect(sqlStatements(1));
+
+        perform(delete("/api/v1/async/products/" + id).header("X-API-Key", API_KEY))
+            .andExpect(status().isNoContent());
+        perform(get("/api/v1/async/products/" + id).header("X-API-Key", API_KEY))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void getAllProducts_WithUnsupportedInclude_IsRejectedBeforeGoingAsync() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/v1/async/products")
+                .param("include", "reviews")
+                .header("X-API-Key", API_KEY))
+            .andExpect(request().asyncNotStarted())
+            .andExpect(status().isBadRequest());
+    }
+
+    private ResultActions perform(RequestBuilder builder) throws Exception {
+        MvcResult started = mockMvc.perform(builder)
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        return mockMvc.perform(asyncDispatch(started));
+    }
+}
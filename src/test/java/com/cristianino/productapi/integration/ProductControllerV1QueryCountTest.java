@@ -0,0 +1,138 @@
+package com.cristianino.productapi.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.cristianino.productapi.integration.SqlStatementAssertions.sqlStatements;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Pins the number of JDBC statements each {@code /api/v1/products} operation issues, so an
+ * added query or an N+1 shows up as a failing test rather than in production latency. Not
+ * {@code @Transactional}: each request commits as it would in production. The PATCH and stats
+ * endpoints use PostgreSQL-only SQL and are not covered on H2.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+class ProductControllerV1QueryCountTest {
+
+    private static final String API_KEY = "test-api-key";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final List<String> created = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        created.add(create("Query Count Keyboard", "49.99"));
+        created.add(create("Query Count Mouse", "19.99"));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (String id : created) {
+            mockMvc.perform(delete("/api/v1/products/" + id).header("X-API-Key", API_KEY));
+        }
+    }
+
+    @Test
+    void createProduct_InsertsProductAndOutboxEntry() throws Exception {
+        mockMvc.perform(post("/api/v1/products")
+                .header("X-API-Key", API_KEY)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body("Query Count Monitor", "199.99")))
+            .andExpect(status().isCreated())
+            // insert product, insert outbox entry
+            .andExpect(sqlStatements(2))
+            .andDo(result -> created.add(idOf(result)));
+    }
+
+    @Test
+    void getProduct_IsASingleSelectAndReportsStageTimings() throws Exception {
+        mockMvc.perform(get("/api/v1/products/" + created.get(0))
+                .header("X-API-Key", API_KEY)
+                .header("Accept-Encoding", "gzip"))
+            .andExpect(status().isOk())
+            .andExpect(sqlStatements(1))
+            .andExpect(header().string("Server-Timing",
+                matchesPattern("filters;dur=[\\d.]+, app;dur=[\\d.]+, db;dur=[\\d.]+, serialize;dur=[\\d.]+, total;dur=[\\d.]+")));
+    }
+
+    @Test
+    void getAllProducts_DoesNotQueryPerProduct() throws Exception {
+        mockMvc.perform(get("/api/v1/products").header("X-API-Key", API_KEY))
+            .andExpect(status().isOk())
+            .andExpect(sqlStatements(1));
+    }
+
+    @Test
+    void getAllProducts_Filtered_DoesNotQueryPerProduct() throws Exception {
+        mockMvc.perform(get("/api/v1/products")
+                .param("filter[name]", "Query Count")
+                .param("filter[minPrice]", "10")
+                .header("X-API-Key", API_KEY))
+            .andExpect(status().isOk())
+            .andExpect(sqlStatements(1));
+    }
+
+    @Test
+    void updateProduct_ChecksReadsThenWritesProductAndOutbox() throws Exception {
+        mockMvc.perform(put("/api/v1/products/" + created.get(0))
+                .header("X-API-Key", API_KEY)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body("Query Count Keyboard", "59.99")))
+            .andExpect(status().isOk())
+            // existence check, select by the merge, update product, insert outbox entry
+            .andExpect(sqlStatements(4));
+    }
+
+    @Test
+    void deleteProduct_ChecksReadsThenDeletesAndAppendsTombstone() throws Exception {
+        String id = created.remove(1);
+
+        mockMvc.perform(delete("/api/v1/products/" + id).header("X-API-Key", API_KEY))
+            .andExpect(status().isNoContent())
+            // existence check, select by deleteById, delete product, insert outbox entry
+            .andExpect(sqlStatements(4));
+    }
+
+    private String create(String name, String price) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/v1/products")
+                .header("X-API-Key", API_KEY)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body(name, price)))
+            .andExpect(status().isCreated())
+            .andReturn();
+        return idOf(result);
+    }
+
+    private String idOf(MvcResult result) throws Exception {
+        return objectMapper.readTree(result.getResponse().getContentAsString()).path("data").path("id").asText();
+    }
+
+    private static String body(String name, String price) {
+        return """
+            {"data": {"type": "products", "attributes": {"name": "%s", "price": %s}}}""".formatted(name, price);
+    }
+}
@@ -0,0 +1,122 @@
+package com.cristianino.productapi.integration;
+
+import com.cristianino.productapi.application.dto.ProductDto;
+import com.cristianino.productapi.application.port.ProductImportPort;
+import com.cristianino.productapi.application.usecase.ProductUseCase;
+import com.cristianino.productapi.domain.model.Product;
+import com.cristianino.productapi.domain.port.ProductOutbox;
+import com.cristianino.productapi.infrastructure.service.ProductChangeFeed;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A bulk import takes its outbox sequences in one statement and commits later. An ordinary write
+ * committing in between leaves a gap below it, which the change feed must wait out rather than
+ * skip after {@code gap-timeout}.
+ */
+@SpringBootTest(properties = {
+    "app.change-feed.gap-timeout=200ms",
+    "app.change-feed.poll-interval=100ms"
+})
+@Testcontainers(disabledWithoutDocker = true)
+class ProductImportChangeFeedPostgresTest {
+
+    private static final int IMPORTED = 50;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("testdb")
+            .withUsername("testuser")
+            .withPassword("testpass");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private ProductImportPort importPort;
+
+    @Autowired
+    private ProductUseCase productUseCase;
+
+    @Autowired
+    private ProductOutbox outbox;
+
+    @Autowired
+    private ProductChangeFeed changeFeed;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void slowImportNextToFastWrite_IsRelayedOnceCommittedRatherThanSkipped() throws Exception {
+        // Given
+        long before = outbox.latestSequence();
+        CountDownLatch merged = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        ExecutorService importer = Executors.newSingleThreadExecutor();
+        Future<ProductImportPort.MergeResult> imported = importer.submit(() ->
+            new TransactionTemplate(transactionManager).execute(status -> importSlowly(merged, commit)));
+        assertTrue(merged.await(30, TimeUnit.SECONDS));
+
+        // When
+        productUseCase.createProduct(new ProductDto(null, "Fast write", new BigDecimal("9.99")));
+        long fastSequence = outbox.latestSequence();
+        Thread.sleep(1000);
+        long heldAt = changeFeed.dispatchedSequence();
+        commit.countDown();
+        assertEquals(IMPORTED, imported.get(30, TimeUnit.SECONDS).created());
+        importer.shutdown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (changeFeed.dispatchedSequence() < fastSequence && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+
+        // Then
+        assertEquals(before + IMPORTED + 1, fastSequence);
+        assertEquals(before, heldAt, "relay must hold below the import's uncommitted sequences");
+        assertEquals(fastSequence, changeFeed.dispatchedSequence());
+        assertEquals(IMPORTED + 1, outbox.findChanges(before, fastSequence, 1000).size());
+    }
+
+    private ProductImportPort.MergeResult importSlowly(CountDownLatch merged, CountDownLatch commit) {
+        try {
+            ProductImportPort.MergeResult result = importPort.importProducts(sink -> {
+                for (int line = 1; line <= IMPORTED; line++) {
+                    sink.accept(line, new Product("Imported " + line, new BigDecimal("19.99")));
+                }
+            }, 10);
+            merged.countDown();
+            // The merge has taken its sequences; keep them uncommitted while the fast write lands
+            assertTrue(commit.await(30, TimeUnit.SECONDS));
+            return result;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
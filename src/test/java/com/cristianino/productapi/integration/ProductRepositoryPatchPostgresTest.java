@@ -0,0 +1,110 @@
+package com.cristianino.productapi.integration;
+
+import com.cristianino.productapi.domain.model.Money;
+import com.cristianino.productapi.domain.model.Product;
+import com.cristianino.productapi.domain.model.ProductPatch;
+import com.cristianino.productapi.domain.port.ProductRepository;
+import com.cristianino.productapi.infrastructure.persistence.ProductRepositoryImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The single-statement patch (a {@code current_row} select joined to a conditional
+ * {@code UPDATE ... RETURNING}) against a real PostgreSQL.
+ */
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+class ProductRepositoryPatchPostgresTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("testdb")
+            .withUsername("testuser")
+            .withPassword("testpass");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private ProductRepositoryImpl repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void patch_ChangedField_UpdatesOnlyThatColumn() {
+        // Given
+        Product saved = repository.save(new Product("Desk Lamp", new BigDecimal("24.00")));
+
+        // When
+        Optional<ProductRepository.PatchResult> result =
+            patch(saved.getId(), new ProductPatch(null, Money.of(new BigDecimal("19.50"))));
+
+        // Then
+        assertTrue(result.isPresent());
+        assertTrue(result.get().changed());
+        assertEquals("Desk Lamp", result.get().product().getName());
+        assertEquals(Money.of(new BigDecimal("19.50")), result.get().product().getPrice());
+        assertEquals(0, new BigDecimal("19.50").compareTo(
+            jdbcTemplate.queryForObject("select price from products where id = ?", BigDecimal.class, saved.getId())));
+    }
+
+    @Test
+    void patch_SameValues_ReturnsCurrentRowWithoutWritingIt() {
+        // Given
+        Product saved = repository.save(new Product("Stapler", new BigDecimal("8.75")));
+        String versionBefore = rowVersion(saved.getId());
+
+        // When
+        Optional<ProductRepository.PatchResult> result =
+            patch(saved.getId(), new ProductPatch("Stapler", Money.of(new BigDecimal("8.75"))));
+
+        // Then
+        assertTrue(result.isPresent());
+        assertFalse(result.get().changed());
+        assertEquals(saved.getId(), result.get().product().getId());
+        assertEquals("Stapler", result.get().product().getName());
+        assertEquals(Money.of(new BigDecimal("8.75")), result.get().product().getPrice());
+        assertEquals(versionBefore, rowVersion(saved.getId()), "an unchanged patch must not write a new row version");
+    }
+
+    @Test
+    void patch_MissingId_ReturnsEmpty() {
+        // When
+        Optional<ProductRepository.PatchResult> result =
+            patch(Long.MAX_VALUE, new ProductPatch("Ghost", Money.of(new BigDecimal("1.00"))));
+
+        // Then
+        assertTrue(result.isEmpty());
+        assertEquals(0, jdbcTemplate.queryForObject("select count(*) from products where name = 'Ghost'", Integer.class));
+    }
+
+    private Optional<ProductRepository.PatchResult> patch(Long id, ProductPatch patch) {
+        return new TransactionTemplate(transactionManager).execute(status -> repository.patch(id, patch));
+    }
+
+    private String rowVersion(Long id) {
+        return jdbcTemplate.queryForObject("select xmin::text from products where id = ?", String.class, id);
+    }
+}
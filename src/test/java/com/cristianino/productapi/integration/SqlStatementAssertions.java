@@ -0,0 +1,26 @@
+package com.cristianino.productapi.integration;
+
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Query-count assertions over the {@code X-SQL-Statements} header, which the test profile turns
+ * on with {@code app.sql-accounting.response-header}.
+ */
+final class SqlStatementAssertions {
+
+    private SqlStatementAssertions() {
+    }
+
+    static ResultMatcher sqlStatements(int expected) {
+        return result -> {
+            String header = result.getResponse().getHeader("X-SQL-Statements");
+            assertNotNull(header, "X-SQL-Statements header missing; is app.sql-accounting.response-header on?");
+            assertEquals(expected, Integer.parseInt(header),
+                () -> "JDBC statements for " + result.getRequest().getMethod() + " "
+                    + result.getRequest().getRequestURI());
+        };
+    }
+}